@@ -1,10 +1,12 @@
 package business;
 
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Collectors;
 
+import business.ScoringEngine.CompiledLineUp;
+import business.ports.repository.FetchPlan;
 import business.ports.transaction.TransactionManager;
-import business.ports.transaction.TransactionManager.TransactionContext;
 import domain.*;
 import domain.Player.Defender;
 import domain.Player.Forward;
@@ -14,55 +16,73 @@ import domain.Player.PlayerVisitor;
 
 public class AdminUserService extends UserService {
 
-	public AdminUserService(TransactionManager transactionManager) {
-		super(transactionManager);
+	// null when Matches are scored sequentially
+	private final ForkJoinPool scoringPool;
+
+	/**
+	 * @param lifecycleCache shared with the application's other services, so
+	 *                       that lifecycle steps invalidate it for all of them
+	 */
+	public AdminUserService(TransactionManager transactionManager, LeagueLifecycleCache lifecycleCache) {
+		super(transactionManager, lifecycleCache);
+		this.scoringPool = null;
+	}
+
+	/**
+	 * scores the Matches of a MatchDay concurrently on {@code scoringPool},
+	 * rather than sequentially. The pool is owned by the caller, which is
+	 * expected to share a single one across the application and shut it down
+	 * 
+	 * @param lifecycleCache shared with the application's other services, so
+	 *                       that lifecycle steps invalidate it for all of them
+	 */
+	public AdminUserService(TransactionManager transactionManager, ForkJoinPool scoringPool,
+			LeagueLifecycleCache lifecycleCache) {
+		super(transactionManager, lifecycleCache);
+		this.scoringPool = Objects.requireNonNull(scoringPool, "scoringPool");
 	}
 
 	public void setPlayerToTeam(FantaTeam team, Player player) {
 		transactionManager.inTransaction((context) -> {
 
-			if (team.getContracts().size() >= 25)
+			// counted by the database, so that the roster is never loaded
+			Map<Class<? extends Player>, Long> roster = context.getContractRepository().countContractsByRole(team);
+			long contracts = roster.values().stream().mapToLong(Long::longValue).sum();
+			if (contracts >= 25)
 				throw new UnsupportedOperationException("Maximum 25 players can be in a FantaTeam");
 
-			final int maxGoalkeepeers = 3;
-			final int maxDefenders = 8;
-			final int maxMidfielders = 8;
-			final int maxForward = 6;
-			int actualGoalkeepers = team.extract().goalkeepers().size();
-			int actualDefenders = team.extract().defenders().size();
-			int actualMidfielders = team.extract().midfielders().size();
-			int actualForwards = team.extract().forwards().size();
-
 			var visitor = new PlayerVisitor() {
 
-				private int role = -1;
+				private Class<? extends Player> role;
+				private int max;
 
 				@Override
 				public void visitGoalkeeper(Goalkeeper goalkeeper) {
-					role = 0;
+					role = Goalkeeper.class;
+					max = 3;
 				}
 
 				@Override
 				public void visitDefender(Defender defender) {
-					role = 1;
+					role = Defender.class;
+					max = 8;
 				}
 
 				@Override
 				public void visitMidfielder(Midfielder midfielder) {
-					role = 2;
+					role = Midfielder.class;
+					max = 8;
 				}
 
 				@Override
 				public void visitForward(Forward forward) {
-					role = 3;
+					role = Forward.class;
+					max = 6;
 				}
 			};
 
 			player.accept(visitor);
-			if ((visitor.role == 0 && maxGoalkeepeers > actualGoalkeepers)
-					|| (visitor.role == 1 && maxDefenders > actualDefenders)
-					|| (visitor.role == 2 && maxMidfielders > actualMidfielders)
-					|| (visitor.role == 3 && maxForward > actualForwards))
+			if (roster.getOrDefault(visitor.role, 0L) < visitor.max)
 				context.getContractRepository().saveContract(new Contract(team, player));
 		});
 	}
@@ -77,15 +97,13 @@ public class AdminUserService extends UserService {
 
 	public void generateCalendar(League league) {
 		transactionManager.inTransaction((context) -> {
-			List<FantaTeam> teams = List.copyOf(context.getTeamRepository().getAllTeams(league));
+			List<FantaTeam> teams = List.copyOf(context.getTeamRepository().getAllTeams(league, FetchPlan.THIN));
 			List<List<FantaTeam[]>> schedule = generateFixedRounds(teams, 20);
-			List<MatchDay> matchDay = context.getMatchDayRepository().getAllMatchDays(league);
+			List<MatchDay> matchDay = context.getMatchDayRepository().getAllMatchDays(league, FetchPlan.THIN);
 			List<Match> matches = createMatches(schedule, matchDay);
-			for (Match match : matches) {
-				context.getMatchRepository().saveMatch(match);
-			}
+			context.getMatchRepository().saveAll(matches);
 		});
-
+		lifecycleCache.invalidate(league);
 	}
 
 	// package-private for tests
@@ -180,145 +198,104 @@ public class AdminUserService extends UserService {
 		return matches;
 	}
 
+	private static void recordInStandings(Map<FantaTeam, Standing> standingsByTeam, Result result) {
+		Match match = result.getMatch();
+		standingsByTeam.computeIfAbsent(match.getTeam1(), Standing::new)
+				.record(result.getTeam1Goals(), result.getTeam2Goals());
+		standingsByTeam.computeIfAbsent(match.getTeam2(), Standing::new)
+				.record(result.getTeam2Goals(), result.getTeam1Goals());
+	}
+
 	public void calculateResults(League league) {
 		transactionManager.inTransaction((context) -> {
 			// find the oldest match with no result
-			context.getMatchDayRepository().getLatestEndedMatchDay(league).ifPresentOrElse(latestEnded -> {
+			context.getMatchDayRepository().getLatestEndedMatchDay(league, FetchPlan.THIN).ifPresentOrElse(latestEnded -> {
 				
-	            if(allMatchesHaveResult(latestEnded, context)){
+				// the whole MatchDay is loaded upfront, in a fixed number of queries
+				List<Match> allMatches = context.getMatchRepository().getAllMatchesIn(latestEnded, FetchPlan.THIN);
+	            if(!context.getMatchRepository().existsMatchWithoutResult(latestEnded)){
 	                throw new RuntimeException("The results have already been calculated");
 	            }
+	            List<Grade> allGrades = context.getGradeRepository().getAllGrades(latestEnded, FetchPlan.THIN);
+	            Map<FantaTeam, LineUp> lineUpsByTeam = context.getLineUpRepository().getAllLineUpsIn(latestEnded)
+	            		.stream().collect(Collectors.toMap(LineUp::getTeam, lineUp -> lineUp));
+	            Map<FantaTeam, Set<Player>> rostersByTeam = context.getContractRepository().getAllContractsIn(latestEnded)
+	            		.stream().collect(Collectors.groupingBy(Contract::getTeam,
+	            				Collectors.mapping(Contract::getPlayer, Collectors.toSet())));
+	            Map<FantaTeam, Standing> standingsByTeam = context.getStandingRepository().getStandings(league)
+	            		.stream().collect(Collectors.toMap(Standing::getTeam, standing -> standing));
+	            // a League scored before its table existed has it seeded from the earlier Results
+	            if (standingsByTeam.isEmpty()) {
+	            	for (Result earlier : context.getResultsRepository().getAllResultsIn(league))
+	            		recordInStandings(standingsByTeam, earlier);
+	            }
+	            ScoringEngine scoringEngine = ScoringEngine.forGrades(allGrades);
+
+	            // LineUps are compiled on this thread, as they are still managed entities
+	            int matchCount = allMatches.size();
+	            CompiledLineUp[] lineUps = new CompiledLineUp[2 * matchCount];
+	            for (int i = 0; i < matchCount; i++) {
+	            	Match match = allMatches.get(i);
+					Set<Player> roster1 = rostersByTeam.getOrDefault(match.getTeam1(), Set.of());
+					Set<Player> roster2 = rostersByTeam.getOrDefault(match.getTeam2(), Set.of());
+					LineUp lineUp1 = lineUpsByTeam.get(match.getTeam1());
+					LineUp lineUp2 = lineUpsByTeam.get(match.getTeam2());
+					if (lineUp1 != null)
+						lineUps[2 * i] = scoringEngine.compile(lineUp1, roster1, roster2);
+					if (lineUp2 != null)
+						lineUps[2 * i + 1] = scoringEngine.compile(lineUp2, roster1, roster2);
+	            }
 
-				List<Match> allMatches = context.getMatchRepository().getAllMatchesIn(latestEnded);
-	            List<Grade> allGrades = context.getGradeRepository().getAllGrades(latestEnded);
-	            
-				for (Match match : allMatches) {
-					
-					List<Grade> allMatchGrades = findGradesForMatch(match, allGrades);
-					Optional<LineUp> lineUp1 = context.getLineUpRepository().getLineUpByMatchAndTeam(match,
-							match.getTeam1());
-					Optional<LineUp> lineUp2 = context.getLineUpRepository().getLineUpByMatchAndTeam(match,
-							match.getTeam2());
-					Map<Player, Grade> gradesByPlayer = allMatchGrades.stream()
-							.collect(Collectors.toMap(Grade::getPlayer, g -> g));
-					double resultTeam1 = 0;
-					double resultTeam2 = 0;
-
-					//Check if lineups exist
-					if (lineUp1.isPresent()) {
-						
-						//lineUp1 OK
-						resultTeam1 = getTeamResult(lineUp1.get(), gradesByPlayer);
-						
-					}
-					if (lineUp2.isPresent()) {
-                        //lineUp2 OK
-						resultTeam2 = getTeamResult(lineUp2.get(), gradesByPlayer);
-						
-					}
-					int goalTeam1 = goals(resultTeam1);
-					int goalTeam2 = goals(resultTeam2);
-					if (goalTeam1 > goalTeam2) {
-						match.getTeam1().setPoints(match.getTeam1().getPoints() + 3);
-					} else if (goalTeam1 < goalTeam2) {
-						match.getTeam2().setPoints(match.getTeam2().getPoints() + 3);
-					} else if (goalTeam1 == goalTeam2) {
-						match.getTeam1().setPoints(match.getTeam1().getPoints() + 1);
-						match.getTeam2().setPoints(match.getTeam2().getPoints() + 1);
+	            // Matches are independent, so they are scored concurrently if a pool is given
+	            double[] scores = scoringEngine.scoreAll(lineUps, scoringPool);
+
+	            List<Result> results = new ArrayList<>(matchCount);
+				for (int i = 0; i < matchCount; i++) {
+					Match match = allMatches.get(i);
+					double resultTeam1 = scores[2 * i];
+					double resultTeam2 = scores[2 * i + 1];
+					Result result = new Result(resultTeam1, resultTeam2,
+							ScoringEngine.goals(resultTeam1), ScoringEngine.goals(resultTeam2), match);
+					results.add(result);
+					recordInStandings(standingsByTeam, result);
+				}
+
+				// points are applied in the write phase, once every Result is known
+				for (Result result : results) {
+					FantaTeam team1 = result.getMatch().getTeam1();
+					FantaTeam team2 = result.getMatch().getTeam2();
+					if (result.getTeam1Goals() > result.getTeam2Goals()) {
+						team1.setPoints(team1.getPoints() + 3);
+					} else if (result.getTeam1Goals() < result.getTeam2Goals()) {
+						team2.setPoints(team2.getPoints() + 3);
+					} else {
+						team1.setPoints(team1.getPoints() + 1);
+						team2.setPoints(team2.getPoints() + 1);
 					}
+				}
+				context.getResultsRepository().saveAll(results);
 
-					context.getResultsRepository()
-							.saveResult(new Result(resultTeam1, resultTeam2, goalTeam1, goalTeam2, match));
+				// the table is re-ranked in memory and written back with the Results
+				List<Standing> standings = new ArrayList<>(standingsByTeam.values());
+				standings.sort(Standing.TABLE_ORDER);
+				for (int i = 0; i < standings.size(); i++) {
+					standings.get(i).setRank(i + 1);
 				}
+				context.getStandingRepository().saveAll(standings);
 			}, () -> {
 				throw new RuntimeException("The season hasn't started yet");
 			});
 			
 		});
-	}
-
-    private boolean allMatchesHaveResult(MatchDay matchDay, TransactionContext context) {
-        // recupera tutti i match della giornata e della lega corrispondente
-        List<Match> matches = context.getMatchRepository().getAllMatchesIn(matchDay);
-
-        // controlla che per ogni match ci sia un result
-        return matches.stream()
-                .allMatch(match -> context.getResultsRepository().getResultFor(match).isPresent());
-    }
-
-    private List<Grade> findGradesForMatch(Match match, List<Grade> allGrades) {
-        // Ottieni tutti i player dei due team
-        Set<Player> matchPlayers = new HashSet<>();
-        matchPlayers.addAll(match.getTeam1().getContracts().stream()
-                .map(Contract::getPlayer)
-                .toList());
-        matchPlayers.addAll(match.getTeam2().getContracts().stream()
-                .map(Contract::getPlayer)
-                .toList());
-
-        // Filtra i grade solo per i player dei due team
-        return allGrades.stream()
-                .filter(grade -> matchPlayers.contains(grade.getPlayer()))
-                .toList();
-    }
-
-
-    private double getTeamResult(LineUp lineUp, Map<Player, Grade> gradesByPlayer) {
-		double result = 0;
-		result += calculateRoleResults(lineUp.extract().starterGoalkeepers(), lineUp.extract().substituteGoalkeepers(),
-				gradesByPlayer);
-		result += calculateRoleResults(lineUp.extract().starterDefenders(), lineUp.extract().substituteDefenders(),
-				gradesByPlayer);
-		result += calculateRoleResults(lineUp.extract().starterMidfielders(), lineUp.extract().substituteMidfielders(),
-				gradesByPlayer);
-		result += calculateRoleResults(lineUp.extract().starterForwards(), lineUp.extract().substituteForwards(),
-				gradesByPlayer);
-
-		return result;
-	}
-
-	private double calculateRoleResults(Set<? extends Player> starters, List<? extends Player> substitutes,
-			Map<Player, Grade> gradesByPlayer) {
-
-		double result = 0;
-		int benchPositionToLook = 0;
-
-		System.out.println("Inizio calcolo risultati formazione");
-		for (Player starter : starters) {
-			System.out.println("Primo giocatore considerato");
-			Grade grade = gradesByPlayer.get(starter);
-			if (grade != null) {
-				System.out.println("Sommo " + grade.getMark());
-				result += grade.getMark();
-			} else {
-				boolean found = false;
-				while (!found && benchPositionToLook < substitutes.size()) {
-					Player substitute = substitutes.get(benchPositionToLook);
-					Grade subGrade = gradesByPlayer.get(substitute);
-					if (subGrade != null) {
-						result += subGrade.getMark();
-						found = true;
-					}
-					benchPositionToLook++;
-				}
-			}
-		}
-
-		return result;
-	}
-
-	private int goals(double points) {
-		if (points < 66.0)
-			return 0;
-		return 1 + (int) Math.floor((points - 66.0) / 6.0);
+		lifecycleCache.invalidate(league);
 	}
 
 	public void startMatchDay(League league) {
 		transactionManager.inTransaction((context) -> {
-			context.getMatchDayRepository().getEarliestUpcomingMatchDay(league).ifPresentOrElse(earliestUpcoming -> {
-				context.getMatchDayRepository().getLatestEndedMatchDay(league).ifPresent(latestEnded -> {
+			context.getMatchDayRepository().getEarliestUpcomingMatchDay(league, FetchPlan.THIN).ifPresentOrElse(earliestUpcoming -> {
+				context.getMatchDayRepository().getLatestEndedMatchDay(league, FetchPlan.THIN).ifPresent(latestEnded -> {
 
-					if (!allMatchesHaveResult(latestEnded, context)) {
+					if (context.getMatchRepository().existsMatchWithoutResult(latestEnded)) {
 						throw new IllegalArgumentException("You have to calculate the results before advancing the game state");
 					}
 				});
@@ -328,17 +305,19 @@ public class AdminUserService extends UserService {
 				throw new IllegalArgumentException("The are no more MatchDays to play");
 			});
 		});
+		lifecycleCache.invalidate(league);
 	}
 
 	public void endMatchDay(League league) {
 		transactionManager.inTransaction((context) -> {
-			context.getMatchDayRepository().getOngoingMatchDay(league).ifPresentOrElse(matchDayToEnd -> {
+			context.getMatchDayRepository().getOngoingMatchDay(league, FetchPlan.THIN).ifPresentOrElse(matchDayToEnd -> {
 				matchDayToEnd.setStatus(MatchDay.Status.PAST);
 				context.getMatchDayRepository().updateMatchDay(matchDayToEnd);
 			}, () -> {
 				throw new IllegalArgumentException("The is no MatchDay to end");				
 			});
 		});
+		lifecycleCache.invalidate(league);
 	}
 
 
@@ -0,0 +1,81 @@
+package business;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+
+import business.ports.repository.FetchPlan;
+import business.ports.transaction.TransactionManager.TransactionContext;
+import domain.FantaTeam;
+import domain.League;
+import domain.Match;
+import domain.MatchDay;
+
+/**
+ * where a {@link League} stands in its calendar: the MatchDay LineUps are
+ * being submitted for, with each team's Match in it, and whether the Results
+ * of the latest ended MatchDay have been calculated.
+ * <p>
+ * Snapshots are immutable and hold no entities, only the numbers and names
+ * identifying them within the League; they are cached by
+ * {@link LeagueLifecycleCache} until a lifecycle step changes the calendar
+ */
+final class LeagueLifecycle {
+
+	/**
+	 * a Match of the upcoming MatchDay, by the names of its teams
+	 */
+	record UpcomingMatch(String team1, String team2) {
+
+		// the MatchDay is checked separately, against the upcoming MatchDay's number
+		boolean isOf(Match match) {
+			return team1.equals(match.getTeam1().getName()) && team2.equals(match.getTeam2().getName());
+		}
+	}
+
+	private final OptionalInt upcomingMatchDayNumber;
+	private final Map<String, UpcomingMatch> upcomingMatches;
+	private final boolean latestResultsCalculated;
+
+	private LeagueLifecycle(OptionalInt upcomingMatchDayNumber, Map<String, UpcomingMatch> upcomingMatches,
+			boolean latestResultsCalculated) {
+		this.upcomingMatchDayNumber = upcomingMatchDayNumber;
+		this.upcomingMatches = upcomingMatches;
+		this.latestResultsCalculated = latestResultsCalculated;
+	}
+
+	static LeagueLifecycle load(TransactionContext context, League league) {
+		Optional<MatchDay> upcoming = context.getMatchDayRepository().getEarliestUpcomingMatchDay(league, FetchPlan.THIN);
+		Map<String, UpcomingMatch> upcomingMatches = new HashMap<>();
+		upcoming.ifPresent(matchDay -> context.getMatchRepository().getAllMatchesIn(matchDay, FetchPlan.THIN).forEach(match -> {
+			UpcomingMatch upcomingMatch = new UpcomingMatch(match.getTeam1().getName(), match.getTeam2().getName());
+			upcomingMatches.put(upcomingMatch.team1(), upcomingMatch);
+			upcomingMatches.put(upcomingMatch.team2(), upcomingMatch);
+		}));
+
+		Optional<MatchDay> latestEnded = context.getMatchDayRepository().getLatestEndedMatchDay(league, FetchPlan.THIN);
+		boolean latestResultsCalculated = latestEnded
+				.map(matchDay -> !context.getMatchRepository().existsMatchWithoutResult(matchDay))
+				.orElse(true);
+
+		OptionalInt upcomingNumber = upcoming.map(matchDay -> OptionalInt.of(matchDay.getNumber())).orElse(OptionalInt.empty());
+		return new LeagueLifecycle(upcomingNumber, Map.copyOf(upcomingMatches), latestResultsCalculated);
+	}
+
+	// getters
+
+	OptionalInt getUpcomingMatchDayNumber() {
+		return upcomingMatchDayNumber;
+	}
+
+	// a FantaTeam is identified by its name within the League
+	Optional<UpcomingMatch> getUpcomingMatch(FantaTeam team) {
+		return Optional.ofNullable(upcomingMatches.get(team.getName()));
+	}
+
+	// true as well when no MatchDay has ended yet
+	boolean areLatestResultsCalculated() {
+		return latestResultsCalculated;
+	}
+}
@@ -0,0 +1,62 @@
+package business;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+import domain.League;
+
+/**
+ * caches a lifecycle snapshot per {@link League}, so that LineUp submission
+ * need not query the League's calendar on every save.
+ * <p>
+ * A League's snapshot is dropped by {@link #invalidate(League)}, which the
+ * lifecycle steps of {@link AdminUserService} call once their transaction has
+ * committed. Services are always given their cache, and the services of an
+ * application must all be given the same instance, so that those steps
+ * invalidate the snapshots every service reads
+ */
+public class LeagueLifecycleCache {
+
+	private final ConcurrentMap<String, Slot> slots = new ConcurrentHashMap<>();
+
+	public void invalidate(League league) {
+		// without a slot, no snapshot has been taken or is being loaded
+		Slot slot = league.getLeagueCode() == null ? null : slots.get(league.getLeagueCode());
+		if (slot == null)
+			return;
+		synchronized (slot) {
+			slot.generation++;
+			slot.lifecycle = null;
+		}
+	}
+
+	LeagueLifecycle get(League league, Supplier<LeagueLifecycle> loader) {
+		Slot slot = slotOf(league);
+		long generation;
+		synchronized (slot) {
+			if (slot.lifecycle != null)
+				return slot.lifecycle;
+			generation = slot.generation;
+		}
+
+		LeagueLifecycle loaded = loader.get();
+		synchronized (slot) {
+			// a snapshot loaded while a lifecycle step committed may be stale
+			if (slot.generation == generation)
+				slot.lifecycle = loaded;
+		}
+		return loaded;
+	}
+
+	// helpers
+
+	private Slot slotOf(League league) {
+		return slots.computeIfAbsent(league.getLeagueCode(), code -> new Slot());
+	}
+
+	private static final class Slot {
+		private long generation;
+		private LeagueLifecycle lifecycle;
+	}
+}
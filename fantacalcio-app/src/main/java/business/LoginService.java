@@ -15,7 +15,7 @@ public class LoginService {
 	public void registerFantaUser(String mail, String password) {
 		transactionManager.inTransaction((context) -> {
 			FantaUserRepository fantaUserRepository = context.getFantaUserRepository();
-			if(fantaUserRepository.getUser(mail, password).isEmpty())
+			if(!fantaUserRepository.existsFantaUser(mail, password))
 				fantaUserRepository.saveFantaUser(new FantaUser(mail, password));
 			else
 				throw new UnsupportedOperationException("The user is already registered");
@@ -23,7 +23,7 @@ public class LoginService {
 	}
 
 	public boolean loginFantaUser(String mail, String password) {
-		return transactionManager.fromTransaction((context) -> context.getFantaUserRepository().getUser(mail, password).isPresent());
+		return transactionManager.fromReadOnlyTransaction((context) -> context.getFantaUserRepository().existsFantaUser(mail, password));
 	}
 
 }
@@ -0,0 +1,199 @@
+package business;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import domain.League;
+
+/**
+ * runs one MatchDay lifecycle step over many {@link League}s at once.
+ * <p>
+ * Each League is processed in its own transaction, on at most
+ * {@code maxConcurrency} threads, so that a slow League only holds up its own
+ * thread and a failing League only fails its own {@link LeagueOutcome}. Failed
+ * Leagues can be resubmitted through {@link #retryFailed(BatchReport)}
+ */
+public class MatchDayBatchProcessor {
+
+	public enum Step {
+		END_MATCH_DAY {
+			@Override
+			void apply(AdminUserService service, League league) {
+				service.endMatchDay(league);
+			}
+		},
+		CALCULATE_RESULTS {
+			@Override
+			void apply(AdminUserService service, League league) {
+				service.calculateResults(league);
+			}
+		},
+		START_MATCH_DAY {
+			@Override
+			void apply(AdminUserService service, League league) {
+				service.startMatchDay(league);
+			}
+		};
+
+		abstract void apply(AdminUserService service, League league);
+	}
+
+	public interface ProgressListener {
+		/**
+		 * called once per League as soon as it is processed, from the thread
+		 * that processed it. A RuntimeException thrown here is ignored: it
+		 * neither changes the League's {@link LeagueOutcome} nor stops the batch
+		 */
+		void onLeagueProcessed(LeagueOutcome outcome, int completed, int total);
+	}
+
+	private final AdminUserService adminUserService;
+	private final int maxConcurrency;
+	private final ProgressListener progressListener;
+
+	/**
+	 * as Leagues are already processed concurrently, {@code adminUserService}
+	 * is best constructed to score sequentially, without a scoring pool
+	 */
+	public MatchDayBatchProcessor(AdminUserService adminUserService, int maxConcurrency,
+			ProgressListener progressListener) {
+		if (maxConcurrency < 1)
+			throw new IllegalArgumentException("maxConcurrency must be positive");
+		this.adminUserService = adminUserService;
+		this.maxConcurrency = maxConcurrency;
+		this.progressListener = progressListener;
+	}
+
+	public MatchDayBatchProcessor(AdminUserService adminUserService, int maxConcurrency) {
+		this(adminUserService, maxConcurrency, (outcome, completed, total) -> {});
+	}
+
+	public BatchReport process(Collection<League> leagues, Step step) {
+		int total = leagues.size();
+		AtomicInteger completed = new AtomicInteger();
+		ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(maxConcurrency, total)));
+		try {
+			List<Future<LeagueOutcome>> futures = new ArrayList<>(total);
+			for (League league : leagues) {
+				futures.add(executor.submit(() -> {
+					LeagueOutcome outcome = processOne(league, step);
+					notifyProgress(outcome, completed.incrementAndGet(), total);
+					return outcome;
+				}));
+			}
+
+			List<LeagueOutcome> outcomes = new ArrayList<>(total);
+			for (Future<LeagueOutcome> future : futures) {
+				outcomes.add(await(future));
+			}
+			return new BatchReport(step, outcomes);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	public BatchReport retryFailed(BatchReport report) {
+		return process(report.failedLeagues(), report.getStep());
+	}
+
+	// helpers
+
+	private LeagueOutcome processOne(League league, Step step) {
+		long start = System.nanoTime();
+		try {
+			step.apply(adminUserService, league);
+			return new LeagueOutcome(league, Duration.ofNanos(System.nanoTime() - start), null);
+		} catch (RuntimeException e) {
+			return new LeagueOutcome(league, Duration.ofNanos(System.nanoTime() - start), e);
+		}
+	}
+
+	// the League's transaction is over by now, so a failing listener must not be mistaken for a failing League
+	private void notifyProgress(LeagueOutcome outcome, int completed, int total) {
+		try {
+			progressListener.onLeagueProcessed(outcome, completed, total);
+		} catch (RuntimeException e) {
+			// ignored, as documented by ProgressListener
+		}
+	}
+
+	private static LeagueOutcome await(Future<LeagueOutcome> future) {
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while waiting for Leagues to be processed", e);
+		} catch (ExecutionException e) {
+			// processOne() and notifyProgress() trap RuntimeExceptions, so only Errors end up here
+			throw new IllegalStateException("League processing failed unexpectedly", e.getCause());
+		}
+	}
+
+	public static final class LeagueOutcome {
+		private final League league;
+		private final Duration elapsed;
+		private final RuntimeException failure;
+
+		LeagueOutcome(League league, Duration elapsed, RuntimeException failure) {
+			this.league = league;
+			this.elapsed = elapsed;
+			this.failure = failure;
+		}
+
+		public League getLeague() {
+			return league;
+		}
+
+		public Duration getElapsed() {
+			return elapsed;
+		}
+
+		public boolean isSuccess() {
+			return failure == null;
+		}
+
+		// null if the League was processed successfully
+		public RuntimeException getFailure() {
+			return failure;
+		}
+	}
+
+	public static final class BatchReport {
+		private final Step step;
+		private final List<LeagueOutcome> outcomes;
+
+		BatchReport(Step step, List<LeagueOutcome> outcomes) {
+			this.step = step;
+			this.outcomes = Collections.unmodifiableList(outcomes);
+		}
+
+		public Step getStep() {
+			return step;
+		}
+
+		// in submission order
+		public List<LeagueOutcome> getOutcomes() {
+			return outcomes;
+		}
+
+		public List<LeagueOutcome> failures() {
+			return outcomes.stream().filter(outcome -> !outcome.isSuccess()).toList();
+		}
+
+		public List<League> failedLeagues() {
+			return failures().stream().map(LeagueOutcome::getLeague).toList();
+		}
+
+		public boolean allSucceeded() {
+			return failures().isEmpty();
+		}
+	}
+}
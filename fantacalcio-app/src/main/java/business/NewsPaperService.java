@@ -1,8 +1,18 @@
 package business;
 
+import java.io.BufferedReader;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 
+import business.ports.repository.FetchPlan;
 import business.ports.transaction.TransactionManager;
 import domain.Grade;
 import domain.League;
@@ -11,16 +21,61 @@ import domain.Player;
 
 public class NewsPaperService {
 
+	// Grades written per round trip when ingesting, as many as a JDBC batch holds
+	private static final int GRADE_BATCH_SIZE = 50;
+
+	private static final String CSV_HEADER = "name,surname,club,mark";
+
+	private static final String ALREADY_GRADED = "The Player is already graded on this MatchDay";
+
+	private static final String GRADED_TWICE = "The Player is graded more than once";
+
+	/**
+	 * a Grade to be ingested, naming its Player by name, surname and club
+	 */
+	public record GradeRow(String name, String surname, Player.Club club, double mark) {}
+
+	/**
+	 * @param row     the position of the row in the input, starting from 1: for
+	 *                a CSV, its line number
+	 * @param content the row as read
+	 */
+	public record RejectedRow(int row, String content, String reason) {}
+
+	/**
+	 * @param saved    how many Grades were saved
+	 * @param rejected the rows that were not saved, in input order
+	 */
+	public record IngestionReport(int saved, List<RejectedRow> rejected) {
+
+		public boolean allSaved() {
+			return rejected.isEmpty();
+		}
+	}
+
 	protected final TransactionManager transactionManager;
 
 	public NewsPaperService(TransactionManager transactionManager) {
 		this.transactionManager = transactionManager;
 	}
 
-	public void save(Set<Grade> grades) {
-		transactionManager.inTransaction((context) -> {
+	/**
+	 * saves Grades for the ongoing MatchDay of their League. A Player's mark on
+	 * a MatchDay belongs to whoever grades it first: a Grade is not saved, but
+	 * reported as rejected, if its Player is already graded on the MatchDay,
+	 * possibly by another League sharing its Grades, or is graded more than
+	 * once in {@code grades}. Marks are changed through
+	 * {@link #correctGrade(Grade, double)}
+	 *
+	 * @return the report of the Grades saved, where rejected rows are numbered
+	 *         by their position in the iteration order of {@code grades}
+	 * @throws RuntimeException if any Grade is not for the ongoing MatchDay or
+	 *                          has its mark out of bounds, with none saved
+	 */
+	public IngestionReport save(Set<Grade> grades) {
+		return transactionManager.fromTransaction((context) -> {
             Grade anyGrade = grades.stream().findAny().orElseThrow(() -> new RuntimeException("No grades found"));
-			Optional<MatchDay> matchDay = context.getMatchDayRepository().getOngoingMatchDay(anyGrade.getMatchDay().getLeague());
+			Optional<MatchDay> matchDay = context.getMatchDayRepository().getOngoingMatchDay(anyGrade.getMatchDay().getLeague(), FetchPlan.THIN);
 			if (matchDay.isEmpty()) {
 				throw new RuntimeException("Now you can't assign the votes");
 			}
@@ -28,18 +83,183 @@ public class NewsPaperService {
 				if (!(grade.getMatchDay().equals(matchDay.get()))) {
 					throw new RuntimeException("The matchDay is not the present one or is of another League");
 				}
-				if (grade.getMark() <= -5 || grade.getMark() >= 25) {
-					throw new IllegalArgumentException("Marks must be between -5 and 25");
-				}
+				checkMark(grade.getMark());
 			}
+			Set<Player> alreadyGraded = new HashSet<>();
+			for (Grade grade : context.getGradeRepository().getAllGrades(matchDay.get(), FetchPlan.THIN))
+				alreadyGraded.add(grade.getPlayer());
+			Set<Player> saving = new HashSet<>();
+			Set<Grade> toSave = new HashSet<>();
+			List<RejectedRow> rejected = new ArrayList<>();
+			int row = 0;
 			for (Grade grade : grades) {
-				context.getGradeRepository().saveGrade(grade);
+				row++;
+				if (alreadyGraded.contains(grade.getPlayer()))
+					rejected.add(new RejectedRow(row, describe(grade), ALREADY_GRADED));
+				else if (!saving.add(grade.getPlayer()))
+					rejected.add(new RejectedRow(row, describe(grade), GRADED_TWICE));
+				else
+					toSave.add(grade);
 			}
+			context.getGradeRepository().saveAll(toSave);
+			return new IngestionReport(toSave.size(), List.copyOf(rejected));
+		});
+	}
+
+	/**
+	 * changes the mark of a Grade saved for the ongoing MatchDay of its League,
+	 * as long as no MatchDay sharing its Grades has been scored with it
+	 *
+	 * @return the corrected Grade, replacing {@code grade}
+	 */
+	public Grade correctGrade(Grade grade, double mark) {
+		return transactionManager.fromTransaction((context) -> {
+			MatchDay ongoing = context.getMatchDayRepository()
+					.getOngoingMatchDay(grade.getMatchDay().getLeague(), FetchPlan.THIN)
+					.orElseThrow(() -> new RuntimeException("Now you can't assign the votes"));
+			if (!grade.getMatchDay().equals(ongoing)) {
+				throw new RuntimeException("The matchDay is not the present one or is of another League");
+			}
+			checkMark(mark);
+			if (context.getGradeRepository().isScored(ongoing)) {
+				throw new RuntimeException("The Grade was already used to calculate Results");
+			}
+			return context.getGradeRepository().correctGrade(grade, mark);
 		});
 	}
 
 	public Set<Player> getPlayersToGrade(League league) {
-		return transactionManager.fromTransaction((context) -> context.getPlayerRepository().getAllInLeague(league));
+		return transactionManager.fromReadOnlyTransaction((context) -> context.getPlayerRepository().getAllInLeague(league));
+	}
+
+	/**
+	 * ingests Grades from a CSV of {@code name,surname,club,mark} lines, where
+	 * the first line may be that header and blank lines are skipped. Lines are
+	 * read as they are ingested, so the CSV need not fit in memory; {@code csv}
+	 * is left open
+	 *
+	 * @see #ingestGrades(League, Iterator)
+	 */
+	public IngestionReport ingestGrades(League league, Reader csv) {
+		return ingest(league, new BufferedReader(csv).lines().iterator(), NewsPaperService::parseCsvLine);
+	}
+
+	/**
+	 * saves Grades for the ongoing MatchDay of {@code league} in a single pass
+	 * over {@code rows}, all in one transaction. Players are looked up by their
+	 * name, surname and club among those under contract in the League.
+	 * <p>
+	 * A row is rejected, and the others still saved, if its Player cannot be
+	 * found, its mark is out of bounds, or its Player is already graded on the
+	 * MatchDay or earlier in {@code rows}. Accepted Grades are written in
+	 * batches, each one cleared from memory once written
+	 *
+	 * @throws RuntimeException if the League has no ongoing MatchDay
+	 */
+	public IngestionReport ingestGrades(League league, Iterator<GradeRow> rows) {
+		return ingest(league, rows, Optional::of);
+	}
+
+	// helpers
+
+	private static void checkMark(double mark) {
+		if (!(mark > -5 && mark < 25)) {
+			throw new IllegalArgumentException("Marks must be between -5 and 25");
+		}
+	}
+
+	private static String describe(Grade grade) {
+		return grade.getPlayer() + ", " + grade.getMark();
+	}
+
+	private record PlayerKey(String name, String surname, Player.Club club) {
+
+		static PlayerKey of(Player player) {
+			return new PlayerKey(player.getName(), player.getSurname(), player.getClub());
+		}
+
+		static PlayerKey of(GradeRow row) {
+			return new PlayerKey(row.name(), row.surname(), row.club());
+		}
+	}
+
+	/**
+	 * @param parse turns an input row into a GradeRow, or into nothing for rows
+	 *              to be skipped, throwing {@link IllegalArgumentException} for
+	 *              malformed ones
+	 */
+	private <T> IngestionReport ingest(League league, Iterator<T> input, Function<T, Optional<GradeRow>> parse) {
+		return transactionManager.fromTransaction((context) -> {
+			MatchDay ongoing = context.getMatchDayRepository().getOngoingMatchDay(league, FetchPlan.THIN)
+					.orElseThrow(() -> new RuntimeException("Now you can't assign the votes"));
+
+			Map<PlayerKey, Player> players = new HashMap<>();
+			for (Player player : context.getPlayerRepository().getAllInLeague(league))
+				players.put(PlayerKey.of(player), player);
+			Set<PlayerKey> alreadyGraded = new HashSet<>();
+			for (Grade grade : context.getGradeRepository().getAllGrades(ongoing, FetchPlan.THIN))
+				alreadyGraded.add(PlayerKey.of(grade.getPlayer()));
+
+			Set<PlayerKey> ingested = new HashSet<>();
+			List<RejectedRow> rejected = new ArrayList<>();
+			List<Grade> batch = new ArrayList<>(GRADE_BATCH_SIZE);
+			int saved = 0;
+			for (int row = 1; input.hasNext(); row++) {
+				T content = input.next();
+				try {
+					Optional<GradeRow> gradeRow = parse.apply(content);
+					if (gradeRow.isPresent())
+						batch.add(toGrade(gradeRow.get(), ongoing, players, alreadyGraded, ingested));
+				} catch (IllegalArgumentException e) {
+					rejected.add(new RejectedRow(row, String.valueOf(content), e.getMessage()));
+				}
+				if (batch.size() == GRADE_BATCH_SIZE) {
+					context.getGradeRepository().saveBatch(batch);
+					saved += batch.size();
+					batch.clear();
+				}
+			}
+			if (!batch.isEmpty()) {
+				context.getGradeRepository().saveBatch(batch);
+				saved += batch.size();
+			}
+			return new IngestionReport(saved, List.copyOf(rejected));
+		});
+	}
+
+	private static Grade toGrade(GradeRow row, MatchDay matchDay, Map<PlayerKey, Player> players,
+			Set<PlayerKey> alreadyGraded, Set<PlayerKey> ingested) {
+		PlayerKey key = PlayerKey.of(row);
+		Player player = players.get(key);
+		if (player == null)
+			throw new IllegalArgumentException("No Player under contract in the League matches the row");
+		checkMark(row.mark());
+		if (alreadyGraded.contains(key))
+			throw new IllegalArgumentException(ALREADY_GRADED);
+		if (!ingested.add(key))
+			throw new IllegalArgumentException(GRADED_TWICE);
+		return new Grade(player, matchDay, row.mark());
+	}
+
+	private static Optional<GradeRow> parseCsvLine(String line) {
+		if (line.isBlank() || line.strip().equalsIgnoreCase(CSV_HEADER))
+			return Optional.empty();
+		String[] fields = line.split(",", -1);
+		if (fields.length != 4)
+			throw new IllegalArgumentException("Expected 4 fields: " + CSV_HEADER);
+		Player.Club club;
+		try {
+			club = Player.Club.valueOf(fields[2].strip().toUpperCase());
+		} catch (IllegalArgumentException e) {
+			throw new IllegalArgumentException("Unknown club: " + fields[2].strip());
+		}
+		double mark;
+		try {
+			mark = Double.parseDouble(fields[3].strip());
+		} catch (NumberFormatException e) {
+			throw new IllegalArgumentException("Malformed mark: " + fields[3].strip());
+		}
+		return Optional.of(new GradeRow(fields[0].strip(), fields[1].strip(), club, mark));
 	}
 
 }
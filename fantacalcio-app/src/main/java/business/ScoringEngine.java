@@ -0,0 +1,159 @@
+package business;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+import domain.Grade;
+import domain.LineUp;
+import domain.LineUpViewer;
+import domain.Player;
+
+/**
+ * scores {@link LineUp}s against the {@link Grade}s of a MatchDay.
+ * <p>
+ * Grades are compiled once into a primitive array addressed by a dense
+ * per-MatchDay {@link Player} index, and each {@link LineUp} into flat
+ * starter/bench index arrays per role, so that scoring itself neither
+ * allocates nor hashes {@link Player}s. Substitution semantics are those the
+ * game has always used: within each role, every ungraded starter is replaced
+ * by the first graded substitute not yet considered, in bench order
+ */
+final class ScoringEngine {
+
+	// marks an ungraded, or ineligible, Player in compiled LineUps
+	private static final int NO_GRADE = -1;
+
+	private final Map<Player, Integer> denseIndex;
+	private final double[] marks;
+
+	private ScoringEngine(Map<Player, Integer> denseIndex, double[] marks) {
+		this.denseIndex = denseIndex;
+		this.marks = marks;
+	}
+
+	/**
+	 * @throws IllegalStateException if a {@link Player} is graded more than once
+	 */
+	static ScoringEngine forGrades(Collection<Grade> grades) {
+		Map<Player, Integer> denseIndex = new HashMap<>(grades.size() * 2);
+		double[] marks = new double[grades.size()];
+		for (Grade grade : grades) {
+			int index = denseIndex.size();
+			if (denseIndex.putIfAbsent(grade.getPlayer(), index) != null)
+				throw new IllegalStateException("Duplicate grade for " + grade.getPlayer());
+			marks[index] = grade.getMark();
+		}
+		return new ScoringEngine(denseIndex, marks);
+	}
+
+	/**
+	 * compiles {@code lineUp}, only counting Grades of Players who belong to
+	 * either roster of the Match
+	 */
+	CompiledLineUp compile(LineUp lineUp, Set<Player> homeRoster, Set<Player> awayRoster) {
+		LineUpViewer viewer = lineUp.extract();
+
+		// starters keep the iteration order of the viewer's sets, since the
+		// order in which marks are summed determines the exact double result
+		return new CompiledLineUp(
+				new int[][] {
+					indices(viewer.starterGoalkeepers(), homeRoster, awayRoster),
+					indices(viewer.starterDefenders(), homeRoster, awayRoster),
+					indices(viewer.starterMidfielders(), homeRoster, awayRoster),
+					indices(viewer.starterForwards(), homeRoster, awayRoster) },
+				new int[][] {
+					indices(viewer.substituteGoalkeepers(), homeRoster, awayRoster),
+					indices(viewer.substituteDefenders(), homeRoster, awayRoster),
+					indices(viewer.substituteMidfielders(), homeRoster, awayRoster),
+					indices(viewer.substituteForwards(), homeRoster, awayRoster) });
+	}
+
+	double score(CompiledLineUp lineUp) {
+		double result = 0;
+		for (int role = 0; role < lineUp.starters.length; role++) {
+			result += roleScore(lineUp.starters[role], lineUp.bench[role]);
+		}
+		return result;
+	}
+
+	/**
+	 * scores every non-null element of {@code lineUps}, on {@code pool} if
+	 * given, or sequentially on the calling thread if null; a null element
+	 * scores 0
+	 * 
+	 * @return the scores, positionally matching {@code lineUps}
+	 */
+	double[] scoreAll(CompiledLineUp[] lineUps, ForkJoinPool pool) {
+		double[] scores = new double[lineUps.length];
+		IntConsumer scoreOne = i -> {
+			if (lineUps[i] != null)
+				scores[i] = score(lineUps[i]);
+		};
+		if (pool == null || lineUps.length < 2) {
+			IntStream.range(0, lineUps.length).forEach(scoreOne);
+			return scores;
+		}
+
+		// each task writes a distinct slot, and join() publishes all writes
+		pool.submit(() -> IntStream.range(0, lineUps.length).parallel().forEach(scoreOne)).join();
+		return scores;
+	}
+
+	static int goals(double points) {
+		if (points < 66.0)
+			return 0;
+		return 1 + (int) Math.floor((points - 66.0) / 6.0);
+	}
+
+	// helpers
+
+	private double roleScore(int[] starters, int[] bench) {
+		double result = 0;
+		int benchPositionToLook = 0;
+		for (int starter : starters) {
+			if (starter != NO_GRADE) {
+				result += marks[starter];
+			} else {
+				while (benchPositionToLook < bench.length) {
+					int substitute = bench[benchPositionToLook++];
+					if (substitute != NO_GRADE) {
+						result += marks[substitute];
+						break;
+					}
+				}
+			}
+		}
+		return result;
+	}
+
+	private int[] indices(Collection<? extends Player> players, Set<Player> homeRoster, Set<Player> awayRoster) {
+		int[] result = new int[players.size()];
+		int i = 0;
+		for (Player player : players) {
+			Integer index = denseIndex.get(player);
+			result[i++] = index != null && (homeRoster.contains(player) || awayRoster.contains(player))
+					? index
+					: NO_GRADE;
+		}
+		return result;
+	}
+
+	/**
+	 * a {@link LineUp} reduced to dense indices, per role: goalkeepers,
+	 * defenders, midfielders, forwards
+	 */
+	static final class CompiledLineUp {
+		private final int[][] starters;
+		private final int[][] bench;
+
+		private CompiledLineUp(int[][] starters, int[][] bench) {
+			this.starters = starters;
+			this.bench = bench;
+		}
+	}
+}
@@ -1,29 +1,58 @@
 package business;
 
 import java.util.*;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import business.ports.repository.FetchPlan;
 import business.ports.repository.LeagueRepository;
+import business.ports.repository.LineUpRepository;
+import business.ports.repository.PlayerRepository.PlayerFilter;
+import business.ports.repository.PlayerRepository.PlayerPage;
+import business.ports.repository.PlayerRepository.PlayerRow;
+import business.ports.repository.StandingRepository.StandingRow;
 import business.ports.transaction.TransactionManager;
 import domain.*;
 
 public class UserService {
 
+	// rows read per round trip when streaming the Player catalog
+	private static final int PLAYER_FETCH_SIZE = 500;
+
 	protected final TransactionManager transactionManager;
+	protected final LeagueLifecycleCache lifecycleCache;
 
-	public UserService(TransactionManager transactionManager) {
+	/**
+	 * @param lifecycleCache shared with the application's other services, so
+	 *                       that lifecycle steps invalidate it for all of them
+	 */
+	public UserService(TransactionManager transactionManager, LeagueLifecycleCache lifecycleCache) {
 		this.transactionManager = transactionManager;
+		this.lifecycleCache = Objects.requireNonNull(lifecycleCache, "lifecycleCache");
 	}
 
 	// League
+    // played from the first real-world round, in no particular season
     public void createLeague(String leagueName, FantaUser admin, String leagueCode) {
+        createLeague(leagueName, admin, leagueCode, MatchDay.NO_SEASON, 1);
+    }
+
+    /**
+     * creates a League whose MatchDays are played on consecutive real-world
+     * rounds of {@code season}, starting from {@code firstRealRound}, sharing
+     * their Grades with the MatchDays of other Leagues played on those rounds
+     */
+    public void createLeague(String leagueName, FantaUser admin, String leagueCode, int season, int firstRealRound) {
         transactionManager.inTransaction((context) -> {
-            if (context.getLeagueRepository().getLeagueByCode(leagueCode).isEmpty()) {
+            if (!context.getLeagueRepository().existsLeague(leagueCode)) {
                 League league = new League(admin, leagueName, leagueCode);
                 context.getLeagueRepository().saveLeague(league);
+                List<MatchDay> matchDays = new ArrayList<>();
                 for(int i = 0; i < MatchDay.MATCH_DAYS_IN_LEAGUE; i++){
-                    context.getMatchDayRepository().saveMatchDay(new MatchDay("MatchDay "+ (i+1), (i+1), MatchDay.Status.FUTURE, league));
+                    matchDays.add(new MatchDay("MatchDay "+ (i+1), (i+1), season, firstRealRound + i, MatchDay.Status.FUTURE, league));
                 }
+                context.getMatchDayRepository().saveAll(matchDays);
             } else {
                 throw new IllegalArgumentException("A league with the same league code already exists");
             }
@@ -37,12 +66,11 @@ public class UserService {
 			LeagueRepository leagueRepository = context.getLeagueRepository();
 
 			final int maxFantaTeamsPerLeague = 8;
-			if (leagueRepository.getAllTeams(league).size() >= maxFantaTeamsPerLeague)
+			if (leagueRepository.countTeams(league) >= maxFantaTeamsPerLeague)
 				throw new UnsupportedOperationException("Maximum 8 teams per league");
 
 			FantaUser user = fantaTeam.getFantaManager();
-			Set<League> UserLeagues = leagueRepository.getLeaguesByMember(user);
-			if (UserLeagues.contains(league)) {
+			if (leagueRepository.existsTeamOf(user, league)) {
 				throw new IllegalArgumentException("You have already a team in this league");
 			} else {
 				context.getTeamRepository().saveTeam(fantaTeam);
@@ -52,48 +80,73 @@ public class UserService {
 
     public void joinLeagueAsJournalist(League league, FantaUser journalist) {
         transactionManager.inTransaction((context) -> {
-            if (league.getNewsPaper() != null) {
+            // checked and changed on the managed League, so that a stale copy cannot overwrite another journalist
+            League managed = context.getLeagueRepository().getLeagueByCode(league.getLeagueCode())
+                    .orElseThrow(() -> new IllegalArgumentException("The league does not exist"));
+            if (managed.getNewsPaper() != null) {
                 throw new IllegalStateException("La lega ha già un giornalista associato!");
             }
-            if(league.getAdmin().equals(journalist)){
+            if(managed.getAdmin().equals(journalist)){
                 throw new IllegalStateException("l'admin non può essere il giornalista");
             }
-            league.setNewsPaper(journalist);
+            managed.setNewsPaper(journalist);
         });
+        league.setNewsPaper(journalist);
     }
 
 	// Matches
 
+	// one query for the whole calendar, already ordered by MatchDay number
 	public Map<MatchDay, List<Match>> getAllMatches(League league) {
+		return transactionManager.fromReadOnlyTransaction((context) ->
+			context.getMatchRepository().getAllMatchesIn(league).stream()
+					.collect(Collectors.groupingBy(Match::getMatchDay, LinkedHashMap::new, Collectors.toList())));
+	}
 
-		return transactionManager.fromTransaction((context) -> {
+	// Players
 
-			List<MatchDay> allMatchDays = context.getMatchDayRepository().getAllMatchDays(league);
-			Map<MatchDay, List<Match>> map = new HashMap<>();
+	public Set<Player> getAllPlayers() {
+		return transactionManager.fromReadOnlyTransaction((context) -> context.getPlayerRepository().findAll());
+	}
 
-			for (MatchDay matchDay : allMatchDays) {
-				map.put(matchDay, context.getMatchRepository().getAllMatchesIn(matchDay));
-			}
+	public List<Player> getPlayersBySurname(String surname) {
+		return transactionManager.fromReadOnlyTransaction((context) -> context.getPlayerRepository().findBySurname(surname));
+	}
 
-			return map;
+	// pickers page through the catalog by key, rather than loading it whole
+	public PlayerPage getPlayerPage(PlayerFilter filter, Long after, int pageSize) {
+		return transactionManager
+				.fromReadOnlyTransaction((context) -> context.getPlayerRepository().findPage(filter, after, pageSize));
+	}
 
+	/**
+	 * hands the Players matching {@code filter} to {@code consumer} one at a
+	 * time, as read through a database cursor, so that exports run in bounded
+	 * memory
+	 */
+	public void forEachPlayer(PlayerFilter filter, Consumer<Player> consumer) {
+		transactionManager.fromReadOnlyTransaction((context) -> {
+			try (Stream<Player> players = context.getPlayerRepository().streamPlayers(filter, PLAYER_FETCH_SIZE)) {
+				players.forEach(consumer);
+			}
+			return null;
 		});
 	}
 
-	// Players
-
-	public Set<Player> getAllPlayers() {
-		return transactionManager.fromTransaction((context) -> context.getPlayerRepository().findAll());
+	// projections for player pickers, which never load Player entities
+	public List<PlayerRow> getAllPlayerRows() {
+		return transactionManager.fromReadOnlyTransaction((context) -> context.getPlayerRepository().getAllPlayerRows());
 	}
 
-	public List<Player> getPlayersBySurname(String surname) {
-		return transactionManager.fromTransaction((context) -> context.getPlayerRepository().findBySurname(surname));
+	public List<PlayerRow> getPlayerRowsBySurname(String surname) {
+		return transactionManager
+				.fromReadOnlyTransaction((context) -> context.getPlayerRepository().findPlayerRowsBySurname(surname));
 	}
 
 	// Proposals
 	public Set<Proposal> getAllTeamProposals(FantaTeam team) {
 		return transactionManager
-				.fromTransaction((context) -> context.getProposalRepository().getProposalsFor(team));
+				.fromReadOnlyTransaction((context) -> context.getProposalRepository().getProposalsFor(team));
 	}
 
 	public void acceptProposal(Proposal proposal, FantaTeam fantaTeam) {
@@ -102,15 +155,15 @@ public class UserService {
 			FantaTeam offeringTeam = proposal.getOfferedContract().getTeam();
 			Player offeredPlayer = proposal.getOfferedContract().getPlayer();
 			Player requestedPlayer = proposal.getRequestedContract().getPlayer();
-            Optional<Proposal> repoProposal = context.getProposalRepository().getProposalBy(proposal.getOfferedContract(), proposal.getRequestedContract());
+            Optional<Proposal> repoProposal = context.getProposalRepository().getProposalBy(proposal.getOfferedContract(), proposal.getRequestedContract(), FetchPlan.THIN);
             if (repoProposal.isEmpty()) {
                 throw new RuntimeException("Proposal does not exists");
             }
 			if (!requestingTeam.isSameTeam(fantaTeam)) {
 				throw new IllegalArgumentException("You are not involved in this proposal");
 			}
-			Optional<Contract> requestedContract = searchContract(fantaTeam, requestedPlayer);
-			Optional<Contract> offeredContract = searchContract(offeringTeam, offeredPlayer);
+			Optional<Contract> requestedContract = context.getContractRepository().getContract(fantaTeam, requestedPlayer);
+			Optional<Contract> offeredContract = context.getContractRepository().getContract(offeringTeam, offeredPlayer);
 
 			if (requestedContract.isEmpty() || offeredContract.isEmpty()) {
                 context.getProposalRepository().deleteProposal(proposal);
@@ -132,7 +185,7 @@ public class UserService {
 		transactionManager.inTransaction((context) -> {
 			FantaTeam requestingTeam = proposal.getRequestedContract().getTeam();
 			FantaTeam offeringTeam = proposal.getOfferedContract().getTeam();
-            Optional<Proposal> repoProposal = context.getProposalRepository().getProposalBy(proposal.getOfferedContract(), proposal.getRequestedContract());
+            Optional<Proposal> repoProposal = context.getProposalRepository().getProposalBy(proposal.getOfferedContract(), proposal.getRequestedContract(), FetchPlan.THIN);
             if (repoProposal.isEmpty()) {
                 throw new RuntimeException("Proposal does not exists");
             }
@@ -154,8 +207,8 @@ public class UserService {
         }
 
 		return transactionManager.fromTransaction((context) -> {
-            Optional<FantaTeam> repoMyTeam = context.getTeamRepository().getFantaTeamByUserAndLeague(myTeam.getLeague(), myTeam.getFantaManager());
-            Optional<FantaTeam> repoOpponentTeam = context.getTeamRepository().getFantaTeamByUserAndLeague(myTeam.getLeague(), opponentTeam.getFantaManager());
+            Optional<FantaTeam> repoMyTeam = context.getTeamRepository().getFantaTeamByUserAndLeague(myTeam.getLeague(), myTeam.getFantaManager(), FetchPlan.THIN);
+            Optional<FantaTeam> repoOpponentTeam = context.getTeamRepository().getFantaTeamByUserAndLeague(myTeam.getLeague(), opponentTeam.getFantaManager(), FetchPlan.THIN);
             if(repoMyTeam.isEmpty() || repoOpponentTeam.isEmpty()) {
                 throw new RuntimeException("One or both teams do not exists in the league");
             }
@@ -163,13 +216,13 @@ public class UserService {
                 throw new IllegalArgumentException("One or both teams are incorrect");
             }
 
-			Optional<Contract> requestedContract = searchContract(opponentTeam, requestedPlayer);
-			Optional<Contract> offeredContract = searchContract(myTeam, offeredPlayer);
+			Optional<Contract> requestedContract = context.getContractRepository().getContract(opponentTeam, requestedPlayer);
+			Optional<Contract> offeredContract = context.getContractRepository().getContract(myTeam, offeredPlayer);
 
 			if (requestedContract.isPresent() && offeredContract.isPresent()) {
 				Proposal newProposal = new Proposal(offeredContract.get(), requestedContract.get());
 
-				if (context.getProposalRepository().getProposalBy(offeredContract.get(), requestedContract.get())
+				if (context.getProposalRepository().getProposalBy(offeredContract.get(), requestedContract.get(), FetchPlan.THIN)
 						.isPresent()) {
 					throw new IllegalArgumentException("The proposal already exists");
 				}
@@ -184,40 +237,56 @@ public class UserService {
 	// Standings
 
 	public List<FantaTeam> getStandings(League league) {
+		List<Standing> table = getStandingTable(league);
+		if (!table.isEmpty())
+			return table.stream().map(Standing::getTeam).collect(Collectors.toList());
+
+		// no Results calculated yet, so no table has been materialized
 		return getAllFantaTeams(league)
 				.stream()
 				.sorted(Comparator.comparing(FantaTeam::getPoints).reversed())
 				.collect(Collectors.toList());
 	}
 
+	public List<Standing> getStandingTable(League league) {
+		return transactionManager.fromReadOnlyTransaction((context) -> context.getStandingRepository().getStandings(league));
+	}
+
+	// a projection of the table, for screens that only list it
+	public List<StandingRow> getStandingRows(League league) {
+		return transactionManager
+				.fromReadOnlyTransaction((context) -> context.getStandingRepository().getStandingRows(league));
+	}
+
 	// Teams
 
 	public Set<FantaTeam> getAllFantaTeams(League league) {
-		return transactionManager.fromTransaction((context) -> context.getTeamRepository().getAllTeams(league));
+		return transactionManager.fromReadOnlyTransaction((context) -> context.getTeamRepository().getAllTeams(league));
 	}
 
+	// the user's own FantaTeam, whose roster is shown once the transaction has ended
 	public Optional<FantaTeam> getFantaTeamByUserAndLeague(League league, FantaUser user) {
-		return transactionManager
-				.fromTransaction((context) -> context.getTeamRepository().getFantaTeamByUserAndLeague(league, user));
+		return transactionManager.fromReadOnlyTransaction(
+				(context) -> context.getTeamRepository().getFantaTeamByUserAndLeague(league, user, FetchPlan.WITH_ROSTER));
 	}
 
 	// Grades
 
 	public List<Grade> getAllMatchGrades(Match match) {
 		return transactionManager
-				.fromTransaction((context) -> context.getGradeRepository().getAllGrades(match.getMatchDay()));
+				.fromReadOnlyTransaction((context) -> context.getGradeRepository().getAllGrades(match.getMatchDay()));
 	}
 
 	// Results
 
 	public Optional<Result> getResultByMatch(Match match) {
-		return transactionManager.fromTransaction((context) -> context.getResultsRepository().getResultFor(match));
+		return transactionManager.fromReadOnlyTransaction((context) -> context.getResultsRepository().getResultFor(match));
 
 	}
 
 	public Optional<LineUp> getLineUpByMatch(Match match, FantaTeam fantaTeam) {
 		return transactionManager
-				.fromTransaction((context) -> context.getLineUpRepository().getLineUpByMatchAndTeam(match, fantaTeam));
+				.fromReadOnlyTransaction((context) -> context.getLineUpRepository().getLineUpByMatchAndTeam(match, fantaTeam));
 	}
 
 	public void saveLineUp(LineUp lineUp) {
@@ -229,70 +298,55 @@ public class UserService {
                 throw new IllegalArgumentException("The fantaTeam in the lineUp is not correct");
             }
 
-            Optional<MatchDay> nextMatchDay = context.getMatchDayRepository().getEarliestUpcomingMatchDay(lineUp.getTeam().getLeague());
+            // the League's calendar is read from its cached lifecycle snapshot
+            League league = fantaTeam.getLeague();
+            LeagueLifecycle lifecycle = lifecycleCache.get(league, () -> LeagueLifecycle.load(context, league));
+
+            OptionalInt nextMatchDay = lifecycle.getUpcomingMatchDayNumber();
             if (nextMatchDay.isEmpty()) {
                 throw new RuntimeException("The league ended");
             }
-            if(!nextMatchDay.get().equals(match.getMatchDay())) {
+            MatchDay matchDay = match.getMatchDay();
+            if(matchDay.getNumber() != nextMatchDay.getAsInt() || !matchDay.getLeague().equals(league)) {
                 throw new RuntimeException("The matchDay of the lineUp is incorrect");
             }
-            Optional<Match> repositoryMatch = context.getMatchRepository().getMatchBy(nextMatchDay.get(), lineUp.getTeam());
+            Optional<LeagueLifecycle.UpcomingMatch> repositoryMatch = lifecycle.getUpcomingMatch(fantaTeam);
             if (repositoryMatch.isEmpty()) {
                 throw new IllegalArgumentException("The match does not exists");
             }
-            if(!repositoryMatch.get().equals(match)) {
+            if(!repositoryMatch.get().isOf(match)) {
                 throw  new IllegalArgumentException("The match is not correct");
             }
 
 			FantaTeam team = lineUp.getTeam();
 
 			// Check if is legal to save the lineUP
-			Optional<MatchDay> previousMatchDay = context.getMatchDayRepository().getLatestEndedMatchDay(match.getMatchDay().getLeague());
-			if (previousMatchDay.isPresent()) {
-				Optional<Match> previousMatch = context.getMatchRepository().getMatchBy(previousMatchDay.get(), 
-						team);
-				Optional<Result> previousMatchResult = context.getResultsRepository().getResultFor(previousMatch.get());
-
-				if (previousMatchResult.isEmpty()) {
+			if (!lifecycle.areLatestResultsCalculated()) {
 					throw new UnsupportedOperationException("The grades for the previous match were not calculated");
 				}
-			}
 
 			// Collect all players from the LineUp
-			Set<Player> fieldedPlayers = new HashSet<>();
-			fieldedPlayers.addAll(lineUp.extract().starterGoalkeepers());
-			fieldedPlayers.addAll(lineUp.extract().starterDefenders());
-			fieldedPlayers.addAll(lineUp.extract().starterMidfielders());
-			fieldedPlayers.addAll(lineUp.extract().starterForwards());
-			fieldedPlayers.addAll(lineUp.extract().substituteGoalkeepers());
-			fieldedPlayers.addAll(lineUp.extract().substituteDefenders());
-			fieldedPlayers.addAll(lineUp.extract().substituteMidfielders());
-			fieldedPlayers.addAll(lineUp.extract().substituteForwards());
-
-			// Collect all players contracted to the team			
-			Set<Player> teamPlayers = new HashSet<>();
-			teamPlayers.addAll(team.extract().goalkeepers());
-			teamPlayers.addAll(team.extract().defenders());
-			teamPlayers.addAll(team.extract().midfielders());
-			teamPlayers.addAll(team.extract().forwards());
+			Set<Player> fieldedPlayers = lineUp.extract().players();
 
 			// Validate ownership
+			Set<Player> ownedPlayers = context.getContractRepository().getContractedAmong(team, fieldedPlayers);
 			for (Player player : fieldedPlayers) {
-				if (!teamPlayers.contains(player)) {
+				if (!ownedPlayers.contains(player)) {
 					throw new IllegalArgumentException(
 							"Player " + player + " does not belong to FantaTeam " + team.getName());
 				}
 			}
 
-			context.getLineUpRepository().getLineUpByMatchAndTeam(match, team)
-					.ifPresent(lineup -> context.getLineUpRepository().deleteLineUp(lineup));
-
-			context.getLineUpRepository().saveLineUp(lineUp);	
+			// an unchanged LineUp is not written at all, a changed one only where it differs
+			LineUpRepository lineUpRepository = context.getLineUpRepository();
+			Optional<Long> storedHash = lineUpRepository.getContentHash(match, team);
+			if (storedHash.isEmpty()) {
+				lineUpRepository.saveLineUp(lineUp);
+			} else if (storedHash.get() != lineUp.getContentHash()) {
+				LineUp stored = lineUpRepository.getLineUpByMatchAndTeam(match, team).orElseThrow();
+				stored.updateFrom(lineUp);
+				lineUpRepository.updateLineUp(stored);
+			}
 		});
 	}
-
-	private Optional<Contract> searchContract(FantaTeam team, Player player) {
-		return team.getContracts().stream().filter(c -> c.getTeam().equals(team) && c.getPlayer().equals(player))
-				.findFirst();
-	}
 }
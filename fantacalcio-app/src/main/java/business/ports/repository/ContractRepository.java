@@ -1,6 +1,10 @@
 package business.ports.repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import domain.*;
 
@@ -8,8 +12,28 @@ public interface ContractRepository {
 
 	Optional<Contract> getContract(FantaTeam team, Player player);
 
+	/**
+	 * @return the Contracts of every {@link FantaTeam} playing a {@link Match} on
+	 *         the given {@link MatchDay}
+	 */
+	List<Contract> getAllContractsIn(MatchDay matchDay);
+
+	/**
+	 * counts the Contracts of {@code team} with a single grouped query, without
+	 * loading them
+	 * 
+	 * @return the number of Contracts per role, keyed by {@link Player}
+	 *         subclass; roles with no Contracts are absent
+	 */
+	Map<Class<? extends Player>, Long> countContractsByRole(FantaTeam team);
+
+	/**
+	 * @return those of {@code players} under Contract with {@code team}, looked
+	 *         up with a single query however many they are
+	 */
+	Set<Player> getContractedAmong(FantaTeam team, Collection<Player> players);
+
 	void deleteContract(Contract contract);
 
 	void saveContract(Contract contract);
-
 }
@@ -9,10 +9,18 @@ import domain.League;
 
 public interface FantaTeamRepository {
 
-	public Set<FantaTeam> getAllTeams(League league);
+	public default Set<FantaTeam> getAllTeams(League league) {
+		return getAllTeams(league, FetchPlan.DEEP);
+	}
+
+	public Set<FantaTeam> getAllTeams(League league, FetchPlan plan);
 
 	public void saveTeam(FantaTeam team);
 
-	public Optional<FantaTeam> getFantaTeamByUserAndLeague(League league, FantaUser user);
+	public default Optional<FantaTeam> getFantaTeamByUserAndLeague(League league, FantaUser user) {
+		return getFantaTeamByUserAndLeague(league, user, FetchPlan.DEEP);
+	}
+
+	public Optional<FantaTeam> getFantaTeamByUserAndLeague(League league, FantaUser user, FetchPlan plan);
 
 }
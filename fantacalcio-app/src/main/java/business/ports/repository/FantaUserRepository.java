@@ -8,6 +8,8 @@ public interface FantaUserRepository {
 
 	public Optional<FantaUser> getUser(String mail, String password);
 
+	public boolean existsFantaUser(String mail, String password);
+
 	public void saveFantaUser(FantaUser fantaUser);
 
 }
@@ -0,0 +1,29 @@
+package business.ports.repository;
+
+/**
+ * tells a repository how much of the object graph reachable from the entities
+ * it retrieves is to be loaded along with them.
+ * <p>
+ * Every plan loads the associations entity equality relies on, e.g. the
+ * {@link domain.League} of a {@link domain.MatchDay} or {@link domain.FantaTeam},
+ * so that retrieved entities can be compared once detached
+ */
+public enum FetchPlan {
+
+	/**
+	 * only the associations needed for equality, for use within a transaction
+	 */
+	THIN,
+
+	/**
+	 * {@link #DEEP}, plus the Contracts and Players of the FantaTeams being
+	 * retrieved; the same as DEEP for queries retrieving other entities
+	 */
+	WITH_ROSTER,
+
+	/**
+	 * also the League admins and FantaTeam managers, for results read by the
+	 * presentation once the transaction has ended
+	 */
+	DEEP
+}
@@ -1,5 +1,6 @@
 package business.ports.repository;
 
+import java.util.Collection;
 import java.util.List;
 
 import domain.Grade;
@@ -7,8 +8,47 @@ import domain.MatchDay;
 
 public interface GradeRepository {
 
-	List<Grade> getAllGrades(MatchDay matchDay);
+	default List<Grade> getAllGrades(MatchDay matchDay) {
+		return getAllGrades(matchDay, FetchPlan.DEEP);
+	}
+
+	/**
+	 * @return the Grades of {@code matchDay}, including those given through any
+	 *         MatchDay sharing them
+	 */
+	List<Grade> getAllGrades(MatchDay matchDay, FetchPlan plan);
 	
 	void saveGrade(Grade grade);
 
+	/**
+	 * a Player has at most one Grade on a MatchDay, shared by any MatchDay
+	 * sharing its Grades, so {@code grades} must not grade Players found by
+	 * {@link #getAllGrades(MatchDay, FetchPlan)}: existing marks are changed
+	 * through {@link #correctGrade(Grade, double)} instead
+	 */
+	void saveAll(Collection<Grade> grades);
+
+	/**
+	 * persists {@code grades} and writes them to the database at once, then
+	 * clears all entities from memory, so that a transaction saving many Grades
+	 * only holds one batch at a time. Entities read earlier in the transaction
+	 * are no longer tracked afterwards
+	 */
+	void saveBatch(Collection<Grade> grades);
+
+	/**
+	 * replaces the stored {@code grade}, which cannot be updated in place, with a
+	 * Grade for the same Player and MatchDay having {@code mark}
+	 *
+	 * @return the replacement Grade
+	 * @throws IllegalArgumentException if {@code grade} is not stored
+	 */
+	Grade correctGrade(Grade grade, double mark);
+
+	/**
+	 * @return whether Results were calculated for any MatchDay sharing the
+	 *         Grades of {@code matchDay}, so that they can no longer change
+	 */
+	boolean isScored(MatchDay matchDay);
+
 }
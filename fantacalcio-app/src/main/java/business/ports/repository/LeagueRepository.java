@@ -12,11 +12,20 @@ public interface LeagueRepository {
 
 	Optional<League> getLeagueByCode(String leagueCode);
 
+	boolean existsLeague(String leagueCode);
+
 	boolean saveLeague(League league);
 
 	Set<League> getLeaguesByMember(FantaUser user);
 	
 	List<FantaTeam> getAllTeams(League league);
 
+	long countTeams(League league);
+
+	/**
+	 * @return whether {@code user} manages a {@link FantaTeam} in {@code league}
+	 */
+	boolean existsTeamOf(FantaUser user, League league);
+
     Set<League> getLeaguesByJournalist(FantaUser journalist);
 }
@@ -1,17 +1,30 @@
 package business.ports.repository;
 
+import java.util.List;
 import java.util.Optional;
 
 import domain.FantaTeam;
 import domain.LineUp;
 import domain.Match;
+import domain.MatchDay;
 
 public interface LineUpRepository {
 
 	void saveLineUp(LineUp lineUp);
 
+	void updateLineUp(LineUp lineUp);
+
 	void deleteLineUp(LineUp lineUp);
 
+	/**
+	 * @return the {@link LineUp#getContentHash() content hash} of the LineUp
+	 *         fielded by {@code fantaTeam} in {@code match}, if any, without
+	 *         loading the LineUp itself
+	 */
+	Optional<Long> getContentHash(Match match, FantaTeam fantaTeam);
+
 	Optional<LineUp> getLineUpByMatchAndTeam(Match match, FantaTeam fantaTeam);
+
+	List<LineUp> getAllLineUpsIn(MatchDay matchDay);
 	
 }
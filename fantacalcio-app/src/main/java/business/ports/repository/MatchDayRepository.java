@@ -1,5 +1,6 @@
 package business.ports.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -8,16 +9,34 @@ import domain.MatchDay;
 
 public interface MatchDayRepository {
 	
-	List<MatchDay> getAllMatchDays(League league);
+	default List<MatchDay> getAllMatchDays(League league) {
+		return getAllMatchDays(league, FetchPlan.DEEP);
+	}
 
-	Optional<MatchDay> getLatestEndedMatchDay(League league);
+	List<MatchDay> getAllMatchDays(League league, FetchPlan plan);
 
-	Optional<MatchDay> getEarliestUpcomingMatchDay(League league);
+	default Optional<MatchDay> getLatestEndedMatchDay(League league) {
+		return getLatestEndedMatchDay(league, FetchPlan.DEEP);
+	}
 
-	Optional<MatchDay> getOngoingMatchDay(League league);
+	Optional<MatchDay> getLatestEndedMatchDay(League league, FetchPlan plan);
+
+	default Optional<MatchDay> getEarliestUpcomingMatchDay(League league) {
+		return getEarliestUpcomingMatchDay(league, FetchPlan.DEEP);
+	}
+
+	Optional<MatchDay> getEarliestUpcomingMatchDay(League league, FetchPlan plan);
+
+	default Optional<MatchDay> getOngoingMatchDay(League league) {
+		return getOngoingMatchDay(league, FetchPlan.DEEP);
+	}
+
+	Optional<MatchDay> getOngoingMatchDay(League league, FetchPlan plan);
 
 	void saveMatchDay(MatchDay matchDay);
 
+	void saveAll(Collection<MatchDay> matchDays);
+
 	void updateMatchDay(MatchDay detached);
 
 }
@@ -1,18 +1,47 @@
 package business.ports.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import domain.FantaTeam;
+import domain.League;
 import domain.Match;
 import domain.MatchDay;
 
 public interface MatchRepository {
 
-	Optional<Match> getMatchBy(MatchDay matchDay, FantaTeam fantaTeam);
+	default Optional<Match> getMatchBy(MatchDay matchDay, FantaTeam fantaTeam) {
+		return getMatchBy(matchDay, fantaTeam, FetchPlan.DEEP);
+	}
+
+	Optional<Match> getMatchBy(MatchDay matchDay, FantaTeam fantaTeam, FetchPlan plan);
 	
-	List<Match> getAllMatchesIn(MatchDay matchDay);
+	default List<Match> getAllMatchesIn(MatchDay matchDay) {
+		return getAllMatchesIn(matchDay, FetchPlan.DEEP);
+	}
+
+	List<Match> getAllMatchesIn(MatchDay matchDay, FetchPlan plan);
+
+	/**
+	 * @return whether some {@link Match} in {@code matchDay} has no
+	 *         {@link domain.Result} yet
+	 */
+	boolean existsMatchWithoutResult(MatchDay matchDay);
+
+	/**
+	 * @param league the {@link League} whose calendar is to be retrieved
+	 * @return every {@link Match} in {@code league}, ordered by the number of
+	 *         its {@link MatchDay}
+	 */
+	default List<Match> getAllMatchesIn(League league) {
+		return getAllMatchesIn(league, FetchPlan.DEEP);
+	}
+
+	List<Match> getAllMatchesIn(League league, FetchPlan plan);
 
 	void saveMatch(Match match);
+
+	void saveAll(Collection<Match> matches);
 	
 }
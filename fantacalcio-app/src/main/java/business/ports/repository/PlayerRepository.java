@@ -2,6 +2,7 @@ package business.ports.repository;
 
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import domain.League;
 import domain.Player;
@@ -17,4 +18,70 @@ public interface PlayerRepository {
 	Set<Player> findByClub(Player.Club club);
 	
 	Set<Player> getAllInLeague(League league);
+
+	/**
+	 * reads every {@link Player} as a plain row, built by the query itself so
+	 * that no entity is loaded
+	 * 
+	 * @return the rows of all Players, ordered by surname and name
+	 */
+	List<PlayerRow> getAllPlayerRows();
+
+	/**
+	 * @return the rows of the Players named {@code surname}, ordered by name
+	 * @see #getAllPlayerRows()
+	 */
+	List<PlayerRow> findPlayerRowsBySurname(String surname);
+
+	/**
+	 * reads a page of the Players matching {@code filter}, in order of their
+	 * key, starting right after {@code after}: pages are sought by key rather
+	 * than by offset, so that each costs the same however deep it is
+	 * 
+	 * @param after the {@link PlayerPage#nextKey()} of the previous page, or
+	 *              {@code null} for the first page
+	 * @throws IllegalArgumentException if {@code pageSize} is not positive
+	 */
+	PlayerPage findPage(PlayerFilter filter, Long after, int pageSize);
+
+	/**
+	 * streams the Players matching {@code filter} in order of their key, reading
+	 * {@code fetchSize} rows at a time through a database cursor. Each Player is
+	 * detached as it is handed out, so that memory stays bounded however many
+	 * Players are read.
+	 * <p>
+	 * The Stream holds the cursor open: it is to be consumed and closed within
+	 * the transaction it was obtained in
+	 */
+	Stream<Player> streamPlayers(PlayerFilter filter, int fetchSize);
+
+	/**
+	 * restricts catalog reads to a role and/or {@link Player.Club}, where
+	 * {@code null} components match any
+	 * 
+	 * @param role the Player subclass telling the role
+	 */
+	record PlayerFilter(Class<? extends Player> role, Player.Club club) {
+
+		public static final PlayerFilter ALL = new PlayerFilter(null, null);
+	}
+
+	/**
+	 * @param nextKey the key to pass as {@code after} for the following page,
+	 *                or {@code null} if this page is the last one
+	 */
+	record PlayerPage(List<Player> players, Long nextKey) {
+
+		public boolean hasNext() {
+			return nextKey != null;
+		}
+	}
+
+	/**
+	 * a read-only summary of a {@link Player}, as shown by player pickers
+	 * 
+	 * @param role the Player subclass telling the Player's role
+	 */
+	record PlayerRow(long playerId, String name, String surname, Player.Club club,
+			Class<? extends Player> role) {}
 }
@@ -11,9 +11,17 @@ public interface ProposalRepository {
 
 	boolean deleteProposal(Proposal proposal);
 
-	Set<Proposal> getProposalsFor(FantaTeam myTeam);
+	default Set<Proposal> getProposalsFor(FantaTeam myTeam) {
+		return getProposalsFor(myTeam, FetchPlan.DEEP);
+	}
 
-	Optional<Proposal> getProposalBy(Contract offeredContract, Contract requestedContract);
+	Set<Proposal> getProposalsFor(FantaTeam myTeam, FetchPlan plan);
+
+	default Optional<Proposal> getProposalBy(Contract offeredContract, Contract requestedContract) {
+		return getProposalBy(offeredContract, requestedContract, FetchPlan.DEEP);
+	}
+
+	Optional<Proposal> getProposalBy(Contract offeredContract, Contract requestedContract, FetchPlan plan);
 
 	void saveProposal(Proposal proposal);
 
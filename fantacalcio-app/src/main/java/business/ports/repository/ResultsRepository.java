@@ -1,14 +1,27 @@
 package business.ports.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
+import domain.League;
 import domain.Match;
+import domain.MatchDay;
 import domain.Result;
 
 public interface ResultsRepository {
 	
 	Optional<Result> getResultFor(Match match);
 
+	List<Result> getAllResultsIn(MatchDay matchDay);
+
+	/**
+	 * @return the Results of every Match of {@code league}, in MatchDay order
+	 */
+	List<Result> getAllResultsIn(League league);
+
 	void saveResult(Result result);
 
+	void saveAll(Collection<Result> results);
+
 }
@@ -0,0 +1,32 @@
+package business.ports.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import domain.League;
+import domain.Standing;
+
+public interface StandingRepository {
+
+	/**
+	 * @param league the {@link League} whose table is to be retrieved
+	 * @return the {@link Standing}s of {@code league}, ordered by rank
+	 */
+	List<Standing> getStandings(League league);
+
+	/**
+	 * reads {@code league}'s table as plain rows, built by the query itself so
+	 * that no entity is loaded
+	 * 
+	 * @return the rows of {@code league}'s table, ordered by rank
+	 */
+	List<StandingRow> getStandingRows(League league);
+
+	void saveAll(Collection<Standing> standings);
+
+	/**
+	 * a read-only line of a {@link League}'s table, as shown by list screens
+	 */
+	record StandingRow(long teamId, String teamName, String managerEmail, int rank, int points, int goalsFor,
+			int goalsAgainst, String form) {}
+}
@@ -14,89 +14,136 @@ import business.ports.repository.MatchRepository;
 import business.ports.repository.PlayerRepository;
 import business.ports.repository.ProposalRepository;
 import business.ports.repository.ResultsRepository;
+import business.ports.repository.StandingRepository;
 
 public interface TransactionManager {
 
 	public <T> T fromTransaction(Function<TransactionContext, T> code);
 
+	/**
+	 * runs {@code code} in a transaction that is not expected to modify any entity:
+	 * implementations are free to skip change tracking and flushing altogether,
+	 * so any modification performed by {@code code} may be silently discarded
+	 */
+	public <T> T fromReadOnlyTransaction(Function<TransactionContext, T> code);
+
 	public void inTransaction(Consumer<TransactionContext> code);
 	
+	/**
+	 * creates the Repositories a {@link TransactionContext} hands out, all bound
+	 * to the same underlying transaction
+	 */
+	public static interface RepositoryFactory {
+		LeagueRepository createLeagueRepository();
+		MatchRepository createMatchRepository();
+		PlayerRepository createPlayerRepository();
+		FantaTeamRepository createTeamRepository();
+		GradeRepository createGradeRepository();
+		ProposalRepository createProposalRepository();
+		ContractRepository createContractRepository();
+		ResultsRepository createResultsRepository();
+		LineUpRepository createLineUpRepository();
+		MatchDayRepository createMatchDayRepository();
+		FantaUserRepository createFantaUserRepository();
+		StandingRepository createStandingRepository();
+	}
+
+	/**
+	 * Repositories are created on first access and reused for the rest of the
+	 * transaction, so code touching a single Repository only pays for that one.
+	 * Like the transaction it belongs to, a context is meant to be used by a
+	 * single thread
+	 */
 	public static final class TransactionContext {
-		private final LeagueRepository leagueRepository;
-		private final MatchRepository matchRepository;
-		private final PlayerRepository playerRepository;
-		private final FantaTeamRepository teamRepository;
-		private final GradeRepository gradeRepository;
-		private final ProposalRepository proposalRepository;
-		private final ContractRepository contractRepository;
-		private final ResultsRepository resultsRepository;
-		private final LineUpRepository lineUpRepository;
-		private final MatchDayRepository matchDayRepository;
-		private final FantaUserRepository fantaUserRepository;
-
-		public TransactionContext(LeagueRepository leagueRepository,
-								  MatchRepository matchRepository, PlayerRepository playerRepository,
-								  FantaTeamRepository teamRepository, GradeRepository gradeRepository,
-								  ProposalRepository proposalRepository, ContractRepository contractRepository,
-								  ResultsRepository resultsRepository,
-								  LineUpRepository lineUpRepository,  MatchDayRepository matchDayRepository
-								  , FantaUserRepository fantaUserRepository) {
-			this.leagueRepository = leagueRepository;
-			this.matchRepository = matchRepository;
-			this.playerRepository = playerRepository;
-			this.teamRepository = teamRepository;
-			this.gradeRepository = gradeRepository;
-			this.proposalRepository = proposalRepository;
-			this.contractRepository = contractRepository;
-			this.resultsRepository = resultsRepository;
-			this.lineUpRepository = lineUpRepository;
-			this.matchDayRepository = matchDayRepository;
-			this.fantaUserRepository = fantaUserRepository;
-			
+		private final RepositoryFactory repositoryFactory;
+
+		private LeagueRepository leagueRepository;
+		private MatchRepository matchRepository;
+		private PlayerRepository playerRepository;
+		private FantaTeamRepository teamRepository;
+		private GradeRepository gradeRepository;
+		private ProposalRepository proposalRepository;
+		private ContractRepository contractRepository;
+		private ResultsRepository resultsRepository;
+		private LineUpRepository lineUpRepository;
+		private MatchDayRepository matchDayRepository;
+		private FantaUserRepository fantaUserRepository;
+		private StandingRepository standingRepository;
+
+		public TransactionContext(RepositoryFactory repositoryFactory) {
+			this.repositoryFactory = repositoryFactory;
 		}
 
 		public LeagueRepository getLeagueRepository() {
+			if (leagueRepository == null)
+				leagueRepository = repositoryFactory.createLeagueRepository();
 			return leagueRepository;
 		}
 
 		public MatchRepository getMatchRepository() {
+			if (matchRepository == null)
+				matchRepository = repositoryFactory.createMatchRepository();
 			return matchRepository;
 		}
 
 		public PlayerRepository getPlayerRepository() {
+			if (playerRepository == null)
+				playerRepository = repositoryFactory.createPlayerRepository();
 			return playerRepository;
 		}
 
 		public FantaTeamRepository getTeamRepository() {
+			if (teamRepository == null)
+				teamRepository = repositoryFactory.createTeamRepository();
 			return teamRepository;
 		}
 
 		public GradeRepository getGradeRepository() {
+			if (gradeRepository == null)
+				gradeRepository = repositoryFactory.createGradeRepository();
 			return gradeRepository;
 		}
 
 		public ProposalRepository getProposalRepository() {
+			if (proposalRepository == null)
+				proposalRepository = repositoryFactory.createProposalRepository();
 			return proposalRepository;
 		}
 
 		public ContractRepository getContractRepository() {
+			if (contractRepository == null)
+				contractRepository = repositoryFactory.createContractRepository();
 			return contractRepository;
 		}
 
 		public ResultsRepository getResultsRepository() {
+			if (resultsRepository == null)
+				resultsRepository = repositoryFactory.createResultsRepository();
 			return resultsRepository;
 		}
 
 		public LineUpRepository getLineUpRepository() {
+			if (lineUpRepository == null)
+				lineUpRepository = repositoryFactory.createLineUpRepository();
 			return lineUpRepository;
 		}
 
 		public MatchDayRepository getMatchDayRepository() {
+			if (matchDayRepository == null)
+				matchDayRepository = repositoryFactory.createMatchDayRepository();
 			return matchDayRepository;
 		}
 
 		public FantaUserRepository getFantaUserRepository() {
+			if (fantaUserRepository == null)
+				fantaUserRepository = repositoryFactory.createFantaUserRepository();
 			return fantaUserRepository;
 		}
+
+		public StandingRepository getStandingRepository() {
+			if (standingRepository == null)
+				standingRepository = repositoryFactory.createStandingRepository();
+			return standingRepository;
+		}
 	}
 }
@@ -0,0 +1,116 @@
+package dal.cache;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.cache.spi.support.RegionFactoryTemplate;
+import org.hibernate.cache.spi.support.StorageAccess;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+
+/**
+ * a second-level cache provider keeping every region in the memory of this
+ * process, each bounded in size and in how long its entries live, as set by
+ * {@link #MAX_ENTRIES} and {@link #TIME_TO_LIVE}.
+ * <p>
+ * The cache is opt-in: it is only used by SessionFactories built with
+ * {@link #settings(int, Duration)} applied. Entities are then cached if
+ * annotated {@link jakarta.persistence.Cacheable}, and query results if their
+ * query sets the {@code org.hibernate.cacheable} hint.
+ * <p>
+ * The update timestamps region, telling which cached query results are stale,
+ * is kept unbounded and never expires, since losing its entries would let
+ * stale results through
+ */
+public class LocalRegionFactory extends RegionFactoryTemplate {
+
+	public static final String MAX_ENTRIES = "fantacalcio.cache.max_entries";
+	public static final String TIME_TO_LIVE = "fantacalcio.cache.time_to_live_seconds";
+
+	private static final int DEFAULT_MAX_ENTRIES = 10_000;
+	private static final int DEFAULT_TIME_TO_LIVE = 600;
+
+	/**
+	 * the size of a region, along with how many of its entries were dropped to
+	 * stay within {@link LocalRegionFactory#MAX_ENTRIES} and how many on expiry
+	 */
+	public record RegionMetrics(int entries, long evictions, long expirations) {}
+
+	private final Clock clock;
+	private final Map<String, LocalStorage> regions = new ConcurrentHashMap<>();
+
+	private int maxEntries;
+	private Duration timeToLive;
+
+	public LocalRegionFactory() {
+		this(Clock.systemUTC());
+	}
+
+	LocalRegionFactory(Clock clock) {
+		this.clock = clock;
+	}
+
+	/**
+	 * @return the settings enabling the second-level and query caches, backed
+	 *         by a {@code LocalRegionFactory}, to be applied to a service
+	 *         registry
+	 */
+	public static Map<String, Object> settings(int maxEntries, Duration timeToLive) {
+		return Map.of(
+				AvailableSettings.CACHE_REGION_FACTORY, LocalRegionFactory.class.getName(),
+				AvailableSettings.USE_SECOND_LEVEL_CACHE, true,
+				AvailableSettings.USE_QUERY_CACHE, true,
+				MAX_ENTRIES, maxEntries,
+				TIME_TO_LIVE, Math.toIntExact(timeToLive.toSeconds()));
+	}
+
+	/**
+	 * @return the metrics of the region named {@code regionName}, if it was built
+	 */
+	public Optional<RegionMetrics> getMetrics(String regionName) {
+		return Optional.ofNullable(regions.get(regionName)).map(LocalStorage::getMetrics);
+	}
+
+	@Override
+	protected void prepareForUse(SessionFactoryOptions settings, Map<String, Object> configValues) {
+		maxEntries = ConfigurationHelper.getInt(MAX_ENTRIES, configValues, DEFAULT_MAX_ENTRIES);
+		timeToLive = Duration.ofSeconds(ConfigurationHelper.getInt(TIME_TO_LIVE, configValues, DEFAULT_TIME_TO_LIVE));
+	}
+
+	@Override
+	protected void releaseFromUse() {
+		regions.values().forEach(LocalStorage::release);
+		regions.clear();
+	}
+
+	@Override
+	protected DomainDataStorageAccess createDomainDataStorageAccess(DomainDataRegionConfig regionConfig,
+			DomainDataRegionBuildingContext buildingContext) {
+		return storage(regionConfig.getRegionName(), maxEntries, timeToLive);
+	}
+
+	@Override
+	protected StorageAccess createQueryResultsRegionStorageAccess(String regionName,
+			SessionFactoryImplementor sessionFactory) {
+		return storage(regionName, maxEntries, timeToLive);
+	}
+
+	@Override
+	protected StorageAccess createTimestampsRegionStorageAccess(String regionName,
+			SessionFactoryImplementor sessionFactory) {
+		return storage(regionName, Integer.MAX_VALUE, null);
+	}
+
+	// helper
+	private LocalStorage storage(String regionName, int maxEntries, Duration timeToLive) {
+		return regions.computeIfAbsent(regionName, name -> new LocalStorage(maxEntries, timeToLive, clock));
+	}
+}
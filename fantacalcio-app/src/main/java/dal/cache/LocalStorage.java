@@ -0,0 +1,100 @@
+package dal.cache;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+/**
+ * the in-process storage behind a single cache region: a map holding at most
+ * {@code maxEntries} entries, evicting the least recently used one when full,
+ * and dropping entries older than their time to live when they are read.
+ * <p>
+ * All operations lock the storage, as regions are shared by all Sessions
+ */
+class LocalStorage implements DomainDataStorageAccess {
+
+	private record Entry(Object value, Instant expiry) {}
+
+	private final int maxEntries;
+	private final Duration timeToLive;
+	private final Clock clock;
+	private final LinkedHashMap<Object, Entry> entries;
+
+	private long evictions;
+	private long expirations;
+
+	/**
+	 * @param timeToLive how long entries are kept for, or {@code null} for them
+	 *                   to be kept until evicted
+	 */
+	LocalStorage(int maxEntries, Duration timeToLive, Clock clock) {
+		if (maxEntries <= 0)
+			throw new IllegalArgumentException("LocalStorage: the maximum number of entries must be positive");
+		this.maxEntries = maxEntries;
+		this.timeToLive = timeToLive;
+		this.clock = clock;
+		// access order makes the first entry the least recently used one
+		this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Object, Entry> eldest) {
+				if (size() <= LocalStorage.this.maxEntries)
+					return false;
+				evictions++;
+				return true;
+			}
+		};
+	}
+
+	@Override
+	public synchronized Object getFromCache(Object key, SharedSessionContractImplementor session) {
+		Entry entry = entries.get(key);
+		if (entry == null)
+			return null;
+		if (isExpired(entry)) {
+			entries.remove(key);
+			expirations++;
+			return null;
+		}
+		return entry.value();
+	}
+
+	@Override
+	public synchronized void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+		entries.put(key, new Entry(value, timeToLive == null ? null : clock.instant().plus(timeToLive)));
+	}
+
+	@Override
+	public synchronized boolean contains(Object key) {
+		Entry entry = entries.get(key);
+		return entry != null && !isExpired(entry);
+	}
+
+	@Override
+	public synchronized void evictData() {
+		entries.clear();
+	}
+
+	@Override
+	public synchronized void evictData(Object key) {
+		entries.remove(key);
+	}
+
+	@Override
+	public void release() {
+		evictData();
+	}
+
+	synchronized LocalRegionFactory.RegionMetrics getMetrics() {
+		return new LocalRegionFactory.RegionMetrics(entries.size(), evictions, expirations);
+	}
+
+	// helper
+	private boolean isExpired(Entry entry) {
+		return entry.expiry() != null && !clock.instant().isBefore(entry.expiry());
+	}
+}
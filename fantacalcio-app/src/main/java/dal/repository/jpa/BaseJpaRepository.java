@@ -1,6 +1,7 @@
 package dal.repository.jpa;
 
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaQuery;
 
 public abstract class BaseJpaRepository {
 
@@ -14,4 +15,12 @@ public abstract class BaseJpaRepository {
 		return em;
 	}
 
+	/**
+	 * runs {@code query} as an existence check, reading at most one row:
+	 * {@code query} is expected to select a literal, so that no entity is loaded
+	 */
+	protected boolean exists(CriteriaQuery<Integer> query) {
+		return !em.createQuery(query).setMaxResults(1).getResultList().isEmpty();
+	}
+
 }
\ No newline at end of file
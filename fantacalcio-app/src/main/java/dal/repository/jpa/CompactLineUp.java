@@ -0,0 +1,179 @@
+package dal.repository.jpa;
+
+import jakarta.persistence.*;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.function.LongFunction;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import domain.FantaTeam;
+import domain.LineUp;
+import domain.LineUp.LineUpBuilderSteps.StarterLineUp;
+import domain.LineUpViewer;
+import domain.Match;
+import domain.Player;
+import domain.Player.Defender;
+import domain.Player.Forward;
+import domain.Player.Goalkeeper;
+import domain.Player.Midfielder;
+import domain.Scheme;
+
+/**
+ * a {@link LineUp} stored as a single row: its Match, FantaTeam and Scheme,
+ * along with the ids of its fielded Players packed in a fixed order, i.e. the
+ * starting Goalkeeper, Defenders, Midfielders and Forwards, followed by the
+ * substitute Goalkeepers, Defenders, Midfielders and Forwards in bench order.
+ * <p>
+ * The Scheme tells how many of the starters play in each role, so that
+ * {@link #toLineUp(LongFunction)} can rebuild the LineUp through its builder
+ */
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(columnNames = {CompactLineUp_.MATCH, CompactLineUp_.TEAM}))
+public class CompactLineUp {
+
+	// 11 starters, then 3 substitutes per role
+	static final int FIELDED_PLAYERS = 23;
+	private static final int STARTERS = 11;
+	private static final int BENCH_SIZE = 3;
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "compact_line_up_seq")
+	@SequenceGenerator(name = "compact_line_up_seq", allocationSize = 50)
+	private Long id;
+
+	@ManyToOne(optional = false, fetch = FetchType.LAZY)
+	@JoinColumn(name = CompactLineUp_.MATCH)
+	private Match match;
+
+	@ManyToOne(optional = false, fetch = FetchType.LAZY)
+	@JoinColumn(name = CompactLineUp_.TEAM)
+	private FantaTeam team;
+
+	@Basic(optional = false)
+	@Convert(converter = Scheme.SchemeConverter.class)
+	private Scheme scheme;
+
+	@Convert(converter = PackedIdsConverter.class)
+	@Column(nullable = false, length = FIELDED_PLAYERS * Long.BYTES)
+	private long[] playerIds;
+
+	@Basic(optional = false)
+	private long contentHash;
+
+	protected CompactLineUp() {}
+
+	CompactLineUp(LineUp lineUp, ToLongFunction<Player> idOf) {
+		this.match = lineUp.getMatch();
+		this.team = lineUp.getTeam();
+		overwriteWith(lineUp, idOf);
+	}
+
+	// getters
+
+	Match getMatch() {
+		return match;
+	}
+
+	FantaTeam getTeam() {
+		return team;
+	}
+
+	long[] getPlayerIds() {
+		return playerIds.clone();
+	}
+
+	/**
+	 * replaces this row's Scheme and Players with those of {@code lineUp}, which
+	 * must be for the same Match and FantaTeam
+	 */
+	void overwriteWith(LineUp lineUp, ToLongFunction<Player> idOf) {
+		LineUpViewer viewer = lineUp.extract();
+		this.scheme = lineUp.getScheme();
+		this.playerIds = Stream.of(
+					viewer.starterGoalkeepers(),
+					viewer.starterDefenders(),
+					viewer.starterMidfielders(),
+					viewer.starterForwards(),
+					viewer.substituteGoalkeepers(),
+					viewer.substituteDefenders(),
+					viewer.substituteMidfielders(),
+					viewer.substituteForwards())
+				.flatMap(Collection::stream)
+				.mapToLong(idOf)
+				.toArray();
+		this.contentHash = lineUp.getContentHash();
+	}
+
+	/**
+	 * rebuilds the LineUp stored in this row
+	 *
+	 * @param playerOf resolves the id of each fielded Player
+	 * @throws IllegalStateException if a Player cannot be resolved, or does
+	 *                               not play in the role it is stored for
+	 */
+	LineUp toLineUp(LongFunction<Player> playerOf) {
+		int defenders = scheme.getNumDefenders(), midfielders = scheme.getNumMidfielders(),
+				forwards = scheme.getNumForwards();
+		StarterLineUp starters = new StarterLineUp(scheme,
+				players(Goalkeeper.class, 0, 1, playerOf).get(0),
+				new HashSet<>(players(Defender.class, 1, defenders, playerOf)),
+				new HashSet<>(players(Midfielder.class, 1 + defenders, midfielders, playerOf)),
+				new HashSet<>(players(Forward.class, 1 + defenders + midfielders, forwards, playerOf)));
+		List<Goalkeeper> benchGoalkeepers = players(Goalkeeper.class, STARTERS, BENCH_SIZE, playerOf);
+		List<Defender> benchDefenders = players(Defender.class, STARTERS + BENCH_SIZE, BENCH_SIZE, playerOf);
+		List<Midfielder> benchMidfielders = players(Midfielder.class, STARTERS + 2 * BENCH_SIZE, BENCH_SIZE, playerOf);
+		List<Forward> benchForwards = players(Forward.class, STARTERS + 3 * BENCH_SIZE, BENCH_SIZE, playerOf);
+		return LineUp.build()
+				.forTeam(team)
+				.inMatch(match)
+				.withStarterLineUp(starters)
+				.withSubstituteGoalkeepers(benchGoalkeepers.get(0), benchGoalkeepers.get(1), benchGoalkeepers.get(2))
+				.withSubstituteDefenders(benchDefenders.get(0), benchDefenders.get(1), benchDefenders.get(2))
+				.withSubstituteMidfielders(benchMidfielders.get(0), benchMidfielders.get(1), benchMidfielders.get(2))
+				.withSubstituteForwards(benchForwards.get(0), benchForwards.get(1), benchForwards.get(2));
+	}
+
+	// helper
+	private <T extends Player> List<T> players(Class<T> role, int from, int count, LongFunction<Player> playerOf) {
+		return Arrays.stream(playerIds, from, from + count).mapToObj(playerId -> {
+			Player player = playerOf.apply(playerId);
+			if (!role.isInstance(player))
+				throw new IllegalStateException(String.format(
+						"CompactLineUp: no %s found with id %d", role.getSimpleName(), playerId));
+			return role.cast(player);
+		}).collect(Collectors.toList());
+	}
+
+	/**
+	 * packs Player ids into {@value Long#BYTES} bytes apiece, in their order
+	 */
+	@Converter
+	public static class PackedIdsConverter implements AttributeConverter<long[], byte[]> {
+
+		@Override
+		public byte[] convertToDatabaseColumn(long[] ids) {
+			if (ids == null)
+				return null;
+			ByteBuffer buffer = ByteBuffer.allocate(ids.length * Long.BYTES);
+			buffer.asLongBuffer().put(ids);
+			return buffer.array();
+		}
+
+		@Override
+		public long[] convertToEntityAttribute(byte[] dbData) {
+			if (dbData == null)
+				return null;
+			if (dbData.length % Long.BYTES != 0)
+				throw new IllegalArgumentException("Malformed packed ids of length: " + dbData.length);
+			long[] ids = new long[dbData.length / Long.BYTES];
+			ByteBuffer.wrap(dbData).asLongBuffer().get(ids);
+			return ids;
+		}
+	}
+}
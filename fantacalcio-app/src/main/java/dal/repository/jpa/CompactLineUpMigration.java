@@ -0,0 +1,67 @@
+package dal.repository.jpa;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+
+import java.util.List;
+
+import domain.LineUp;
+import domain.MatchDay;
+import domain.MatchDay_;
+
+/**
+ * moves {@link LineUp}s stored as LineUp and Fielding rows by
+ * {@link JpaLineUpRepository} into the {@link CompactLineUp} rows read by
+ * {@link JpaCompactLineUpRepository}, one {@link MatchDay} at a time.
+ * <p>
+ * Runs within the caller's transaction. LineUps already having a compact row,
+ * as left by an interrupted run, are not copied again, but their original rows
+ * are still deleted
+ */
+public class CompactLineUpMigration {
+
+	private final EntityManager em;
+
+	public CompactLineUpMigration(EntityManager em) {
+		this.em = em;
+	}
+
+	/**
+	 * @return the number of LineUps moved off the Fielding rows
+	 */
+	public int migrate(MatchDay matchDay) {
+		JpaLineUpRepository source = new JpaLineUpRepository(em);
+		JpaCompactLineUpRepository target = new JpaCompactLineUpRepository(em);
+
+		List<LineUp> lineUps = source.getAllLineUpsIn(matchDay);
+		for (LineUp lineUp : lineUps) {
+			if (target.getContentHash(lineUp.getMatch(), lineUp.getTeam()).isEmpty())
+				target.saveLineUp(lineUp);
+			source.deleteLineUp(lineUp);
+		}
+
+		// keeps the persistence context from growing across MatchDays
+		em.flush();
+		em.clear();
+		return lineUps.size();
+	}
+
+	/**
+	 * migrates the LineUps of every {@link MatchDay}, in calendar order
+	 *
+	 * @return the number of LineUps moved off the Fielding rows
+	 */
+	public int migrateAll() {
+		CriteriaBuilder cb = em.getCriteriaBuilder();
+		CriteriaQuery<MatchDay> query = cb.createQuery(MatchDay.class);
+		Root<MatchDay> root = query.from(MatchDay.class);
+		query.select(root).orderBy(cb.asc(root.get(MatchDay_.number)));
+
+		int migrated = 0;
+		for (MatchDay matchDay : em.createQuery(query).getResultList())
+			migrated += migrate(matchDay);
+		return migrated;
+	}
+}
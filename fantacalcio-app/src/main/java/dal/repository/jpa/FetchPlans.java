@@ -0,0 +1,83 @@
+package dal.repository.jpa;
+
+import jakarta.persistence.EntityGraph;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Subgraph;
+import jakarta.persistence.TypedQuery;
+
+import business.ports.repository.FetchPlan;
+import domain.*;
+
+/**
+ * builds the entity graphs realizing each {@link FetchPlan}, applied to
+ * queries as fetch graphs: associations outside the graph stay lazy
+ */
+final class FetchPlans {
+
+	static final String FETCH_GRAPH = "jakarta.persistence.fetchgraph";
+
+	private FetchPlans() {}
+
+	static <T> TypedQuery<T> apply(TypedQuery<T> query, EntityGraph<T> graph) {
+		return query.setHint(FETCH_GRAPH, graph);
+	}
+
+	static EntityGraph<MatchDay> matchDay(EntityManager em, FetchPlan plan) {
+		EntityGraph<MatchDay> graph = em.createEntityGraph(MatchDay.class);
+		league(graph.addSubgraph(MatchDay_.league), plan);
+		return graph;
+	}
+
+	static EntityGraph<Match> match(EntityManager em, FetchPlan plan) {
+		EntityGraph<Match> graph = em.createEntityGraph(Match.class);
+		league(graph.addSubgraph(Match_.matchDay).addSubgraph(MatchDay_.league), plan);
+		team(graph.addSubgraph(Match_.team1), plan);
+		team(graph.addSubgraph(Match_.team2), plan);
+		return graph;
+	}
+
+	static EntityGraph<Grade> grade(EntityManager em, FetchPlan plan) {
+		EntityGraph<Grade> graph = em.createEntityGraph(Grade.class);
+		graph.addAttributeNodes(Grade_.player);
+		league(graph.addSubgraph(Grade_.matchDay).addSubgraph(MatchDay_.league), plan);
+		return graph;
+	}
+
+	// rosters are only loaded for the FantaTeams being retrieved
+	static EntityGraph<FantaTeam> fantaTeam(EntityManager em, FetchPlan plan) {
+		EntityGraph<FantaTeam> graph = em.createEntityGraph(FantaTeam.class);
+		league(graph.addSubgraph(FantaTeam_.league), plan);
+		if (plan != FetchPlan.THIN)
+			graph.addAttributeNodes(FantaTeam_.fantaManager);
+		if (plan == FetchPlan.WITH_ROSTER) {
+			Subgraph<Contract> contracts = graph.addSubgraph(FantaTeam_.CONTRACTS);
+			contracts.addAttributeNodes(Contract_.player);
+		}
+		return graph;
+	}
+
+	static EntityGraph<Proposal> proposal(EntityManager em, FetchPlan plan) {
+		EntityGraph<Proposal> graph = em.createEntityGraph(Proposal.class);
+		contract(graph.addSubgraph(Proposal_.offeredContract), plan);
+		contract(graph.addSubgraph(Proposal_.requestedContract), plan);
+		return graph;
+	}
+
+	// helpers
+
+	private static void contract(Subgraph<Contract> contract, FetchPlan plan) {
+		contract.addAttributeNodes(Contract_.player);
+		team(contract.addSubgraph(Contract_.team), plan);
+	}
+
+	private static void team(Subgraph<FantaTeam> team, FetchPlan plan) {
+		league(team.addSubgraph(FantaTeam_.league), plan);
+		if (plan != FetchPlan.THIN)
+			team.addAttributeNodes(FantaTeam_.fantaManager);
+	}
+
+	private static void league(Subgraph<League> league, FetchPlan plan) {
+		if (plan != FetchPlan.THIN)
+			league.addAttributeNodes(League_.admin);
+	}
+}
@@ -0,0 +1,141 @@
+package dal.repository.jpa;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Fetch;
+import jakarta.persistence.criteria.Root;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.hibernate.Hibernate;
+
+import business.ports.repository.LineUpRepository;
+import domain.*;
+
+/**
+ * stores each {@link LineUp} as a single {@link CompactLineUp} row, rather
+ * than as a LineUp row with one Fielding row per fielded Player.
+ * <p>
+ * LineUps are rebuilt on retrieval, with all the Players of the rows being
+ * read looked up by a single query. Retrieved LineUps are therefore not
+ * managed: changes to them are stored through
+ * {@link #updateLineUp(LineUp)}
+ */
+public class JpaCompactLineUpRepository extends BaseJpaRepository implements LineUpRepository {
+
+	public JpaCompactLineUpRepository(EntityManager em) {
+		super(em);
+	}
+
+	@Override
+	public void saveLineUp(LineUp lineUp) {
+		getEntityManager().persist(new CompactLineUp(lineUp, this::idOf));
+	}
+
+	// also saves the LineUp if it was not stored yet
+	@Override
+	public void updateLineUp(LineUp lineUp) {
+		findRow(lineUp.getMatch(), lineUp.getTeam())
+			.ifPresentOrElse(row -> row.overwriteWith(lineUp, this::idOf), () -> saveLineUp(lineUp));
+	}
+
+	@Override
+	public void deleteLineUp(LineUp lineUp) {
+		findRow(lineUp.getMatch(), lineUp.getTeam()).ifPresent(getEntityManager()::remove);
+	}
+
+	@Override
+	public Optional<Long> getContentHash(Match match, FantaTeam fantaTeam) {
+		EntityManager em = getEntityManager();
+		CriteriaBuilder cb = em.getCriteriaBuilder();
+		CriteriaQuery<Long> query = cb.createQuery(Long.class);
+		Root<CompactLineUp> root = query.from(CompactLineUp.class);
+
+		query.select(root.get(CompactLineUp_.contentHash)).where(
+				cb.equal(root.get(CompactLineUp_.match), match),
+				cb.equal(root.get(CompactLineUp_.team), fantaTeam));
+
+		return em.createQuery(query).getResultStream().findFirst();
+	}
+
+	@Override
+	public Optional<LineUp> getLineUpByMatchAndTeam(Match match, FantaTeam fantaTeam) {
+		return findRow(match, fantaTeam).map(row -> rebuild(List.of(row)).get(0));
+	}
+
+	@Override
+	public List<LineUp> getAllLineUpsIn(MatchDay matchDay) {
+		EntityManager em = getEntityManager();
+		CriteriaBuilder cb = em.getCriteriaBuilder();
+		CriteriaQuery<CompactLineUp> query = cb.createQuery(CompactLineUp.class);
+		Root<CompactLineUp> root = query.from(CompactLineUp.class);
+
+		fetchMatch(root);
+		root.fetch(CompactLineUp_.team);
+
+		query.select(root).where(
+				cb.equal(root.get(CompactLineUp_.match).get(Match_.matchDay), matchDay));
+
+		return rebuild(em.createQuery(query).getResultList());
+	}
+
+	// helpers
+
+	// fetches all a LineUp's equality reads, so that retrieved LineUps compare
+	private static void fetchMatch(Root<CompactLineUp> root) {
+		Fetch<CompactLineUp, Match> matchFetch = root.fetch(CompactLineUp_.match);
+		matchFetch.fetch(Match_.matchDay).fetch(MatchDay_.league);
+		matchFetch.fetch(Match_.team1);
+		matchFetch.fetch(Match_.team2);
+	}
+
+	private Optional<CompactLineUp> findRow(Match match, FantaTeam fantaTeam) {
+		EntityManager em = getEntityManager();
+		CriteriaBuilder cb = em.getCriteriaBuilder();
+		CriteriaQuery<CompactLineUp> query = cb.createQuery(CompactLineUp.class);
+		Root<CompactLineUp> root = query.from(CompactLineUp.class);
+
+		fetchMatch(root);
+		root.fetch(CompactLineUp_.team);
+
+		query.select(root).where(
+				cb.equal(root.get(CompactLineUp_.match), match),
+				cb.equal(root.get(CompactLineUp_.team), fantaTeam));
+
+		return em.createQuery(query).getResultStream().findFirst();
+	}
+
+	// looks up the Players of all rows at once
+	private List<LineUp> rebuild(List<CompactLineUp> rows) {
+		if (rows.isEmpty())
+			return List.of();
+		List<Long> ids = rows.stream()
+				.flatMapToLong(row -> Arrays.stream(row.getPlayerIds()))
+				.distinct().boxed().toList();
+
+		EntityManager em = getEntityManager();
+		CriteriaBuilder cb = em.getCriteriaBuilder();
+		CriteriaQuery<Player> query = cb.createQuery(Player.class);
+		Root<Player> root = query.from(Player.class);
+		query.select(root).where(root.get(Player_.id).in(ids));
+
+		// Players already in the persistence context may be proxies of the base class
+		Map<Long, Player> players = em.createQuery(query).getResultStream()
+				.map(player -> (Player) Hibernate.unproxy(player))
+				.collect(Collectors.toMap(this::idOf, Function.identity()));
+		return rows.stream().map(row -> row.toLineUp(players::get)).toList();
+	}
+
+	private long idOf(Player player) {
+		Object id = getEntityManager().getEntityManagerFactory().getPersistenceUnitUtil().getIdentifier(player);
+		if (id == null)
+			throw new IllegalArgumentException("JpaCompactLineUpRepository: cannot store a LineUp fielding a transient Player");
+		return (Long) id;
+	}
+}
@@ -1,22 +1,35 @@
 package dal.repository.jpa;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import business.ports.repository.ContractRepository;
 import domain.Contract;
 import domain.FantaTeam;
 import domain.FantaTeam_;
+import domain.Match;
+import domain.MatchDay;
+import domain.Match_;
 import domain.Player;
 import domain.Contract_;
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaDelete;
 import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
 import jakarta.persistence.criteria.Fetch;
 import jakarta.persistence.criteria.Root;
+import jakarta.persistence.metamodel.SingularAttribute;
 
 public class JpaContractRepository extends BaseJpaRepository implements ContractRepository {
-	
+
     public JpaContractRepository(EntityManager em) {
         super(em);
     }
@@ -42,6 +55,71 @@ public class JpaContractRepository extends BaseJpaRepository implements Contract
         return em.createQuery(query).getResultList().stream().findFirst();
     }
 
+    // home and away sides are looked up apart, each driven by the (matchDay, team) indexes of Match
+    @Override
+    public List<Contract> getAllContractsIn(MatchDay matchDay) {
+        List<Contract> contracts = new ArrayList<>(getContractsOfSide(Match_.team1, matchDay));
+        contracts.addAll(getContractsOfSide(Match_.team2, matchDay));
+        return contracts;
+    }
+
+    private List<Contract> getContractsOfSide(SingularAttribute<Match, FantaTeam> side, MatchDay matchDay) {
+    	EntityManager em = getEntityManager();
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<Contract> query = cb.createQuery(Contract.class);
+        Root<Contract> root = query.from(Contract.class);
+        Root<Match> match = query.from(Match.class);
+
+        // deep fetching
+        root.fetch(Contract_.player);
+        Fetch<Contract, FantaTeam> teamFetch = root.fetch(Contract_.team);
+        teamFetch.fetch(FantaTeam_.league);
+        teamFetch.fetch(FantaTeam_.fantaManager);
+
+        query.select(root).where(
+                cb.equal(match.get(Match_.matchDay), matchDay),
+                cb.equal(root.get(Contract_.team), match.get(side)));
+
+        return em.createQuery(query).getResultList();
+    }
+
+    @Override
+    public Map<Class<? extends Player>, Long> countContractsByRole(FantaTeam team) {
+    	EntityManager em = getEntityManager();
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Contract> root = query.from(Contract.class);
+
+        Expression<Class<? extends Player>> role = root.join(Contract_.player).type();
+        Expression<Long> count = cb.count(root);
+        query.multiselect(role, count)
+        		.where(cb.equal(root.get(Contract_.team), team))
+        		.groupBy(role);
+
+        Map<Class<? extends Player>, Long> result = new HashMap<>();
+        for (Tuple tuple : em.createQuery(query).getResultList()) {
+        	result.put(tuple.get(role), tuple.get(count));
+        }
+        return result;
+    }
+
+    // driven by the (team, player) index of Contract, reading the matching Players alone
+    @Override
+    public Set<Player> getContractedAmong(FantaTeam team, Collection<Player> players) {
+    	if (players.isEmpty())
+    		return Set.of();
+    	EntityManager em = getEntityManager();
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<Player> query = cb.createQuery(Player.class);
+        Root<Contract> root = query.from(Contract.class);
+
+        query.select(root.get(Contract_.player)).where(
+                cb.equal(root.get(Contract_.team), team),
+                root.get(Contract_.player).in(players));
+
+        return new HashSet<>(em.createQuery(query).getResultList());
+    }
+
     @Override
     public void deleteContract(Contract contract) {
     	CriteriaBuilder cb = getEntityManager().getCriteriaBuilder();
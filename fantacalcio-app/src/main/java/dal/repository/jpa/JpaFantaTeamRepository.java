@@ -11,10 +11,10 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 import business.ports.repository.FantaTeamRepository;
+import business.ports.repository.FetchPlan;
 import domain.FantaTeam;
 import domain.FantaUser;
 import domain.League;
-import domain.League_;
 
 public class JpaFantaTeamRepository extends BaseJpaRepository implements FantaTeamRepository {
 	
@@ -23,21 +23,19 @@ public class JpaFantaTeamRepository extends BaseJpaRepository implements FantaTe
 	}
 
 	@Override
-	public Set<FantaTeam> getAllTeams(League league) {
+	public Set<FantaTeam> getAllTeams(League league, FetchPlan plan) {
 		
 		EntityManager entityManager = getEntityManager();
 		CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
 		CriteriaQuery<FantaTeam> criteriaQuery = criteriaBuilder.createQuery(FantaTeam.class);
 		Root<FantaTeam> root = criteriaQuery.from(FantaTeam.class);
-		
-		// deep fetching
-		root.fetch(FantaTeam_.fantaManager);
-        root.fetch(FantaTeam_.league).fetch(League_.admin);        
 
 		criteriaQuery.select(root).where(criteriaBuilder.and(
 				criteriaBuilder.equal(root.get(FantaTeam_.league), league)));
 
-		return entityManager.createQuery(criteriaQuery).getResultStream().collect(Collectors.toSet());
+		// rosters are fetched as collections, so results are not streamed
+		return FetchPlans.apply(entityManager.createQuery(criteriaQuery), FetchPlans.fantaTeam(entityManager, plan))
+				.getResultList().stream().collect(Collectors.toSet());
 	}
 
 	@Override
@@ -46,21 +44,17 @@ public class JpaFantaTeamRepository extends BaseJpaRepository implements FantaTe
 	}
 
 	@Override
-	public Optional<FantaTeam> getFantaTeamByUserAndLeague(League league, FantaUser user) {
+	public Optional<FantaTeam> getFantaTeamByUserAndLeague(League league, FantaUser user, FetchPlan plan) {
 		EntityManager em = getEntityManager();
         CriteriaBuilder cb = em.getCriteriaBuilder();
         CriteriaQuery<FantaTeam> query = cb.createQuery(FantaTeam.class);
         Root<FantaTeam> root = query.from(FantaTeam.class);
-        
-        // deep fetching
- 		root.fetch(FantaTeam_.fantaManager);
-        root.fetch(FantaTeam_.league).fetch(League_.admin);  
 
         query.select(root).where(
                 cb.equal(root.get(FantaTeam_.league), league),
                 cb.equal(root.get(FantaTeam_.fantaManager), user)
         );
 
-        return em.createQuery(query).getResultStream().findFirst();
+        return FetchPlans.apply(em.createQuery(query), FetchPlans.fantaTeam(em, plan)).getResultList().stream().findFirst();
 	}
 }
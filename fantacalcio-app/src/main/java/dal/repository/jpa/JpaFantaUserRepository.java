@@ -31,6 +31,19 @@ public class JpaFantaUserRepository extends BaseJpaRepository implements FantaUs
         return em.createQuery(query).getResultList().stream().findFirst();
 	}
 
+	@Override
+	public boolean existsFantaUser(String email, String password) {
+		CriteriaBuilder cb = getEntityManager().getCriteriaBuilder();
+		CriteriaQuery<Integer> query = cb.createQuery(Integer.class);
+		Root<FantaUser> root = query.from(FantaUser.class);
+
+		query.select(cb.literal(1)).where(
+				cb.equal(root.get(FantaUser_.email), email),
+				cb.equal(root.get(FantaUser_.password), password));
+
+		return exists(query);
+	}
+
 	@Override
 	public void saveFantaUser(FantaUser fantaUser) {
 		getEntityManager().persist(fantaUser);
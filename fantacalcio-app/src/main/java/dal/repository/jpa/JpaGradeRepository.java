@@ -1,13 +1,19 @@
 package dal.repository.jpa;
 
+import java.util.Collection;
 import java.util.List;
 
+import business.ports.repository.FetchPlan;
 import business.ports.repository.GradeRepository;
 import domain.*;
 import domain.Grade_;
+import domain.Match_;
+import domain.Result_;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaDelete;
 import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
 import jakarta.persistence.criteria.Root;
 
 public class JpaGradeRepository extends BaseJpaRepository implements GradeRepository {
@@ -17,19 +23,15 @@ public class JpaGradeRepository extends BaseJpaRepository implements GradeReposi
 	}
 
 	@Override
-	public List<Grade> getAllGrades(MatchDay matchDay) {
+	public List<Grade> getAllGrades(MatchDay matchDay, FetchPlan plan) {
 		EntityManager em = getEntityManager();
         CriteriaBuilder cb = em.getCriteriaBuilder();
         CriteriaQuery<Grade> cq = cb.createQuery(Grade.class);
         Root<Grade> root = cq.from(Grade.class);
         
-        // deep fetching
-        root.fetch(Grade_.player);
-        root.fetch(Grade_.matchDay).fetch(MatchDay_.league).fetch(League_.admin);
-        
 		cq.select(root).where(cb.equal(root.get(Grade_.matchDay), matchDay));
 
-        return em.createQuery(cq).getResultList();
+        return FetchPlans.apply(em.createQuery(cq), FetchPlans.grade(em, plan)).getResultList();
 	}
 
 	@Override
@@ -37,4 +39,51 @@ public class JpaGradeRepository extends BaseJpaRepository implements GradeReposi
 		getEntityManager().persist(grade);
 	}
 
+	@Override
+	public void saveAll(Collection<Grade> grades) {
+		EntityManager em = getEntityManager();
+		grades.forEach(em::persist);
+	}
+
+	@Override
+	public void saveBatch(Collection<Grade> grades) {
+		EntityManager em = getEntityManager();
+		grades.forEach(em::persist);
+		em.flush();
+		em.clear();
+	}
+
+	// the bulk delete runs at once, so the replacement cannot clash with the old row
+	@Override
+	public Grade correctGrade(Grade grade, double mark) {
+		EntityManager em = getEntityManager();
+		CriteriaBuilder cb = em.getCriteriaBuilder();
+		CriteriaDelete<Grade> delete = cb.createCriteriaDelete(Grade.class);
+		Root<Grade> root = delete.from(Grade.class);
+
+		delete.where(
+				cb.equal(root.get(Grade_.matchDay), grade.getMatchDay()),
+				cb.equal(root.get(Grade_.player), grade.getPlayer()));
+
+		if (em.createQuery(delete).executeUpdate() == 0)
+			throw new IllegalArgumentException("JpaGradeRepository: cannot correct a Grade that is not stored");
+		Grade corrected = new Grade(grade.getPlayer(), grade.getMatchDay(), mark);
+		em.persist(corrected);
+		return corrected;
+	}
+
+	// Grades are only seen by their own MatchDay
+	@Override
+	public boolean isScored(MatchDay matchDay) {
+		EntityManager em = getEntityManager();
+		CriteriaBuilder cb = em.getCriteriaBuilder();
+		CriteriaQuery<Long> query = cb.createQuery(Long.class);
+		Root<Result> root = query.from(Result.class);
+		Join<Result, Match> match = root.join(Result_.match);
+
+		query.select(cb.count(root)).where(cb.equal(match.get(Match_.matchDay), matchDay));
+
+		return em.createQuery(query).getSingleResult() > 0;
+	}
+
 }
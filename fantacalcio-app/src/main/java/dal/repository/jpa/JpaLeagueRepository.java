@@ -34,6 +34,17 @@ public class JpaLeagueRepository extends BaseJpaRepository implements LeagueRepo
 
 	}
 
+	@Override
+	public boolean existsLeague(String leagueCode) {
+		CriteriaBuilder cb = getEntityManager().getCriteriaBuilder();
+		CriteriaQuery<Integer> query = cb.createQuery(Integer.class);
+		Root<League> root = query.from(League.class);
+
+		query.select(cb.literal(1)).where(cb.equal(root.get(League_.leagueCode), leagueCode));
+
+		return exists(query);
+	}
+
 	@Override
 	public boolean saveLeague(League league) {
 		getEntityManager().persist(league);
@@ -75,6 +86,30 @@ public class JpaLeagueRepository extends BaseJpaRepository implements LeagueRepo
 	    return getEntityManager().createQuery(query).getResultList();
 	}
 
+	@Override
+	public long countTeams(League league) {
+		CriteriaBuilder cb = getEntityManager().getCriteriaBuilder();
+		CriteriaQuery<Long> query = cb.createQuery(Long.class);
+		Root<FantaTeam> root = query.from(FantaTeam.class);
+
+		query.select(cb.count(root)).where(cb.equal(root.get(FantaTeam_.league), league));
+
+		return getEntityManager().createQuery(query).getSingleResult();
+	}
+
+	@Override
+	public boolean existsTeamOf(FantaUser user, League league) {
+		CriteriaBuilder cb = getEntityManager().getCriteriaBuilder();
+		CriteriaQuery<Integer> query = cb.createQuery(Integer.class);
+		Root<FantaTeam> root = query.from(FantaTeam.class);
+
+		query.select(cb.literal(1)).where(
+				cb.equal(root.get(FantaTeam_.league), league),
+				cb.equal(root.get(FantaTeam_.fantaManager), user));
+
+		return exists(query);
+	}
+
     @Override
     public Set<League> getLeaguesByJournalist(FantaUser journalist) {
         CriteriaBuilder cb = getEntityManager().getCriteriaBuilder();
@@ -3,6 +3,7 @@ package dal.repository.jpa;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Fetch;
 import jakarta.persistence.criteria.Root;
 
 import java.util.List;
@@ -24,6 +25,11 @@ public class JpaLineUpRepository extends BaseJpaRepository implements LineUpRepo
         getEntityManager().persist(lineUp);
     }
 
+    @Override
+    public void updateLineUp(LineUp lineUp) {
+    	getEntityManager().merge(lineUp);
+    }
+
     @Override
     public void deleteLineUp(LineUp lineUp) {
     	EntityManager entityManager = getEntityManager();
@@ -31,6 +37,20 @@ public class JpaLineUpRepository extends BaseJpaRepository implements LineUpRepo
         entityManager.remove(managed);
     }
 
+    @Override
+    public Optional<Long> getContentHash(Match match, FantaTeam fantaTeam) {
+        EntityManager em = getEntityManager();
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<LineUp> root = query.from(LineUp.class);
+
+        query.select(root.get(LineUp_.contentHash)).where(
+        		cb.equal(root.get(LineUp_.match), match),
+        		cb.equal(root.get(LineUp_.team), fantaTeam));
+
+        return em.createQuery(query).getResultStream().findFirst();
+    }
+
 	/**
 	 * when present, the {@link LineUp} instance will be deep-fetched all the way to
 	 * fielded {@link Player}s
@@ -43,7 +63,8 @@ public class JpaLineUpRepository extends BaseJpaRepository implements LineUpRepo
         Root<LineUp> root = query.from(LineUp.class);
 
         // deep fetching
-        root.fetch(LineUp_.match);
+        fetchMatch(root);
+        root.fetch(LineUp_.team);
         root.fetch(LineUp_.fieldings) // tolto JoinType.LEFT
         	.fetch(Fielding_.player); 
 
@@ -55,4 +76,36 @@ public class JpaLineUpRepository extends BaseJpaRepository implements LineUpRepo
         List<LineUp> result = em.createQuery(query).getResultList();
         return result.stream().findFirst();
     }
+
+	/**
+	 * {@link LineUp} instances will be deep-fetched all the way to fielded
+	 * {@link Player}s
+	 */
+    @Override
+    public List<LineUp> getAllLineUpsIn(MatchDay matchDay) {
+        EntityManager em = getEntityManager();
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<LineUp> query = cb.createQuery(LineUp.class);
+        Root<LineUp> root = query.from(LineUp.class);
+
+        // deep fetching
+        fetchMatch(root);
+        root.fetch(LineUp_.team);
+        root.fetch(LineUp_.fieldings)
+        	.fetch(Fielding_.player);
+
+		query.select(root).where(
+				cb.equal(root.get(LineUp_.match).get(Match_.matchDay), matchDay))
+			.distinct(true);
+
+        return em.createQuery(query).getResultList();
+    }
+
+    // fetches all a LineUp's equality reads, so that retrieved LineUps compare
+    private static void fetchMatch(Root<LineUp> root) {
+        Fetch<LineUp, Match> matchFetch = root.fetch(LineUp_.match);
+        matchFetch.fetch(Match_.matchDay).fetch(MatchDay_.league);
+        matchFetch.fetch(Match_.team1);
+        matchFetch.fetch(Match_.team2);
+    }
 }
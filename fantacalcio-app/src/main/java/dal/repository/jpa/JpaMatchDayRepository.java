@@ -1,19 +1,26 @@
 package dal.repository.jpa;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import org.hibernate.jpa.HibernateHints;
+
+import business.ports.repository.FetchPlan;
 import business.ports.repository.MatchDayRepository;
 import domain.League;
-import domain.League_;
 import domain.MatchDay;
 import domain.MatchDay_;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
-import jakarta.persistence.criteria.JoinType;
 import jakarta.persistence.criteria.Root;
 
+/**
+ * the lookups of a League's MatchDays by status are query-cached when the
+ * second-level cache is enabled, their results being invalidated by any change
+ * to the MatchDay table, such as {@link #updateMatchDay(MatchDay)} does
+ */
 public class JpaMatchDayRepository extends BaseJpaRepository implements MatchDayRepository {
 		
 	public JpaMatchDayRepository(EntityManager em) {
@@ -21,29 +28,25 @@ public class JpaMatchDayRepository extends BaseJpaRepository implements MatchDay
 	}
 
 	@Override
-	public List<MatchDay> getAllMatchDays(League league) {
+	public List<MatchDay> getAllMatchDays(League league, FetchPlan plan) {
 		EntityManager em = getEntityManager();
         CriteriaBuilder cb = em.getCriteriaBuilder();
         CriteriaQuery<MatchDay> cq = cb.createQuery(MatchDay.class);
         Root<MatchDay> root = cq.from(MatchDay.class);
 
-        root.fetch(MatchDay_.league).fetch(League_.admin, JoinType.LEFT);
-
         cq.select(root)
                 .where(cb.equal(root.get(MatchDay_.league), league))
                 .orderBy(cb.asc(root.get(MatchDay_.number)));
 
-        return em.createQuery(cq).getResultList();
+        return FetchPlans.apply(em.createQuery(cq), FetchPlans.matchDay(em, plan)).getResultList();
 	}
 
 	@Override
-	public Optional<MatchDay> getLatestEndedMatchDay(League league) {
+	public Optional<MatchDay> getLatestEndedMatchDay(League league, FetchPlan plan) {
         CriteriaBuilder cb = getEntityManager().getCriteriaBuilder();
         CriteriaQuery<MatchDay> cq = cb.createQuery(MatchDay.class);
         Root<MatchDay> root = cq.from(MatchDay.class);
 
-        root.fetch(MatchDay_.league).fetch(League_.admin);
-
         cq.select(root)
                 .where(
                         cb.and(
@@ -53,8 +56,9 @@ public class JpaMatchDayRepository extends BaseJpaRepository implements MatchDay
                 )
                 .orderBy(cb.desc(root.get(MatchDay_.number)));
 
-        List<MatchDay> results = getEntityManager()
-                .createQuery(cq)
+        EntityManager em = getEntityManager();
+        List<MatchDay> results = FetchPlans.apply(em.createQuery(cq), FetchPlans.matchDay(em, plan))
+                .setHint(HibernateHints.HINT_CACHEABLE, true)
                 .setMaxResults(1)
                 .getResultList();
 
@@ -62,13 +66,11 @@ public class JpaMatchDayRepository extends BaseJpaRepository implements MatchDay
 	}
 
 	@Override
-	public Optional<MatchDay> getEarliestUpcomingMatchDay(League league) {
+	public Optional<MatchDay> getEarliestUpcomingMatchDay(League league, FetchPlan plan) {
         CriteriaBuilder cb = getEntityManager().getCriteriaBuilder();
         CriteriaQuery<MatchDay> cq = cb.createQuery(MatchDay.class);
         Root<MatchDay> root = cq.from(MatchDay.class);
 
-        root.fetch(MatchDay_.league).fetch(League_.admin);
-
         cq.select(root)
                 .where(
                         cb.and(
@@ -78,8 +80,9 @@ public class JpaMatchDayRepository extends BaseJpaRepository implements MatchDay
                 )
                 .orderBy(cb.asc(root.get(MatchDay_.number))); // lowest number first
 
-        List<MatchDay> results = getEntityManager()
-                .createQuery(cq)
+        EntityManager em = getEntityManager();
+        List<MatchDay> results = FetchPlans.apply(em.createQuery(cq), FetchPlans.matchDay(em, plan))
+                .setHint(HibernateHints.HINT_CACHEABLE, true)
                 .setMaxResults(1)
                 .getResultList();
 
@@ -87,13 +90,11 @@ public class JpaMatchDayRepository extends BaseJpaRepository implements MatchDay
 	}
 
 	@Override
-	public Optional<MatchDay> getOngoingMatchDay(League league) {
+	public Optional<MatchDay> getOngoingMatchDay(League league, FetchPlan plan) {
         CriteriaBuilder cb = getEntityManager().getCriteriaBuilder();
         CriteriaQuery<MatchDay> cq = cb.createQuery(MatchDay.class);
         Root<MatchDay> root = cq.from(MatchDay.class);
 
-        root.fetch(MatchDay_.league).fetch(League_.admin);
-
         cq.select(root)
                 .where(
                         cb.and(
@@ -102,8 +103,9 @@ public class JpaMatchDayRepository extends BaseJpaRepository implements MatchDay
                         )
                 );
 
-        List<MatchDay> results = getEntityManager()
-                .createQuery(cq)
+        EntityManager em = getEntityManager();
+        List<MatchDay> results = FetchPlans.apply(em.createQuery(cq), FetchPlans.matchDay(em, plan))
+                .setHint(HibernateHints.HINT_CACHEABLE, true)
                 .setMaxResults(1) // optional safety guard
                 .getResultList();
 
@@ -115,6 +117,12 @@ public class JpaMatchDayRepository extends BaseJpaRepository implements MatchDay
 		getEntityManager().persist(matchDay);
 	}
 
+	@Override
+	public void saveAll(Collection<MatchDay> matchDays) {
+		EntityManager em = getEntityManager();
+		matchDays.forEach(em::persist);
+	}
+
 	@Override
 	public void updateMatchDay(MatchDay detached) {
 		getEntityManager().merge(detached);
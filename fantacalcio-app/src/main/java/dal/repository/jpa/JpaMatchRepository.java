@@ -4,11 +4,15 @@ import domain.*;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
 import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import business.ports.repository.FetchPlan;
 import business.ports.repository.MatchRepository;
 
 public class JpaMatchRepository extends BaseJpaRepository implements MatchRepository {
@@ -16,17 +20,12 @@ public class JpaMatchRepository extends BaseJpaRepository implements MatchReposi
     public JpaMatchRepository(EntityManager em) {super(em);}
 
     @Override
-    public Optional<Match> getMatchBy(MatchDay matchDay, FantaTeam fantaTeam) {
+    public Optional<Match> getMatchBy(MatchDay matchDay, FantaTeam fantaTeam, FetchPlan plan) {
     	EntityManager em = getEntityManager();
         CriteriaBuilder cb = em.getCriteriaBuilder();
         CriteriaQuery<Match> query = cb.createQuery(Match.class);
         Root<Match> root = query.from(Match.class);
         
-        // deep fetching
-        root.fetch(Match_.matchDay).fetch(MatchDay_.league).fetch(League_.admin);
-        root.fetch(Match_.team1).fetch(FantaTeam_.fantaManager);
-        root.fetch(Match_.team2).fetch(FantaTeam_.fantaManager);
-
         query.select(root).where(
                 cb.and(
                     cb.equal(root.get(Match_.matchDay), matchDay),
@@ -35,31 +34,65 @@ public class JpaMatchRepository extends BaseJpaRepository implements MatchReposi
                         cb.equal(root.get(Match_.team2), fantaTeam)))
         );
 
-        return em.createQuery(query).getResultStream().findFirst();
+        return FetchPlans.apply(em.createQuery(query), FetchPlans.match(em, plan)).getResultStream().findFirst();
     }
 
     @Override
-    public List<Match> getAllMatchesIn(MatchDay matchDay) {
+    public List<Match> getAllMatchesIn(MatchDay matchDay, FetchPlan plan) {
     	EntityManager em = getEntityManager();
         CriteriaBuilder cb = em.getCriteriaBuilder();
         CriteriaQuery<Match> query = cb.createQuery(Match.class);
         Root<Match> root = query.from(Match.class);
         
-        // deep fetching
-        root.fetch(Match_.matchDay).fetch(MatchDay_.league).fetch(League_.admin);
-        root.fetch(Match_.team1).fetch(FantaTeam_.fantaManager);
-        root.fetch(Match_.team2).fetch(FantaTeam_.fantaManager);
-
         query.select(root).where(
                 cb.and(
                     cb.equal(root.get(Match_.matchDay), matchDay))
         );
 
-        return em.createQuery(query).getResultList();
+        return FetchPlans.apply(em.createQuery(query), FetchPlans.match(em, plan)).getResultList();
+    }
+
+    @Override
+    public boolean existsMatchWithoutResult(MatchDay matchDay) {
+    	EntityManager em = getEntityManager();
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<Integer> query = cb.createQuery(Integer.class);
+        Root<Match> root = query.from(Match.class);
+
+        Subquery<Integer> result = query.subquery(Integer.class);
+        Root<Result> resultRoot = result.from(Result.class);
+        result.select(cb.literal(1)).where(cb.equal(resultRoot.get(Result_.match), root));
+
+        query.select(cb.literal(1)).where(
+        		cb.equal(root.get(Match_.matchDay), matchDay),
+        		cb.not(cb.exists(result)));
+
+        return exists(query);
+    }
+
+    @Override
+    public List<Match> getAllMatchesIn(League league, FetchPlan plan) {
+    	EntityManager em = getEntityManager();
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<Match> query = cb.createQuery(Match.class);
+        Root<Match> root = query.from(Match.class);
+
+        Path<MatchDay> matchDay = root.get(Match_.matchDay);
+        query.select(root)
+        		.where(cb.equal(matchDay.get(MatchDay_.league), league))
+        		.orderBy(cb.asc(matchDay.get(MatchDay_.number)));
+
+        return FetchPlans.apply(em.createQuery(query), FetchPlans.match(em, plan)).getResultList();
     }
 
     @Override
     public void saveMatch(Match match) {
     	getEntityManager().persist(match);
     }
+
+    @Override
+    public void saveAll(Collection<Match> matches) {
+    	EntityManager em = getEntityManager();
+    	matches.forEach(em::persist);
+    }
 }
@@ -1,9 +1,13 @@
 package dal.repository.jpa;
 
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
 
 import business.ports.repository.PlayerRepository;
 import domain.Contract;
@@ -14,9 +18,11 @@ import domain.League;
 import domain.Player;
 import domain.Player_;
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CompoundSelection;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
 
 public class JpaPlayerRepository extends BaseJpaRepository implements PlayerRepository {
@@ -81,6 +87,77 @@ public class JpaPlayerRepository extends BaseJpaRepository implements PlayerRepo
 		return Set.copyOf(entityManager.createQuery(criteriaQuery).getResultList());
 	}
 	
+	@Override
+	public List<PlayerRow> getAllPlayerRows() {
+		EntityManager entityManager = getEntityManager();
+		CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+		CriteriaQuery<PlayerRow> criteriaQuery = criteriaBuilder.createQuery(PlayerRow.class);
+		Root<Player> root = criteriaQuery.from(Player.class);
+
+		criteriaQuery.select(playerRow(criteriaBuilder, root))
+				.orderBy(criteriaBuilder.asc(root.get(Player_.surname)), criteriaBuilder.asc(root.get(Player_.name)));
+
+		return entityManager.createQuery(criteriaQuery).getResultList();
+	}
+
+	@Override
+	public List<PlayerRow> findPlayerRowsBySurname(String surname) {
+		EntityManager entityManager = getEntityManager();
+		CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+		CriteriaQuery<PlayerRow> criteriaQuery = criteriaBuilder.createQuery(PlayerRow.class);
+		Root<Player> root = criteriaQuery.from(Player.class);
+
+		criteriaQuery.select(playerRow(criteriaBuilder, root))
+				.where(criteriaBuilder.equal(root.get(Player_.surname), surname))
+				.orderBy(criteriaBuilder.asc(root.get(Player_.name)));
+
+		return entityManager.createQuery(criteriaQuery).getResultList();
+	}
+
+	@Override
+	public PlayerPage findPage(PlayerFilter filter, Long after, int pageSize) {
+		if (pageSize <= 0)
+			throw new IllegalArgumentException("JpaPlayerRepository: pageSize must be positive");
+		EntityManager entityManager = getEntityManager();
+		CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+		CriteriaQuery<Player> criteriaQuery = criteriaBuilder.createQuery(Player.class);
+		Root<Player> root = criteriaQuery.from(Player.class);
+
+		List<Predicate> predicates = filtering(criteriaBuilder, root, filter);
+		if (after != null)
+			predicates.add(criteriaBuilder.greaterThan(root.get(Player_.id), after));
+		criteriaQuery.select(root).where(predicates.toArray(Predicate[]::new))
+				.orderBy(criteriaBuilder.asc(root.get(Player_.id)));
+
+		// one extra row tells whether a next page exists
+		List<Player> players = entityManager.createQuery(criteriaQuery).setMaxResults(pageSize + 1).getResultList();
+		if (players.size() <= pageSize)
+			return new PlayerPage(players, null);
+		List<Player> page = List.copyOf(players.subList(0, pageSize));
+		return new PlayerPage(page, idOf(page.get(pageSize - 1)));
+	}
+
+	@Override
+	public Stream<Player> streamPlayers(PlayerFilter filter, int fetchSize) {
+		EntityManager entityManager = getEntityManager();
+		CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+		CriteriaQuery<Player> criteriaQuery = criteriaBuilder.createQuery(Player.class);
+		Root<Player> root = criteriaQuery.from(Player.class);
+
+		criteriaQuery.select(root).where(filtering(criteriaBuilder, root, filter).toArray(Predicate[]::new))
+				.orderBy(criteriaBuilder.asc(root.get(Player_.id)));
+
+		// read-only, so that no snapshot is kept for the Players streamed
+		return entityManager.createQuery(criteriaQuery)
+				.setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+				.setHint(HibernateHints.HINT_READ_ONLY, true)
+				.getResultStream()
+				.map(player -> {
+					entityManager.detach(player);
+					return player;
+				});
+	}
+
 	@Override
 	public Set<Player> getAllInLeague(League league) {
 		CriteriaBuilder cb = getEntityManager().getCriteriaBuilder();
@@ -98,4 +175,27 @@ public class JpaPlayerRepository extends BaseJpaRepository implements PlayerRepo
 		// 8. Create and execute the TypedQuery
 		return Set.copyOf(getEntityManager().createQuery(criteriaQuery).getResultList());
 	}
+
+	// the role is read off the discriminator, so that Players are never instantiated
+	private static CompoundSelection<PlayerRow> playerRow(CriteriaBuilder cb, Root<Player> root) {
+		return cb.construct(PlayerRow.class,
+				root.get(Player_.id),
+				root.get(Player_.name),
+				root.get(Player_.surname),
+				root.get(Player_.club),
+				root.type());
+	}
+
+	private static List<Predicate> filtering(CriteriaBuilder cb, Root<Player> root, PlayerFilter filter) {
+		List<Predicate> predicates = new ArrayList<>();
+		if (filter.role() != null)
+			predicates.add(cb.equal(root.type(), filter.role()));
+		if (filter.club() != null)
+			predicates.add(cb.equal(root.get(Player_.club), filter.club()));
+		return predicates;
+	}
+
+	private long idOf(Player player) {
+		return (Long) getEntityManager().getEntityManagerFactory().getPersistenceUnitUtil().getIdentifier(player);
+	}
 }
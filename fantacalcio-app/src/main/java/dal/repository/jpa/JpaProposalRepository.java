@@ -1,24 +1,24 @@
 package dal.repository.jpa;
 
 import domain.Contract_;
-import domain.FantaTeam_;
 import domain.Proposal_;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaDelete;
 import jakarta.persistence.criteria.CriteriaQuery;
-import jakarta.persistence.criteria.Fetch;
 import jakarta.persistence.criteria.Join;
 import jakarta.persistence.criteria.Root;
+import jakarta.persistence.metamodel.SingularAttribute;
 
+import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
-import java.util.stream.Collectors;
 
+import business.ports.repository.FetchPlan;
 import business.ports.repository.ProposalRepository;
 import domain.Contract;
 import domain.FantaTeam;
-import domain.League_;
 import domain.Proposal;
 
 public class JpaProposalRepository extends BaseJpaRepository implements ProposalRepository {
@@ -43,39 +43,26 @@ public class JpaProposalRepository extends BaseJpaRepository implements Proposal
         return getEntityManager().createQuery(delete).executeUpdate() != 0;
     }
 
+    // one lookup per side, each driven by the index on the Contracts' team
     @Override
-    public Set<Proposal> getProposalsFor(FantaTeam myTeam) {
+    public Set<Proposal> getProposalsFor(FantaTeam myTeam, FetchPlan plan) {
+        Set<Proposal> proposals = new HashSet<>(getProposalsWith(Proposal_.offeredContract, myTeam, plan));
+        proposals.addAll(getProposalsWith(Proposal_.requestedContract, myTeam, plan));
+        return proposals;
+    }
+
+    private List<Proposal> getProposalsWith(SingularAttribute<Proposal, Contract> side, FantaTeam team, FetchPlan plan) {
         EntityManager em = getEntityManager();
         CriteriaBuilder cb = em.getCriteriaBuilder();
         CriteriaQuery<Proposal> query = cb.createQuery(Proposal.class);
         Root<Proposal> root = query.from(Proposal.class);
 
         // joining, for query logic
-        Join<Proposal, Contract> offeredJoin = root.join(Proposal_.offeredContract);
-        Join<Proposal, Contract> requestedJoin = root.join(Proposal_.requestedContract);
-        Join<Contract, FantaTeam> offeredTeam = offeredJoin.join(Contract_.team);
-        Join<Contract, FantaTeam> requestedTeam = requestedJoin.join(Contract_.team);
-        
-        // deep fetching
-        Fetch<Contract, FantaTeam> offeredTeamFetch = root.fetch(Proposal_.offeredContract).fetch(Contract_.team);
-		offeredTeamFetch.fetch(FantaTeam_.league).fetch(League_.admin);
-		offeredTeamFetch.fetch(FantaTeam_.fantaManager);
-        root.fetch(Proposal_.offeredContract).fetch(Contract_.player);
-        Fetch<Contract, FantaTeam> requestedTeamFetch = root.fetch(Proposal_.requestedContract).fetch(Contract_.team);
-		requestedTeamFetch.fetch(FantaTeam_.league).fetch(League_.admin);
-		requestedTeamFetch.fetch(FantaTeam_.fantaManager);
-        root.fetch(Proposal_.requestedContract).fetch(Contract_.player);
-
-        query.select(root).where(
-            cb.and(
-                cb.or(
-                    cb.equal(offeredTeam, myTeam),
-                    cb.equal(requestedTeam, myTeam)
-                )
-            )
-        );
+        Join<Proposal, Contract> contract = root.join(side);
+
+        query.select(root).where(cb.equal(contract.get(Contract_.team), team));
 
-        return em.createQuery(query).getResultStream().collect(Collectors.toSet());
+        return FetchPlans.apply(em.createQuery(query), FetchPlans.proposal(em, plan)).getResultList();
     }
 
 
@@ -86,21 +73,12 @@ public class JpaProposalRepository extends BaseJpaRepository implements Proposal
     }
 
 	@Override
-	public Optional<Proposal> getProposalBy(Contract offeredContract, Contract requestedContract) {
-		CriteriaBuilder cb = getEntityManager().getCriteriaBuilder();
+	public Optional<Proposal> getProposalBy(Contract offeredContract, Contract requestedContract, FetchPlan plan) {
+		EntityManager em = getEntityManager();
+		CriteriaBuilder cb = em.getCriteriaBuilder();
         CriteriaQuery<Proposal> criteriaQuery = cb.createQuery(Proposal.class);
         Root<Proposal> root = criteriaQuery.from(Proposal.class);
         
-        // deep fetching
-        Fetch<Contract, FantaTeam> offeredTeamFetch = root.fetch(Proposal_.offeredContract).fetch(Contract_.team);
-		offeredTeamFetch.fetch(FantaTeam_.league).fetch(League_.admin);
-		offeredTeamFetch.fetch(FantaTeam_.fantaManager);
-        root.fetch(Proposal_.offeredContract).fetch(Contract_.player);
-        Fetch<Contract, FantaTeam> requestedTeamFetch = root.fetch(Proposal_.requestedContract).fetch(Contract_.team);
-		requestedTeamFetch.fetch(FantaTeam_.league).fetch(League_.admin);
-		requestedTeamFetch.fetch(FantaTeam_.fantaManager);
-        root.fetch(Proposal_.requestedContract).fetch(Contract_.player);
-
         criteriaQuery.where(
                 cb.and(
                         cb.equal(root.get(Proposal_.offeredContract), offeredContract),
@@ -108,6 +86,6 @@ public class JpaProposalRepository extends BaseJpaRepository implements Proposal
                 )
         );
 
-        return getEntityManager().createQuery(criteriaQuery).getResultList().stream().findFirst();
+        return FetchPlans.apply(em.createQuery(criteriaQuery), FetchPlans.proposal(em, plan)).getResultList().stream().findFirst();
 	}
 }
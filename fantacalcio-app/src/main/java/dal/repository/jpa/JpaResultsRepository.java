@@ -1,11 +1,15 @@
 package dal.repository.jpa;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import business.ports.repository.ResultsRepository;
 import domain.FantaTeam_;
+import domain.League;
 import domain.League_;
 import domain.Match;
+import domain.MatchDay;
 import domain.MatchDay_;
 import domain.Match_;
 import domain.Result;
@@ -14,6 +18,7 @@ import jakarta.persistence.EntityManager;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.Fetch;
+import jakarta.persistence.criteria.Join;
 import jakarta.persistence.criteria.Root;
 
 public class JpaResultsRepository extends BaseJpaRepository implements ResultsRepository {
@@ -42,9 +47,57 @@ public class JpaResultsRepository extends BaseJpaRepository implements ResultsRe
         return em.createQuery(query).getResultList().stream().findFirst();
 	}
 
+	@Override
+	public List<Result> getAllResultsIn(MatchDay matchDay) {
+    	EntityManager em = getEntityManager();
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<Result> query = cb.createQuery(Result.class);
+        Root<Result> root = query.from(Result.class);
+
+        // deep fetching
+        Fetch<Result, Match> matchFetch = root.fetch(Result_.match);
+        matchFetch.fetch(Match_.matchDay).fetch(MatchDay_.league).fetch(League_.admin);
+        matchFetch.fetch(Match_.team1).fetch(FantaTeam_.fantaManager);
+        matchFetch.fetch(Match_.team2).fetch(FantaTeam_.fantaManager);
+
+        query.select(root).where(
+                cb.equal(root.get(Result_.match).get(Match_.matchDay), matchDay)
+        );
+
+        return em.createQuery(query).getResultList();
+	}
+
+	@Override
+	public List<Result> getAllResultsIn(League league) {
+		EntityManager em = getEntityManager();
+		CriteriaBuilder cb = em.getCriteriaBuilder();
+		CriteriaQuery<Result> query = cb.createQuery(Result.class);
+		Root<Result> root = query.from(Result.class);
+
+		// deep fetching
+		Fetch<Result, Match> matchFetch = root.fetch(Result_.match);
+		matchFetch.fetch(Match_.matchDay).fetch(MatchDay_.league).fetch(League_.admin);
+		matchFetch.fetch(Match_.team1).fetch(FantaTeam_.fantaManager);
+		matchFetch.fetch(Match_.team2).fetch(FantaTeam_.fantaManager);
+
+		Join<Match, MatchDay> matchDay = root.join(Result_.match).join(Match_.matchDay);
+
+		query.select(root)
+				.where(cb.equal(matchDay.get(MatchDay_.league), league))
+				.orderBy(cb.asc(matchDay.get(MatchDay_.number)));
+
+		return em.createQuery(query).getResultList();
+	}
+
 	@Override
 	public void saveResult(Result result) {
 		getEntityManager().persist(result);
 	}
 
+	@Override
+	public void saveAll(Collection<Result> results) {
+		EntityManager em = getEntityManager();
+		results.forEach(em::persist);
+	}
+
 }
@@ -0,0 +1,112 @@
+package dal.repository.jpa;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.hibernate.jpa.HibernateHints;
+
+import business.ports.repository.FetchPlan;
+import business.ports.repository.GradeRepository;
+import domain.Grade;
+import domain.Match;
+import domain.MatchDay;
+import domain.MatchDay_;
+import domain.Match_;
+import domain.Result;
+import domain.Result_;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaDelete;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Root;
+
+/**
+ * stores each {@link Grade} as a {@link RoundGrade} row for the real-world
+ * season and round of its MatchDay, rather than for the MatchDay itself, so
+ * that a Player's mark on a round is stored once and seen by every League.
+ * <p>
+ * Grades are rebuilt on retrieval for the MatchDay they are looked up by, and
+ * are therefore not managed. As every League reads the same rows, the lookup
+ * is query-cached when the second-level cache is enabled
+ */
+public class JpaRoundGradeRepository extends BaseJpaRepository implements GradeRepository {
+
+	public JpaRoundGradeRepository(EntityManager em) {
+		super(em);
+	}
+
+	// the Grades' Player is fetched whatever the plan, and their MatchDay is matchDay itself
+	@Override
+	public List<Grade> getAllGrades(MatchDay matchDay, FetchPlan plan) {
+		EntityManager em = getEntityManager();
+		CriteriaBuilder cb = em.getCriteriaBuilder();
+		CriteriaQuery<RoundGrade> query = cb.createQuery(RoundGrade.class);
+		Root<RoundGrade> root = query.from(RoundGrade.class);
+
+		root.fetch(RoundGrade_.player);
+		query.select(root).where(
+				cb.equal(root.get(RoundGrade_.season), matchDay.getSeason()),
+				cb.equal(root.get(RoundGrade_.realRound), matchDay.getRealRound()));
+
+		return em.createQuery(query)
+				.setHint(HibernateHints.HINT_CACHEABLE, true)
+				.getResultStream()
+				.map(row -> row.toGrade(matchDay))
+				.toList();
+	}
+
+	@Override
+	public void saveGrade(Grade grade) {
+		getEntityManager().persist(new RoundGrade(grade));
+	}
+
+	@Override
+	public void saveAll(Collection<Grade> grades) {
+		grades.forEach(this::saveGrade);
+	}
+
+	@Override
+	public void saveBatch(Collection<Grade> grades) {
+		EntityManager em = getEntityManager();
+		grades.forEach(this::saveGrade);
+		em.flush();
+		em.clear();
+	}
+
+	// the bulk delete runs at once, so the replacement cannot clash with the old row
+	@Override
+	public Grade correctGrade(Grade grade, double mark) {
+		EntityManager em = getEntityManager();
+		CriteriaBuilder cb = em.getCriteriaBuilder();
+		CriteriaDelete<RoundGrade> delete = cb.createCriteriaDelete(RoundGrade.class);
+		Root<RoundGrade> root = delete.from(RoundGrade.class);
+
+		delete.where(
+				cb.equal(root.get(RoundGrade_.season), grade.getMatchDay().getSeason()),
+				cb.equal(root.get(RoundGrade_.realRound), grade.getMatchDay().getRealRound()),
+				cb.equal(root.get(RoundGrade_.player), grade.getPlayer()));
+
+		if (em.createQuery(delete).executeUpdate() == 0)
+			throw new IllegalArgumentException("JpaRoundGradeRepository: cannot correct a Grade that is not stored");
+		Grade corrected = new Grade(grade.getPlayer(), grade.getMatchDay(), mark);
+		saveGrade(corrected);
+		return corrected;
+	}
+
+	// any League's MatchDay played on the same round shares the Grades
+	@Override
+	public boolean isScored(MatchDay matchDay) {
+		EntityManager em = getEntityManager();
+		CriteriaBuilder cb = em.getCriteriaBuilder();
+		CriteriaQuery<Long> query = cb.createQuery(Long.class);
+		Root<Result> root = query.from(Result.class);
+		Join<Match, MatchDay> sharing = root.join(Result_.match).join(Match_.matchDay);
+
+		query.select(cb.count(root)).where(
+				cb.equal(sharing.get(MatchDay_.season), matchDay.getSeason()),
+				cb.equal(sharing.get(MatchDay_.realRound), matchDay.getRealRound()));
+
+		return em.createQuery(query).getSingleResult() > 0;
+	}
+}
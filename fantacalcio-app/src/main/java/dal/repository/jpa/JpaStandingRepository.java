@@ -0,0 +1,79 @@
+package dal.repository.jpa;
+
+import java.util.Collection;
+import java.util.List;
+
+import business.ports.repository.StandingRepository;
+import domain.FantaTeam;
+import domain.FantaTeam_;
+import domain.FantaUser;
+import domain.FantaUser_;
+import domain.League;
+import domain.League_;
+import domain.Standing;
+import domain.Standing_;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Fetch;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Root;
+
+public class JpaStandingRepository extends BaseJpaRepository implements StandingRepository {
+
+	public JpaStandingRepository(EntityManager em) {
+		super(em);
+	}
+
+	@Override
+	public List<Standing> getStandings(League league) {
+		EntityManager em = getEntityManager();
+		CriteriaBuilder cb = em.getCriteriaBuilder();
+		CriteriaQuery<Standing> query = cb.createQuery(Standing.class);
+		Root<Standing> root = query.from(Standing.class);
+
+		// deep fetching
+		Fetch<Standing, FantaTeam> teamFetch = root.fetch(Standing_.team);
+		teamFetch.fetch(FantaTeam_.fantaManager);
+		teamFetch.fetch(FantaTeam_.league).fetch(League_.admin);
+
+		// served by the (league, rank) index
+		query.select(root)
+				.where(cb.equal(root.get(Standing_.league), league))
+				.orderBy(cb.asc(root.get(Standing_.rank)));
+
+		return em.createQuery(query).getResultList();
+	}
+
+	@Override
+	public List<StandingRow> getStandingRows(League league) {
+		EntityManager em = getEntityManager();
+		CriteriaBuilder cb = em.getCriteriaBuilder();
+		CriteriaQuery<StandingRow> query = cb.createQuery(StandingRow.class);
+		Root<Standing> root = query.from(Standing.class);
+
+		// joining, for the projected columns
+		Join<Standing, FantaTeam> team = root.join(Standing_.team);
+		Join<FantaTeam, FantaUser> manager = team.join(FantaTeam_.fantaManager);
+
+		query.select(cb.construct(StandingRow.class,
+					team.get(FantaTeam_.id),
+					team.get(FantaTeam_.name),
+					manager.get(FantaUser_.email),
+					root.get(Standing_.rank),
+					root.get(Standing_.points),
+					root.get(Standing_.goalsFor),
+					root.get(Standing_.goalsAgainst),
+					root.get(Standing_.form)))
+				.where(cb.equal(root.get(Standing_.league), league))
+				.orderBy(cb.asc(root.get(Standing_.rank)));
+
+		return em.createQuery(query).getResultList();
+	}
+
+	@Override
+	public void saveAll(Collection<Standing> standings) {
+		EntityManager em = getEntityManager();
+		standings.forEach(em::persist);
+	}
+}
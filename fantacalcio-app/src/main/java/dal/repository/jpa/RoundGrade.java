@@ -0,0 +1,54 @@
+package dal.repository.jpa;
+
+import org.hibernate.annotations.Immutable;
+
+import domain.Grade;
+import domain.MatchDay;
+import domain.Player;
+import jakarta.persistence.*;
+
+/**
+ * the mark of a {@link Player} on a real-world round of a season, stored once
+ * and shared by the {@link MatchDay}s of all Leagues played on that round.
+ * <p>
+ * {@link #toGrade(MatchDay)} rebuilds the {@link Grade} a given MatchDay sees
+ */
+@Entity
+@Immutable
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_round_grade_round_player",
+		columnNames = {RoundGrade_.SEASON, RoundGrade_.REAL_ROUND, "player_id"}))
+public class RoundGrade {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "round_grade_seq")
+	@SequenceGenerator(name = "round_grade_seq", allocationSize = 50)
+	private Long id;
+
+	@ManyToOne(optional = false, fetch = FetchType.LAZY)
+	private Player player;
+
+	@Basic(optional = false)
+	private int season;
+
+	@Basic(optional = false)
+	private int realRound;
+
+	@Basic(optional = false)
+	private double mark;
+
+	protected RoundGrade() {}
+
+	RoundGrade(Grade grade) {
+		this.player = grade.getPlayer();
+		this.season = grade.getMatchDay().getSeason();
+		this.realRound = grade.getMatchDay().getRealRound();
+		this.mark = grade.getMark();
+	}
+
+	/**
+	 * @param matchDay a MatchDay played on this row's round
+	 */
+	Grade toGrade(MatchDay matchDay) {
+		return new Grade(player, matchDay, mark);
+	}
+}
@@ -0,0 +1,139 @@
+package dal.transaction.jpa;
+
+import business.ports.repository.ContractRepository;
+import business.ports.repository.FantaTeamRepository;
+import business.ports.repository.FantaUserRepository;
+import business.ports.repository.GradeRepository;
+import business.ports.repository.LeagueRepository;
+import business.ports.repository.LineUpRepository;
+import business.ports.repository.MatchDayRepository;
+import business.ports.repository.MatchRepository;
+import business.ports.repository.PlayerRepository;
+import business.ports.repository.ProposalRepository;
+import business.ports.repository.ResultsRepository;
+import business.ports.repository.StandingRepository;
+import business.ports.transaction.TransactionManager.RepositoryFactory;
+import dal.repository.jpa.JpaCompactLineUpRepository;
+import dal.repository.jpa.JpaContractRepository;
+import dal.repository.jpa.JpaFantaTeamRepository;
+import dal.repository.jpa.JpaFantaUserRepository;
+import dal.repository.jpa.JpaGradeRepository;
+import dal.repository.jpa.JpaLeagueRepository;
+import dal.repository.jpa.JpaLineUpRepository;
+import dal.repository.jpa.JpaMatchDayRepository;
+import dal.repository.jpa.JpaMatchRepository;
+import dal.repository.jpa.JpaPlayerRepository;
+import dal.repository.jpa.JpaProposalRepository;
+import dal.repository.jpa.JpaResultsRepository;
+import dal.repository.jpa.JpaRoundGradeRepository;
+import dal.repository.jpa.JpaStandingRepository;
+import jakarta.persistence.EntityManager;
+
+/**
+ * creates JPA Repositories sharing a single {@link EntityManager}
+ */
+public class JpaRepositoryFactory implements RepositoryFactory {
+
+	/**
+	 * how LineUps are stored: as a LineUp row with a Fielding row per fielded
+	 * Player, or as a single {@link dal.repository.jpa.CompactLineUp} row. The
+	 * latter requires {@code CompactLineUp} to be among the mapped entities
+	 */
+	public enum LineUpStorage {
+		FIELDING_ROWS, SINGLE_ROW
+	}
+
+	/**
+	 * how Grades are stored: once per League, for the MatchDay they were given
+	 * on, or once per real-world round as a {@link dal.repository.jpa.RoundGrade}
+	 * row, shared by the MatchDays of all Leagues played on that round. The
+	 * latter requires {@code RoundGrade} to be among the mapped entities
+	 */
+	public enum GradeStorage {
+		PER_MATCH_DAY, PER_REAL_ROUND
+	}
+
+	private final EntityManager em;
+	private final LineUpStorage lineUpStorage;
+	private final GradeStorage gradeStorage;
+
+	public JpaRepositoryFactory(EntityManager em) {
+		this(em, LineUpStorage.FIELDING_ROWS);
+	}
+
+	public JpaRepositoryFactory(EntityManager em, LineUpStorage lineUpStorage) {
+		this(em, lineUpStorage, GradeStorage.PER_MATCH_DAY);
+	}
+
+	public JpaRepositoryFactory(EntityManager em, LineUpStorage lineUpStorage, GradeStorage gradeStorage) {
+		this.em = em;
+		this.lineUpStorage = lineUpStorage;
+		this.gradeStorage = gradeStorage;
+	}
+
+	@Override
+	public LeagueRepository createLeagueRepository() {
+		return new JpaLeagueRepository(em);
+	}
+
+	@Override
+	public MatchRepository createMatchRepository() {
+		return new JpaMatchRepository(em);
+	}
+
+	@Override
+	public PlayerRepository createPlayerRepository() {
+		return new JpaPlayerRepository(em);
+	}
+
+	@Override
+	public FantaTeamRepository createTeamRepository() {
+		return new JpaFantaTeamRepository(em);
+	}
+
+	@Override
+	public GradeRepository createGradeRepository() {
+		return switch (gradeStorage) {
+			case PER_MATCH_DAY -> new JpaGradeRepository(em);
+			case PER_REAL_ROUND -> new JpaRoundGradeRepository(em);
+		};
+	}
+
+	@Override
+	public ProposalRepository createProposalRepository() {
+		return new JpaProposalRepository(em);
+	}
+
+	@Override
+	public ContractRepository createContractRepository() {
+		return new JpaContractRepository(em);
+	}
+
+	@Override
+	public ResultsRepository createResultsRepository() {
+		return new JpaResultsRepository(em);
+	}
+
+	@Override
+	public LineUpRepository createLineUpRepository() {
+		return switch (lineUpStorage) {
+			case FIELDING_ROWS -> new JpaLineUpRepository(em);
+			case SINGLE_ROW -> new JpaCompactLineUpRepository(em);
+		};
+	}
+
+	@Override
+	public MatchDayRepository createMatchDayRepository() {
+		return new JpaMatchDayRepository(em);
+	}
+
+	@Override
+	public FantaUserRepository createFantaUserRepository() {
+		return new JpaFantaUserRepository(em);
+	}
+
+	@Override
+	public StandingRepository createStandingRepository() {
+		return new JpaStandingRepository(em);
+	}
+}
@@ -3,18 +3,12 @@ package dal.transaction.jpa;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
+import org.hibernate.FlushMode;
+import org.hibernate.Session;
+
 import business.ports.transaction.TransactionManager;
-import dal.repository.jpa.JpaContractRepository;
-import dal.repository.jpa.JpaFantaTeamRepository;
-import dal.repository.jpa.JpaFantaUserRepository;
-import dal.repository.jpa.JpaGradeRepository;
-import dal.repository.jpa.JpaLeagueRepository;
-import dal.repository.jpa.JpaLineUpRepository;
-import dal.repository.jpa.JpaMatchDayRepository;
-import dal.repository.jpa.JpaMatchRepository;
-import dal.repository.jpa.JpaPlayerRepository;
-import dal.repository.jpa.JpaProposalRepository;
-import dal.repository.jpa.JpaResultsRepository;
+import dal.transaction.jpa.JpaRepositoryFactory.GradeStorage;
+import dal.transaction.jpa.JpaRepositoryFactory.LineUpStorage;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityManagerFactory;
 import jakarta.persistence.EntityTransaction;
@@ -22,30 +16,57 @@ import jakarta.persistence.EntityTransaction;
 public class JpaTransactionManager implements TransactionManager {
 
 	private final EntityManagerFactory emFactory;
+	private final LineUpStorage lineUpStorage;
+	private final GradeStorage gradeStorage;
 
 	public JpaTransactionManager(EntityManagerFactory emFactory) {
+		this(emFactory, LineUpStorage.FIELDING_ROWS);
+	}
+
+	public JpaTransactionManager(EntityManagerFactory emFactory, LineUpStorage lineUpStorage) {
+		this(emFactory, lineUpStorage, GradeStorage.PER_MATCH_DAY);
+	}
+
+	public JpaTransactionManager(EntityManagerFactory emFactory, LineUpStorage lineUpStorage,
+			GradeStorage gradeStorage) {
 		this.emFactory = emFactory;
+		this.lineUpStorage = lineUpStorage;
+		this.gradeStorage = gradeStorage;
 	}
 
 	@Override
 	public <T> T fromTransaction(Function<TransactionContext, T> code) {
+		return runInTransaction(emFactory.createEntityManager(), code);
+	}
 
+	/**
+	 * entities loaded by {@code code} are read-only, so Hibernate keeps no
+	 * snapshot of them; {@link FlushMode#MANUAL} makes commit skip the flush and
+	 * its dirty-checking pass
+	 */
+	@Override
+	public <T> T fromReadOnlyTransaction(Function<TransactionContext, T> code) {
 		EntityManager em = emFactory.createEntityManager();
+		Session session = em.unwrap(Session.class);
+		session.setDefaultReadOnly(true);
+		session.setHibernateFlushMode(FlushMode.MANUAL);
+		return runInTransaction(em, code);
+	}
+
+	@Override
+	public void inTransaction(Consumer<TransactionContext> code) {
+		fromTransaction((context) -> {
+			code.accept(context);
+			return true;
+		});
+	}
+
+	// helper
+	private <T> T runInTransaction(EntityManager em, Function<TransactionContext, T> code) {
 		EntityTransaction transaction = em.getTransaction();
 		try {
 			transaction.begin();
-			T result = code.apply(new TransactionContext(
-										new JpaLeagueRepository(em), 
-										new JpaMatchRepository(em),
-										new JpaPlayerRepository(em), 
-										new JpaFantaTeamRepository(em), 
-										new JpaGradeRepository(em),
-										new JpaProposalRepository(em), 
-										new JpaContractRepository(em), 
-										new JpaResultsRepository(em),
-										new JpaLineUpRepository(em), 
-										new JpaMatchDayRepository(em),
-										new JpaFantaUserRepository(em)));
+			T result = code.apply(new TransactionContext(new JpaRepositoryFactory(em, lineUpStorage, gradeStorage)));
 			transaction.commit();
 			return result;
 		} catch (Exception e) {
@@ -57,12 +78,4 @@ public class JpaTransactionManager implements TransactionManager {
 			em.close();
 		}
 	}
-
-	@Override
-	public void inTransaction(Consumer<TransactionContext> code) {
-		fromTransaction((context) -> {
-			code.accept(context);
-			return true;
-		});
-	}
 }
@@ -5,10 +5,12 @@ import jakarta.persistence.*;
 import java.util.Objects;
 
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_contract_team_player", columnNames = {"team_id", "player_id"}))
 public class Contract {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "contract_seq")
+    @SequenceGenerator(name = "contract_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(optional=false, fetch=FetchType.LAZY)
@@ -33,15 +35,18 @@ public class Contract {
         return player;
     }
 
+    // o may be a lazy proxy, so it is only read through its getters
     @Override
     public boolean equals(Object o) {
-        if (o == null || getClass() != o.getClass()) return false;
-        Contract contract = (Contract) o;
-        return Objects.equals(team, contract.team) && Objects.equals(player, contract.player);
+        if (this == o) return true;
+        if (!(o instanceof Contract contract)) return false;
+        return Objects.equals(getTeam(), contract.getTeam()) && Objects.equals(getPlayer(), contract.getPlayer());
     }
 
+    // the lazy team, usually the one whose roster holds the Contract, is left
+    // out; the Player is kept, as telling a roster's Contracts apart reads it anyway
     @Override
     public int hashCode() {
-        return Objects.hash(team, player);
+        return getPlayer().hashCode();
     }
 }
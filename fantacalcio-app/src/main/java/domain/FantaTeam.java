@@ -6,9 +6,11 @@ import java.util.Objects;
 import java.util.Set;
 
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_fanta_team_league_name", columnNames = {"league_id", "name"}))
 public class FantaTeam {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "fanta_team_seq")
+    @SequenceGenerator(name = "fanta_team_seq", allocationSize = 50)
     private Long id;
 
     @Basic(optional=false)
@@ -26,6 +28,8 @@ public class FantaTeam {
 	@OneToMany(mappedBy = Contract_.TEAM, cascade = CascadeType.ALL, orphanRemoval = true)
     private Set<Contract> contracts;
 
+    private transient int hashCode;
+
     protected FantaTeam() {}
     public FantaTeam(String name, League league, int points, FantaUser fantaManager, Set<Contract> contracts) {
         this.name = name;
@@ -75,20 +79,29 @@ public class FantaTeam {
     	return new FantaTeamViewer(this);
     }
 
+	/*
+	 * a FantaTeam is identified by its name within its League: points change as
+	 * Results are calculated, so they must not take part in equality
+	 */
+
+	// o may be a lazy proxy, so it is only read through its getters
 	@Override
 	public boolean equals(Object o) {
-		if (o == null || getClass() != o.getClass())
+		if (this == o)
+			return true;
+		if (!(o instanceof FantaTeam fantaTeam))
 			return false;
-		FantaTeam fantaTeam = (FantaTeam) o;
-		return points == fantaTeam.points 
-				&& Objects.equals(name, fantaTeam.name)
-				&& Objects.equals(league, fantaTeam.league) 
-				&& Objects.equals(fantaManager, fantaTeam.fantaManager);
+		return Objects.equals(name, fantaTeam.getName())
+				&& Objects.equals(getLeague(), fantaTeam.getLeague());
 	}
 
+    // the lazy League is left out, so that hashing never loads it
     @Override
     public int hashCode() {
-        return Objects.hash(name, league, points, fantaManager);
+    	int h = hashCode;
+    	if (h == 0)
+    		hashCode = h = Objects.hashCode(name);
+        return h;
     }
 	@Override
 	public String toString() {
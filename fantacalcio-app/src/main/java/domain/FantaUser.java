@@ -5,10 +5,12 @@ import jakarta.persistence.*;
 import java.util.Objects;
 
 @Entity
+@Table(indexes = @Index(name = "idx_fanta_user_email", columnList = "email"))
 public class FantaUser {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "fanta_user_seq")
+    @SequenceGenerator(name = "fanta_user_seq", allocationSize = 50)
     private Long id;
 
     @Basic(optional=false)
@@ -17,6 +19,8 @@ public class FantaUser {
     @Basic(optional=false)
     private String password;
 
+    private transient int hashCode;
+
     protected FantaUser() {}
     public FantaUser(String email, String password) {
         this.email = email;
@@ -32,7 +36,10 @@ public class FantaUser {
 
     @Override
     public int hashCode() {
-        return Objects.hash(email, password);
+    	int h = hashCode;
+    	if (h == 0)
+    		hashCode = h = Objects.hash(email, password);
+        return h;
     }
 
     public String getEmail() {
@@ -8,7 +8,8 @@ import java.util.Objects;
 public abstract class Fielding {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "fielding_seq")
+    @SequenceGenerator(name = "fielding_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(optional=false, fetch=FetchType.LAZY)
@@ -17,6 +18,8 @@ public abstract class Fielding {
     @ManyToOne(optional=false, fetch=FetchType.LAZY)
     private LineUp lineUp;
 
+    private transient int hashCode;
+
     protected Fielding() {}
     
     Fielding(Player player, LineUp lineUp) {
@@ -43,7 +46,10 @@ public abstract class Fielding {
 
     @Override
     public int hashCode() {
-        return Objects.hash(player, lineUp);
+    	int h = hashCode;
+    	if (h == 0)
+    		hashCode = h = Objects.hash(player, lineUp);
+        return h;
     }
     
 
@@ -64,6 +70,12 @@ public abstract class Fielding {
     
     public abstract void accept(FieldingVisitor visitor);
     
+    // what the Fielding says about its Player, regardless of the LineUp
+    abstract String contentKey();
+
+    // an equivalent Fielding within another LineUp
+    abstract Fielding copyFor(LineUp lineUp);
+    
     @Entity
     public static class StarterFielding extends Fielding {
     	
@@ -76,6 +88,16 @@ public abstract class Fielding {
 		@Override
 		public void accept(FieldingVisitor visitor) {
 			visitor.visitStarterFielding(this);
+		}
+
+		@Override
+		String contentKey() {
+			return "S|" + getPlayer().naturalKey();
+		}
+
+		@Override
+		Fielding copyFor(LineUp lineUp) {
+			return new StarterFielding(getPlayer(), lineUp);
 		}    	
     }
     
@@ -120,6 +142,16 @@ public abstract class Fielding {
 			visitor.visitSubstituteFielding(this);
 		}
 		
+		@Override
+		String contentKey() {
+			return "B" + benchPosition + '|' + getPlayer().naturalKey();
+		}
+
+		@Override
+		Fielding copyFor(LineUp lineUp) {
+			return new SubstituteFielding(getPlayer(), lineUp, benchPosition);
+		}
+		
     }
 }
 
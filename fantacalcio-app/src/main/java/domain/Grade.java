@@ -2,6 +2,8 @@ package domain;
 
 import java.util.Objects;
 
+import org.hibernate.annotations.Immutable;
+
 import jakarta.persistence.Basic;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
@@ -9,12 +11,19 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 
+// marks are changed by replacing the Grade, see GradeRepository#correctGrade
 @Entity
+@Immutable
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_grade_matchday_player", columnNames = {"matchDay_id", "player_id"}))
 public class Grade {
 	
 	@Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "grade_seq")
+    @SequenceGenerator(name = "grade_seq", allocationSize = 50)
     private Long id;  
 	
 	@ManyToOne(optional = false, fetch = FetchType.LAZY)
@@ -26,6 +35,8 @@ public class Grade {
 	@Basic(optional=false)
 	private double mark;
 
+	private transient int hashCode;
+
 	protected Grade() {}
 	
 	public Grade(Player player, MatchDay matchDay, double mark) {
@@ -56,6 +67,9 @@ public class Grade {
 
     @Override
     public int hashCode() {
-        return Objects.hash(player, matchDay, mark);
+    	int h = hashCode;
+    	if (h == 0)
+    		hashCode = h = Objects.hash(player, matchDay, mark);
+        return h;
     }
 }
@@ -5,10 +5,13 @@ import jakarta.persistence.*;
 import java.util.Objects;
 
 @Entity
+@Cacheable
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_league_code", columnNames = "leagueCode"))
 public class League {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "league_seq")
+    @SequenceGenerator(name = "league_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(optional=false, fetch=FetchType.LAZY)
@@ -23,6 +26,8 @@ public class League {
     @Basic(optional=false)
     private String leagueCode;
 
+    private transient int hashCode;
+
     protected League() {}
     public League(FantaUser admin, String name, String leagueCode) {
         this.admin = admin;
@@ -50,15 +55,20 @@ public class League {
         this.newsPaper = newsPaper;
     }
 
+    // o may be a lazy proxy, so it is only read through its getters
     @Override
     public boolean equals(Object o) {
-        if (o == null || getClass() != o.getClass()) return false;
-        League league = (League) o;
-        return Objects.equals(admin, league.admin) && Objects.equals(name, league.name) && Objects.equals(newsPaper, league.newsPaper) && Objects.equals(leagueCode, league.leagueCode);
+        if (this == o) return true;
+        if (!(o instanceof League league)) return false;
+        return Objects.equals(leagueCode, league.getLeagueCode()) && Objects.equals(name, league.getName());
     }
 
+    // the NewsPaper can be reassigned, and the admin is a lazy association
     @Override
     public int hashCode() {
-        return Objects.hash(admin, name, newsPaper, leagueCode);
+    	int h = hashCode;
+    	if (h == 0)
+    		hashCode = h = Objects.hash(leagueCode, name);
+        return h;
     }
 }
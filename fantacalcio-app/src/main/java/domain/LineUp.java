@@ -2,10 +2,16 @@ package domain;
 
 import jakarta.persistence.*;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
@@ -29,7 +35,8 @@ public class LineUp {
 	private Scheme scheme;
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "line_up_seq")
+    @SequenceGenerator(name = "line_up_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(optional = false, fetch = FetchType.LAZY)
@@ -43,6 +50,15 @@ public class LineUp {
 	@OneToMany(mappedBy = Fielding_.LINE_UP, cascade = CascadeType.ALL, orphanRemoval = true)
     private Set<Fielding> fieldings;
 
+	// digest of scheme and fieldings, telling unchanged LineUps apart without loading them
+	@Basic(optional = false)
+	private long contentHash;
+
+    private transient int hashCode;
+
+    // built on first lookup, rebuilt whenever fieldings is replaced or modified
+    private transient LineUpRoleIndex roleIndex;
+
     protected LineUp() {}
 
 	// getters
@@ -62,11 +78,68 @@ public class LineUp {
     Set<Fielding> getFieldings() {
     	return fieldings;
     }
+
+    public long getContentHash() {
+    	return contentHash;
+    }
 	
 	// entry point for strongly-typed Player lookup
 	public LineUpViewer extract() {
 		return new LineUpViewer(this);
 	}
+
+	LineUpRoleIndex roleIndex() {
+		LineUpRoleIndex index = roleIndex;
+		if (index == null || !index.isIndexOf(fieldings))
+			roleIndex = index = new LineUpRoleIndex(fieldings);
+		return index;
+	}
+
+	// to be called after any change to fieldings
+	private void fieldingsChanged() {
+		roleIndex = null;
+	}
+
+	/**
+	 * brings scheme and Fieldings in line with those of {@code source}, only
+	 * replacing the Fieldings that differ, so that persisting this LineUp
+	 * afterwards writes the changed rows alone
+	 * 
+	 * @throws IllegalArgumentException if {@code source} is not for the same
+	 *                                  Match and FantaTeam
+	 */
+	public void updateFrom(LineUp source) {
+		if (!this.equals(source))
+			throw new IllegalArgumentException("LineUp: can only be updated from a LineUp for the same Match and FantaTeam");
+
+		this.scheme = source.scheme;
+		Map<String, Fielding> current = fieldings.stream()
+				.collect(Collectors.toMap(Fielding::contentKey, Function.identity()));
+		Map<String, Fielding> wanted = source.fieldings.stream()
+				.collect(Collectors.toMap(Fielding::contentKey, Function.identity()));
+		fieldings.removeIf(fielding -> !wanted.containsKey(fielding.contentKey()));
+		wanted.forEach((key, fielding) -> {
+			if (!current.containsKey(key))
+				fieldings.add(fielding.copyFor(this));
+		});
+		fieldingsChanged();
+		this.contentHash = source.contentHash;
+	}
+
+	private static long contentHashOf(Scheme scheme, Set<Fielding> fieldings) {
+		MessageDigest digest;
+		try {
+			digest = MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 is not available", e);
+		}
+		digest.update(String.valueOf(scheme).getBytes(StandardCharsets.UTF_8));
+
+		// Fieldings are digested in a canonical order, as sets have none
+		fieldings.stream().map(Fielding::contentKey).sorted()
+				.forEach(key -> digest.update(('\n' + key).getBytes(StandardCharsets.UTF_8)));
+		return ByteBuffer.wrap(digest.digest()).getLong();
+	}
     
     /*
 	 * equals and hashCode do not include the fielding attribute to avoid infinite recursion
@@ -77,7 +150,10 @@ public class LineUp {
 
 	@Override
 	public int hashCode() {
-		return Objects.hash(match, team);
+		int h = hashCode;
+		if (h == 0)
+			hashCode = h = Objects.hash(match, team);
+		return h;
 	}
 
 	@Override
@@ -93,15 +169,16 @@ public class LineUp {
 	}
 	
 	public boolean recursiveEquals(LineUp other) {
-		return this.equals(other)
-				&& Objects.equals(scheme, other.scheme)
-				&& Objects.equals(extract().starterGoalkeepers(), other.extract().starterGoalkeepers())
-				&& Objects.equals(extract().starterDefenders(), other.extract().starterDefenders())
-				&& Objects.equals(extract().starterMidfielders(), other.extract().starterMidfielders())
-				&& Objects.equals(extract().substituteGoalkeepers(), other.extract().substituteGoalkeepers())
-				&& Objects.equals(extract().substituteDefenders(), other.extract().substituteDefenders())
-				&& Objects.equals(extract().substituteMidfielders(), other.extract().substituteMidfielders())
-				&& Objects.equals(extract().substituteForwards(), other.extract().substituteForwards());
+		if (!this.equals(other) || !Objects.equals(scheme, other.scheme))
+			return false;
+		LineUpRoleIndex mine = roleIndex(), theirs = other.roleIndex();
+		return Objects.equals(mine.starterGoalkeepers(), theirs.starterGoalkeepers())
+				&& Objects.equals(mine.starterDefenders(), theirs.starterDefenders())
+				&& Objects.equals(mine.starterMidfielders(), theirs.starterMidfielders())
+				&& Objects.equals(mine.substituteGoalkeepers(), theirs.substituteGoalkeepers())
+				&& Objects.equals(mine.substituteDefenders(), theirs.substituteDefenders())
+				&& Objects.equals(mine.substituteMidfielders(), theirs.substituteMidfielders())
+				&& Objects.equals(mine.substituteForwards(), theirs.substituteForwards());
 	}
 	
 	public static LineUpBuilderSteps.ReadyForTeam build() {
@@ -231,12 +308,14 @@ public class LineUp {
 				.flatMap(Set::stream)
 				.map(player -> new Fielding.StarterFielding(player, lineUp))
 				.forEach(lineUp.fieldings::add);
+			lineUp.fieldingsChanged();
 			return this;
 		}
 		
 		private void addSubstituteFieldings(List<Player> substitutes) {
 			IntStream.range(0, 3).forEach(i -> this.lineUp.fieldings
 					.add(new Fielding.SubstituteFielding(Objects.requireNonNull(substitutes.get(i)), lineUp, i + 1)));
+			this.lineUp.fieldingsChanged();
 		}
 
 		@Override
@@ -284,6 +363,7 @@ public class LineUp {
 					.map(def -> Objects.requireNonNull(def,
 							"LineUpBuilder: cannot instantiate on null Substitute Forward"))
 					.collect(Collectors.toList()));	
+			lineUp.contentHash = contentHashOf(lineUp.scheme, lineUp.fieldings);
 			return lineUp;
 		}
 	}
@@ -0,0 +1,163 @@
+package domain;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import domain.Fielding.FieldingVisitor;
+import domain.Fielding.StarterFielding;
+import domain.Fielding.SubstituteFielding;
+import domain.Player.Defender;
+import domain.Player.Forward;
+import domain.Player.Goalkeeper;
+import domain.Player.Midfielder;
+import domain.Player.PlayerVisitor;
+
+/**
+ * the Players of a {@link LineUp} grouped by role and fielding, built in a
+ * single pass over its {@link Fielding}s and immutable thereafter.
+ * <p>
+ * Starters are kept in the iteration order of the Fieldings they were read
+ * from, substitutes in bench order
+ */
+final class LineUpRoleIndex {
+
+	// the Fieldings this index was built from
+	private final Set<Fielding> source;
+
+	private final Set<Goalkeeper> starterGoalkeepers;
+	private final Set<Defender> starterDefenders;
+	private final Set<Midfielder> starterMidfielders;
+	private final Set<Forward> starterForwards;
+	private final List<Goalkeeper> substituteGoalkeepers;
+	private final List<Defender> substituteDefenders;
+	private final List<Midfielder> substituteMidfielders;
+	private final List<Forward> substituteForwards;
+	private final Set<Player> players;
+
+	LineUpRoleIndex(Set<Fielding> fieldings) {
+		this.source = fieldings;
+		Builder builder = new Builder();
+		for (Fielding fielding : fieldings) {
+			fielding.accept(builder);
+		}
+		this.starterGoalkeepers = Collections.unmodifiableSet(builder.starterGoalkeepers);
+		this.starterDefenders = Collections.unmodifiableSet(builder.starterDefenders);
+		this.starterMidfielders = Collections.unmodifiableSet(builder.starterMidfielders);
+		this.starterForwards = Collections.unmodifiableSet(builder.starterForwards);
+		this.substituteGoalkeepers = List.copyOf(builder.benchGoalkeepers.values());
+		this.substituteDefenders = List.copyOf(builder.benchDefenders.values());
+		this.substituteMidfielders = List.copyOf(builder.benchMidfielders.values());
+		this.substituteForwards = List.copyOf(builder.benchForwards.values());
+		this.players = Collections.unmodifiableSet(builder.players);
+	}
+
+	boolean isIndexOf(Set<Fielding> fieldings) {
+		return source == fieldings;
+	}
+
+	// getters
+
+	Set<Goalkeeper> starterGoalkeepers() {
+		return starterGoalkeepers;
+	}
+
+	Set<Defender> starterDefenders() {
+		return starterDefenders;
+	}
+
+	Set<Midfielder> starterMidfielders() {
+		return starterMidfielders;
+	}
+
+	Set<Forward> starterForwards() {
+		return starterForwards;
+	}
+
+	List<Goalkeeper> substituteGoalkeepers() {
+		return substituteGoalkeepers;
+	}
+
+	List<Defender> substituteDefenders() {
+		return substituteDefenders;
+	}
+
+	List<Midfielder> substituteMidfielders() {
+		return substituteMidfielders;
+	}
+
+	List<Forward> substituteForwards() {
+		return substituteForwards;
+	}
+
+	Set<Player> players() {
+		return players;
+	}
+
+	// files each Player under its role, as a starter or at its bench position
+	private static final class Builder implements FieldingVisitor, PlayerVisitor {
+		private static final int STARTER = Integer.MIN_VALUE;
+
+		private final Set<Goalkeeper> starterGoalkeepers = new HashSet<>();
+		private final Set<Defender> starterDefenders = new HashSet<>();
+		private final Set<Midfielder> starterMidfielders = new HashSet<>();
+		private final Set<Forward> starterForwards = new HashSet<>();
+		private final Map<Integer, Goalkeeper> benchGoalkeepers = new TreeMap<>();
+		private final Map<Integer, Defender> benchDefenders = new TreeMap<>();
+		private final Map<Integer, Midfielder> benchMidfielders = new TreeMap<>();
+		private final Map<Integer, Forward> benchForwards = new TreeMap<>();
+		private final Set<Player> players = new HashSet<>();
+
+		// bench position of the Fielding being visited, or STARTER
+		private int benchPosition;
+
+		@Override
+		public void visitStarterFielding(StarterFielding starterFielding) {
+			benchPosition = STARTER;
+			starterFielding.getPlayer().accept(this);
+			players.add(starterFielding.getPlayer());
+		}
+
+		@Override
+		public void visitSubstituteFielding(SubstituteFielding substituteFielding) {
+			benchPosition = substituteFielding.getBenchPosition();
+			substituteFielding.getPlayer().accept(this);
+			players.add(substituteFielding.getPlayer());
+		}
+
+		@Override
+		public void visitGoalkeeper(Goalkeeper goalkeeper) {
+			if (benchPosition == STARTER)
+				starterGoalkeepers.add(goalkeeper);
+			else
+				benchGoalkeepers.put(benchPosition, goalkeeper);
+		}
+
+		@Override
+		public void visitDefender(Defender defender) {
+			if (benchPosition == STARTER)
+				starterDefenders.add(defender);
+			else
+				benchDefenders.put(benchPosition, defender);
+		}
+
+		@Override
+		public void visitMidfielder(Midfielder midfielder) {
+			if (benchPosition == STARTER)
+				starterMidfielders.add(midfielder);
+			else
+				benchMidfielders.put(benchPosition, midfielder);
+		}
+
+		@Override
+		public void visitForward(Forward forward) {
+			if (benchPosition == STARTER)
+				starterForwards.add(forward);
+			else
+				benchForwards.put(benchPosition, forward);
+		}
+	}
+}
@@ -5,9 +5,13 @@ import jakarta.persistence.*;
 import java.util.Objects;
 
 @Entity
+@Table(indexes = {
+		@Index(name = "idx_match_matchday_team1", columnList = "matchDay_id, team1_id"),
+		@Index(name = "idx_match_matchday_team2", columnList = "matchDay_id, team2_id")})
 public class Match {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "match_seq")
+    @SequenceGenerator(name = "match_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(optional = false, fetch = FetchType.LAZY)
@@ -41,19 +45,22 @@ public class Match {
 		return matchDay;
 	}
 
+	// o may be a lazy proxy, so it is only read through its getters
 	@Override
 	public boolean equals(Object o) {
-		if (o == null || getClass() != o.getClass())
+		if (this == o)
+			return true;
+		if (!(o instanceof Match match))
 			return false;
-		Match match = (Match) o;
-		return Objects.equals(matchDay, match.matchDay) 
-				&& Objects.equals(team1, match.team1)
-				&& Objects.equals(team2, match.team2);
+		return Objects.equals(getMatchDay(), match.getMatchDay())
+				&& Objects.equals(getTeam1(), match.getTeam1())
+				&& Objects.equals(getTeam2(), match.getTeam2());
 	}
 
+    // a Match is only its lazy associations, which hashing must not load
     @Override
     public int hashCode() {
-        return Objects.hash(matchDay, team1, team2);
+        return Match.class.hashCode();
     }
 
 	@Override
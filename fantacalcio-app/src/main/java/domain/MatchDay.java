@@ -5,12 +5,17 @@ import java.util.Objects;
 import jakarta.persistence.*;
 
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_matchday_league_number", columnNames = {"league_id", "number"}),
+		indexes = @Index(name = "idx_matchday_league_status_number", columnList = "league_id, status, number"))
 public class MatchDay {
 	public static final int MATCH_DAYS_IN_LEAGUE = 20;
+	// the season of MatchDays not tied to a real-world season, sharing Grades among themselves alone
+	public static final int NO_SEASON = 0;
 	public enum Status {PAST, PRESENT, FUTURE}
 	
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "match_day_seq")
+	@SequenceGenerator(name = "match_day_seq", allocationSize = 50)
 	private Long id;
 	
 	@Basic(optional = false)
@@ -18,6 +23,13 @@ public class MatchDay {
 	
 	@Basic(optional = false)
 	private int number;
+
+	// the real-world season and round the MatchDay is played on, whose Grades it shares
+	@Basic(optional = false)
+	private int season;
+
+	@Basic(optional = false)
+	private int realRound;
 	
 	@Enumerated(EnumType.STRING)
 	private Status status;
@@ -28,11 +40,22 @@ public class MatchDay {
 	protected MatchDay() {
 	}
 	
+	// played on the real-world round of the same number, in no particular season
 	public MatchDay(String name, int number, Status status, League league) {
+		this(name, number, NO_SEASON, number, status, league);
+	}
+
+	public MatchDay(String name, int number, int season, int realRound, Status status, League league) {
 		if(number < 0 || number > MATCH_DAYS_IN_LEAGUE)
 			throw new IllegalArgumentException("number out of range");
+		if(season < 0)
+			throw new IllegalArgumentException("season out of range");
+		if(realRound < 0)
+			throw new IllegalArgumentException("real round out of range");
 		this.name = name;
 		this.number = number;
+		this.season = season;
+		this.realRound = realRound;
 		this.status = status;
 		this.league = league;
 	}
@@ -45,6 +68,14 @@ public class MatchDay {
 		return number;
 	}
 	
+	public int getSeason() {
+		return season;
+	}
+
+	public int getRealRound() {
+		return realRound;
+	}
+
 	public League getLeague() {
 		return league;
 	}
@@ -57,15 +88,18 @@ public class MatchDay {
 		this.status = status;
 	}
 	
+	// o may be a lazy proxy, so it is only read through its getters
 	@Override
 	public boolean equals(Object o) {
-		if (o == null || getClass() != o.getClass()) return false;
-		MatchDay that = (MatchDay) o;
-		return number == that.number && Objects.equals(name, that.name) && status == that.status && Objects.equals(league, that.league);
+		if (this == o) return true;
+		if (!(o instanceof MatchDay that)) return false;
+		return number == that.getNumber() && Objects.equals(getLeague(), that.getLeague());
 	}
 	
+	// a MatchDay is its number within the League, whatever its current status;
+	// the lazy League is left out, so that hashing never loads it
 	@Override
 	public int hashCode() {
-		return Objects.hash(name, number, status, league);
+		return Integer.hashCode(number);
 	}
 }
@@ -2,14 +2,26 @@ package domain;
 
 import java.util.Objects;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Immutable;
+
 import jakarta.persistence.*;
 
 @Entity
+@Immutable
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY)
+// declared, so that the natural key can name it even where no role is mapped
+@DiscriminatorColumn(name = "DTYPE")
+@Table(indexes = @Index(name = "idx_player_surname_name", columnList = "surname, name"),
+		uniqueConstraints = @UniqueConstraint(name = "uk_player_natural_key", columnNames = {"name", "surname", "club", "DTYPE"}))
 public abstract class Player {
 	public static enum Club {ATALANTA, BOLOGNA, CAGLIARI, COMO, CREMONESE, FIORENTINA, GENOA, INTER, JUVENTUS, LAZIO, LECCE, MILAN, NAPOLI, PARMA, PISA, ROMA, SASSUOLO, TORINO, UDINESE, VERONA}
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "player_seq")
+    @SequenceGenerator(name = "player_seq", allocationSize = 50)
     private Long id;
     
     @Basic(optional=false)
@@ -21,6 +33,8 @@ public abstract class Player {
     @Basic(optional=false)
 	@Enumerated(EnumType.STRING)
     private Club club;
+
+    private transient int hashCode;
     
     protected Player() {}
 
@@ -40,16 +54,38 @@ public abstract class Player {
         return surname;
     }
 
+    public Club getClub() {
+        return club;
+    }
+
+    // what identifies the Player, role included, as text
+    String naturalKey() {
+        return role().getSimpleName() + '|' + name + '|' + surname + '|' + club;
+    }
+
+	// the role of the Player, asked to the Player itself so that lazy proxies report it too
+	Class<? extends Player> role() {
+		RoleVisitor visitor = new RoleVisitor();
+		accept(visitor);
+		return visitor.role;
+	}
+
+	// the id is left out, as it is only assigned once the Player is persisted: the
+	// key is the one enforced by uk_player_natural_key, and o may be a lazy proxy
 	@Override
 	public boolean equals(Object o) {
-		if (o == null || getClass() != o.getClass()) return false;
-		Player player = (Player) o;
-		return Objects.equals(id, player.id) && Objects.equals(name, player.name) && Objects.equals(surname, player.surname) && Objects.equals(club, player.club);
+		if (this == o) return true;
+		if (!(o instanceof Player player)) return false;
+		return role() == player.role() && Objects.equals(name, player.getName())
+				&& Objects.equals(surname, player.getSurname()) && Objects.equals(club, player.getClub());
 	}
 
 	@Override
 	public int hashCode() {
-		return Objects.hash(id, name, surname, club);
+		int h = hashCode;
+		if (h == 0)
+			hashCode = h = Objects.hash(name, surname, club);
+		return h;
 	}
 
 	public static interface PlayerVisitor {
@@ -74,6 +110,30 @@ public abstract class Player {
 		public void visitForward(Forward forward) {}
 		
 	}
+
+	private static class RoleVisitor implements PlayerVisitor {
+		private Class<? extends Player> role;
+
+		@Override
+		public void visitGoalkeeper(Goalkeeper goalkeeper) {
+			role = Goalkeeper.class;
+		}
+
+		@Override
+		public void visitDefender(Defender defender) {
+			role = Defender.class;
+		}
+
+		@Override
+		public void visitMidfielder(Midfielder midfielder) {
+			role = Midfielder.class;
+		}
+
+		@Override
+		public void visitForward(Forward forward) {
+			role = Forward.class;
+		}
+	}
     
     public abstract void accept(PlayerVisitor visitor);
 	
@@ -5,9 +5,12 @@ import jakarta.persistence.*;
 import java.util.Objects;
 
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_proposal_contracts", columnNames = {"offeredContract_id", "requestedContract_id"}),
+		indexes = @Index(name = "idx_proposal_requested", columnList = "requestedContract_id"))
 public class Proposal {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "proposal_seq")
+    @SequenceGenerator(name = "proposal_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(optional = false, fetch = FetchType.LAZY )
@@ -16,6 +19,8 @@ public class Proposal {
     @ManyToOne(optional = false, fetch = FetchType.LAZY )
     private Contract requestedContract;
 
+    private transient int hashCode;
+
     protected Proposal() {}
 
     public Proposal(Contract offeredContract, Contract requestedContract) {
@@ -40,7 +45,10 @@ public class Proposal {
 
     @Override
     public int hashCode() {
-        return Objects.hash(offeredContract, requestedContract);
+    	int h = hashCode;
+    	if (h == 0)
+    		hashCode = h = Objects.hash(offeredContract, requestedContract);
+        return h;
     }
 
 }
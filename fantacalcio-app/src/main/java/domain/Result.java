@@ -4,10 +4,14 @@ import jakarta.persistence.*;
 
 import java.util.Objects;
 
+import org.hibernate.annotations.Immutable;
+
 @Entity
+@Immutable
 public class Result {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "result_seq")
+    @SequenceGenerator(name = "result_seq", allocationSize = 50)
     private Long id;
 
     @Basic(optional = false)
@@ -25,6 +29,8 @@ public class Result {
     @OneToOne(optional = false)
 	private Match match;
 
+    private transient int hashCode;
+
     protected Result() {}
 
     public Result(double team1Points, double team2Points, int team1Goals, int team2Goals, Match match) {
@@ -69,7 +75,10 @@ public class Result {
 
     @Override
     public int hashCode() {
-        return Objects.hash(team1Points, team2Points, team1Goals, team2Goals);
+    	int h = hashCode;
+    	if (h == 0)
+    		hashCode = h = Objects.hash(team1Points, team2Points, team1Goals, team2Goals, match);
+        return h;
     }
 
 	@Override
@@ -0,0 +1,149 @@
+package domain;
+
+import java.util.Comparator;
+import java.util.Objects;
+
+import jakarta.persistence.*;
+
+/**
+ * a {@link FantaTeam}'s row in its {@link League}'s table, kept up to date as
+ * {@link Result}s are calculated so that standings need not be recomputed from
+ * the entity graph on every read.
+ * <p>
+ * A League's table is created when its Results are first calculated, seeded
+ * with any Results its teams already had, and then updated with every
+ * MatchDay's Results
+ */
+@Entity
+@Table(indexes = @Index(name = "idx_standing_league_rank", columnList = "league_id, ranking"))
+public class Standing {
+	public static final int FORM_LENGTH = 5;
+	public enum Outcome {
+		WIN('W', 3), DRAW('D', 1), LOSS('L', 0);
+
+		private final char symbol;
+		private final int points;
+
+		Outcome(char symbol, int points) {
+			this.symbol = symbol;
+			this.points = points;
+		}
+
+		public static Outcome of(int goalsFor, int goalsAgainst) {
+			return goalsFor > goalsAgainst ? WIN : goalsFor < goalsAgainst ? LOSS : DRAW;
+		}
+	}
+
+	// table order: points, then goal difference, then goals scored
+	public static final Comparator<Standing> TABLE_ORDER = Comparator
+			.comparingInt(Standing::getPoints)
+			.thenComparingInt(Standing::getGoalDifference)
+			.thenComparingInt(Standing::getGoalsFor)
+			.reversed()
+			.thenComparing(standing -> standing.getTeam().getName());
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "standing_seq")
+	@SequenceGenerator(name = "standing_seq", allocationSize = 50)
+	private Long id;
+
+	@OneToOne(optional = false)
+	@JoinColumn(unique = true)
+	private FantaTeam team;
+
+	@ManyToOne(optional = false, fetch = FetchType.LAZY)
+	private League league;
+
+	@Basic(optional = false)
+	@Column(name = "ranking")
+	private int rank;
+
+	@Basic(optional = false)
+	private int points;
+
+	@Basic(optional = false)
+	private int goalsFor;
+
+	@Basic(optional = false)
+	private int goalsAgainst;
+
+	// most recent Outcome last
+	@Basic(optional = false)
+	@Column(length = FORM_LENGTH)
+	private String form;
+
+	protected Standing() {}
+
+	// every figure starts at zero: earlier Results are recorded, not read off the team's points
+	public Standing(FantaTeam team) {
+		this.team = team;
+		this.league = team.getLeague();
+		this.form = "";
+	}
+
+	public void record(int goalsFor, int goalsAgainst) {
+		Outcome outcome = Outcome.of(goalsFor, goalsAgainst);
+		this.goalsFor += goalsFor;
+		this.goalsAgainst += goalsAgainst;
+		this.points += outcome.points;
+		String appended = form + outcome.symbol;
+		this.form = appended.substring(Math.max(0, appended.length() - FORM_LENGTH));
+	}
+
+	public FantaTeam getTeam() {
+		return team;
+	}
+
+	public League getLeague() {
+		return league;
+	}
+
+	public int getRank() {
+		return rank;
+	}
+
+	public void setRank(int rank) {
+		this.rank = rank;
+	}
+
+	public int getPoints() {
+		return points;
+	}
+
+	public int getGoalsFor() {
+		return goalsFor;
+	}
+
+	public int getGoalsAgainst() {
+		return goalsAgainst;
+	}
+
+	public int getGoalDifference() {
+		return goalsFor - goalsAgainst;
+	}
+
+	public String getForm() {
+		return form;
+	}
+
+	// a team has one Standing, whose figures change with every MatchDay
+	@Override
+	public boolean equals(Object o) {
+		if (this == o)
+			return true;
+		if (o == null || getClass() != o.getClass())
+			return false;
+		return Objects.equals(team, ((Standing) o).team);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hashCode(team);
+	}
+
+	@Override
+	public String toString() {
+		return "Standing [id=" + id + ", team=" + team + ", rank=" + rank + ", points=" + points + ", goalsFor="
+				+ goalsFor + ", goalsAgainst=" + goalsAgainst + ", form=" + form + "]";
+	}
+}
@@ -36,6 +36,7 @@ import java.awt.event.MouseEvent;
 import javax.swing.JButton;
 import javax.swing.border.TitledBorder;
 
+import business.LeagueLifecycleCache;
 import business.UserService;
 import domain.Contract;
 import domain.FantaTeam;
@@ -386,7 +387,7 @@ public class SwingLineUpChooserWidget extends JPanel implements LineUpChooserWid
 					false, 
 					starterChooserWidget, 
 					goalieTripletWidget, defTripletWidget, midTripletWidget, forwTripletWidget);
-			UserService fakeService = new UserService(null) {
+			UserService fakeService = new UserService(null, new LeagueLifecycleCache()) {
 				@Override
 				public void saveLineUp(LineUp lineup) {
 					System.out.println("saving lineup!!");
@@ -0,0 +1,45 @@
+package benchmark;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * measures heap bytes allocated by the current thread, relying on the
+ * HotSpot-specific {@link com.sun.management.ThreadMXBean}
+ */
+public final class AllocationMeter {
+
+	private static final com.sun.management.ThreadMXBean THREADS =
+			(com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+	// keeps the JIT from discarding the measured work
+	private static volatile Object sink;
+
+	private AllocationMeter() {}
+
+	/**
+	 * @return the average number of bytes allocated by one run of {@code operation},
+	 *         measured over {@code iterations} runs after {@code warmup} runs
+	 */
+	public static double bytesPerOperation(java.util.function.Supplier<?> operation, int warmup, int iterations) {
+		for (int i = 0; i < warmup; i++)
+			sink = operation.get();
+		long threadId = Thread.currentThread().getId();
+		long before = THREADS.getThreadAllocatedBytes(threadId);
+		for (int i = 0; i < iterations; i++)
+			sink = operation.get();
+		long after = THREADS.getThreadAllocatedBytes(threadId);
+		return (double) (after - before) / iterations;
+	}
+
+	/**
+	 * @return the average wall-clock nanoseconds taken by one run of {@code operation}
+	 */
+	public static double nanosPerOperation(java.util.function.Supplier<?> operation, int warmup, int iterations) {
+		for (int i = 0; i < warmup; i++)
+			sink = operation.get();
+		long before = System.nanoTime();
+		for (int i = 0; i < iterations; i++)
+			sink = operation.get();
+		return (double) (System.nanoTime() - before) / iterations;
+	}
+}
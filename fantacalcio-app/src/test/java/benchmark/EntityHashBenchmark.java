@@ -0,0 +1,147 @@
+package benchmark;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import domain.FantaTeam;
+import domain.FantaUser;
+import domain.League;
+import domain.Player;
+import domain.Player.Club;
+
+/**
+ * compares lookups in the hot maps of calculateResults (keyed by
+ * {@link FantaTeam}) and saveLineUp (sets of {@link Player}) under the current
+ * cached, key-based identity with the deep, recomputed hashing entities used
+ * to have, the latter reproduced by the Legacy* wrappers below.
+ * <p>
+ * Not a test: run {@link #main(String[])} from the IDE or with the test
+ * classpath, e.g. {@code mvn -pl fantacalcio-app test-compile exec:java
+ * -Dexec.classpathScope=test -Dexec.mainClass=benchmark.EntityHashBenchmark}
+ */
+public class EntityHashBenchmark {
+
+	private static final int WARMUP = 200;
+	private static final int ITERATIONS = 2_000;
+	private static final int TEAMS = 20;
+	private static final int PLAYERS = 25 * TEAMS;
+
+	public static void main(String[] args) {
+		FantaUser admin = new FantaUser("admin@example.com", "pwd");
+		League league = new League(admin, "Serie A", "1234");
+		league.setNewsPaper(new FantaUser("journalist@example.com", "pwd"));
+
+		List<FantaTeam> teams = new ArrayList<>();
+		for (int i = 0; i < TEAMS; i++)
+			teams.add(new FantaTeam("Team " + i, league, i, new FantaUser("user" + i + "@example.com", "pwd"), null));
+		List<Player> players = new ArrayList<>();
+		for (int i = 0; i < PLAYERS; i++)
+			players.add(new Player.Forward("Name " + i, "Surname " + i, Club.values()[i % Club.values().length]));
+
+		// a MatchDay's worth of lookups by FantaTeam
+		double teamsCurrent = AllocationMeter.nanosPerOperation(() -> {
+			Map<FantaTeam, Integer> map = new HashMap<>();
+			for (FantaTeam team : teams)
+				map.put(team, 0);
+			int hits = 0;
+			for (FantaTeam team : teams)
+				hits += map.get(team);
+			return hits;
+		}, WARMUP, ITERATIONS);
+		double teamsLegacy = AllocationMeter.nanosPerOperation(() -> {
+			Map<LegacyTeam, Integer> map = new HashMap<>();
+			for (FantaTeam team : teams)
+				map.put(new LegacyTeam(team), 0);
+			int hits = 0;
+			for (FantaTeam team : teams)
+				hits += map.get(new LegacyTeam(team));
+			return hits;
+		}, WARMUP, ITERATIONS);
+
+		// checking ownership of every contracted Player
+		double playersCurrent = AllocationMeter.nanosPerOperation(() -> {
+			Set<Player> set = new HashSet<>(players);
+			int hits = 0;
+			for (Player player : players)
+				hits += set.contains(player) ? 1 : 0;
+			return hits;
+		}, WARMUP, ITERATIONS);
+		double playersLegacy = AllocationMeter.nanosPerOperation(() -> {
+			Set<LegacyPlayer> set = new HashSet<>();
+			for (Player player : players)
+				set.add(new LegacyPlayer(player));
+			int hits = 0;
+			for (Player player : players)
+				hits += set.contains(new LegacyPlayer(player)) ? 1 : 0;
+			return hits;
+		}, WARMUP, ITERATIONS);
+
+		System.out.printf("ns per %d-team map build and lookup, cached key-based identity: %10.0f%n", TEAMS, teamsCurrent);
+		System.out.printf("ns per %d-team map build and lookup, legacy deep identity:      %10.0f%n", TEAMS, teamsLegacy);
+		System.out.printf("ns per %d-player set build and lookup, cached key-based identity: %8.0f%n", PLAYERS, playersCurrent);
+		System.out.printf("ns per %d-player set build and lookup, legacy deep identity:      %8.0f%n", PLAYERS, playersLegacy);
+	}
+
+	// the hashing entities performed before identity was based on keys
+
+	private static int legacyHash(FantaUser user) {
+		return Objects.hash(user.getEmail(), user.getPassword());
+	}
+
+	private static int legacyHash(League league) {
+		return Objects.hash(legacyHash(league.getAdmin()), league.getName(),
+				league.getNewsPaper() == null ? 0 : legacyHash(league.getNewsPaper()), league.getLeagueCode());
+	}
+
+	private static final class LegacyTeam {
+		private final FantaTeam team;
+
+		LegacyTeam(FantaTeam team) {
+			this.team = team;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(team.getName(), legacyHash(team.getLeague()), team.getPoints(),
+					legacyHash(team.getFantaManager()));
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (!(o instanceof LegacyTeam other))
+				return false;
+			return team.getPoints() == other.team.getPoints()
+					&& team.getName().equals(other.team.getName())
+					&& legacyHash(team.getLeague()) == legacyHash(other.team.getLeague())
+					&& legacyHash(team.getFantaManager()) == legacyHash(other.team.getFantaManager());
+		}
+	}
+
+	private static final class LegacyPlayer {
+		private final Player player;
+
+		LegacyPlayer(Player player) {
+			this.player = player;
+		}
+
+		@Override
+		public int hashCode() {
+			// the null id every transient Player used to hash in
+			return Objects.hash(null, player.getName(), player.getSurname());
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (!(o instanceof LegacyPlayer other))
+				return false;
+			return player.getClass() == other.player.getClass()
+					&& player.getName().equals(other.player.getName())
+					&& player.getSurname().equals(other.player.getSurname());
+		}
+	}
+}
@@ -0,0 +1,50 @@
+package benchmark;
+
+import business.ports.transaction.TransactionManager.TransactionContext;
+import dal.transaction.jpa.JpaRepositoryFactory;
+import jakarta.persistence.EntityManager;
+
+/**
+ * compares the heap allocated per {@link TransactionContext} by a transaction
+ * touching a single Repository with that of one touching all of them, the
+ * latter matching what every transaction paid when Repositories were created
+ * eagerly.
+ * <p>
+ * Not a test: run {@link #main(String[])} from the IDE or with the test
+ * classpath, e.g. {@code mvn -pl fantacalcio-app test-compile exec:java
+ * -Dexec.classpathScope=test -Dexec.mainClass=benchmark.TransactionContextAllocationBenchmark}
+ */
+public class TransactionContextAllocationBenchmark {
+
+	private static final int WARMUP = 200_000;
+	private static final int ITERATIONS = 1_000_000;
+
+	public static void main(String[] args) {
+
+		// Repositories only keep a reference to their EntityManager at construction
+		EntityManager em = null;
+
+		double allRepositories = AllocationMeter.bytesPerOperation(() -> {
+			TransactionContext context = new TransactionContext(new JpaRepositoryFactory(em));
+			context.getLeagueRepository();
+			context.getMatchRepository();
+			context.getPlayerRepository();
+			context.getTeamRepository();
+			context.getGradeRepository();
+			context.getProposalRepository();
+			context.getContractRepository();
+			context.getResultsRepository();
+			context.getLineUpRepository();
+			context.getMatchDayRepository();
+			return context.getFantaUserRepository();
+		}, WARMUP, ITERATIONS);
+
+		double singleRepository = AllocationMeter.bytesPerOperation(() -> {
+			TransactionContext context = new TransactionContext(new JpaRepositoryFactory(em));
+			return context.getFantaUserRepository();
+		}, WARMUP, ITERATIONS);
+
+		System.out.printf("bytes per transaction, all 11 Repositories (former eager cost): %8.1f%n", allRepositories);
+		System.out.printf("bytes per transaction, 1 Repository (e.g. loginFantaUser):      %8.1f%n", singleRepository);
+	}
+}
@@ -1,6 +1,6 @@
 package business;
 
-import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -13,6 +13,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import business.ports.repository.ContractRepository;
 import business.ports.repository.FantaTeamRepository;
+import business.ports.repository.FetchPlan;
 import business.ports.repository.GradeRepository;
 import business.ports.repository.LeagueRepository;
 import business.ports.repository.LineUpRepository;
@@ -21,6 +22,7 @@ import business.ports.repository.MatchRepository;
 import business.ports.repository.PlayerRepository;
 import business.ports.repository.ProposalRepository;
 import business.ports.repository.ResultsRepository;
+import business.ports.repository.StandingRepository;
 import business.ports.transaction.TransactionManager;
 import business.ports.transaction.TransactionManager.TransactionContext;
 import domain.*;
@@ -31,13 +33,14 @@ import domain.Player.Midfielder;
 import java.util.*;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
-import java.util.stream.IntStream;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static java.util.stream.Collectors.toSet;
 import static java.util.stream.IntStream.range;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
@@ -61,6 +64,7 @@ class AdminUserServiceTest {
 	private @Mock PlayerRepository playerRepository;
 	private @Mock ProposalRepository proposalRepository;
 	private @Mock ContractRepository contractRepository;
+	private @Mock StandingRepository standingRepository;
 
 	@BeforeEach
 	void setUp() {
@@ -72,7 +76,7 @@ class AdminUserServiceTest {
 			return null;
 		}).when(transactionManager).inTransaction(any());
 
-		adminUserService = new AdminUserService(transactionManager);
+		adminUserService = new AdminUserService(transactionManager, new LeagueLifecycleCache());
 	}
 
 	@Nested
@@ -85,8 +89,9 @@ class AdminUserServiceTest {
 			// GIVEN the necessary Repositories are made available by the TransactionContext
 			when(context.getContractRepository()).thenReturn(contractRepository);
 
-			// AND
+			// AND a Team has some Contracts, none of which for Goalkeepers
 			FantaTeam team = new FantaTeam("Team", null, 0, null, new HashSet<>());
+			when(contractRepository.countContractsByRole(team)).thenReturn(Map.of(Defender.class, 8L));
 			Goalkeeper player = new Goalkeeper("Gigi", "Buffon", Player.Club.JUVENTUS);
 
 			// WHEN the SUT is used to assign a Player to a Team
@@ -94,6 +99,7 @@ class AdminUserServiceTest {
 
 			// THEN the player is successfully assigned
 			ArgumentCaptor<Contract> contract = ArgumentCaptor.forClass(Contract.class);
+			verify(contractRepository).countContractsByRole(team);
 			verify(contractRepository).saveContract(contract.capture());
 			verifyNoMoreInteractions(contractRepository);
 
@@ -102,20 +108,41 @@ class AdminUserServiceTest {
 			assertThat(contract.getValue().getTeam()).isEqualTo(team);
 		}
 
+		@Test
+		@DisplayName("without loading the Team's Contracts")
+		void testSetPlayerToTeam_DoesNotLoadRoster() {
+
+			// GIVEN the necessary Repositories are made available by the TransactionContext
+			when(context.getContractRepository()).thenReturn(contractRepository);
+
+			// AND a Team whose Contracts are only known to the database
+			FantaTeam team = spy(new FantaTeam("Team", null, 0, null, null));
+			when(contractRepository.countContractsByRole(team)).thenReturn(Map.of());
+
+			// WHEN the SUT is used to assign a Player to that Team
+			adminUserService.setPlayerToTeam(team, new Forward("New", "Forward", Player.Club.ROMA));
+
+			// THEN the Team's Contracts are never accessed
+			verify(team, never()).getContracts();
+			verify(contractRepository).saveContract(any());
+		}
+
 		@Nested
 		@DisplayName("error cases")
 		class AssignPlayerErrorCases {
 
+			@BeforeEach
+			void setUp() {
+				when(context.getContractRepository()).thenReturn(contractRepository);
+			}
+
 			@Test
 			void testSetPlayerToTeam_Throws_WhenTeamHas25Players() {
 
 				// GIVEN a Team already has 25 Contracts
-				Set<Contract> contracts = new HashSet<Contract>();
-				FantaTeam team = new FantaTeam("Team", null, 0, null, contracts);
-				IntStream.range(0, 25).forEach(i -> {
-					Player p = new Midfielder("Player" + i, "Test", Player.Club.ATALANTA);
-					contracts.add(new Contract(team, p));
-				});
+				FantaTeam team = new FantaTeam("Team", null, 0, null, new HashSet<>());
+				when(contractRepository.countContractsByRole(team)).thenReturn(Map.of(
+						Goalkeeper.class, 3L, Defender.class, 8L, Midfielder.class, 8L, Forward.class, 6L));
 
 				// WHEN the SUT is used to assign a Player to that Team
 				Player newPlayer = new Defender("New", "Player", Player.Club.BOLOGNA);
@@ -130,11 +157,8 @@ class AdminUserServiceTest {
 			void testSetPlayerToTeam_DoesNotSave_WhenGoalkeepersLimitReached() {
 
 				// GIVEN a Team already has max Goalkeepers
-				int maxNumGoalkeepers = 3;
-				Set<Contract> contracts = new HashSet<Contract>();
-				FantaTeam team = new FantaTeam("Team", null, 0, null, contracts);
-				IntStream.range(0, maxNumGoalkeepers).forEach(i -> contracts
-						.add(new Contract(team, new Goalkeeper("Goalkeeper" + i, "Test", Player.Club.ATALANTA))));
+				FantaTeam team = new FantaTeam("Team", null, 0, null, new HashSet<>());
+				when(contractRepository.countContractsByRole(team)).thenReturn(Map.of(Goalkeeper.class, 3L));
 
 				// WHEN the SUT is used to assign a further Goalkeeper to that Team
 				Goalkeeper newGk = new Goalkeeper("New", "Keeper", Player.Club.ROMA);
@@ -148,13 +172,10 @@ class AdminUserServiceTest {
 			void testSetPlayerToTeam_DoesNotSave_WhenDefendersLimitReached() {
 
 				// GIVEN a Team already has max Defenders
-				int maxNumDefenders = 8;
-				Set<Contract> contracts = new HashSet<Contract>();
-				FantaTeam team = new FantaTeam("Team", null, 0, null, contracts);
-				IntStream.range(0, maxNumDefenders).forEach(i -> contracts
-						.add(new Contract(team, new Defender("Defender" + i, "Test", Player.Club.ATALANTA))));
+				FantaTeam team = new FantaTeam("Team", null, 0, null, new HashSet<>());
+				when(contractRepository.countContractsByRole(team)).thenReturn(Map.of(Defender.class, 8L));
 
-				// WHEN the SUT is used to assign a further Goalkeeper to that Team
+				// WHEN the SUT is used to assign a further Defender to that Team
 				Defender excessive = new Defender("New", "Defender", Player.Club.ROMA);
 				adminUserService.setPlayerToTeam(team, excessive);
 
@@ -166,13 +187,10 @@ class AdminUserServiceTest {
 			void testSetPlayerToTeam_DoesNotSave_WhenMidfieldersLimitReached() {
 
 				// GIVEN a Team already has max Midfielders
-				int maxNumMidfielders = 8;
-				Set<Contract> contracts = new HashSet<Contract>();
-				FantaTeam team = new FantaTeam("Team", null, 0, null, contracts);
-				IntStream.range(0, maxNumMidfielders).forEach(i -> contracts
-						.add(new Contract(team, new Midfielder("Midfielder" + i, "Test", Player.Club.ATALANTA))));
+				FantaTeam team = new FantaTeam("Team", null, 0, null, new HashSet<>());
+				when(contractRepository.countContractsByRole(team)).thenReturn(Map.of(Midfielder.class, 8L));
 
-				// WHEN the SUT is used to assign a further Goalkeeper to that Team
+				// WHEN the SUT is used to assign a further Midfielder to that Team
 				Midfielder excessive = new Midfielder("New", "Midfielder", Player.Club.ROMA);
 				adminUserService.setPlayerToTeam(team, excessive);
 
@@ -184,13 +202,10 @@ class AdminUserServiceTest {
 			void testSetPlayerToTeam_DoesNotSave_WhenForwardsLimitReached() {
 
 				// GIVEN a Team already has max Forwards
-				int maxNumForwards = 6;
-				Set<Contract> contracts = new HashSet<Contract>();
-				FantaTeam team = new FantaTeam("Team", null, 0, null, contracts);
-				IntStream.range(0, maxNumForwards).forEach(i -> contracts
-						.add(new Contract(team, new Forward("Forward" + i, "Test", Player.Club.ATALANTA))));
+				FantaTeam team = new FantaTeam("Team", null, 0, null, new HashSet<>());
+				when(contractRepository.countContractsByRole(team)).thenReturn(Map.of(Forward.class, 6L));
 
-				// WHEN the SUT is used to assign a further Goalkeeper to that Team
+				// WHEN the SUT is used to assign a further Forward to that Team
 				Forward excessive = new Forward("New", "Forward", Player.Club.ROMA);
 				adminUserService.setPlayerToTeam(team, excessive);
 
@@ -267,23 +282,24 @@ class AdminUserServiceTest {
 
 			List<FantaTeam> teams = range(0, numberOfTeams)
 					.mapToObj(i -> new FantaTeam("Team" + (i + 1), null, 0, null, null)).toList();
-			when(fantaTeamRepository.getAllTeams(league)).thenReturn(Set.copyOf(teams));
+			when(fantaTeamRepository.getAllTeams(league, FetchPlan.THIN)).thenReturn(Set.copyOf(teams));
 
 			// AND GIVEN MatchDayRepository returns 20 MatchDay instances as the league's
-			when(matchDayRepository.getAllMatchDays(league)).thenReturn(range(0, MatchDay.MATCH_DAYS_IN_LEAGUE)
+			when(matchDayRepository.getAllMatchDays(league, FetchPlan.THIN)).thenReturn(range(0, MatchDay.MATCH_DAYS_IN_LEAGUE)
 					.mapToObj(i -> new MatchDay("MatchDay", i, MatchDay.Status.FUTURE, league)).toList());
 
 			// WHEN the Service is asked to generate the league's calendar
 			adminUserService.generateCalendar(league);
 
 			// THEN MatchRepository is asked to persist the correct number of Matches
-			ArgumentCaptor<Match> matchCaptor = ArgumentCaptor.forClass(Match.class);
-			verify(matchRepository, times(MatchDay.MATCH_DAYS_IN_LEAGUE * (numberOfTeams / 2)))
-					.saveMatch(matchCaptor.capture());
+			@SuppressWarnings("unchecked")
+			ArgumentCaptor<Collection<Match>> matchCaptor = ArgumentCaptor.forClass(Collection.class);
+			verify(matchRepository).saveAll(matchCaptor.capture());
 			verifyNoMoreInteractions(matchRepository);
+			assertThat(matchCaptor.getValue()).hasSize(MatchDay.MATCH_DAYS_IN_LEAGUE * (numberOfTeams / 2));
 
 			// AND persisted Match instances are such that:
-			List<Match> allMatches = matchCaptor.getAllValues();
+			List<Match> allMatches = List.copyOf(matchCaptor.getValue());
 
 			// 1. every FantaTeam plays on every MatchDay
 			allMatches.stream()
@@ -336,7 +352,7 @@ class AdminUserServiceTest {
 				FantaUser admin = new FantaUser(null, null);
 				League league = new League(admin, "Serie A", null);
 				FantaTeam onlyTeam = new FantaTeam("Solo", null, 0, null, null);
-				when(fantaTeamRepository.getAllTeams(league)).thenReturn(Set.of(onlyTeam));
+				when(fantaTeamRepository.getAllTeams(league, FetchPlan.THIN)).thenReturn(Set.of(onlyTeam));
 
 				// WHEN the SUT is used to generate the League's calendar
 				ThrowingCallable shouldThrow = () -> adminUserService.generateCalendar(league);
@@ -346,7 +362,7 @@ class AdminUserServiceTest {
 						.hasMessageContaining("At least 2 teams are required");
 
 				// AND no Match is saved
-				verify(matchRepository, never()).saveMatch(any());
+				verify(matchRepository, never()).saveAll(any());
 			}
 
 			@Test
@@ -362,7 +378,7 @@ class AdminUserServiceTest {
 				FantaTeam t2 = new FantaTeam("Team2", null, 0, null, null);
 				FantaTeam t3 = new FantaTeam("Team3", null, 0, null, null);
 
-				when(fantaTeamRepository.getAllTeams(league)).thenReturn(Set.of(t1, t2, t3));
+				when(fantaTeamRepository.getAllTeams(league, FetchPlan.THIN)).thenReturn(Set.of(t1, t2, t3));
 
 				// WHEN the SUT is used to generate the League's calendar
 				ThrowingCallable shouldThrow = () -> adminUserService.generateCalendar(league);
@@ -372,7 +388,7 @@ class AdminUserServiceTest {
 						.hasMessageContaining("Number of teams must be even");
 
 				// AND no Match is saved
-				verify(matchRepository, never()).saveMatch(any());
+				verify(matchRepository, never()).saveAll(any());
 			}
 		}
 	}
@@ -391,7 +407,7 @@ class AdminUserServiceTest {
 			FantaUser admin = new FantaUser(null, null);
 			League league = new League(admin, "Serie A", null);
 
-			when(matchDayRepository.getLatestEndedMatchDay(league)).thenReturn(Optional.empty());
+			when(matchDayRepository.getLatestEndedMatchDay(league, FetchPlan.THIN)).thenReturn(Optional.empty());
 
 			// WHEN the SUT is used to calculate the ongoing MatchDay's results
 			ThrowingCallable shouldThrow = () -> adminUserService.calculateResults(league);
@@ -401,7 +417,7 @@ class AdminUserServiceTest {
 					.hasMessageContaining("The season hasn't started yet");
 
 			// AND no Result is saved
-			verify(resultRepository, never()).saveResult(any());
+			verify(resultRepository, never()).saveAll(any());
 		}
 
 		@Test
@@ -414,12 +430,14 @@ class AdminUserServiceTest {
 			when(context.getLineUpRepository()).thenReturn(lineUpRepository);
 			when(context.getResultsRepository()).thenReturn(resultRepository);
 			when(context.getMatchDayRepository()).thenReturn(matchDayRepository);
+			when(context.getContractRepository()).thenReturn(contractRepository);
+			when(context.getStandingRepository()).thenReturn(standingRepository);
 
 			// AND a given League is reported as having a latest-ended MatchDay
 			FantaUser admin = new FantaUser("admin@example.com", "pwd");
 			League league = new League(admin, "Serie A", "1234");
 			MatchDay latestEnded = new MatchDay("2 giornata", 2, MatchDay.Status.PAST, league);
-			when(matchDayRepository.getLatestEndedMatchDay(league)).thenReturn(Optional.of(latestEnded));
+			when(matchDayRepository.getLatestEndedMatchDay(league, FetchPlan.THIN)).thenReturn(Optional.of(latestEnded));
 
 			// AND one Match is reported as associated with the latest-ended MatchDay
 			HashSet<Contract> contracts1 = new HashSet<Contract>();
@@ -427,42 +445,124 @@ class AdminUserServiceTest {
 			HashSet<Contract> contracts2 = new HashSet<Contract>();
 			FantaTeam team2 = new FantaTeam("Team2", league, 0, admin, contracts2);
 			Match match = new Match(latestEnded, team1, team2);
-			when(matchRepository.getAllMatchesIn(latestEnded)).thenReturn(List.of(match));
+			when(matchRepository.getAllMatchesIn(latestEnded, FetchPlan.THIN)).thenReturn(List.of(match));
 
 			// AND Matches associated with the latest-ended MatchDay have no associated
 			// Result
-			when(resultRepository.getResultFor(match)).thenReturn(Optional.empty());
+			when(matchRepository.existsMatchWithoutResult(latestEnded)).thenReturn(true);
 
 			// AND LineUps are reported for that Match which involve two given Players
 			Goalkeeper gk1 = new Goalkeeper("G1", "Alpha", Player.Club.ATALANTA);
+			when(lineUp1.getTeam()).thenReturn(team1);
 			when(lineUp1.extract()).thenReturn(lineUpViewer1);
 			when(lineUpViewer1.starterGoalkeepers()).thenReturn(Set.of(gk1));
-			when(lineUpRepository.getLineUpByMatchAndTeam(match, team1)).thenReturn(Optional.of(lineUp1));
 
 			Goalkeeper gk2 = new Goalkeeper("G2", "Beta", Player.Club.BOLOGNA);
+			when(lineUp2.getTeam()).thenReturn(team2);
 			when(lineUp2.extract()).thenReturn(lineUpViewer2);
 			when(lineUpViewer2.starterGoalkeepers()).thenReturn(Set.of(gk2));
-			when(lineUpRepository.getLineUpByMatchAndTeam(match, team2)).thenReturn(Optional.of(lineUp2));
+			when(lineUpRepository.getAllLineUpsIn(latestEnded)).thenReturn(List.of(lineUp1, lineUp2));
 
 			// AND the two given Players are assigned to the two Teams
-			contracts1.add(new Contract(team1, gk1));
-			contracts2.add(new Contract(team2, gk2));
+			Contract contract1 = new Contract(team1, gk1);
+			Contract contract2 = new Contract(team2, gk2);
+			contracts1.add(contract1);
+			contracts2.add(contract2);
+			when(contractRepository.getAllContractsIn(latestEnded)).thenReturn(List.of(contract1, contract2));
 
 			// AND two Grades are reported for the given Players in the latest-ended
 			// MatchDay
 			Grade grade1 = new Grade(gk1, latestEnded, 70.0);
 			Grade grade2 = new Grade(gk2, latestEnded, 60.0);
-			when(gradeRepository.getAllGrades(latestEnded)).thenReturn(List.of(grade1, grade2));
+			when(gradeRepository.getAllGrades(latestEnded, FetchPlan.THIN)).thenReturn(List.of(grade1, grade2));
+
+			// AND no Standings have been materialized for the League yet
+			when(standingRepository.getStandings(league)).thenReturn(List.of());
 
 			// WHEN the SUT is used to calculate the League's results
 			adminUserService.calculateResults(league);
 
 			// THEN ResultRepository is asked to save the correct Results
-			verify(resultRepository).saveResult(new Result(70, 60, 1, 0, match));
+			verify(resultRepository).saveAll(List.of(new Result(70, 60, 1, 0, match)));
 
 			// AND the points for both Teams are correctly updated
 			assertThat(team1.getPoints()).isEqualTo(3);
 			assertThat(team2.getPoints()).isEqualTo(0);
+
+			// AND StandingRepository is asked to save the ranked table
+			@SuppressWarnings("unchecked")
+			ArgumentCaptor<Collection<Standing>> standingsCaptor = ArgumentCaptor.forClass(Collection.class);
+			verify(standingRepository).saveAll(standingsCaptor.capture());
+			assertThat(standingsCaptor.getValue())
+					.extracting(Standing::getTeam, Standing::getRank, Standing::getPoints,
+							Standing::getGoalsFor, Standing::getGoalsAgainst, Standing::getForm)
+					.containsExactly(
+							tuple(team1, 1, 3, 1, 0, "W"),
+							tuple(team2, 2, 0, 0, 1, "L"));
+		}
+
+		@Test
+		void testCalculateGrades_SeedsStandingsFromEarlierResults(@Mock LineUp lineUp1, @Mock LineUpViewer lineUpViewer1,
+				@Mock LineUp lineUp2, @Mock LineUpViewer lineUpViewer2) {
+
+			// GIVEN the necessary Repositories are returned by the TransactionContext
+			when(context.getMatchRepository()).thenReturn(matchRepository);
+			when(context.getGradeRepository()).thenReturn(gradeRepository);
+			when(context.getLineUpRepository()).thenReturn(lineUpRepository);
+			when(context.getResultsRepository()).thenReturn(resultRepository);
+			when(context.getMatchDayRepository()).thenReturn(matchDayRepository);
+			when(context.getContractRepository()).thenReturn(contractRepository);
+			when(context.getStandingRepository()).thenReturn(standingRepository);
+
+			// AND a given League is reported as having a latest-ended MatchDay, with one Match
+			FantaUser admin = new FantaUser("admin@example.com", "pwd");
+			League league = new League(admin, "Serie A", "1234");
+			MatchDay earlier = new MatchDay("1 giornata", 1, MatchDay.Status.PAST, league);
+			MatchDay latestEnded = new MatchDay("2 giornata", 2, MatchDay.Status.PAST, league);
+			FantaTeam team1 = new FantaTeam("Team1", league, 0, admin, new HashSet<Contract>());
+			FantaTeam team2 = new FantaTeam("Team2", league, 3, admin, new HashSet<Contract>());
+			Match match = new Match(latestEnded, team1, team2);
+			when(matchDayRepository.getLatestEndedMatchDay(league, FetchPlan.THIN)).thenReturn(Optional.of(latestEnded));
+			when(matchRepository.getAllMatchesIn(latestEnded, FetchPlan.THIN)).thenReturn(List.of(match));
+			when(matchRepository.existsMatchWithoutResult(latestEnded)).thenReturn(true);
+
+			// AND LineUps are reported for that Match, each fielding a graded Player of its Team
+			Goalkeeper gk1 = new Goalkeeper("G1", "Alpha", Player.Club.ATALANTA);
+			when(lineUp1.getTeam()).thenReturn(team1);
+			when(lineUp1.extract()).thenReturn(lineUpViewer1);
+			when(lineUpViewer1.starterGoalkeepers()).thenReturn(Set.of(gk1));
+			Goalkeeper gk2 = new Goalkeeper("G2", "Beta", Player.Club.BOLOGNA);
+			when(lineUp2.getTeam()).thenReturn(team2);
+			when(lineUp2.extract()).thenReturn(lineUpViewer2);
+			when(lineUpViewer2.starterGoalkeepers()).thenReturn(Set.of(gk2));
+			when(lineUpRepository.getAllLineUpsIn(latestEnded)).thenReturn(List.of(lineUp1, lineUp2));
+			when(contractRepository.getAllContractsIn(latestEnded))
+					.thenReturn(List.of(new Contract(team1, gk1), new Contract(team2, gk2)));
+			when(gradeRepository.getAllGrades(latestEnded, FetchPlan.THIN)).thenReturn(
+					List.of(new Grade(gk1, latestEnded, 70.0), new Grade(gk2, latestEnded, 60.0)));
+
+			// AND the League has no Standings, although an earlier MatchDay was scored
+			when(standingRepository.getStandings(league)).thenReturn(List.of());
+			when(resultRepository.getAllResultsIn(league))
+					.thenReturn(List.of(new Result(60, 80, 0, 2, new Match(earlier, team1, team2))));
+
+			// WHEN the SUT is used to calculate the League's results
+			adminUserService.calculateResults(league);
+
+			// THEN the table saved counts the earlier Results as well
+			@SuppressWarnings("unchecked")
+			ArgumentCaptor<Collection<Standing>> standingsCaptor = ArgumentCaptor.forClass(Collection.class);
+			verify(standingRepository).saveAll(standingsCaptor.capture());
+			assertThat(standingsCaptor.getValue())
+					.extracting(Standing::getTeam, Standing::getRank, Standing::getPoints,
+							Standing::getGoalsFor, Standing::getGoalsAgainst, Standing::getForm)
+					.containsExactly(
+							tuple(team2, 1, 3, 2, 1, "WL"),
+							tuple(team1, 2, 3, 1, 2, "LW"));
+
+			// AND it agrees with the teams' points
+			assertThat(team1.getPoints()).isEqualTo(3);
+			assertThat(team2.getPoints()).isEqualTo(3);
 		}
 	}
 
@@ -489,7 +589,7 @@ class AdminUserServiceTest {
 				FantaUser admin = new FantaUser("admin@example.com", "pwd");
 				League league = new League(admin, "Serie A", "1234");
 				MatchDay earliestUpcoming = new MatchDay("2 giornata", 2, MatchDay.Status.FUTURE, league);
-				when(matchDayRepository.getEarliestUpcomingMatchDay(league)).thenReturn(Optional.of(earliestUpcoming));
+				when(matchDayRepository.getEarliestUpcomingMatchDay(league, FetchPlan.THIN)).thenReturn(Optional.of(earliestUpcoming));
 
 				// WHEN the SUT is used to start the League's MatchDay
 				adminUserService.startMatchDay(league);
@@ -507,7 +607,7 @@ class AdminUserServiceTest {
 				// GIVEN a League reports no earliest-upcoming MatchDay
 				FantaUser admin = new FantaUser("admin@example.com", "pwd");
 				League league = new League(admin, "Serie A", "1234");
-				when(matchDayRepository.getEarliestUpcomingMatchDay(league)).thenReturn(Optional.empty());
+				when(matchDayRepository.getEarliestUpcomingMatchDay(league, FetchPlan.THIN)).thenReturn(Optional.empty());
 
 				// WHEN the SUT is used to start the League's MatchDay
 				ThrowingCallable shouldThrow = () -> adminUserService.startMatchDay(league);
@@ -526,26 +626,17 @@ class AdminUserServiceTest {
 
 				// GIVEN the necessary Repositories are returned by the TransactionContext
 				when(context.getMatchRepository()).thenReturn(matchRepository);
-				when(context.getResultsRepository()).thenReturn(resultRepository);
 
 				// GIVEN a League's latest-ended MatchDay is reported as missing some Results
 				FantaUser admin = new FantaUser("admin@example.com", "pwd");
 				League league = new League(admin, "Serie A", "1234");
 				MatchDay latestEnded = new MatchDay("1 giornata", 1, MatchDay.Status.PAST, league);
-				when(matchDayRepository.getLatestEndedMatchDay(league)).thenReturn(Optional.of(latestEnded));
+				when(matchDayRepository.getLatestEndedMatchDay(league, FetchPlan.THIN)).thenReturn(Optional.of(latestEnded));
 				MatchDay earliestUpcoming = new MatchDay("2 giornata", 2, MatchDay.Status.FUTURE, league);
-				when(matchDayRepository.getEarliestUpcomingMatchDay(league)).thenReturn(Optional.of(earliestUpcoming));
+				when(matchDayRepository.getEarliestUpcomingMatchDay(league, FetchPlan.THIN)).thenReturn(Optional.of(earliestUpcoming));
 
-				FantaTeam team1 = new FantaTeam("Team1", league, 0, admin, null);
-				FantaTeam team2 = new FantaTeam("Team2", league, 0, admin, null);
-				Match match12 = new Match(latestEnded, team1, team2);
-				FantaTeam team3 = new FantaTeam("Team1", league, 0, admin, null);
-				FantaTeam team4 = new FantaTeam("Team2", league, 0, admin, null);
-				Match match34 = new Match(latestEnded, team3, team4);
-
-				when(matchRepository.getAllMatchesIn(latestEnded)).thenReturn(List.of(match12, match34));
-				when(resultRepository.getResultFor(match12)).thenReturn(Optional.of(new Result(3, 0, 50, 50, match12)));
-				when(resultRepository.getResultFor(match34)).thenReturn(Optional.empty());
+				// AND some Match of the latest-ended MatchDay still has no Result
+				when(matchRepository.existsMatchWithoutResult(latestEnded)).thenReturn(true);
 
 				// WHEN the SUT is used to start the League's MatchDay
 				ThrowingCallable shouldThrow = () -> adminUserService.startMatchDay(league);
@@ -571,7 +662,7 @@ class AdminUserServiceTest {
 				FantaUser admin = new FantaUser("admin@example.com", "pwd");
 				League league = new League(admin, "Serie A", "1234");
 				MatchDay ongoingMatchDay = new MatchDay("2 giornata", 2, MatchDay.Status.PRESENT, league);
-				when(matchDayRepository.getOngoingMatchDay(league)).thenReturn(Optional.of(ongoingMatchDay));
+				when(matchDayRepository.getOngoingMatchDay(league, FetchPlan.THIN)).thenReturn(Optional.of(ongoingMatchDay));
 
 				// WHEN the SUT is used to end the League's MatchDay
 				adminUserService.endMatchDay(league);
@@ -582,6 +673,27 @@ class AdminUserServiceTest {
 				assertThat(matchDay.getValue().getStatus()).isEqualTo(MatchDay.Status.PAST);
 			}
 
+			@Test
+			@DisplayName("invalidating the League's lifecycle snapshot")
+			void testEndMatchDay_invalidatesLifecycle() {
+
+				// GIVEN a League reports an ongoing MatchDay
+				FantaUser admin = new FantaUser("admin@example.com", "pwd");
+				League league = new League(admin, "Serie A", "1234");
+				MatchDay ongoingMatchDay = new MatchDay("2 giornata", 2, MatchDay.Status.PRESENT, league);
+				when(matchDayRepository.getOngoingMatchDay(league, FetchPlan.THIN)).thenReturn(Optional.of(ongoingMatchDay));
+
+				// AND the SUT shares a lifecycle cache
+				LeagueLifecycleCache lifecycleCache = mock(LeagueLifecycleCache.class);
+				AdminUserService sharingService = new AdminUserService(transactionManager, lifecycleCache);
+
+				// WHEN the SUT is used to end the League's MatchDay
+				sharingService.endMatchDay(league);
+
+				// THEN the League's snapshot is dropped
+				verify(lifecycleCache).invalidate(league);
+			}
+
 			@Test
 			@DisplayName("the League has no ongoing MatchDay")
 			void testEndMatchDay_error() {
@@ -589,7 +701,7 @@ class AdminUserServiceTest {
 				// GIVEN a League reports no ongoing MatchDay
 				FantaUser admin = new FantaUser("admin@example.com", "pwd");
 				League league = new League(admin, "Serie A", "1234");
-				when(matchDayRepository.getOngoingMatchDay(league)).thenReturn(Optional.empty());
+				when(matchDayRepository.getOngoingMatchDay(league, FetchPlan.THIN)).thenReturn(Optional.empty());
 
 				// WHEN the SUT is used to start the League's MatchDay
 				ThrowingCallable shouldThrow = () -> adminUserService.endMatchDay(league);
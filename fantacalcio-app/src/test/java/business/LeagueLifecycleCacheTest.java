@@ -0,0 +1,89 @@
+package business;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import business.ports.repository.MatchDayRepository;
+import business.ports.transaction.TransactionManager.TransactionContext;
+import domain.FantaUser;
+import domain.League;
+
+@Tag("mockito-agent")
+class LeagueLifecycleCacheTest {
+
+	private final FantaUser admin = new FantaUser("admin@example.com", "pwd");
+	private final League league = new League(admin, "Serie A", "1234");
+	private final League otherLeague = new League(admin, "Serie B", "5678");
+
+	private TransactionContext context;
+	private LeagueLifecycleCache cache;
+	private AtomicInteger loads;
+
+	@BeforeEach
+	void setUp() {
+		// a League with an empty calendar
+		context = mock(TransactionContext.class);
+		when(context.getMatchDayRepository()).thenReturn(mock(MatchDayRepository.class));
+		cache = new LeagueLifecycleCache();
+		loads = new AtomicInteger();
+	}
+
+	@Test
+	@DisplayName("loads a League's snapshot once")
+	void testCaching() {
+
+		// WHEN a League's snapshot is requested twice
+		LeagueLifecycle first = cache.get(league, this::load);
+		LeagueLifecycle second = cache.get(league, this::load);
+
+		// THEN it is loaded only the first time
+		assertThat(second).isSameAs(first);
+		assertThat(loads).hasValue(1);
+	}
+
+	@Test
+	@DisplayName("reloads a League's snapshot once invalidated, and only that League's")
+	void testInvalidation() {
+
+		// GIVEN two Leagues' snapshots are cached
+		LeagueLifecycle first = cache.get(league, this::load);
+		LeagueLifecycle other = cache.get(otherLeague, this::load);
+
+		// WHEN one League is invalidated
+		cache.invalidate(league);
+
+		// THEN only that League's snapshot is loaded again
+		assertThat(cache.get(league, this::load)).isNotSameAs(first);
+		assertThat(cache.get(otherLeague, this::load)).isSameAs(other);
+		assertThat(loads).hasValue(3);
+	}
+
+	@Test
+	@DisplayName("does not cache a snapshot loaded while the League was invalidated")
+	void testInvalidationDuringLoad() {
+
+		// WHEN the League is invalidated while its snapshot is being loaded
+		cache.get(league, () -> {
+			LeagueLifecycle stale = load();
+			cache.invalidate(league);
+			return stale;
+		});
+
+		// THEN the stale snapshot is not served afterwards
+		cache.get(league, this::load);
+		assertThat(loads).hasValue(2);
+	}
+
+	private LeagueLifecycle load() {
+		loads.incrementAndGet();
+		return LeagueLifecycle.load(context, league);
+	}
+}
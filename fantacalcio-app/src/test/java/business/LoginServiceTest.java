@@ -9,7 +9,6 @@ import business.ports.transaction.TransactionManager;
 import business.ports.transaction.TransactionManager.TransactionContext;
 import domain.FantaUser;
 
-import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -45,6 +44,12 @@ class LoginServiceTest {
 			return code.apply(context);
 		});
 
+		// For fromReadOnlyTransaction
+		when(transactionManager.fromReadOnlyTransaction(any())).thenAnswer(invocation -> {
+			Function<TransactionContext, Object> code = invocation.getArgument(0);
+			return code.apply(context);
+		});
+
         // Mock repositories
         fantaUserRepository = mock(FantaUserRepository.class);
 
@@ -55,7 +60,7 @@ class LoginServiceTest {
 
     @Test
     void testRegisterFantaUser_SavesWhenNotExists() {
-        when(fantaUserRepository.getUser("mail", "pswd")).thenReturn(Optional.empty());
+        when(fantaUserRepository.existsFantaUser("mail", "pswd")).thenReturn(false);
 
         service.registerFantaUser("mail", "pswd");
 
@@ -65,8 +70,7 @@ class LoginServiceTest {
 
     @Test
     void testRegisterFantaUser_ThrowsWhenAlreadyExists() {
-        when(fantaUserRepository.getUser("mail", "pswd"))
-                .thenReturn(Optional.of(new FantaUser("mail", "pswd")));
+        when(fantaUserRepository.existsFantaUser("mail", "pswd")).thenReturn(true);
 
         assertThatThrownBy(() -> service.registerFantaUser("mail", "pswd"))
                 .isInstanceOf(UnsupportedOperationException.class)
@@ -78,16 +82,14 @@ class LoginServiceTest {
 
     @Test
     void testLoginFantaUser_ReturnsTrueWhenPresent() {
-        when(fantaUserRepository.getUser("mail", "pswd"))
-                .thenReturn(Optional.of(new FantaUser("mail", "pswd")));
+        when(fantaUserRepository.existsFantaUser("mail", "pswd")).thenReturn(true);
 
         assertThat(service.loginFantaUser("mail", "pswd")).isTrue();
     }
 
     @Test
     void testLoginFantaUser_ReturnsFalseWhenNotPresent() {
-        when(fantaUserRepository.getUser("mail", "pswd"))
-                .thenReturn(Optional.empty());
+        when(fantaUserRepository.existsFantaUser("mail", "pswd")).thenReturn(false);
 
         assertThat(service.loginFantaUser("mail", "pswd")).isFalse();
     }
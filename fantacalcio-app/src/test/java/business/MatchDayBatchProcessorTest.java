@@ -0,0 +1,154 @@
+package business;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import business.MatchDayBatchProcessor.BatchReport;
+import business.MatchDayBatchProcessor.LeagueOutcome;
+import business.MatchDayBatchProcessor.Step;
+import domain.FantaUser;
+import domain.League;
+
+@Tag("mockito-agent")
+@ExtendWith(MockitoExtension.class)
+class MatchDayBatchProcessorTest {
+
+	private @Mock AdminUserService adminUserService;
+
+	private final FantaUser admin = new FantaUser("admin@example.com", "pwd");
+	private final List<League> leagues = IntStream.range(0, 20)
+			.mapToObj(i -> new League(admin, "League " + i, "L" + i))
+			.toList();
+
+	@Test
+	@DisplayName("a failing League does not prevent the others from being processed")
+	void testFailureIsolation() {
+
+		// GIVEN one League fails to calculate its Results
+		League failing = leagues.get(3);
+		doAnswer(invocation -> {
+			if (invocation.getArgument(0) == failing)
+				throw new RuntimeException("boom");
+			return null;
+		}).when(adminUserService).calculateResults(any());
+
+		// WHEN the SUT is used to calculate Results for every League
+		BatchReport report = new MatchDayBatchProcessor(adminUserService, 4)
+				.process(leagues, Step.CALCULATE_RESULTS);
+
+		// THEN every League has been processed
+		leagues.forEach(league -> verify(adminUserService).calculateResults(league));
+
+		// AND only the failing League is reported as failed, with its cause
+		assertThat(report.getOutcomes()).hasSize(leagues.size());
+		assertThat(report.failedLeagues()).containsExactly(failing);
+		assertThat(report.failures().get(0).getFailure()).hasMessage("boom");
+		assertThat(report.getOutcomes()).allSatisfy(outcome -> assertThat(outcome.getElapsed().isNegative()).isFalse());
+	}
+
+	@Test
+	@DisplayName("never processes more Leagues at once than allowed")
+	void testBoundedConcurrency() {
+
+		// GIVEN processing a League takes a while and tracks how many run at once
+		AtomicInteger running = new AtomicInteger();
+		AtomicInteger maxRunning = new AtomicInteger();
+		doAnswer(invocation -> {
+			maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+			Thread.sleep(5);
+			running.decrementAndGet();
+			return null;
+		}).when(adminUserService).startMatchDay(any());
+
+		// WHEN the SUT is used with a concurrency of 3
+		BatchReport report = new MatchDayBatchProcessor(adminUserService, 3)
+				.process(leagues, Step.START_MATCH_DAY);
+
+		// THEN all Leagues succeed, with never more than 3 in flight
+		assertThat(report.allSucceeded()).isTrue();
+		assertThat(maxRunning.get()).isBetween(1, 3);
+	}
+
+	@Test
+	@DisplayName("reports progress once per League")
+	void testProgress() {
+
+		// GIVEN a listener collecting progress notifications
+		ConcurrentLinkedQueue<Integer> completedCounts = new ConcurrentLinkedQueue<>();
+		ConcurrentLinkedQueue<LeagueOutcome> outcomes = new ConcurrentLinkedQueue<>();
+
+		// WHEN the SUT is used to end the MatchDay of every League
+		new MatchDayBatchProcessor(adminUserService, 4, (outcome, completed, total) -> {
+			assertThat(total).isEqualTo(leagues.size());
+			completedCounts.add(completed);
+			outcomes.add(outcome);
+		}).process(leagues, Step.END_MATCH_DAY);
+
+		// THEN each League is notified exactly once, with increasing counts
+		assertThat(outcomes).extracting(LeagueOutcome::getLeague).containsExactlyInAnyOrderElementsOf(leagues);
+		assertThat(completedCounts).containsExactlyInAnyOrderElementsOf(
+				IntStream.rangeClosed(1, leagues.size()).boxed().toList());
+	}
+
+	@Test
+	@DisplayName("a throwing listener neither fails the Leagues nor stops the batch")
+	void testThrowingListener() {
+
+		// GIVEN a listener that throws on every notification
+		AtomicInteger notifications = new AtomicInteger();
+
+		// WHEN the SUT is used to end the MatchDay of every League
+		BatchReport report = new MatchDayBatchProcessor(adminUserService, 4, (outcome, completed, total) -> {
+			notifications.incrementAndGet();
+			throw new IllegalStateException("listener failure");
+		}).process(leagues, Step.END_MATCH_DAY);
+
+		// THEN every League is processed and reported as successful, and notified once
+		assertThat(report.allSucceeded()).isTrue();
+		assertThat(report.getOutcomes()).extracting(LeagueOutcome::getLeague).containsExactlyElementsOf(leagues);
+		assertThat(notifications).hasValue(leagues.size());
+		leagues.forEach(league -> verify(adminUserService).endMatchDay(league));
+	}
+
+	@Test
+	@DisplayName("retries only the Leagues that failed")
+	void testRetryFailed() {
+
+		// GIVEN one League fails once, then succeeds
+		League flaky = leagues.get(5);
+		AtomicInteger flakyAttempts = new AtomicInteger();
+		doAnswer(invocation -> {
+			if (invocation.getArgument(0) == flaky && flakyAttempts.getAndIncrement() == 0)
+				throw new RuntimeException("transient");
+			return null;
+		}).when(adminUserService).endMatchDay(any());
+		MatchDayBatchProcessor processor = new MatchDayBatchProcessor(adminUserService, 4);
+		BatchReport first = processor.process(leagues, Step.END_MATCH_DAY);
+
+		// WHEN the failed Leagues are retried
+		BatchReport retry = processor.retryFailed(first);
+
+		// THEN only the flaky League is processed again, successfully this time
+		assertThat(retry.getStep()).isEqualTo(Step.END_MATCH_DAY);
+		assertThat(retry.getOutcomes()).extracting(LeagueOutcome::getLeague).containsExactly(flaky);
+		assertThat(retry.allSucceeded()).isTrue();
+		verify(adminUserService, times(2)).endMatchDay(flaky);
+		verify(adminUserService, never()).calculateResults(flaky);
+	}
+}
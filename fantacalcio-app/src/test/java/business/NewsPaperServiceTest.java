@@ -2,12 +2,17 @@ package business;
 
 import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import business.NewsPaperService.GradeRow;
+import business.NewsPaperService.IngestionReport;
+import business.NewsPaperService.RejectedRow;
+import business.ports.repository.FetchPlan;
 import business.ports.repository.GradeRepository;
 import business.ports.repository.LeagueRepository;
 import business.ports.repository.MatchDayRepository;
@@ -18,12 +23,14 @@ import domain.*;
 import domain.Player.Club;
 import domain.Player.Forward;
 
+import java.io.StringReader;
 import java.util.*;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.Mockito.*;
 
 @Tag("mockito-agent")
@@ -56,6 +63,11 @@ class NewsPaperServiceTest {
 			public <T> T fromTransaction(Function<TransactionContext, T> code) {
 				return code.apply(context);
 			}
+
+			@Override
+			public <T> T fromReadOnlyTransaction(Function<TransactionContext, T> code) {
+				return code.apply(context);
+			}
 		};
 
 		// instantiates SUT
@@ -76,7 +88,7 @@ class NewsPaperServiceTest {
 		Forward player = new Player.Forward("Francesco", "Totti", Club.ROMA);
 		
 		// AND the LeagueRepository 
-		when(matchDayRepository.getOngoingMatchDay(league)).thenReturn(Optional.empty());
+		when(matchDayRepository.getOngoingMatchDay(league, FetchPlan.THIN)).thenReturn(Optional.empty());
 		
 		// WHEN the SUT us used to save grades whose League has no ongoing MatchDay
 		Grade incorrect = new Grade(player, futureMatchDay, 10);
@@ -102,17 +114,77 @@ class NewsPaperServiceTest {
 		Player player2 = new Player.Midfielder("Kevin", "De Bruyne", Club.NAPOLI);
 		
 		// AND
-		when(matchDayRepository.getOngoingMatchDay(league)).thenReturn(Optional.of(ongoingMatchDay));
+		when(matchDayRepository.getOngoingMatchDay(league, FetchPlan.THIN)).thenReturn(Optional.of(ongoingMatchDay));
+		when(gradeRepository.getAllGrades(ongoingMatchDay, FetchPlan.THIN)).thenReturn(List.of());
 		
 		// WHEN the SUT is used to sav ethem
 		Grade grade1 = new Grade(player1, ongoingMatchDay, 10);
 		Grade grade2 = new Grade(player2, ongoingMatchDay, 7);
-		service.save(Set.of(grade1, grade2));
+		IngestionReport report = service.save(Set.of(grade1, grade2));
 		
 		// THEN they are persisted
-		verify(gradeRepository).saveGrade(grade1);
-		verify(gradeRepository).saveGrade(grade2);
+		verify(gradeRepository).saveAll(Set.of(grade1, grade2));
+		verify(gradeRepository).getAllGrades(ongoingMatchDay, FetchPlan.THIN);
 		verifyNoMoreInteractions(gradeRepository);
+		assertThat(report.saved()).isEqualTo(2);
+		assertThat(report.allSaved()).isTrue();
+	}
+
+	@Test
+	void testSetVoteToPlayers_AlreadyGraded() {
+		
+		// GIVEN the necessary Repositories are made available by the TransactionContext
+		when(context.getMatchDayRepository()).thenReturn(matchDayRepository);
+		when(context.getGradeRepository()).thenReturn(gradeRepository);
+		
+		// AND a Player was already graded on the ongoing MatchDay, possibly by another League
+		FantaUser manager = new FantaUser("manager@example.com", "securePass");
+		League league = new League(manager, "Serie A", "code");
+		MatchDay ongoingMatchDay = new MatchDay("2 giornata", 2, MatchDay.Status.PRESENT, league);
+		Forward player1 = new Player.Forward("Francesco", "Totti", Club.ROMA);
+		Player player2 = new Player.Midfielder("Kevin", "De Bruyne", Club.NAPOLI);
+		when(matchDayRepository.getOngoingMatchDay(league, FetchPlan.THIN)).thenReturn(Optional.of(ongoingMatchDay));
+		when(gradeRepository.getAllGrades(ongoingMatchDay, FetchPlan.THIN))
+				.thenReturn(List.of(new Grade(player1, ongoingMatchDay, 6)));
+		
+		// WHEN the SUT is used to save Grades for both Players
+		Grade grade1 = new Grade(player1, ongoingMatchDay, 10);
+		Grade grade2 = new Grade(player2, ongoingMatchDay, 7);
+		IngestionReport report = service.save(Set.of(grade1, grade2));
+		
+		// THEN only the ungraded Player's Grade is persisted, and the other is reported
+		verify(gradeRepository).saveAll(Set.of(grade2));
+		assertThat(report.saved()).isEqualTo(1);
+		assertThat(report.rejected()).singleElement().satisfies(rejected -> {
+			assertThat(rejected.content()).isEqualTo("Forward: Francesco, Totti, 10.0");
+			assertThat(rejected.reason()).isEqualTo("The Player is already graded on this MatchDay");
+		});
+	}
+
+	@Test
+	void testSetVoteToPlayers_GradedTwice() {
+		
+		// GIVEN the necessary Repositories are made available by the TransactionContext
+		when(context.getMatchDayRepository()).thenReturn(matchDayRepository);
+		when(context.getGradeRepository()).thenReturn(gradeRepository);
+		
+		// AND no Player is graded on the ongoing MatchDay yet
+		FantaUser manager = new FantaUser("manager@example.com", "securePass");
+		League league = new League(manager, "Serie A", "code");
+		MatchDay ongoingMatchDay = new MatchDay("2 giornata", 2, MatchDay.Status.PRESENT, league);
+		Forward player = new Player.Forward("Francesco", "Totti", Club.ROMA);
+		when(matchDayRepository.getOngoingMatchDay(league, FetchPlan.THIN)).thenReturn(Optional.of(ongoingMatchDay));
+		when(gradeRepository.getAllGrades(ongoingMatchDay, FetchPlan.THIN)).thenReturn(List.of());
+		
+		// WHEN the SUT is used to save two Grades for the same Player
+		Set<Grade> grades = Set.of(new Grade(player, ongoingMatchDay, 10), new Grade(player, ongoingMatchDay, 7));
+		IngestionReport report = service.save(grades);
+		
+		// THEN only one of them is persisted, and the other is reported
+		verify(gradeRepository).saveAll(argThat(saved -> saved.size() == 1));
+		assertThat(report.saved()).isEqualTo(1);
+		assertThat(report.rejected()).extracting(RejectedRow::row, RejectedRow::reason)
+				.containsExactly(tuple(2, "The Player is graded more than once"));
 	}
 
 	@Test
@@ -129,7 +201,7 @@ class NewsPaperServiceTest {
 		Forward player = new Player.Forward("Francesco", "Totti", Club.ROMA);
 		
 		// AND the LeagueRepository 
-		when(matchDayRepository.getOngoingMatchDay(league)).thenReturn(Optional.of(ongoingMatchDay));
+		when(matchDayRepository.getOngoingMatchDay(league, FetchPlan.THIN)).thenReturn(Optional.of(ongoingMatchDay));
 		
 		// WHEN the SUT us used to save grades that reference a past Matchday
 		Grade incorrect = new Grade(player, pastMatchDay, 10);
@@ -156,7 +228,7 @@ class NewsPaperServiceTest {
 		Forward player = new Player.Forward("Francesco", "Totti", Club.ROMA);
 
 		// AND the LeagueRepository
-		when(matchDayRepository.getOngoingMatchDay(league)).thenReturn(Optional.of(ongoingMatchDay));
+		when(matchDayRepository.getOngoingMatchDay(league, FetchPlan.THIN)).thenReturn(Optional.of(ongoingMatchDay));
 
 		// WHEN the SUT is used to save a Grade that has too low mark
 		Grade incorrect = new Grade(player, ongoingMatchDay, -10);
@@ -183,7 +255,7 @@ class NewsPaperServiceTest {
 		Forward player = new Player.Forward("Francesco", "Totti", Club.ROMA);
 
 		// AND the LeagueRepository
-		when(matchDayRepository.getOngoingMatchDay(league)).thenReturn(Optional.of(ongoingMatchDay));
+		when(matchDayRepository.getOngoingMatchDay(league, FetchPlan.THIN)).thenReturn(Optional.of(ongoingMatchDay));
 
 		// WHEN the SUT is used to save a Grade that has too high mark
 		Grade incorrect = new Grade(player, ongoingMatchDay, 30);
@@ -210,7 +282,7 @@ class NewsPaperServiceTest {
 		Forward player = new Player.Forward("Francesco", "Totti", Club.ROMA);
 
 		// AND the LeagueRepository
-		when(matchDayRepository.getOngoingMatchDay(league)).thenReturn(Optional.of(ongoingMatchDay));
+		when(matchDayRepository.getOngoingMatchDay(league, FetchPlan.THIN)).thenReturn(Optional.of(ongoingMatchDay));
 
 		// WHEN the SUT is used to save a Grade that has too low mark
 		Grade incorrect = new Grade(player, ongoingMatchDay, -5);
@@ -237,7 +309,7 @@ class NewsPaperServiceTest {
 		Forward player = new Player.Forward("Francesco", "Totti", Club.ROMA);
 
 		// AND the LeagueRepository
-		when(matchDayRepository.getOngoingMatchDay(league)).thenReturn(Optional.of(ongoingMatchDay));
+		when(matchDayRepository.getOngoingMatchDay(league, FetchPlan.THIN)).thenReturn(Optional.of(ongoingMatchDay));
 
 		// WHEN the SUT is used to save a Grade that has too high mark
 		Grade incorrect = new Grade(player, ongoingMatchDay, 25);
@@ -271,4 +343,211 @@ class NewsPaperServiceTest {
 		// THEN
 		assertThat(players).containsExactly(player);
 	}
+
+	@Test
+	void testCorrectGrade() {
+
+		// GIVEN the necessary Repositories are made available by the TransactionContext
+		when(context.getMatchDayRepository()).thenReturn(matchDayRepository);
+		when(context.getGradeRepository()).thenReturn(gradeRepository);
+
+		// AND a Grade was saved for the League's ongoing MatchDay
+		FantaUser manager = new FantaUser("manager@example.com", "securePass");
+		League league = new League(manager, "Serie A", "code");
+		MatchDay ongoingMatchDay = new MatchDay("2 giornata", 2, MatchDay.Status.PRESENT, league);
+		Forward player = new Player.Forward("Francesco", "Totti", Club.ROMA);
+		Grade grade = new Grade(player, ongoingMatchDay, 6);
+		Grade corrected = new Grade(player, ongoingMatchDay, 7.5);
+		when(matchDayRepository.getOngoingMatchDay(league, FetchPlan.THIN)).thenReturn(Optional.of(ongoingMatchDay));
+		when(gradeRepository.correctGrade(grade, 7.5)).thenReturn(corrected);
+
+		// WHEN the SUT is used to correct its mark
+		Grade result = service.correctGrade(grade, 7.5);
+
+		// THEN the Grade is replaced through the GradeRepository
+		assertThat(result).isSameAs(corrected);
+	}
+
+	@Test
+	void testCorrectGrade_AlreadyScored() {
+
+		// GIVEN the necessary Repositories are made available by the TransactionContext
+		when(context.getMatchDayRepository()).thenReturn(matchDayRepository);
+		when(context.getGradeRepository()).thenReturn(gradeRepository);
+
+		// AND a MatchDay sharing the Grades of the League's ongoing MatchDay was already scored
+		FantaUser manager = new FantaUser("manager@example.com", "securePass");
+		League league = new League(manager, "Serie A", "code");
+		MatchDay ongoingMatchDay = new MatchDay("2 giornata", 2, MatchDay.Status.PRESENT, league);
+		Forward player = new Player.Forward("Francesco", "Totti", Club.ROMA);
+		when(matchDayRepository.getOngoingMatchDay(league, FetchPlan.THIN)).thenReturn(Optional.of(ongoingMatchDay));
+		when(gradeRepository.isScored(ongoingMatchDay)).thenReturn(true);
+
+		// WHEN the SUT is used to correct a Grade of it
+		ThrowingCallable shouldThrow = () -> service.correctGrade(new Grade(player, ongoingMatchDay, 6), 7.5);
+
+		// THEN an exception is thrown, and no Grade is replaced
+		assertThatThrownBy(shouldThrow).isInstanceOf(RuntimeException.class)
+				.hasMessageContaining("already used to calculate Results");
+		verify(gradeRepository, never()).correctGrade(any(), anyDouble());
+	}
+
+	@Test
+	void testCorrectGrade_WrongMatchDay() {
+
+		// GIVEN the necessary Repositories are made available by the TransactionContext
+		when(context.getMatchDayRepository()).thenReturn(matchDayRepository);
+
+		// AND a Grade references a MatchDay that is not the League's ongoing
+		FantaUser manager = new FantaUser("manager@example.com", "securePass");
+		League league = new League(manager, "Serie A", "code");
+		MatchDay pastMatchDay = new MatchDay("1 giornata", 1, MatchDay.Status.PAST, league);
+		MatchDay ongoingMatchDay = new MatchDay("2 giornata", 2, MatchDay.Status.PRESENT, league);
+		Forward player = new Player.Forward("Francesco", "Totti", Club.ROMA);
+		when(matchDayRepository.getOngoingMatchDay(league, FetchPlan.THIN)).thenReturn(Optional.of(ongoingMatchDay));
+
+		// WHEN the SUT is used to correct it
+		ThrowingCallable shouldThrow = () -> service.correctGrade(new Grade(player, pastMatchDay, 6), 7.5);
+
+		// THEN an exception is thrown, and no Grade is replaced
+		assertThatThrownBy(shouldThrow).isInstanceOf(RuntimeException.class)
+				.hasMessageContaining("matchDay is not the present one");
+		verifyNoInteractions(gradeRepository);
+	}
+
+	@Test
+	void testCorrectGrade_InvalidMark() {
+
+		// GIVEN the necessary Repositories are made available by the TransactionContext
+		when(context.getMatchDayRepository()).thenReturn(matchDayRepository);
+
+		// AND a Grade was saved for the League's ongoing MatchDay
+		FantaUser manager = new FantaUser("manager@example.com", "securePass");
+		League league = new League(manager, "Serie A", "code");
+		MatchDay ongoingMatchDay = new MatchDay("2 giornata", 2, MatchDay.Status.PRESENT, league);
+		Forward player = new Player.Forward("Francesco", "Totti", Club.ROMA);
+		when(matchDayRepository.getOngoingMatchDay(league, FetchPlan.THIN)).thenReturn(Optional.of(ongoingMatchDay));
+
+		// WHEN the SUT is used to correct it with an out-of-range mark
+		ThrowingCallable shouldThrow = () -> service.correctGrade(new Grade(player, ongoingMatchDay, 6), 30);
+
+		// THEN an exception is thrown, and no Grade is replaced
+		assertThatThrownBy(shouldThrow).isInstanceOf(IllegalArgumentException.class)
+				.hasMessageContaining("Marks must be between -5 and 25");
+		verifyNoInteractions(gradeRepository);
+	}
+
+	@Nested
+	class IngestGrades {
+
+		private League league;
+		private MatchDay ongoingMatchDay;
+		private Player totti;
+		private Player buffon;
+
+		// copies of the batches handed to the GradeRepository, which reuses its list
+		private List<List<Grade>> batches;
+
+		@BeforeEach
+		void setUp() {
+			// GIVEN the necessary Repositories are made available by the TransactionContext
+			when(context.getMatchDayRepository()).thenReturn(matchDayRepository);
+
+			// AND a League is in 'ongoing-MatchDay' state
+			FantaUser manager = new FantaUser("manager@example.com", "securePass");
+			league = new League(manager, "Serie A", "code");
+			ongoingMatchDay = new MatchDay("2 giornata", 2, MatchDay.Status.PRESENT, league);
+			totti = new Player.Forward("Francesco", "Totti", Club.ROMA);
+			buffon = new Player.Goalkeeper("Gigi", "Buffon", Club.JUVENTUS);
+			when(matchDayRepository.getOngoingMatchDay(league, FetchPlan.THIN)).thenReturn(Optional.of(ongoingMatchDay));
+
+			batches = new ArrayList<>();
+		}
+
+		private void givenPlayersAndGrades(Set<Player> players, List<Grade> existing) {
+			when(context.getPlayerRepository()).thenReturn(playerRepository);
+			when(context.getGradeRepository()).thenReturn(gradeRepository);
+			when(playerRepository.getAllInLeague(league)).thenReturn(players);
+			when(gradeRepository.getAllGrades(ongoingMatchDay, FetchPlan.THIN)).thenReturn(existing);
+			lenient().doAnswer(invocation -> batches.add(List.copyOf(invocation.<Collection<Grade>>getArgument(0))))
+					.when(gradeRepository).saveBatch(any());
+		}
+
+		@Test
+		void testIngestGradesFromCsv() {
+
+			// AND a Player of the League is already graded on the MatchDay
+			Player chiellini = new Player.Defender("Giorgio", "Chiellini", Club.JUVENTUS);
+			givenPlayersAndGrades(Set.of(totti, buffon, chiellini), List.of(new Grade(chiellini, ongoingMatchDay, 6)));
+
+			// WHEN the SUT is used to ingest a CSV mixing valid and invalid lines
+			String csv = String.join("\n",
+					"name,surname,club,mark",
+					"Francesco,Totti,ROMA,7.5",
+					"Gigi,Buffon,juventus, 6",
+					"",
+					"Gigi,Buffon,JUVENTUS,8",
+					"Giorgio,Chiellini,JUVENTUS,5",
+					"Kevin,De Bruyne,NAPOLI,7",
+					"Francesco,Totti,LAZIO,7",
+					"Francesco,Totti,ROMA",
+					"Francesco,Totti,ROMA,sette",
+					"Francesco,Totti,ROMA,30");
+			IngestionReport report = service.ingestGrades(league, new StringReader(csv));
+
+			// THEN the valid Grades are saved in one batch
+			assertThat(batches).containsExactly(List.of(
+					new Grade(totti, ongoingMatchDay, 7.5), new Grade(buffon, ongoingMatchDay, 6)));
+
+			// AND every other line is reported along with its line number
+			assertThat(report.saved()).isEqualTo(2);
+			assertThat(report.allSaved()).isFalse();
+			assertThat(report.rejected()).extracting(RejectedRow::row, RejectedRow::reason).containsExactly(
+					tuple(5, "The Player is graded more than once"),
+					tuple(6, "The Player is already graded on this MatchDay"),
+					tuple(7, "No Player under contract in the League matches the row"),
+					tuple(8, "No Player under contract in the League matches the row"),
+					tuple(9, "Expected 4 fields: name,surname,club,mark"),
+					tuple(10, "Malformed mark: sette"),
+					tuple(11, "Marks must be between -5 and 25"));
+			assertThat(report.rejected().get(0).content()).isEqualTo("Gigi,Buffon,JUVENTUS,8");
+		}
+
+		@Test
+		void testIngestGradesInBatches() {
+
+			// AND the League has more Players than a batch holds
+			Set<Player> players = new HashSet<>();
+			List<GradeRow> rows = new ArrayList<>();
+			for (int i = 0; i < 120; i++) {
+				players.add(new Player.Forward("Player", "" + i, Club.ROMA));
+				rows.add(new GradeRow("Player", "" + i, Club.ROMA, 6));
+			}
+			givenPlayersAndGrades(players, List.of());
+
+			// WHEN the SUT is used to ingest a Grade for each of them
+			IngestionReport report = service.ingestGrades(league, rows.iterator());
+
+			// THEN they are all saved, a batch at a time
+			assertThat(batches).extracting(List::size).containsExactly(50, 50, 20);
+			assertThat(report.saved()).isEqualTo(120);
+			assertThat(report.allSaved()).isTrue();
+		}
+
+		@Test
+		void testIngestGrades_NoOngoingMatchDay() {
+
+			// AND the League has no ongoing MatchDay
+			when(matchDayRepository.getOngoingMatchDay(league, FetchPlan.THIN)).thenReturn(Optional.empty());
+
+			// WHEN the SUT is used to ingest Grades
+			ThrowingCallable shouldThrow = () -> service.ingestGrades(league,
+					List.of(new GradeRow("Francesco", "Totti", Club.ROMA, 7)).iterator());
+
+			// THEN an exception is thrown, and no Grade is saved
+			assertThatThrownBy(shouldThrow).isInstanceOf(RuntimeException.class)
+					.hasMessageContaining("Now you can't assign the votes");
+			verifyNoInteractions(gradeRepository);
+		}
+	}
 }
@@ -0,0 +1,241 @@
+package business;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import business.ScoringEngine.CompiledLineUp;
+import domain.FantaTeam;
+import domain.FantaUser;
+import domain.Grade;
+import domain.League;
+import domain.LineUp;
+import domain.Match;
+import domain.MatchDay;
+import domain.Player;
+import domain.Player.Club;
+import domain.Player.Defender;
+import domain.Player.Forward;
+import domain.Player.Goalkeeper;
+import domain.Player.Midfielder;
+import domain.scheme.Scheme433;
+
+class ScoringEngineTest {
+
+	private final FantaUser admin = new FantaUser("admin@example.com", "pwd");
+	private final League league = new League(admin, "Serie A", "1234");
+	private final MatchDay matchDay = new MatchDay("1 giornata", 1, MatchDay.Status.PAST, league);
+	private final FantaTeam team = new FantaTeam("Team", league, 0, admin, new HashSet<>());
+	private final Match match = new Match(matchDay, team, new FantaTeam("Other", league, 0, admin, new HashSet<>()));
+
+	private final Goalkeeper gk = new Goalkeeper("gk", "starter", Club.ATALANTA);
+	private final Defender d1 = new Defender("d1", "starter", Club.ATALANTA);
+	private final Defender d2 = new Defender("d2", "starter", Club.ATALANTA);
+	private final Defender d3 = new Defender("d3", "starter", Club.ATALANTA);
+	private final Defender d4 = new Defender("d4", "starter", Club.ATALANTA);
+	private final Midfielder m1 = new Midfielder("m1", "starter", Club.ATALANTA);
+	private final Midfielder m2 = new Midfielder("m2", "starter", Club.ATALANTA);
+	private final Midfielder m3 = new Midfielder("m3", "starter", Club.ATALANTA);
+	private final Forward f1 = new Forward("f1", "starter", Club.ATALANTA);
+	private final Forward f2 = new Forward("f2", "starter", Club.ATALANTA);
+	private final Forward f3 = new Forward("f3", "starter", Club.ATALANTA);
+	private final Goalkeeper sgk1 = new Goalkeeper("gk1", "bench", Club.ATALANTA);
+	private final Goalkeeper sgk2 = new Goalkeeper("gk2", "bench", Club.ATALANTA);
+	private final Goalkeeper sgk3 = new Goalkeeper("gk3", "bench", Club.ATALANTA);
+	private final Defender sd1 = new Defender("d1", "bench", Club.ATALANTA);
+	private final Defender sd2 = new Defender("d2", "bench", Club.ATALANTA);
+	private final Defender sd3 = new Defender("d3", "bench", Club.ATALANTA);
+	private final Midfielder sm1 = new Midfielder("m1", "bench", Club.ATALANTA);
+	private final Midfielder sm2 = new Midfielder("m2", "bench", Club.ATALANTA);
+	private final Midfielder sm3 = new Midfielder("m3", "bench", Club.ATALANTA);
+	private final Forward sf1 = new Forward("f1", "bench", Club.ATALANTA);
+	private final Forward sf2 = new Forward("f2", "bench", Club.ATALANTA);
+	private final Forward sf3 = new Forward("f3", "bench", Club.ATALANTA);
+
+	private final List<Player> allPlayers = List.of(
+			gk, d1, d2, d3, d4, m1, m2, m3, f1, f2, f3,
+			sgk1, sgk2, sgk3, sd1, sd2, sd3, sm1, sm2, sm3, sf1, sf2, sf3);
+
+	private final LineUp lineUp = LineUp.build()
+			.forTeam(team)
+			.inMatch(match)
+			.withStarterLineUp(Scheme433.starterLineUp()
+					.withGoalkeeper(gk)
+					.withDefenders(d1, d2, d3, d4)
+					.withMidfielders(m1, m2, m3)
+					.withForwards(f1, f2, f3))
+			.withSubstituteGoalkeepers(sgk1, sgk2, sgk3)
+			.withSubstituteDefenders(sd1, sd2, sd3)
+			.withSubstituteMidfielders(sm1, sm2, sm3)
+			.withSubstituteForwards(sf1, sf2, sf3);
+
+	@Test
+	@DisplayName("ungraded starters are replaced by the first graded substitutes in bench order")
+	void testSubstitution() {
+
+		// GIVEN every Player is graded, except two starting defenders and the
+		// first defender on the bench
+		List<Grade> grades = new ArrayList<>();
+		for (Player player : allPlayers) {
+			if (player != d1 && player != d2 && player != sd1)
+				grades.add(new Grade(player, matchDay, player == sd2 ? 10.0 : player == sd3 ? 20.0 : 6.0));
+		}
+
+		// WHEN the LineUp is scored
+		ScoringEngine engine = ScoringEngine.forGrades(grades);
+		Set<Player> roster = new HashSet<>(allPlayers);
+		double score = engine.score(engine.compile(lineUp, roster, Set.of()));
+
+		// THEN the two missing defenders are covered by the 2nd and 3rd on the bench
+		assertThat(score).isEqualTo(9 * 6.0 + 10.0 + 20.0);
+	}
+
+	@Test
+	@DisplayName("Grades of Players outside both rosters do not count")
+	void testRosterEligibility() {
+
+		// GIVEN only the starting goalkeeper is graded
+		ScoringEngine engine = ScoringEngine.forGrades(List.of(new Grade(gk, matchDay, 7.0)));
+
+		// WHEN the LineUp is scored with the goalkeeper in neither roster
+		double score = engine.score(engine.compile(lineUp, Set.of(d1), Set.of(f1)));
+
+		// THEN nothing is counted
+		assertThat(score).isZero();
+	}
+
+	@Test
+	@DisplayName("scores are bit-for-bit those of the set-and-map based algorithm")
+	void testParityWithReferenceAlgorithm() {
+		Random random = new Random(42);
+		Set<Player> roster = new HashSet<>(allPlayers);
+
+		for (int round = 0; round < 500; round++) {
+
+			// GIVEN a random subset of Players is graded with arbitrary marks
+			List<Grade> grades = new ArrayList<>();
+			Map<Player, Grade> gradesByPlayer = new HashMap<>();
+			for (Player player : allPlayers) {
+				if (random.nextInt(10) < 7) {
+					Grade grade = new Grade(player, matchDay, random.nextDouble() * 10);
+					grades.add(grade);
+					gradesByPlayer.put(player, grade);
+				}
+			}
+
+			// WHEN the LineUp is scored
+			ScoringEngine engine = ScoringEngine.forGrades(grades);
+			double score = engine.score(engine.compile(lineUp, roster, Set.of()));
+
+			// THEN the score matches the reference exactly
+			assertThat(Double.doubleToLongBits(score))
+					.isEqualTo(Double.doubleToLongBits(referenceScore(lineUp, gradesByPlayer)));
+		}
+	}
+
+	@Test
+	@DisplayName("scores many LineUps concurrently exactly as it would one at a time")
+	void testScoreAll() {
+
+		// GIVEN a random subset of Players is graded
+		Random random = new Random(7);
+		List<Grade> grades = new ArrayList<>();
+		for (Player player : allPlayers) {
+			if (random.nextInt(10) < 7)
+				grades.add(new Grade(player, matchDay, random.nextDouble() * 10));
+		}
+		ScoringEngine engine = ScoringEngine.forGrades(grades);
+
+		// AND many compiled LineUps are available, some missing
+		Set<Player> roster = new HashSet<>(allPlayers);
+		CompiledLineUp compiled = engine.compile(lineUp, roster, Set.of());
+		CompiledLineUp[] lineUps = new CompiledLineUp[100];
+		for (int i = 0; i < lineUps.length; i++) {
+			lineUps[i] = i % 3 == 0 ? null : compiled;
+		}
+
+		// WHEN they are scored twice on a shared pool of several threads
+		ForkJoinPool pool = new ForkJoinPool(4);
+		double[] scores;
+		try {
+			scores = engine.scoreAll(lineUps, pool);
+			assertThat(engine.scoreAll(lineUps, pool)).containsExactly(scores);
+
+			// THEN the pool is left for its owner to shut down
+			assertThat(pool.isShutdown()).isFalse();
+		} finally {
+			pool.shutdown();
+		}
+
+		// AND each score is that of the sequential path, and missing LineUps score 0
+		assertThat(scores).containsExactly(engine.scoreAll(lineUps, null));
+		for (int i = 0; i < lineUps.length; i++) {
+			assertThat(scores[i]).isEqualTo(i % 3 == 0 ? 0 : engine.score(compiled));
+		}
+	}
+
+	@Test
+	@DisplayName("rejects a Player graded twice")
+	void testDuplicateGrade() {
+		assertThatThrownBy(() -> ScoringEngine.forGrades(
+				List.of(new Grade(gk, matchDay, 6.0), new Grade(gk, matchDay, 7.0))))
+				.isInstanceOf(IllegalStateException.class);
+	}
+
+	@Test
+	@DisplayName("converts points to goals in 6-point steps from 66")
+	void testGoals() {
+		assertThat(ScoringEngine.goals(65.5)).isZero();
+		assertThat(ScoringEngine.goals(66.0)).isEqualTo(1);
+		assertThat(ScoringEngine.goals(71.5)).isEqualTo(1);
+		assertThat(ScoringEngine.goals(72.0)).isEqualTo(2);
+	}
+
+	// the scoring algorithm as originally written in AdminUserService
+	private static double referenceScore(LineUp lineUp, Map<Player, Grade> gradesByPlayer) {
+		double result = 0;
+		result += referenceRoleScore(lineUp.extract().starterGoalkeepers(), lineUp.extract().substituteGoalkeepers(),
+				gradesByPlayer);
+		result += referenceRoleScore(lineUp.extract().starterDefenders(), lineUp.extract().substituteDefenders(),
+				gradesByPlayer);
+		result += referenceRoleScore(lineUp.extract().starterMidfielders(), lineUp.extract().substituteMidfielders(),
+				gradesByPlayer);
+		result += referenceRoleScore(lineUp.extract().starterForwards(), lineUp.extract().substituteForwards(),
+				gradesByPlayer);
+		return result;
+	}
+
+	private static double referenceRoleScore(Set<? extends Player> starters, List<? extends Player> substitutes,
+			Map<Player, Grade> gradesByPlayer) {
+		double result = 0;
+		int benchPositionToLook = 0;
+		for (Player starter : starters) {
+			Grade grade = gradesByPlayer.get(starter);
+			if (grade != null) {
+				result += grade.getMark();
+			} else {
+				boolean found = false;
+				while (!found && benchPositionToLook < substitutes.size()) {
+					Grade subGrade = gradesByPlayer.get(substitutes.get(benchPositionToLook));
+					if (subGrade != null) {
+						result += subGrade.getMark();
+						found = true;
+					}
+					benchPositionToLook++;
+				}
+			}
+		}
+		return result;
+	}
+}
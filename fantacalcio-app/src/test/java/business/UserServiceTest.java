@@ -7,7 +7,9 @@ import static org.mockito.Mockito.*;
 import java.util.*;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import domain.scheme.Scheme433;
 import org.junit.jupiter.api.BeforeEach;
@@ -16,14 +18,18 @@ import org.junit.jupiter.api.Test;
 
 import business.ports.repository.ContractRepository;
 import business.ports.repository.FantaTeamRepository;
+import business.ports.repository.FetchPlan;
 import business.ports.repository.GradeRepository;
 import business.ports.repository.LeagueRepository;
 import business.ports.repository.LineUpRepository;
 import business.ports.repository.MatchDayRepository;
 import business.ports.repository.MatchRepository;
 import business.ports.repository.PlayerRepository;
+import business.ports.repository.PlayerRepository.PlayerFilter;
+import business.ports.repository.PlayerRepository.PlayerRow;
 import business.ports.repository.ProposalRepository;
 import business.ports.repository.ResultsRepository;
+import business.ports.repository.StandingRepository;
 import business.ports.transaction.TransactionManager;
 import business.ports.transaction.TransactionManager.TransactionContext;
 import domain.*;
@@ -34,6 +40,7 @@ import domain.Player.Midfielder;
 import org.mockito.ArgumentCaptor;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @Tag("mockito-agent")
@@ -50,6 +57,7 @@ public class UserServiceTest {
 	private PlayerRepository playerRepository;
 	private ProposalRepository proposalRepository;
 	private ContractRepository contractRepository;
+	private StandingRepository standingRepository;
 	private TransactionManager transactionManager;
 	private TransactionContext context;
 	private UserService userService;
@@ -71,6 +79,7 @@ public class UserServiceTest {
 		playerRepository = mock(PlayerRepository.class);
 		proposalRepository = mock(ProposalRepository.class);
 		contractRepository = mock(ContractRepository.class);
+		standingRepository = mock(StandingRepository.class);
 
 		// When context.getXRepository() is called, return the mocked repository
 		when(context.getMatchRepository()).thenReturn(matchRepository);
@@ -84,6 +93,7 @@ public class UserServiceTest {
 		when(context.getPlayerRepository()).thenReturn(playerRepository);
 		when(context.getProposalRepository()).thenReturn(proposalRepository);
 		when(context.getContractRepository()).thenReturn(contractRepository);
+		when(context.getStandingRepository()).thenReturn(standingRepository);
 
 		// For inTransaction
 		doAnswer(invocation -> {
@@ -98,7 +108,13 @@ public class UserServiceTest {
 			return code.apply(context);
 		});
 
-		userService = new UserService(transactionManager);
+		// For fromReadOnlyTransaction
+		when(transactionManager.fromReadOnlyTransaction(any())).thenAnswer(invocation -> {
+			Function<TransactionContext, Object> code = invocation.getArgument(0);
+			return code.apply(context);
+		});
+
+		userService = new UserService(transactionManager, new LeagueLifecycleCache());
 	}
 	
 
@@ -108,16 +124,18 @@ public class UserServiceTest {
 		String leagueCode = "L001";
 
 		// League code does not exist yet
-		when(leagueRepository.getLeagueByCode(leagueCode)).thenReturn(Optional.empty());
+		when(leagueRepository.existsLeague(leagueCode)).thenReturn(false);
 
 		userService.createLeague("My League", admin, leagueCode);
 
 		// Verify that saveLeague was called
         League myLeague = new League(admin, "My League", leagueCode);
         verify(leagueRepository, times(1)).saveLeague(myLeague);
-        ArgumentCaptor<MatchDay> captor = ArgumentCaptor.forClass(MatchDay.class);
-        verify(matchDayRepository, times(MatchDay.MATCH_DAYS_IN_LEAGUE)).saveMatchDay(captor.capture());
-        List<MatchDay> allValues = captor.getAllValues();
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<MatchDay>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(matchDayRepository, times(1)).saveAll(captor.capture());
+        List<MatchDay> allValues = List.copyOf(captor.getValue());
+        assertThat(allValues).hasSize(MatchDay.MATCH_DAYS_IN_LEAGUE);
         allValues.forEach(matchDay -> {
             assertThat(matchDay.getLeague()).isEqualTo(myLeague);
             assertThat(matchDay.getStatus()).isEqualTo(MatchDay.Status.FUTURE);
@@ -125,6 +143,29 @@ public class UserServiceTest {
         assertThat(allValues.stream().map(MatchDay::getNumber).toList()).containsExactlyInAnyOrderElementsOf(IntStream.range(1, MatchDay.MATCH_DAYS_IN_LEAGUE+1).boxed().toList());
         assertThat(allValues.stream().map(MatchDay::getName).toList()).containsExactlyInAnyOrderElementsOf(IntStream.range(1, MatchDay.MATCH_DAYS_IN_LEAGUE+1).mapToObj(value ->
                 "MatchDay " + value).toList());
+        allValues.forEach(matchDay -> {
+            assertThat(matchDay.getSeason()).isEqualTo(MatchDay.NO_SEASON);
+            assertThat(matchDay.getRealRound()).isEqualTo(matchDay.getNumber());
+        });
+	}
+
+	@Test
+	void testCreateLeague_FromRealRound() {
+		FantaUser admin = new FantaUser("admin@test.com", "pwd");
+		String leagueCode = "L001";
+
+		when(leagueRepository.existsLeague(leagueCode)).thenReturn(false);
+
+		// a League starting on the fifth real-world round of its season
+		userService.createLeague("My League", admin, leagueCode, 2025, 5);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<MatchDay>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(matchDayRepository, times(1)).saveAll(captor.capture());
+        assertThat(captor.getValue()).hasSize(MatchDay.MATCH_DAYS_IN_LEAGUE).allSatisfy(matchDay -> {
+            assertThat(matchDay.getSeason()).isEqualTo(2025);
+            assertThat(matchDay.getRealRound()).isEqualTo(matchDay.getNumber() + 4);
+        });
 	}
 
 	@Test
@@ -132,8 +173,7 @@ public class UserServiceTest {
 		FantaUser admin = new FantaUser("admin@test.com", "pwd");
 		String leagueCode = "L001";
 
-		League existingLeague = new League(admin, "Existing League", leagueCode);
-		when(leagueRepository.getLeagueByCode(leagueCode)).thenReturn(Optional.of(existingLeague));
+		when(leagueRepository.existsLeague(leagueCode)).thenReturn(true);
 
 		assertThatThrownBy(() -> userService.createLeague("New League", admin, leagueCode))
 				.isInstanceOf(IllegalArgumentException.class)
@@ -146,7 +186,7 @@ public class UserServiceTest {
 		League league = new League(user, "Test League", "L002");
 		FantaTeam team = new FantaTeam("Team A", league, 0, user, Set.of());
 
-		when(leagueRepository.getLeaguesByMember(user)).thenReturn(Set.of());
+		when(leagueRepository.existsTeamOf(user, league)).thenReturn(false);
 
 		userService.joinLeague(team, league);
 		verify(teamRepository, times(1)).saveTeam(team);
@@ -158,11 +198,7 @@ public class UserServiceTest {
 		League league = new League(user, "Test League", "L002");
 		FantaTeam team = new FantaTeam("Team A", league, 0, user, Set.of());
 
-		List<FantaTeam> teamList = new ArrayList<FantaTeam>();
-		for (int i = 0; i < 8; i++) {
-			teamList.add(new FantaTeam(null, league, i, user, null));
-		}
-		when(leagueRepository.getAllTeams(league)).thenReturn(teamList);
+		when(leagueRepository.countTeams(league)).thenReturn(8L);
 
 		assertThatThrownBy(() -> userService.joinLeague(team, league)).isInstanceOf(UnsupportedOperationException.class)
 				.hasMessageContaining("Maximum 8 teams per league");
@@ -173,6 +209,7 @@ public class UserServiceTest {
     void testJoinLeagueAsJournalist_AdminTriesToJoin(){
         FantaUser user = new FantaUser("user@test.com", "pwd");
         League league = new League(user, "Test League", "L002");
+        when(leagueRepository.getLeagueByCode("L002")).thenReturn(Optional.of(league));
 
         assertThatThrownBy(() -> userService.joinLeagueAsJournalist(league,user)).isInstanceOf(IllegalStateException.class)
                 .hasMessageContaining("l'admin non può essere il giornalista");
@@ -184,20 +221,47 @@ public class UserServiceTest {
         League league = new League(user, "Test League", "L002");
         FantaUser journalist = new FantaUser("j@mail", "psw");
         league.setNewsPaper(journalist);
+        when(leagueRepository.getLeagueByCode("L002")).thenReturn(Optional.of(league));
 
         assertThatThrownBy(() -> userService.joinLeagueAsJournalist(league,journalist)).isInstanceOf(IllegalStateException.class)
                 .hasMessageContaining("La lega ha già un giornalista associato!");
     }
 
+    @Test
+    void testJoinLeagueAsJournalist_StaleLeague(){
+        FantaUser user = new FantaUser("user@test.com", "pwd");
+        League stale = new League(user, "Test League", "L002");
+        League stored = new League(user, "Test League", "L002");
+        FantaUser journalist = new FantaUser("j@mail", "psw");
+        stored.setNewsPaper(new FantaUser("other@mail", "psw"));
+        when(leagueRepository.getLeagueByCode("L002")).thenReturn(Optional.of(stored));
+
+        assertThatThrownBy(() -> userService.joinLeagueAsJournalist(stale,journalist)).isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("La lega ha già un giornalista associato!");
+        assertThat(stale.getNewsPaper()).isNull();
+    }
+
+    @Test
+    void testJoinLeagueAsJournalist_LeagueNotFound(){
+        FantaUser user = new FantaUser("user@test.com", "pwd");
+        League league = new League(user, "Test League", "L002");
+        when(leagueRepository.getLeagueByCode("L002")).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> userService.joinLeagueAsJournalist(league,new FantaUser("j@mail", "psw")))
+                .isInstanceOf(IllegalArgumentException.class).hasMessageContaining("The league does not exist");
+    }
+
     @Test
     void testJoinLeagueAsJournalist() {
         FantaUser user = new FantaUser("user@test.com", "pwd");
         League league = new League(user, "Test League", "L002");
+        League stored = new League(user, "Test League", "L002");
         FantaUser journalist = new FantaUser("j@mail", "psw");
 
-        when(leagueRepository.getLeaguesByMember(user)).thenReturn(Set.of());
+        when(leagueRepository.getLeagueByCode("L002")).thenReturn(Optional.of(stored));
 
         userService.joinLeagueAsJournalist(league,journalist);
+        assertTrue(stored.getNewsPaper().equals(journalist));
         assertTrue(league.getNewsPaper().equals(journalist));
     }
 
@@ -207,7 +271,7 @@ public class UserServiceTest {
 		League league = new League(user, "Test League", "L002");
 		FantaTeam team = new FantaTeam("Team A", league, 0, user, Set.of());
 
-		when(leagueRepository.getLeaguesByMember(user)).thenReturn(Set.of(league));
+		when(leagueRepository.existsTeamOf(user, league)).thenReturn(true);
 
 		assertThatThrownBy(() -> userService.joinLeague(team, league)).isInstanceOf(IllegalArgumentException.class)
 				.hasMessageContaining("You have already a team in this league");
@@ -227,8 +291,6 @@ public class UserServiceTest {
         FantaTeam team = new FantaTeam("Dream Team", league, 30, user, contracts);
         FantaTeam team2 = new FantaTeam("Dream Team2", league, 30, user2, null);
         Match match = new Match(matchDay, team, team2);
-        Match previousMatch = new Match(matchDay, team2, team);
-        Result previousResult = new Result(70, 60, 1, 0, previousMatch);
 		
 		// Players for LineUp
 		Goalkeeper gk1 = new Goalkeeper("portiere", "titolare", Player.Club.ATALANTA);
@@ -289,11 +351,11 @@ public class UserServiceTest {
 				.withSubstituteForwards(sf1, sf2, sf3);
 
 		// Stub repos
-        when(context.getMatchDayRepository().getEarliestUpcomingMatchDay(league)).thenReturn(Optional.of(matchDay));
-        when(context.getMatchRepository().getMatchBy(matchDay, team)).thenReturn(Optional.of(match));
-		when(context.getMatchDayRepository().getLatestEndedMatchDay(league)).thenReturn(Optional.of(previousMatchDay));
-        when(context.getMatchRepository().getMatchBy(previousMatchDay, team)).thenReturn(Optional.of(previousMatch));
-        when(context.getResultsRepository().getResultFor(previousMatch)).thenReturn(Optional.of(previousResult));
+        stubOwnership(team);
+        when(context.getMatchDayRepository().getEarliestUpcomingMatchDay(league, FetchPlan.THIN)).thenReturn(Optional.of(matchDay));
+        when(context.getMatchRepository().getAllMatchesIn(matchDay, FetchPlan.THIN)).thenReturn(List.of(match));
+		when(context.getMatchDayRepository().getLatestEndedMatchDay(league, FetchPlan.THIN)).thenReturn(Optional.of(previousMatchDay));
+        when(context.getMatchRepository().existsMatchWithoutResult(previousMatchDay)).thenReturn(false);
 		when(context.getLineUpRepository().getLineUpByMatchAndTeam(match, team)).thenReturn(Optional.empty());
 
 		userService.saveLineUp(lineUp);
@@ -301,6 +363,95 @@ public class UserServiceTest {
 		verify(context.getLineUpRepository()).saveLineUp(lineUp);
 	}
 
+	@Test
+	void testSaveLineUp_ReusesLifecycleSnapshot() {
+        FantaUser admin = new FantaUser("admin@test.com", "pwd");
+        FantaUser user = new FantaUser("user@test.com", "pwd");
+        FantaUser user2 = new FantaUser("user2@test.com", "pwd");
+        League league = new League(admin, "Test League", "L003");
+        MatchDay matchDay = new MatchDay("MD2",2, MatchDay.Status.FUTURE, league);
+        MatchDay previousMatchDay = new MatchDay("MD1",1, MatchDay.Status.PAST, league);
+        HashSet<Contract> contracts = new HashSet<>();
+        FantaTeam team = new FantaTeam("Dream Team", league, 30, user, contracts);
+        FantaTeam team2 = new FantaTeam("Dream Team2", league, 30, user2, null);
+        Match match = new Match(matchDay, team, team2);
+		
+		// Players for LineUp
+		Goalkeeper gk1 = new Goalkeeper("portiere", "titolare", Player.Club.ATALANTA);
+
+		Defender d1 = new Defender("difensore1", "titolare", Player.Club.ATALANTA);
+		Defender d2 = new Defender("difensore2", "titolare", Player.Club.ATALANTA);
+		Defender d3 = new Defender("difensore3", "titolare", Player.Club.ATALANTA);
+		Defender d4 = new Defender("difensore4", "titolare", Player.Club.ATALANTA);
+
+		Midfielder m1 = new Midfielder("centrocampista1", "titolare", Player.Club.ATALANTA);
+		Midfielder m2 = new Midfielder("centrocampista2", "titolare", Player.Club.ATALANTA);
+		Midfielder m3 = new Midfielder("centrocampista3", "titolare", Player.Club.ATALANTA);
+
+		Forward f1 = new Forward("attaccante1", "titolare", Player.Club.ATALANTA);
+		Forward f2 = new Forward("attaccante2", "titolare", Player.Club.ATALANTA);
+		Forward f3 = new Forward("attaccante3", "titolare", Player.Club.ATALANTA);
+
+		Goalkeeper sgk1 = new Goalkeeper("portiere1", "panchina", Player.Club.ATALANTA);
+		Goalkeeper sgk2 = new Goalkeeper("portiere2", "panchina", Player.Club.ATALANTA);
+		Goalkeeper sgk3 = new Goalkeeper("portiere3", "panchina", Player.Club.ATALANTA);
+
+		Defender sd1 = new Defender("difensore1", "panchina", Player.Club.ATALANTA);
+		Defender sd2 = new Defender("difensore2", "panchina", Player.Club.ATALANTA);
+		Defender sd3 = new Defender("difensore3", "panchina", Player.Club.ATALANTA);
+
+		Midfielder sm1 = new Midfielder("centrocampista1", "panchina", Player.Club.ATALANTA);
+		Midfielder sm2 = new Midfielder("centrocampista2", "panchina", Player.Club.ATALANTA);
+		Midfielder sm3 = new Midfielder("centrocampista3", "panchina", Player.Club.ATALANTA);
+
+		Forward sf1 = new Forward("attaccante1", "panchina", Player.Club.ATALANTA);
+		Forward sf2 = new Forward("attaccante2", "panchina", Player.Club.ATALANTA);
+		Forward sf3 = new Forward("attaccante3", "panchina", Player.Club.ATALANTA);
+
+		List<Player> players = List.of(
+				gk1, 
+				d1, d2, d3, d4, 
+				m1, m2, m3, 
+				f1, f2, f3, 
+				sgk1, sgk2, sgk3, 
+				sd1, sd2, sd3,
+				sm1, sm2, sm3,
+				sf1, sf2, sf3);
+		
+		// team & contracts
+		players.forEach(player -> contracts.add(new Contract(team, player)));
+		
+		LineUp lineUp = LineUp.build()
+				.forTeam(team)
+				.inMatch(match)
+				.withStarterLineUp(Scheme433.starterLineUp()
+						.withGoalkeeper(gk1)
+						.withDefenders(d1, d2, d3, d4)
+						.withMidfielders(m1, m2, m3)
+						.withForwards(f1, f2, f3))
+				.withSubstituteGoalkeepers(sgk1, sgk2, sgk3)
+				.withSubstituteDefenders(sd1, sd2, sd3)
+				.withSubstituteMidfielders(sm1, sm2, sm3)
+				.withSubstituteForwards(sf1, sf2, sf3);
+
+		// Stub repos
+        stubOwnership(team);
+        when(context.getMatchDayRepository().getEarliestUpcomingMatchDay(league, FetchPlan.THIN)).thenReturn(Optional.of(matchDay));
+        when(context.getMatchRepository().getAllMatchesIn(matchDay, FetchPlan.THIN)).thenReturn(List.of(match));
+		when(context.getMatchDayRepository().getLatestEndedMatchDay(league, FetchPlan.THIN)).thenReturn(Optional.of(previousMatchDay));
+        when(context.getMatchRepository().existsMatchWithoutResult(previousMatchDay)).thenReturn(false);
+		when(context.getLineUpRepository().getLineUpByMatchAndTeam(match, team)).thenReturn(Optional.empty());
+
+		// WHEN the same LineUp is saved twice
+		userService.saveLineUp(lineUp);
+		userService.saveLineUp(lineUp);
+
+		// THEN the League's calendar is only read once
+		verify(matchDayRepository, times(1)).getEarliestUpcomingMatchDay(league, FetchPlan.THIN);
+		verify(matchDayRepository, times(1)).getLatestEndedMatchDay(league, FetchPlan.THIN);
+		verify(lineUpRepository, times(2)).saveLineUp(lineUp);
+	}
+
 	@Test
 	void testSaveLineUp_MatchDayNotCorrect() {
         FantaUser admin = new FantaUser("admin@test.com", "pwd");
@@ -348,7 +499,7 @@ public class UserServiceTest {
 						new Player.Forward("attaccante2", "panchina", Player.Club.ATALANTA),
 						new Player.Forward("attaccante3", "panchina", Player.Club.ATALANTA));
 
-        when(context.getMatchDayRepository().getEarliestUpcomingMatchDay(league)).thenReturn(Optional.of(nextMatchDay));
+        when(context.getMatchDayRepository().getEarliestUpcomingMatchDay(league, FetchPlan.THIN)).thenReturn(Optional.of(nextMatchDay));
 
 		assertThatThrownBy(() -> userService.saveLineUp(lineUp)).isInstanceOf(RuntimeException.class)
 				.hasMessageContaining("The matchDay of the lineUp is incorrect");
@@ -403,7 +554,7 @@ public class UserServiceTest {
 						new Player.Forward("attaccante3", "panchina", Player.Club.ATALANTA));
 
 
-        when(context.getMatchDayRepository().getEarliestUpcomingMatchDay(league)).thenReturn(Optional.of(matchDay));
+        when(context.getMatchDayRepository().getEarliestUpcomingMatchDay(league, FetchPlan.THIN)).thenReturn(Optional.of(matchDay));
 		assertThatThrownBy(() -> userService.saveLineUp(lineUp)).isInstanceOf(IllegalArgumentException.class)
 				.hasMessageContaining("The fantaTeam in the lineUp is not correct");
         verifyNoMoreInteractions(lineUpRepository);
@@ -480,7 +631,7 @@ public class UserServiceTest {
                 .withSubstituteForwards(sf1, sf2, sf3);
 
         // Stub repos
-        when(context.getMatchDayRepository().getEarliestUpcomingMatchDay(league)).thenReturn(Optional.empty());
+        when(context.getMatchDayRepository().getEarliestUpcomingMatchDay(league, FetchPlan.THIN)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> userService.saveLineUp(lineUp)).isInstanceOf(RuntimeException.class)
                 .hasMessageContaining("The league ended");
@@ -557,8 +708,8 @@ public class UserServiceTest {
                 .withSubstituteForwards(sf1, sf2, sf3);
 
         // Stub repos
-        when(context.getMatchDayRepository().getEarliestUpcomingMatchDay(league)).thenReturn(Optional.of(matchDay));
-        when(context.getMatchRepository().getMatchBy(matchDay, team)).thenReturn(Optional.empty());
+        when(context.getMatchDayRepository().getEarliestUpcomingMatchDay(league, FetchPlan.THIN)).thenReturn(Optional.of(matchDay));
+        when(context.getMatchRepository().getAllMatchesIn(matchDay, FetchPlan.THIN)).thenReturn(List.of());
 
         assertThatThrownBy(() -> userService.saveLineUp(lineUp)).isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("The match does not exists");
@@ -639,8 +790,8 @@ public class UserServiceTest {
                 .withSubstituteForwards(sf1, sf2, sf3);
 
         // Stub repos
-        when(context.getMatchDayRepository().getEarliestUpcomingMatchDay(league)).thenReturn(Optional.of(matchDay));
-        when(context.getMatchRepository().getMatchBy(matchDay, team)).thenReturn(Optional.of(correctMatch));
+        when(context.getMatchDayRepository().getEarliestUpcomingMatchDay(league, FetchPlan.THIN)).thenReturn(Optional.of(matchDay));
+        when(context.getMatchRepository().getAllMatchesIn(matchDay, FetchPlan.THIN)).thenReturn(List.of(correctMatch));
 
         assertThatThrownBy(() -> userService.saveLineUp(lineUp)).isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("The match is not correct");
@@ -660,8 +811,6 @@ public class UserServiceTest {
         FantaTeam team = new FantaTeam("Dream Team", league, 30, user, contracts);
         FantaTeam team2 = new FantaTeam("Dream Team2", league, 30, user2, null);
         Match match = new Match(matchDay, team, team2);
-        Match previousMatch = new Match(matchDay, team2, team);
-        Result previousResult = new Result(70, 60, 1, 0, previousMatch);
 
 
         LineUp lineUp = LineUp.build()
@@ -699,11 +848,11 @@ public class UserServiceTest {
 						new Player.Forward("attaccante2", "panchina", Player.Club.ATALANTA),
 						new Player.Forward("attaccante3", "panchina", Player.Club.ATALANTA));
 
-        when(context.getMatchDayRepository().getEarliestUpcomingMatchDay(league)).thenReturn(Optional.of(matchDay));
-        when(context.getMatchRepository().getMatchBy(matchDay, team)).thenReturn(Optional.of(match));
-        when(context.getMatchDayRepository().getLatestEndedMatchDay(league)).thenReturn(Optional.of(previousMatchDay));
-        when(context.getMatchRepository().getMatchBy(previousMatchDay, team)).thenReturn(Optional.of(previousMatch));
-        when(context.getResultsRepository().getResultFor(previousMatch)).thenReturn(Optional.of(previousResult));
+        stubOwnership(team);
+        when(context.getMatchDayRepository().getEarliestUpcomingMatchDay(league, FetchPlan.THIN)).thenReturn(Optional.of(matchDay));
+        when(context.getMatchRepository().getAllMatchesIn(matchDay, FetchPlan.THIN)).thenReturn(List.of(match));
+        when(context.getMatchDayRepository().getLatestEndedMatchDay(league, FetchPlan.THIN)).thenReturn(Optional.of(previousMatchDay));
+        when(context.getMatchRepository().existsMatchWithoutResult(previousMatchDay)).thenReturn(false);
         when(context.getLineUpRepository().getLineUpByMatchAndTeam(match, team)).thenReturn(Optional.empty());
 
 		assertThatThrownBy(() -> userService.saveLineUp(lineUp)).isInstanceOf(IllegalArgumentException.class)
@@ -722,7 +871,6 @@ public class UserServiceTest {
         FantaTeam team = new FantaTeam("Dream Team", league, 30, user, contracts);
         FantaTeam team2 = new FantaTeam("Dream Team2", league, 30, user2, null);
         Match match = new Match(matchDay, team, team2);
-        Match previousMatch = new Match(matchDay, team2, team);
 
 		LineUp lineUp = LineUp.build()
 				.forTeam(team)
@@ -759,11 +907,10 @@ public class UserServiceTest {
 						new Player.Forward("attaccante2", "panchina", Player.Club.ATALANTA),
 						new Player.Forward("attaccante3", "panchina", Player.Club.ATALANTA));
 
-        when(context.getMatchDayRepository().getEarliestUpcomingMatchDay(league)).thenReturn(Optional.of(matchDay));
-        when(context.getMatchRepository().getMatchBy(matchDay, team)).thenReturn(Optional.of(match));
-        when(context.getMatchDayRepository().getLatestEndedMatchDay(league)).thenReturn(Optional.of(previousMatchDay));
-        when(context.getMatchRepository().getMatchBy(previousMatchDay, team)).thenReturn(Optional.of(previousMatch));
-        when(context.getResultsRepository().getResultFor(previousMatch)).thenReturn(Optional.empty());
+        when(context.getMatchDayRepository().getEarliestUpcomingMatchDay(league, FetchPlan.THIN)).thenReturn(Optional.of(matchDay));
+        when(context.getMatchRepository().getAllMatchesIn(matchDay, FetchPlan.THIN)).thenReturn(List.of(match));
+        when(context.getMatchDayRepository().getLatestEndedMatchDay(league, FetchPlan.THIN)).thenReturn(Optional.of(previousMatchDay));
+        when(context.getMatchRepository().existsMatchWithoutResult(previousMatchDay)).thenReturn(true);
         when(context.getLineUpRepository().getLineUpByMatchAndTeam(match, team)).thenReturn(Optional.empty());
 
 		assertThatThrownBy(() -> userService.saveLineUp(lineUp)).isInstanceOf(UnsupportedOperationException.class)
@@ -782,8 +929,6 @@ public class UserServiceTest {
         FantaTeam team = new FantaTeam("Dream Team", league, 30, user, contracts);
         FantaTeam team2 = new FantaTeam("Dream Team2", league, 30, user2, null);
         Match match = new Match(matchDay, team, team2);
-        Match previousMatch = new Match(matchDay, team2, team);
-        Result previousResult = new Result(70, 60, 1, 0, previousMatch);
 		// Players for LineUp
 		Goalkeeper gk1 = new Goalkeeper("portiere", "titolare", Player.Club.ATALANTA);
 
@@ -844,18 +989,106 @@ public class UserServiceTest {
 		LineUp oldLineUp = mock(LineUp.class);
 
 
-        when(context.getMatchDayRepository().getEarliestUpcomingMatchDay(league)).thenReturn(Optional.of(matchDay));
-        when(context.getMatchRepository().getMatchBy(matchDay, team)).thenReturn(Optional.of(match));
-        when(context.getMatchDayRepository().getLatestEndedMatchDay(league)).thenReturn(Optional.of(previousMatchDay));
-        when(context.getMatchRepository().getMatchBy(previousMatchDay, team)).thenReturn(Optional.of(previousMatch));
-        when(context.getResultsRepository().getResultFor(previousMatch)).thenReturn(Optional.of(previousResult));
+        stubOwnership(team);
+        when(context.getMatchDayRepository().getEarliestUpcomingMatchDay(league, FetchPlan.THIN)).thenReturn(Optional.of(matchDay));
+        when(context.getMatchRepository().getAllMatchesIn(matchDay, FetchPlan.THIN)).thenReturn(List.of(match));
+        when(context.getMatchDayRepository().getLatestEndedMatchDay(league, FetchPlan.THIN)).thenReturn(Optional.of(previousMatchDay));
+        when(context.getMatchRepository().existsMatchWithoutResult(previousMatchDay)).thenReturn(false);
+        when(lineUpRepository.getContentHash(match, team)).thenReturn(Optional.of(lineUp.getContentHash() + 1));
         when(context.getLineUpRepository().getLineUpByMatchAndTeam(match, team)).thenReturn(Optional.of(oldLineUp));
 
 		userService.saveLineUp(lineUp);
 
-		// verify that the old lineup is deleted and the new one saved
-		verify(context.getLineUpRepository()).deleteLineUp(any(LineUp.class));
-		verify(context.getLineUpRepository()).saveLineUp(lineUp);
+		// verify that the stored lineup is updated in place
+		verify(oldLineUp).updateFrom(lineUp);
+		verify(lineUpRepository).updateLineUp(oldLineUp);
+		verify(lineUpRepository, never()).deleteLineUp(any());
+		verify(lineUpRepository, never()).saveLineUp(any());
+	}
+
+	@Test
+	void testSaveLineUp_UnchangedLineUp() {
+        FantaUser admin = new FantaUser("admin@test.com", "pwd");
+        FantaUser user = new FantaUser("user@test.com", "pwd");
+        FantaUser user2 = new FantaUser("user2@test.com", "pwd");
+        League league = new League(admin, "Test League", "L003");
+        MatchDay matchDay = new MatchDay("MD2",2, MatchDay.Status.FUTURE, league);
+        MatchDay previousMatchDay = new MatchDay("MD1",1, MatchDay.Status.PAST, league);
+        HashSet<Contract> contracts = new HashSet<>();
+        FantaTeam team = new FantaTeam("Dream Team", league, 30, user, contracts);
+        FantaTeam team2 = new FantaTeam("Dream Team2", league, 30, user2, null);
+        Match match = new Match(matchDay, team, team2);
+		// Players for LineUp
+		Goalkeeper gk1 = new Goalkeeper("portiere", "titolare", Player.Club.ATALANTA);
+
+		Defender d1 = new Defender("difensore1", "titolare", Player.Club.ATALANTA);
+		Defender d2 = new Defender("difensore2", "titolare", Player.Club.ATALANTA);
+		Defender d3 = new Defender("difensore3", "titolare", Player.Club.ATALANTA);
+		Defender d4 = new Defender("difensore4", "titolare", Player.Club.ATALANTA);
+
+		Midfielder m1 = new Midfielder("centrocampista1", "titolare", Player.Club.ATALANTA);
+		Midfielder m2 = new Midfielder("centrocampista2", "titolare", Player.Club.ATALANTA);
+		Midfielder m3 = new Midfielder("centrocampista3", "titolare", Player.Club.ATALANTA);
+
+		Forward f1 = new Forward("attaccante1", "titolare", Player.Club.ATALANTA);
+		Forward f2 = new Forward("attaccante2", "titolare", Player.Club.ATALANTA);
+		Forward f3 = new Forward("attaccante3", "titolare", Player.Club.ATALANTA);
+
+		Goalkeeper sgk1 = new Goalkeeper("portiere1", "panchina", Player.Club.ATALANTA);
+		Goalkeeper sgk2 = new Goalkeeper("portiere2", "panchina", Player.Club.ATALANTA);
+		Goalkeeper sgk3 = new Goalkeeper("portiere3", "panchina", Player.Club.ATALANTA);
+
+		Defender sd1 = new Defender("difensore1", "panchina", Player.Club.ATALANTA);
+		Defender sd2 = new Defender("difensore2", "panchina", Player.Club.ATALANTA);
+		Defender sd3 = new Defender("difensore3", "panchina", Player.Club.ATALANTA);
+
+		Midfielder sm1 = new Midfielder("centrocampista1", "panchina", Player.Club.ATALANTA);
+		Midfielder sm2 = new Midfielder("centrocampista2", "panchina", Player.Club.ATALANTA);
+		Midfielder sm3 = new Midfielder("centrocampista3", "panchina", Player.Club.ATALANTA);
+
+		Forward sf1 = new Forward("attaccante1", "panchina", Player.Club.ATALANTA);
+		Forward sf2 = new Forward("attaccante2", "panchina", Player.Club.ATALANTA);
+		Forward sf3 = new Forward("attaccante3", "panchina", Player.Club.ATALANTA);
+
+		List<Player> players = List.of(
+				gk1, 
+				d1, d2, d3, d4, 
+				m1, m2, m3, 
+				f1, f2, f3, 
+				sgk1, sgk2, sgk3, 
+				sd1, sd2, sd3,
+				sm1, sm2, sm3,
+				sf1, sf2, sf3);
+
+		players.stream().map(player -> new Contract(team, player)).forEach(contracts::add);
+		
+		// LineUps
+		LineUp lineUp = LineUp.build()
+				.forTeam(team)
+				.inMatch(match)
+				.withStarterLineUp(Scheme433.starterLineUp()
+						.withGoalkeeper(gk1)
+						.withDefenders(d1, d2, d3, d4)
+						.withMidfielders(m1, m2, m3)
+						.withForwards(f1, f2, f3))
+				.withSubstituteGoalkeepers(sgk1, sgk2, sgk3)
+				.withSubstituteDefenders(sd1, sd2, sd3)
+				.withSubstituteMidfielders(sm1, sm2, sm3)
+				.withSubstituteForwards(sf1, sf2, sf3);
+
+
+        stubOwnership(team);
+        when(context.getMatchDayRepository().getEarliestUpcomingMatchDay(league, FetchPlan.THIN)).thenReturn(Optional.of(matchDay));
+        when(context.getMatchRepository().getAllMatchesIn(matchDay, FetchPlan.THIN)).thenReturn(List.of(match));
+        when(context.getMatchDayRepository().getLatestEndedMatchDay(league, FetchPlan.THIN)).thenReturn(Optional.of(previousMatchDay));
+        when(context.getMatchRepository().existsMatchWithoutResult(previousMatchDay)).thenReturn(false);
+        when(lineUpRepository.getContentHash(match, team)).thenReturn(Optional.of(lineUp.getContentHash()));
+
+		userService.saveLineUp(lineUp);
+
+		// verify that nothing is written, nor the stored lineup loaded
+		verify(lineUpRepository).getContentHash(match, team);
+		verifyNoMoreInteractions(lineUpRepository);
 	}
 
 	@Test
@@ -877,6 +1110,31 @@ public class UserServiceTest {
 		assertThat(result).containsExactly(p);
 	}
 
+	@Test
+	void testForEachPlayer() {
+		Player p1 = new Player.Goalkeeper("Mile", "Svilar", Player.Club.ROMA);
+		Player p2 = new Player.Goalkeeper("Yann", "Sommer", Player.Club.INTER);
+		boolean[] closed = { false };
+		PlayerFilter goalkeepers = new PlayerFilter(Player.Goalkeeper.class, null);
+		when(context.getPlayerRepository().streamPlayers(eq(goalkeepers), anyInt()))
+				.thenReturn(Stream.of(p1, p2).onClose(() -> closed[0] = true));
+
+		List<Player> exported = new ArrayList<>();
+		userService.forEachPlayer(goalkeepers, exported::add);
+
+		assertThat(exported).containsExactly(p1, p2);
+		assertThat(closed[0]).isTrue();
+	}
+
+	@Test
+	void testGetPlayerRowsBySurname() {
+		PlayerRow row = new PlayerRow(1L, "Mile", "Svilar", Player.Club.ROMA, Player.Goalkeeper.class);
+		when(context.getPlayerRepository().findPlayerRowsBySurname("Svilar")).thenReturn(List.of(row));
+
+		List<PlayerRow> result = userService.getPlayerRowsBySurname("Svilar");
+		assertThat(result).containsExactly(row);
+	}
+
 	@Test
 	void testGetAllMatches() {
         FantaUser user = new FantaUser("user@test.com", "pwd");
@@ -885,12 +1143,14 @@ public class UserServiceTest {
 		MatchDay day1 = new MatchDay("1 giornata", 1, MatchDay.Status.FUTURE, league);
         FantaTeam team = new FantaTeam("Team", league, 0, user, null);
         FantaTeam team1 = new FantaTeam("Team1", league, 0, user1, null);
+		MatchDay day2 = new MatchDay("2 giornata", 2, MatchDay.Status.FUTURE, league);
 		Match m1 = new Match(day1, team, team1);
-		when(context.getMatchDayRepository().getAllMatchDays(league)).thenReturn(List.of(day1));
-		when(context.getMatchRepository().getAllMatchesIn(day1)).thenReturn(List.of(m1));
+		Match m2 = new Match(day2, team1, team);
+		when(context.getMatchRepository().getAllMatchesIn(league)).thenReturn(List.of(m1, m2));
 
 		Map<MatchDay, List<Match>> result = userService.getAllMatches(league);
-		assertThat(result.get(day1)).containsExactly(m1);
+		assertThat(result).containsExactly(entry(day1, List.of(m1)), entry(day2, List.of(m2)));
+		verify(context.getMatchRepository(), never()).getAllMatchesIn(any(MatchDay.class), any());
 	}
 
 	@Test
@@ -907,12 +1167,29 @@ public class UserServiceTest {
 		assertThat(standings).containsExactly(team1, team);
 	}
 
+	@Test
+	void testGetStandingsFromMaterializedTable() {
+        FantaUser user = new FantaUser("user@test.com", "pwd");
+        FantaUser user1 = new FantaUser("mail", "psw");
+        League league = new League(user, "Test League", "L005");
+        FantaTeam team = new FantaTeam("Team", league, 10, user, null);
+        FantaTeam team1 = new FantaTeam("Team1", league, 20, user1, null);
+        Standing first = new Standing(team1);
+        Standing second = new Standing(team);
+        when(standingRepository.getStandings(league)).thenReturn(List.of(first, second));
+
+		List<FantaTeam> standings = userService.getStandings(league);
+
+		assertThat(standings).containsExactly(team1, team);
+		verifyNoInteractions(teamRepository);
+	}
+
 	@Test
 	void testGetFantaTeamByUserAndLeague() {
         FantaUser user = new FantaUser("user@test.com", "pwd");
         League league = new League(user, "Test League", "L005");
         FantaTeam team = new FantaTeam("FantaTeam", league, 0, user, new HashSet<>());
-		when(teamRepository.getFantaTeamByUserAndLeague(league, user)).thenReturn(Optional.of(team));
+		when(teamRepository.getFantaTeamByUserAndLeague(league, user, FetchPlan.WITH_ROSTER)).thenReturn(Optional.of(team));
 
 		Optional<FantaTeam> result = userService.getFantaTeamByUserAndLeague(league, user);
 		assertThat(result).hasValue(team);
@@ -980,7 +1257,7 @@ public class UserServiceTest {
         contracts.add(offeredContract);
         contracts1.add(requestedContract);
 
-        when(proposalRepository.getProposalBy(offeredContract, requestedContract)).thenReturn(Optional.of(proposal));
+        when(proposalRepository.getProposalBy(offeredContract, requestedContract, FetchPlan.THIN)).thenReturn(Optional.of(proposal));
 		assertThatThrownBy(() -> userService.acceptProposal(proposal, team2))
 				.isInstanceOf(IllegalArgumentException.class)
 				.hasMessageContaining("You are not involved in this proposal");
@@ -1005,7 +1282,8 @@ public class UserServiceTest {
         Contract receivedContract = new Contract(team, p2);
         Contract givenContract = new Contract(team1, p1);
 
-        when(proposalRepository.getProposalBy(proposal.getOfferedContract(), proposal.getRequestedContract())).thenReturn(Optional.of(proposal));
+        stubOwnership(team, team1);
+        when(proposalRepository.getProposalBy(proposal.getOfferedContract(), proposal.getRequestedContract(), FetchPlan.THIN)).thenReturn(Optional.of(proposal));
 
 		// Run test
 		userService.acceptProposal(proposal, team1);
@@ -1016,6 +1294,8 @@ public class UserServiceTest {
 		verify(context.getContractRepository()).saveContract(receivedContract);
         verify(context.getContractRepository()).saveContract(givenContract);
 		verify(context.getProposalRepository()).deleteProposal(proposal);
+        verify(contractRepository).getContract(team1, p2);
+        verify(contractRepository).getContract(team, p1);
         verifyNoMoreInteractions(contractRepository);
         verifyNoMoreInteractions(resultRepository);
 	}
@@ -1036,15 +1316,15 @@ public class UserServiceTest {
         Proposal proposal = new Proposal(offeredContract, requestedContract);
         contracts.add(offeredContract);
 
-		// Create a simple subclass of UserService for testing that overrides
-		// searchContract
-
-        when(proposalRepository.getProposalBy(proposal.getOfferedContract(), proposal.getRequestedContract())).thenReturn(Optional.of(proposal));
+        stubOwnership(team, team1);
+        when(proposalRepository.getProposalBy(proposal.getOfferedContract(), proposal.getRequestedContract(), FetchPlan.THIN)).thenReturn(Optional.of(proposal));
 
 
         assertThatThrownBy(() -> userService.acceptProposal(proposal, team1))
 				.isInstanceOf(IllegalArgumentException.class)
 				.hasMessageContaining("One or both players do not play anymore");
+        verify(contractRepository).getContract(team1, p2);
+        verify(contractRepository).getContract(team, p1);
         verifyNoMoreInteractions(contractRepository);
 	}
 
@@ -1065,14 +1345,14 @@ public class UserServiceTest {
         contracts.add(offeredContract);
         contracts1.add(requestedContract);
 
-        when(proposalRepository.getProposalBy(proposal.getOfferedContract(), proposal.getRequestedContract())).thenReturn(Optional.empty());
+        when(proposalRepository.getProposalBy(proposal.getOfferedContract(), proposal.getRequestedContract(), FetchPlan.THIN)).thenReturn(Optional.empty());
 
 
         assertThatThrownBy(() -> userService.acceptProposal(proposal, team1))
                 .isInstanceOf(RuntimeException.class)
                 .hasMessageContaining("Proposal does not exists");
         verifyNoMoreInteractions(contractRepository);
-        verify(proposalRepository).getProposalBy(proposal.getOfferedContract(), proposal.getRequestedContract());
+        verify(proposalRepository).getProposalBy(proposal.getOfferedContract(), proposal.getRequestedContract(), FetchPlan.THIN);
     }
 
 	@Test
@@ -1091,7 +1371,7 @@ public class UserServiceTest {
         Proposal proposal = new Proposal(offeredContract, requestedContract);
         contracts.add(offeredContract);
         contracts1.add(requestedContract);
-        when(proposalRepository.getProposalBy(proposal.getOfferedContract(), proposal.getRequestedContract())).thenReturn(Optional.of(proposal));
+        when(proposalRepository.getProposalBy(proposal.getOfferedContract(), proposal.getRequestedContract(), FetchPlan.THIN)).thenReturn(Optional.of(proposal));
 
         // Call the method under test
 		userService.rejectProposal(proposal, team1);
@@ -1118,7 +1398,7 @@ public class UserServiceTest {
         Proposal proposal = new Proposal(offeredContract, requestedContract);
         contracts.add(offeredContract);
         contracts1.add(requestedContract);
-        when(proposalRepository.getProposalBy(proposal.getOfferedContract(), proposal.getRequestedContract())).thenReturn(Optional.of(proposal));
+        when(proposalRepository.getProposalBy(proposal.getOfferedContract(), proposal.getRequestedContract(), FetchPlan.THIN)).thenReturn(Optional.of(proposal));
 
         assertThatThrownBy(() -> userService.rejectProposal(proposal, team2))
 				.isInstanceOf(IllegalArgumentException.class)
@@ -1141,13 +1421,13 @@ public class UserServiceTest {
         Proposal proposal = new Proposal(offeredContract, requestedContract);
         contracts.add(offeredContract);
         contracts1.add(requestedContract);
-        when(proposalRepository.getProposalBy(proposal.getOfferedContract(), proposal.getRequestedContract())).thenReturn(Optional.empty());
+        when(proposalRepository.getProposalBy(proposal.getOfferedContract(), proposal.getRequestedContract(), FetchPlan.THIN)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> userService.rejectProposal(proposal, team1))
                 .isInstanceOf(RuntimeException.class)
                 .hasMessageContaining("Proposal does not exists");
 
-        verify(proposalRepository).getProposalBy(proposal.getOfferedContract(), proposal.getRequestedContract());
+        verify(proposalRepository).getProposalBy(proposal.getOfferedContract(), proposal.getRequestedContract(), FetchPlan.THIN);
     }
 
 	@Test
@@ -1182,8 +1462,9 @@ public class UserServiceTest {
         FantaTeam team1 = new FantaTeam("FantaTeam1", league, 0, user1, contracts1);
         Player p1 = new Player.Midfielder("Christian", "Pulisic", Player.Club.MILAN);
         Player p2 = new Player.Midfielder("Nico", "Paz", Player.Club.COMO);
-        when(teamRepository.getFantaTeamByUserAndLeague(league, user)).thenReturn(Optional.of(team));
-        when(teamRepository.getFantaTeamByUserAndLeague(league, user1)).thenReturn(Optional.of(team1));
+        stubOwnership(team, team1);
+        when(teamRepository.getFantaTeamByUserAndLeague(league, user, FetchPlan.THIN)).thenReturn(Optional.of(team));
+        when(teamRepository.getFantaTeamByUserAndLeague(league, user1, FetchPlan.THIN)).thenReturn(Optional.of(team1));
 
         boolean proposal = userService.createProposal(p2, p1, team, team1);
         assertThat(proposal).isFalse();
@@ -1203,8 +1484,9 @@ public class UserServiceTest {
         Player p2 = new Player.Midfielder("Nico", "Paz", Player.Club.COMO);
         Contract offeredContract = new Contract(team, p1);
         contracts.add(offeredContract);
-        when(teamRepository.getFantaTeamByUserAndLeague(league, user)).thenReturn(Optional.of(team));
-        when(teamRepository.getFantaTeamByUserAndLeague(league, user1)).thenReturn(Optional.of(team1));
+        stubOwnership(team, team1);
+        when(teamRepository.getFantaTeamByUserAndLeague(league, user, FetchPlan.THIN)).thenReturn(Optional.of(team));
+        when(teamRepository.getFantaTeamByUserAndLeague(league, user1, FetchPlan.THIN)).thenReturn(Optional.of(team1));
 
 
 
@@ -1225,8 +1507,9 @@ public class UserServiceTest {
         Player p2 = new Player.Midfielder("Nico", "Paz", Player.Club.COMO);
         Contract requestedContract = new Contract(team1, p2);
         contracts1.add(requestedContract);
-        when(teamRepository.getFantaTeamByUserAndLeague(league, user)).thenReturn(Optional.of(team));
-        when(teamRepository.getFantaTeamByUserAndLeague(league, user1)).thenReturn(Optional.of(team1));
+        stubOwnership(team, team1);
+        when(teamRepository.getFantaTeamByUserAndLeague(league, user, FetchPlan.THIN)).thenReturn(Optional.of(team));
+        when(teamRepository.getFantaTeamByUserAndLeague(league, user1, FetchPlan.THIN)).thenReturn(Optional.of(team1));
 
 
         assertThat(userService.createProposal(p2, p1, team, team1)).isFalse();
@@ -1248,15 +1531,16 @@ public class UserServiceTest {
         Contract offeredContract = new Contract(team, p1);
         contracts.add(offeredContract);
         contracts1.add(requestedContract);
-        when(teamRepository.getFantaTeamByUserAndLeague(league, user)).thenReturn(Optional.of(team));
-        when(teamRepository.getFantaTeamByUserAndLeague(league, user1)).thenReturn(Optional.of(team1));
+        stubOwnership(team, team1);
+        when(teamRepository.getFantaTeamByUserAndLeague(league, user, FetchPlan.THIN)).thenReturn(Optional.of(team));
+        when(teamRepository.getFantaTeamByUserAndLeague(league, user1, FetchPlan.THIN)).thenReturn(Optional.of(team1));
 
-		when(context.getProposalRepository().getProposalBy(offeredContract, requestedContract))
+		when(context.getProposalRepository().getProposalBy(offeredContract, requestedContract, FetchPlan.THIN))
 				.thenReturn(Optional.of(new Proposal(offeredContract,requestedContract)));
 
 		assertThatThrownBy(() -> userService.createProposal(p2, p1, team, team1))
 				.isInstanceOf(IllegalArgumentException.class).hasMessageContaining("The proposal already exists");
-        verify(proposalRepository).getProposalBy(offeredContract, requestedContract);
+        verify(proposalRepository).getProposalBy(offeredContract, requestedContract, FetchPlan.THIN);
 	}
 
 	@Test
@@ -1274,9 +1558,10 @@ public class UserServiceTest {
         Contract offeredContract = new Contract(team, p1);
         contracts.add(offeredContract);
         contracts1.add(requestedContract);
-        when(teamRepository.getFantaTeamByUserAndLeague(league, user)).thenReturn(Optional.of(team));
-        when(teamRepository.getFantaTeamByUserAndLeague(league, user1)).thenReturn(Optional.of(team1));
-        when(context.getProposalRepository().getProposalBy(offeredContract, requestedContract))
+        stubOwnership(team, team1);
+        when(teamRepository.getFantaTeamByUserAndLeague(league, user, FetchPlan.THIN)).thenReturn(Optional.of(team));
+        when(teamRepository.getFantaTeamByUserAndLeague(league, user1, FetchPlan.THIN)).thenReturn(Optional.of(team1));
+        when(context.getProposalRepository().getProposalBy(offeredContract, requestedContract, FetchPlan.THIN))
 				.thenReturn(Optional.empty());
 
 		assertThat(userService.createProposal(p2, p1, team, team1)).isTrue();
@@ -1311,9 +1596,9 @@ public class UserServiceTest {
         Contract offeredContract = new Contract(team, p1);
         contracts.add(offeredContract);
         contracts1.add(requestedContract);
-        when(teamRepository.getFantaTeamByUserAndLeague(league, user)).thenReturn(Optional.empty());
-        when(teamRepository.getFantaTeamByUserAndLeague(league, user1)).thenReturn(Optional.of(team1));
-        when(context.getProposalRepository().getProposalBy(offeredContract, requestedContract))
+        when(teamRepository.getFantaTeamByUserAndLeague(league, user, FetchPlan.THIN)).thenReturn(Optional.empty());
+        when(teamRepository.getFantaTeamByUserAndLeague(league, user1, FetchPlan.THIN)).thenReturn(Optional.of(team1));
+        when(context.getProposalRepository().getProposalBy(offeredContract, requestedContract, FetchPlan.THIN))
                 .thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> userService.createProposal(p2, p1, team, team1))
@@ -1336,9 +1621,9 @@ public class UserServiceTest {
         Contract offeredContract = new Contract(team, p1);
         contracts.add(offeredContract);
         contracts1.add(requestedContract);
-        when(teamRepository.getFantaTeamByUserAndLeague(league, user)).thenReturn(Optional.of(team));
-        when(teamRepository.getFantaTeamByUserAndLeague(league, user1)).thenReturn(Optional.empty());
-        when(context.getProposalRepository().getProposalBy(offeredContract, requestedContract))
+        when(teamRepository.getFantaTeamByUserAndLeague(league, user, FetchPlan.THIN)).thenReturn(Optional.of(team));
+        when(teamRepository.getFantaTeamByUserAndLeague(league, user1, FetchPlan.THIN)).thenReturn(Optional.empty());
+        when(context.getProposalRepository().getProposalBy(offeredContract, requestedContract, FetchPlan.THIN))
                 .thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> userService.createProposal(p2, p1, team, team1))
@@ -1361,9 +1646,9 @@ public class UserServiceTest {
         Contract offeredContract = new Contract(team, p1);
         contracts.add(offeredContract);
         contracts1.add(requestedContract);
-        when(teamRepository.getFantaTeamByUserAndLeague(league, user)).thenReturn(Optional.empty());
-        when(teamRepository.getFantaTeamByUserAndLeague(league, user1)).thenReturn(Optional.empty());
-        when(context.getProposalRepository().getProposalBy(offeredContract, requestedContract))
+        when(teamRepository.getFantaTeamByUserAndLeague(league, user, FetchPlan.THIN)).thenReturn(Optional.empty());
+        when(teamRepository.getFantaTeamByUserAndLeague(league, user1, FetchPlan.THIN)).thenReturn(Optional.empty());
+        when(context.getProposalRepository().getProposalBy(offeredContract, requestedContract, FetchPlan.THIN))
                 .thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> userService.createProposal(p2, p1, team, team1))
@@ -1388,9 +1673,9 @@ public class UserServiceTest {
         Contract offeredContract = new Contract(team, p1);
         contracts.add(offeredContract);
         contracts1.add(requestedContract);
-        when(teamRepository.getFantaTeamByUserAndLeague(league, user)).thenReturn(Optional.of(team2));
-        when(teamRepository.getFantaTeamByUserAndLeague(league, user1)).thenReturn(Optional.of(team1));
-        when(context.getProposalRepository().getProposalBy(offeredContract, requestedContract))
+        when(teamRepository.getFantaTeamByUserAndLeague(league, user, FetchPlan.THIN)).thenReturn(Optional.of(team2));
+        when(teamRepository.getFantaTeamByUserAndLeague(league, user1, FetchPlan.THIN)).thenReturn(Optional.of(team1));
+        when(context.getProposalRepository().getProposalBy(offeredContract, requestedContract, FetchPlan.THIN))
                 .thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> userService.createProposal(p2, p1, team, team1))
@@ -1415,9 +1700,9 @@ public class UserServiceTest {
         Contract offeredContract = new Contract(team, p1);
         contracts.add(offeredContract);
         contracts1.add(requestedContract);
-        when(teamRepository.getFantaTeamByUserAndLeague(league, user)).thenReturn(Optional.of(team));
-        when(teamRepository.getFantaTeamByUserAndLeague(league, user1)).thenReturn(Optional.of(team2));
-        when(context.getProposalRepository().getProposalBy(offeredContract, requestedContract))
+        when(teamRepository.getFantaTeamByUserAndLeague(league, user, FetchPlan.THIN)).thenReturn(Optional.of(team));
+        when(teamRepository.getFantaTeamByUserAndLeague(league, user1, FetchPlan.THIN)).thenReturn(Optional.of(team2));
+        when(context.getProposalRepository().getProposalBy(offeredContract, requestedContract, FetchPlan.THIN))
                 .thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> userService.createProposal(p2, p1, team, team1))
@@ -1442,9 +1727,9 @@ public class UserServiceTest {
         Contract offeredContract = new Contract(team, p1);
         contracts.add(offeredContract);
         contracts1.add(requestedContract);
-        when(teamRepository.getFantaTeamByUserAndLeague(league, user)).thenReturn(Optional.of(team2));
-        when(teamRepository.getFantaTeamByUserAndLeague(league, user1)).thenReturn(Optional.of(team2));
-        when(context.getProposalRepository().getProposalBy(offeredContract, requestedContract))
+        when(teamRepository.getFantaTeamByUserAndLeague(league, user, FetchPlan.THIN)).thenReturn(Optional.of(team2));
+        when(teamRepository.getFantaTeamByUserAndLeague(league, user1, FetchPlan.THIN)).thenReturn(Optional.of(team2));
+        when(context.getProposalRepository().getProposalBy(offeredContract, requestedContract, FetchPlan.THIN))
                 .thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> userService.createProposal(p2, p1, team, team1))
@@ -1487,4 +1772,20 @@ public class UserServiceTest {
 		verify(teamRepository).getAllTeams(league);
 	}
 
+
+	// serves Contract lookups from the Contracts held by the given teams
+	private void stubOwnership(FantaTeam... teams) {
+		Set<Contract> contracts = new HashSet<>();
+		for (FantaTeam team : teams)
+			contracts.addAll(team.getContracts());
+		when(contractRepository.getContract(any(), any())).thenAnswer(invocation -> contracts.stream()
+				.filter(contract -> contract.getTeam().equals(invocation.getArgument(0))
+						&& contract.getPlayer().equals(invocation.getArgument(1)))
+				.findFirst());
+		when(contractRepository.getContractedAmong(any(), any())).thenAnswer(invocation -> contracts.stream()
+				.filter(contract -> contract.getTeam().equals(invocation.getArgument(0)))
+				.map(Contract::getPlayer)
+				.filter(invocation.<Collection<Player>>getArgument(1)::contains)
+				.collect(Collectors.toSet()));
+	}
 }
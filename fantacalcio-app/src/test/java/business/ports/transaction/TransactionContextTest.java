@@ -0,0 +1,69 @@
+package business.ports.transaction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import business.ports.repository.FantaUserRepository;
+import business.ports.repository.LeagueRepository;
+import business.ports.transaction.TransactionManager.RepositoryFactory;
+import business.ports.transaction.TransactionManager.TransactionContext;
+
+@Tag("mockito-agent")
+@ExtendWith(MockitoExtension.class)
+@DisplayName("A TransactionContext")
+class TransactionContextTest {
+
+	private @Mock RepositoryFactory repositoryFactory;
+	private TransactionContext context;
+
+	@BeforeEach
+	void setUp() {
+		context = new TransactionContext(repositoryFactory);
+	}
+
+	@Test
+	@DisplayName("creates no Repository until one is requested")
+	void testNoRepositoryCreatedUpfront() {
+		verifyNoInteractions(repositoryFactory);
+	}
+
+	@Test
+	@DisplayName("creates only the Repositories that are requested")
+	void testCreatesRequestedRepositoryOnly(@Mock FantaUserRepository fantaUserRepository) {
+
+		// GIVEN the factory is able to create a FantaUserRepository
+		when(repositoryFactory.createFantaUserRepository()).thenReturn(fantaUserRepository);
+
+		// WHEN the SUT is asked for a FantaUserRepository
+		FantaUserRepository retrieved = context.getFantaUserRepository();
+
+		// THEN only that Repository is created
+		assertThat(retrieved).isSameAs(fantaUserRepository);
+		verify(repositoryFactory).createFantaUserRepository();
+		verifyNoMoreInteractions(repositoryFactory);
+	}
+
+	@Test
+	@DisplayName("reuses a Repository across repeated requests")
+	void testReusesRepository(@Mock LeagueRepository leagueRepository) {
+
+		// GIVEN the factory is able to create a LeagueRepository
+		when(repositoryFactory.createLeagueRepository()).thenReturn(leagueRepository);
+
+		// WHEN the SUT is asked for a LeagueRepository more than once
+		LeagueRepository first = context.getLeagueRepository();
+		LeagueRepository second = context.getLeagueRepository();
+
+		// THEN the same instance is returned, having been created once
+		assertThat(second).isSameAs(first);
+		verify(repositoryFactory, times(1)).createLeagueRepository();
+	}
+}
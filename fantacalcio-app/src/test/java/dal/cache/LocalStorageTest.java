@@ -0,0 +1,153 @@
+package dal.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import dal.cache.LocalRegionFactory.RegionMetrics;
+
+@DisplayName("a LocalStorage")
+class LocalStorageTest {
+
+	// a clock tests can move forward
+	private static class SettableClock extends Clock {
+		private Instant now = Instant.parse("2025-09-01T00:00:00Z");
+
+		void advance(Duration duration) {
+			now = now.plus(duration);
+		}
+
+		@Override
+		public Instant instant() {
+			return now;
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return this;
+		}
+	}
+
+	private SettableClock clock;
+
+	@BeforeEach
+	void setup() {
+		clock = new SettableClock();
+	}
+
+	@Test
+	@DisplayName("rejects a non-positive maximum number of entries")
+	void testNonPositiveMaxEntries() {
+		assertThatThrownBy(() -> new LocalStorage(0, null, clock))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessageContaining("must be positive");
+	}
+
+	@Nested
+	@DisplayName("when full")
+	class WhenFull {
+
+		@Test
+		@DisplayName("evicts the least recently used entry")
+		void testEvictsLeastRecentlyUsed() {
+			// GIVEN a storage holding as many entries as it can
+			LocalStorage storage = new LocalStorage(2, null, clock);
+			storage.putIntoCache("a", 1, null);
+			storage.putIntoCache("b", 2, null);
+
+			// WHEN one entry is read and then another one is added
+			storage.getFromCache("a", null);
+			storage.putIntoCache("c", 3, null);
+
+			// THEN the entry unread for longest is gone, and the eviction is counted
+			assertThat(storage.contains("a")).isTrue();
+			assertThat(storage.contains("b")).isFalse();
+			assertThat(storage.contains("c")).isTrue();
+			assertThat(storage.getMetrics()).isEqualTo(new RegionMetrics(2, 1, 0));
+		}
+
+		@Test
+		@DisplayName("does not evict on overwriting an entry")
+		void testOverwriteDoesNotEvict() {
+			LocalStorage storage = new LocalStorage(2, null, clock);
+			storage.putIntoCache("a", 1, null);
+			storage.putIntoCache("b", 2, null);
+
+			storage.putIntoCache("a", 3, null);
+
+			assertThat(storage.getFromCache("a", null)).isEqualTo(3);
+			assertThat(storage.getMetrics()).isEqualTo(new RegionMetrics(2, 0, 0));
+		}
+	}
+
+	@Nested
+	@DisplayName("with a time to live")
+	class WithTimeToLive {
+
+		@Test
+		@DisplayName("serves entries younger than it")
+		void testServesFreshEntries() {
+			LocalStorage storage = new LocalStorage(10, Duration.ofMinutes(5), clock);
+			storage.putIntoCache("a", 1, null);
+
+			clock.advance(Duration.ofMinutes(4));
+
+			assertThat(storage.getFromCache("a", null)).isEqualTo(1);
+		}
+
+		@Test
+		@DisplayName("drops entries as old as it, counting them as expired")
+		void testDropsExpiredEntries() {
+			// GIVEN an entry was stored a time to live ago
+			LocalStorage storage = new LocalStorage(10, Duration.ofMinutes(5), clock);
+			storage.putIntoCache("a", 1, null);
+			clock.advance(Duration.ofMinutes(5));
+
+			// WHEN it is read
+			Object read = storage.getFromCache("a", null);
+
+			// THEN it is a miss, and the entry is removed
+			assertThat(read).isNull();
+			assertThat(storage.getMetrics()).isEqualTo(new RegionMetrics(0, 0, 1));
+		}
+
+		@Test
+		@DisplayName("is renewed on overwriting an entry")
+		void testOverwriteRenewsEntry() {
+			LocalStorage storage = new LocalStorage(10, Duration.ofMinutes(5), clock);
+			storage.putIntoCache("a", 1, null);
+			clock.advance(Duration.ofMinutes(4));
+
+			storage.putIntoCache("a", 2, null);
+			clock.advance(Duration.ofMinutes(4));
+
+			assertThat(storage.getFromCache("a", null)).isEqualTo(2);
+		}
+	}
+
+	@Test
+	@DisplayName("keeps entries with no time to live until evicted")
+	void testNoTimeToLive() {
+		LocalStorage storage = new LocalStorage(10, null, clock);
+		storage.putIntoCache("a", 1, null);
+
+		clock.advance(Duration.ofDays(365));
+
+		assertThat(storage.getFromCache("a", null)).isEqualTo(1);
+	}
+}
@@ -0,0 +1,333 @@
+package dal.repository.jpa;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.junit.jupiter.api.*;
+
+import domain.*;
+import domain.Player.*;
+import domain.scheme.Scheme433;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * tests that a {@link JpaCompactLineUpRepository} correctly persists,
+ * retrieves and deletes {@link LineUp}s as single rows, and that
+ * {@link CompactLineUpMigration} moves LineUps onto such rows.
+ */
+class JpaCompactLineUpRepositoryTest {
+
+	private static SessionFactory sessionFactory;
+
+	// the SUT reference
+	private JpaCompactLineUpRepository lineUpRepository;
+	private EntityManager entityManager;  // the EntityManager the SUT is constructed on
+
+	// references to setup entities managed in @BeforeEach
+	private League league;
+	private MatchDay matchDay;
+	private FantaTeam opponent;
+	private FantaUser manager;
+
+	@BeforeAll
+	static void initializeSessionFactory() {
+		try {
+			StandardServiceRegistry serviceRegistry = new StandardServiceRegistryBuilder()
+					.configure("hibernate-test.cfg.xml").build();
+
+			Metadata metadata = new MetadataSources(serviceRegistry)
+					.addAnnotatedClass(CompactLineUp.class)
+					.addAnnotatedClass(LineUp.class)
+					.addAnnotatedClass(MatchDay.class)
+					.addAnnotatedClass(FantaUser.class)
+					.addAnnotatedClass(Match.class)
+					.addAnnotatedClass(FantaTeam.class)
+					.addAnnotatedClass(Fielding.class)
+					.addAnnotatedClass(Fielding.StarterFielding.class)
+					.addAnnotatedClass(Fielding.SubstituteFielding.class)
+					.addAnnotatedClass(Goalkeeper.class)
+					.addAnnotatedClass(Defender.class)
+					.addAnnotatedClass(Midfielder.class)
+					.addAnnotatedClass(Forward.class)
+					.addAnnotatedClass(Contract.class)
+					.addAnnotatedClass(League.class)
+					.getMetadataBuilder().build();
+
+			sessionFactory = metadata.getSessionFactoryBuilder().build();
+		} catch (Throwable ex) {
+			throw new ExceptionInInitializerError(ex);
+		}
+	}
+
+	@BeforeEach
+	void truncatorAndInstantiatorAndSetup() {
+
+		// GIVEN the persistence unit is wiped clean
+		sessionFactory.getSchemaManager().truncateMappedObjects();
+
+		// AND a new SUT instance is constructed
+		entityManager = sessionFactory.createEntityManager();
+		lineUpRepository = new JpaCompactLineUpRepository(entityManager);
+
+		// AND common setup entities are assembled and persisted
+		sessionFactory.inTransaction(em -> {
+			manager = new FantaUser("manager@example.com", "securePass");
+			em.persist(manager);
+			league = new League(manager, "Serie A", "code");
+			em.persist(league);
+			opponent = new FantaTeam("Challengers", league, 25, manager, new HashSet<>());
+			em.persist(opponent);
+			matchDay = new MatchDay("1 giornata", 1, MatchDay.Status.FUTURE, league);
+			em.persist(matchDay);
+		});
+	}
+
+	@AfterAll
+	static void tearDown() {
+		sessionFactory.close();
+	}
+
+	@Test
+	@DisplayName("PackedIdsConverter round-trips Player ids in their order")
+	void testPackedIdsRoundTrip() {
+		CompactLineUp.PackedIdsConverter converter = new CompactLineUp.PackedIdsConverter();
+		long[] ids = {42, 7, Long.MAX_VALUE, 1};
+
+		byte[] packed = converter.convertToDatabaseColumn(ids);
+
+		assertThat(packed).hasSize(ids.length * Long.BYTES);
+		assertThat(converter.convertToEntityAttribute(packed)).containsExactly(ids);
+	}
+
+	@Nested
+	@DisplayName("given a LineUp instance is ready to be persisted")
+	class LineUpReadyForPersisting {
+
+		private FantaTeam team;
+		private Match match;
+		private Goalkeeper gk1, sgk1, sgk2, sgk3;
+		private Defender d1, d2, d3, d4, sd1, sd2, sd3;
+		private Midfielder m1, m2, m3, sm1, sm2, sm3;
+		private Forward f1, f2, f3, sf1, sf2, sf3;
+		private LineUp readyToBePersisted;
+
+		@BeforeEach
+		void prepareLineUpInstance() {
+
+			// GIVEN a LineUp's ancillary entities are instantiated
+			gk1 = new Goalkeeper("portiere", "titolare", Player.Club.ATALANTA);
+
+			d1 = new Defender("difensore1", "titolare", Player.Club.ATALANTA);
+			d2 = new Defender("difensore2", "titolare", Player.Club.ATALANTA);
+			d3 = new Defender("difensore3", "titolare", Player.Club.ATALANTA);
+			d4 = new Defender("difensore4", "titolare", Player.Club.ATALANTA);
+
+			m1 = new Midfielder("centrocampista1", "titolare", Player.Club.ATALANTA);
+			m2 = new Midfielder("centrocampista2", "titolare", Player.Club.ATALANTA);
+			m3 = new Midfielder("centrocampista3", "titolare", Player.Club.ATALANTA);
+
+			f1 = new Forward("attaccante1", "titolare", Player.Club.ATALANTA);
+			f2 = new Forward("attaccante2", "titolare", Player.Club.ATALANTA);
+			f3 = new Forward("attaccante3", "titolare", Player.Club.ATALANTA);
+
+			sgk1 = new Goalkeeper("portiere1", "panchina", Player.Club.ATALANTA);
+			sgk2 = new Goalkeeper("portiere2", "panchina", Player.Club.ATALANTA);
+			sgk3 = new Goalkeeper("portiere3", "panchina", Player.Club.ATALANTA);
+
+			sd1 = new Defender("difensore1", "panchina", Player.Club.ATALANTA);
+			sd2 = new Defender("difensore2", "panchina", Player.Club.ATALANTA);
+			sd3 = new Defender("difensore3", "panchina", Player.Club.ATALANTA);
+
+			sm1 = new Midfielder("centrocampista1", "panchina", Player.Club.ATALANTA);
+			sm2 = new Midfielder("centrocampista2", "panchina", Player.Club.ATALANTA);
+			sm3 = new Midfielder("centrocampista3", "panchina", Player.Club.ATALANTA);
+
+			sf1 = new Forward("attaccante1", "panchina", Player.Club.ATALANTA);
+			sf2 = new Forward("attaccante2", "panchina", Player.Club.ATALANTA);
+			sf3 = new Forward("attaccante3", "panchina", Player.Club.ATALANTA);
+
+			List<Player> players = List.of(
+					gk1,
+					d1, d2, d3, d4,
+					m1, m2, m3,
+					f1, f2, f3,
+					sgk1, sgk2, sgk3,
+					sd1, sd2, sd3,
+					sm1, sm2, sm3,
+					sf1, sf2, sf3);
+
+			Set<Contract> contracts = new HashSet<Contract>();
+			team = new FantaTeam("Dream Team", league, 30, manager, contracts);
+			players.stream().map(p -> new Contract(team, p)).forEach(contracts::add);
+
+			match = new Match(matchDay, team, opponent);
+
+			// AND a LineUp's ancillary entities are persisted
+			sessionFactory.inTransaction(em -> {
+				players.forEach(em::persist);
+				em.persist(team);  // relies on cascading for Contracts
+				em.persist(match);
+			});
+
+			// AND a LineUp instance is assembled, ready to be persisted
+			readyToBePersisted = lineUpWithBench(sgk1, sgk2, sgk3);
+		}
+
+		private LineUp lineUpWithBench(Goalkeeper bench1, Goalkeeper bench2, Goalkeeper bench3) {
+			return LineUp.build()
+					.forTeam(team)
+					.inMatch(match)
+					.withStarterLineUp(Scheme433.starterLineUp()
+							.withGoalkeeper(gk1)
+							.withDefenders(d1, d2, d3, d4)
+							.withMidfielders(m1, m2, m3)
+							.withForwards(f1, f2, f3))
+					.withSubstituteGoalkeepers(bench1, bench2, bench3)
+					.withSubstituteDefenders(sd1, sd2, sd3)
+					.withSubstituteMidfielders(sm1, sm2, sm3)
+					.withSubstituteForwards(sf1, sf2, sf3);
+		}
+
+		private void inSutTransaction(Runnable code) {
+			entityManager.getTransaction().begin();
+			code.run();
+			entityManager.getTransaction().commit();
+			entityManager.clear();
+		}
+
+		@Test
+		@DisplayName("saveLineUp persists a LineUp as a single row, retrieved by getLineUpByMatchAndTeam")
+		void testSaveLineUpPersistsSingleRow() {
+
+			// WHEN the SUT is used to persist a LineUp
+			inSutTransaction(() -> lineUpRepository.saveLineUp(readyToBePersisted));
+
+			// THEN a single row is stored, and no Fielding rows
+			assertThat(sessionFactory.fromTransaction((Session em) -> em
+					.createQuery("FROM CompactLineUp", CompactLineUp.class).getResultList()))
+					.hasSize(1);
+			assertThat(sessionFactory.fromTransaction((Session em) -> em
+					.createQuery("FROM Fielding", Fielding.class).getResultList()))
+					.isEmpty();
+
+			// AND the LineUp is rebuilt equal to that persisted
+			assertThat(sessionFactory.fromTransaction((Session em) -> new JpaCompactLineUpRepository(em)
+					.getLineUpByMatchAndTeam(match, team)))
+					.isPresent().hasValueSatisfying(readyToBePersisted::recursiveEquals);
+		}
+
+		@Test
+		@DisplayName("getLineUpByMatchAndTeam returns empty if no lineup exists")
+		void testGetLineUpByMatchAndTeamEmpty() {
+			Optional<LineUp> result = lineUpRepository.getLineUpByMatchAndTeam(match, team);
+
+			assertThat(result).isEmpty();
+		}
+
+		@Test
+		@DisplayName("getContentHash returns the content hash of a saved LineUp, or empty")
+		void testGetContentHash() {
+
+			// GIVEN a LineUp is saved
+			inSutTransaction(() -> lineUpRepository.saveLineUp(readyToBePersisted));
+
+			// THEN only its content hash is found
+			assertThat(lineUpRepository.getContentHash(match, team)).contains(readyToBePersisted.getContentHash());
+			assertThat(lineUpRepository.getContentHash(match, opponent)).isEmpty();
+		}
+
+		@Test
+		@DisplayName("updateLineUp overwrites the row of a retrieved, then updated LineUp")
+		void testUpdateLineUpOverwritesRow() {
+
+			// GIVEN a LineUp is saved
+			inSutTransaction(() -> lineUpRepository.saveLineUp(readyToBePersisted));
+			LineUp changed = lineUpWithBench(sgk3, sgk2, sgk1);
+
+			// WHEN it is retrieved, updated from a changed LineUp and saved back
+			inSutTransaction(() -> {
+				LineUp stored = lineUpRepository.getLineUpByMatchAndTeam(match, team).orElseThrow();
+				stored.updateFrom(changed);
+				lineUpRepository.updateLineUp(stored);
+			});
+
+			// THEN the same single row now holds the changed LineUp
+			assertThat(sessionFactory.fromTransaction((Session em) -> em
+					.createQuery("FROM CompactLineUp", CompactLineUp.class).getResultList()))
+					.hasSize(1);
+			assertThat(lineUpRepository.getLineUpByMatchAndTeam(match, team))
+					.isPresent().hasValueSatisfying(changed::recursiveEquals);
+			assertThat(lineUpRepository.getContentHash(match, team)).contains(changed.getContentHash());
+		}
+
+		@Test
+		@DisplayName("deleteLineUp removes the LineUp's row")
+		void testDeleteLineUpRemovesRow() {
+
+			// GIVEN a LineUp is saved
+			inSutTransaction(() -> lineUpRepository.saveLineUp(readyToBePersisted));
+
+			// WHEN the SUT is used to delete it
+			inSutTransaction(() -> lineUpRepository.deleteLineUp(readyToBePersisted));
+
+			// THEN no rows are left
+			assertThat(sessionFactory.fromTransaction((Session em) -> em
+					.createQuery("FROM CompactLineUp", CompactLineUp.class).getResultList()))
+					.isEmpty();
+		}
+
+		@Test
+		@DisplayName("getAllLineUpsIn retrieves only the LineUps for Matches on a given MatchDay")
+		void testGetAllLineUpsIn() {
+
+			// GIVEN a LineUp is saved
+			inSutTransaction(() -> lineUpRepository.saveLineUp(readyToBePersisted));
+
+			// AND a further MatchDay with a Match but no LineUps is persisted
+			MatchDay otherMatchDay = new MatchDay("2 giornata", 2, MatchDay.Status.FUTURE, league);
+			sessionFactory.inTransaction(em -> {
+				em.persist(otherMatchDay);
+				em.persist(new Match(otherMatchDay, opponent, team));
+			});
+
+			// THEN only the LineUp on the first MatchDay is retrieved
+			assertThat(lineUpRepository.getAllLineUpsIn(matchDay))
+					.singleElement().satisfies(readyToBePersisted::recursiveEquals);
+			assertThat(lineUpRepository.getAllLineUpsIn(otherMatchDay)).isEmpty();
+		}
+
+		@Test
+		@DisplayName("CompactLineUpMigration moves a LineUp off its Fielding rows")
+		void testMigration() {
+
+			// GIVEN a LineUp is persisted as LineUp and Fielding rows
+			sessionFactory.inTransaction(em -> em.persist(readyToBePersisted));
+
+			// WHEN the LineUps of every MatchDay are migrated
+			int[] migrated = new int[1];
+			inSutTransaction(() -> migrated[0] = new CompactLineUpMigration(entityManager).migrateAll());
+
+			// THEN the LineUp is retrieved from its single row
+			assertThat(migrated[0]).isEqualTo(1);
+			assertThat(lineUpRepository.getLineUpByMatchAndTeam(match, team))
+					.isPresent().hasValueSatisfying(readyToBePersisted::recursiveEquals);
+
+			// AND its original rows are gone
+			assertThat(sessionFactory.fromTransaction((Session em) -> em
+					.createQuery("FROM LineUp", LineUp.class).getResultList()))
+					.isEmpty();
+			assertThat(sessionFactory.fromTransaction((Session em) -> em
+					.createQuery("FROM Fielding", Fielding.class).getResultList()))
+					.isEmpty();
+		}
+	}
+}
@@ -1,9 +1,13 @@
 package dal.repository.jpa;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
 
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import org.hibernate.Session;
 import org.hibernate.SessionFactory;
 import org.hibernate.boot.Metadata;
@@ -21,6 +25,8 @@ import domain.Contract;
 import domain.FantaTeam;
 import domain.FantaUser;
 import domain.League;
+import domain.Match;
+import domain.MatchDay;
 import domain.Player;
 import domain.Player.Club;
 import domain.Player.Forward;
@@ -50,6 +56,8 @@ class JpaContractRepositoryTest {
 					.addAnnotatedClass(Player.Defender.class)
 					.addAnnotatedClass(FantaUser.class)
 					.addAnnotatedClass(League.class)
+					.addAnnotatedClass(MatchDay.class)
+					.addAnnotatedClass(Match.class)
 					.getMetadataBuilder().build();
 
 			sessionFactory = metadata.getSessionFactoryBuilder().build();
@@ -130,6 +138,135 @@ class JpaContractRepositoryTest {
 			assertThat(retrieved1).hasValue(contract1);
 			assertThat(retrieved2).hasValue(contract2);	
 		}
+
+		@Test
+		@DisplayName("for all Teams playing on a given MatchDay")
+		public void testGetAllContractsIn() {
+
+			// GIVEN two further Teams are persisted, only one of which plays test Team
+			// in a Match on a given MatchDay
+			FantaUser user2 = new FantaUser("second@example.com", "pwd");
+			FantaUser user3 = new FantaUser("third@example.com", "pwd");
+			FantaTeam opponent = new FantaTeam("Opponents", league, 5, user2, new HashSet<Contract>());
+			FantaTeam idle = new FantaTeam("Idle", league, 5, user3, new HashSet<Contract>());
+			MatchDay matchDay = new MatchDay("1 giornata", 1, MatchDay.Status.FUTURE, league);
+
+			// AND each Team has a Contract
+			Player player2 = new Player.Defender("Giorgio", "Chiellini", Club.JUVENTUS);
+			Player player3 = new Player.Defender("Paolo", "Maldini", Club.MILAN);
+			Contract contract1 = new Contract(team, player);
+			Contract contract2 = new Contract(opponent, player2);
+			Contract contract3 = new Contract(idle, player3);
+
+			sessionFactory.inTransaction(session -> {
+				session.persist(user2);
+				session.persist(user3);
+				session.persist(opponent);
+				session.persist(idle);
+				session.persist(matchDay);
+				session.persist(new Match(matchDay, opponent, team));
+				session.persist(player2);
+				session.persist(player3);
+				session.persist(contract1);
+				session.persist(contract2);
+				session.persist(contract3);
+			});
+
+			// WHEN the SUT is used to retrieve all Contracts on that MatchDay
+			entityManager.getTransaction().begin();
+			List<Contract> retrieved = contractRepository.getAllContractsIn(matchDay);
+			entityManager.getTransaction().commit();
+			entityManager.clear();
+
+			// THEN only the Contracts of the two playing Teams are retrieved
+			assertThat(retrieved).containsExactlyInAnyOrder(contract1, contract2);
+		}
+
+		@Test
+		@DisplayName("counting a Team's Contracts by role")
+		public void testCountContractsByRole() {
+
+			// GIVEN test Team has Contracts for a Forward and two Defenders
+			Player defender1 = new Player.Defender("Giorgio", "Chiellini", Club.JUVENTUS);
+			Player defender2 = new Player.Defender("Paolo", "Maldini", Club.MILAN);
+
+			// AND another Team has a Contract too
+			FantaUser user2 = new FantaUser("second@example.com", "pwd");
+			FantaTeam other = new FantaTeam("Other", league, 5, user2, new HashSet<Contract>());
+			Player otherForward = new Player.Forward("Francesco", "Totti", Club.ROMA);
+
+			sessionFactory.inTransaction(session -> {
+				session.persist(defender1);
+				session.persist(defender2);
+				session.persist(user2);
+				session.persist(other);
+				session.persist(otherForward);
+				session.persist(new Contract(team, player));
+				session.persist(new Contract(team, defender1));
+				session.persist(new Contract(team, defender2));
+				session.persist(new Contract(other, otherForward));
+			});
+
+			// WHEN the SUT is used to count test Team's Contracts
+			entityManager.getTransaction().begin();
+			Map<Class<? extends Player>, Long> counts = contractRepository.countContractsByRole(team);
+			entityManager.getTransaction().commit();
+			entityManager.clear();
+
+			// THEN only test Team's Contracts are counted, per role
+			assertThat(counts).containsOnly(
+					entry(Player.Forward.class, 1L),
+					entry(Player.Defender.class, 2L));
+		}
+	}
+
+	@Nested
+	@DisplayName("can tell which of some Players are under Contract with a Team")
+	class Ownership {
+
+		@Test
+		@DisplayName("leaving out those of other Teams and those with no Contract")
+		public void testGetContractedAmong() {
+
+			// GIVEN test Team has a Contract
+			Contract contract = new Contract(team, player);
+
+			// AND a Team in another League has a Contract for another Player
+			FantaUser user2 = new FantaUser("second@example.com", "pwd");
+			League otherLeague = new League(user2, "Altra Lega", "5678");
+			FantaTeam stranger = new FantaTeam("Strangers", otherLeague, 0, user2, new HashSet<Contract>());
+			Player player2 = new Player.Defender("Giorgio", "Chiellini", Club.JUVENTUS);
+			Player player3 = new Player.Forward("Marcus", "Thuram", Club.INTER);
+
+			sessionFactory.inTransaction(session -> {
+				session.persist(user2);
+				session.persist(otherLeague);
+				session.persist(stranger);
+				session.persist(player2);
+				session.persist(player3);
+				session.persist(contract);
+				session.persist(new Contract(stranger, player2));
+			});
+
+			// WHEN the SUT is used to look up which of the three Players test Team owns
+			entityManager.getTransaction().begin();
+			Set<Player> owned = contractRepository.getContractedAmong(team, List.of(player, player2, player3));
+			entityManager.getTransaction().commit();
+			entityManager.clear();
+
+			// THEN only the Player under Contract with test Team is returned
+			assertThat(owned).containsExactly(player);
+		}
+
+		@Test
+		@DisplayName("without querying when no Players are given")
+		public void testGetContractedAmongNone() {
+			entityManager.getTransaction().begin();
+			Set<Player> owned = contractRepository.getContractedAmong(team, List.of());
+			entityManager.getTransaction().commit();
+
+			assertThat(owned).isEmpty();
+		}
 	}
 
 	@Nested
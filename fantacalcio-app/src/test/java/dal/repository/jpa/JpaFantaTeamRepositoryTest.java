@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import java.util.Optional;
 import java.util.Set;
 
+import org.hibernate.Hibernate;
 import org.hibernate.Session;
 import org.hibernate.SessionFactory;
 import org.hibernate.boot.Metadata;
@@ -17,6 +18,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import business.ports.repository.FetchPlan;
 import domain.Contract;
 import domain.FantaTeam;
 import domain.FantaUser;
@@ -44,6 +46,7 @@ class JpaFantaTeamRepositoryTest {
 					.addAnnotatedClass(League.class)
 					.addAnnotatedClass(Contract.class)
 					.addAnnotatedClass(Player.class)
+					.addAnnotatedClass(Player.Goalkeeper.class)
 					.getMetadataBuilder().build();
 
 			sessionFactory = metadata.getSessionFactoryBuilder().build();
@@ -193,4 +196,61 @@ class JpaFantaTeamRepositoryTest {
 		}
 	}
 	
+	@Nested
+	@DisplayName("loads as much of a FantaTeam as the FetchPlan asks for")
+	class FetchPlans {
+
+		private FantaUser user;
+		private Player player;
+
+		@BeforeEach
+		void persistTeam() {
+			user = new FantaUser("mail", "pswd");
+			player = new Player.Goalkeeper("portiere", "titolare", Player.Club.ATALANTA);
+			FantaTeam team = new FantaTeam("team", league, 0, user, null);
+			sessionFactory.inTransaction(session -> {
+				session.persist(user);
+				session.persist(team);
+				session.persist(player);
+				session.persist(new Contract(team, player));
+			});
+		}
+
+		@Test
+		@DisplayName("leaving its manager, League admin and roster unloaded with THIN")
+		public void testThinPlan() {
+
+			// WHEN the SUT retrieves the Team with the THIN plan
+			entityManager.getTransaction().begin();
+			FantaTeam retrieved = fantaTeamRepository.getFantaTeamByUserAndLeague(league, user, FetchPlan.THIN).get();
+			entityManager.getTransaction().commit();
+			entityManager.clear();
+
+			// THEN only its League is loaded
+			assertThat(Hibernate.isInitialized(retrieved.getLeague())).isTrue();
+			assertThat(Hibernate.isInitialized(retrieved.getLeague().getAdmin())).isFalse();
+			assertThat(Hibernate.isInitialized(retrieved.getFantaManager())).isFalse();
+			assertThat(Hibernate.isInitialized(retrieved.getContracts())).isFalse();
+		}
+
+		@Test
+		@DisplayName("along with its roster with WITH_ROSTER")
+		public void testWithRosterPlan() {
+
+			// WHEN the SUT retrieves the Team with the WITH_ROSTER plan
+			entityManager.getTransaction().begin();
+			FantaTeam retrieved = fantaTeamRepository.getFantaTeamByUserAndLeague(league, user, FetchPlan.WITH_ROSTER).get();
+			entityManager.getTransaction().commit();
+			entityManager.clear();
+
+			// THEN its manager, League admin and Contracts are loaded, Players included
+			assertThat(Hibernate.isInitialized(retrieved.getLeague().getAdmin())).isTrue();
+			assertThat(Hibernate.isInitialized(retrieved.getFantaManager())).isTrue();
+			assertThat(Hibernate.isInitialized(retrieved.getContracts())).isTrue();
+			assertThat(retrieved.getContracts()).singleElement()
+					.satisfies(contract -> assertThat(Hibernate.isInitialized(contract.getPlayer())).isTrue())
+					.extracting(Contract::getPlayer).isEqualTo(player);
+		}
+	}
+
 }
@@ -106,6 +106,26 @@ class JpaFantaUserRepositoryTest {
 			// THEN an empty Optional is returned
 			assertThat(result).isEmpty();
 		}    
+
+		@Test
+		@DisplayName("when only checking whether the given credentials exist")
+		void testExistsFantaUser() {
+
+			// GIVEN the test User is manually persisted
+			FantaUser user = new FantaUser("anna@example.com", "mypassword");
+			sessionFactory.inTransaction(session -> session.persist(user));
+
+			// WHEN the SUT is used to check for its credentials, and for wrong ones
+			entityManager.getTransaction().begin();
+			boolean exists = fantaUserRepository.existsFantaUser("anna@example.com", "mypassword");
+			boolean wrongPassword = fantaUserRepository.existsFantaUser("anna@example.com", "wrong");
+			entityManager.getTransaction().commit();
+			entityManager.clear();
+
+			// THEN only the former are found
+			assertThat(exists).isTrue();
+			assertThat(wrongPassword).isFalse();
+		}
 	}
 
 }
@@ -1,5 +1,6 @@
 package dal.repository.jpa;
 
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
 import org.hibernate.Session;
 import org.hibernate.SessionFactory;
 import org.hibernate.boot.Metadata;
@@ -12,8 +13,10 @@ import domain.*;
 import domain.Player.Club;
 import jakarta.persistence.EntityManager;
 
+import java.util.HashSet;
 import java.util.List;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class JpaGradeRepositoryTest {
 
@@ -41,6 +44,7 @@ class JpaGradeRepositoryTest {
 					.addAnnotatedClass(Player.Goalkeeper.class)
 					.addAnnotatedClass(Player.Forward.class)
 					.addAnnotatedClass(Contract.class)
+					.addAnnotatedClass(Result.class)
 					.getMetadataBuilder().build();
 
 			sessionFactory = metadata.getSessionFactoryBuilder().build();
@@ -135,6 +139,84 @@ class JpaGradeRepositoryTest {
 			// THEN only the expected Grades are retrieved
 			assertThat(retrieved).containsExactlyInAnyOrder(voto1);
 		}
+
+		@Test
+		@DisplayName("as read-only entities, even within a read-write transaction")
+		public void testRetrievedGradesAreReadOnly() {
+
+			// GIVEN a Grade exists in the database
+			Player player = new Player.Goalkeeper("Gigi", "Buffon", Club.JUVENTUS);
+			sessionFactory.inTransaction(session -> {
+				session.persist(player);
+				session.persist(new Grade(player, matchDay, 6.0));
+			});
+
+			// WHEN the SUT is used to retrieve it in a read-write transaction
+			entityManager.getTransaction().begin();
+			List<Grade> retrieved = gradeRepository.getAllGrades(matchDay);
+
+			// THEN the Grade and its Player are kept with no snapshot for dirty checking
+			Session session = entityManager.unwrap(Session.class);
+			assertThat(retrieved).singleElement().satisfies(grade -> {
+				assertThat(session.isReadOnly(grade)).isTrue();
+				assertThat(session.isReadOnly(grade.getPlayer())).isTrue();
+			});
+			entityManager.getTransaction().commit();
+			entityManager.clear();
+		}
+	}
+
+	@Nested
+	@DisplayName("can correct a Grade")
+	class Correction {
+
+		@Test
+		@DisplayName("when the Grade is stored in the database")
+		void testCorrectGrade() {
+
+			// GIVEN a Grade exists in the database
+			Player player = new Player.Forward("Francesco", "Totti", Club.ROMA);
+			Grade grade = new Grade(player, matchDay, 6.0);
+			sessionFactory.inTransaction(session -> {
+				session.persist(player);
+				session.persist(grade);
+			});
+
+			// WHEN the SUT is used to correct its mark
+			entityManager.getTransaction().begin();
+			Grade corrected = gradeRepository.correctGrade(grade, 7.5);
+			entityManager.getTransaction().commit();
+			entityManager.clear();
+
+			// THEN the stored Grade is replaced by the corrected one
+			assertThat(corrected.getMark()).isEqualTo(7.5);
+			List<Grade> result = sessionFactory.fromTransaction((Session em) -> em
+					.createQuery("FROM Grade g "
+							+ "JOIN FETCH g.player "
+							+ "JOIN FETCH g.matchDay md JOIN FETCH md.league l JOIN FETCH l.admin"
+							, Grade.class)
+					.getResultStream().toList());
+			assertThat(result).containsExactly(corrected);
+		}
+
+		@Test
+		@DisplayName("not when the Grade is not stored in the database")
+		void testCorrectGradeNotStored() {
+
+			// GIVEN a Grade's ancillary entities are persisted, but not the Grade
+			Player player = new Player.Forward("Francesco", "Totti", Club.ROMA);
+			sessionFactory.inTransaction(session -> session.persist(player));
+
+			// WHEN the SUT is used to correct it
+			entityManager.getTransaction().begin();
+			ThrowingCallable correction = () -> gradeRepository.correctGrade(new Grade(player, matchDay, 6.0), 7.5);
+
+			// THEN an exception is thrown
+			assertThatThrownBy(correction).isInstanceOf(IllegalArgumentException.class)
+					.hasMessageContaining("not stored");
+			entityManager.getTransaction().rollback();
+			entityManager.clear();
+		}
 	}
 
 
@@ -163,4 +245,98 @@ class JpaGradeRepositoryTest {
 	    
 	    assertThat(result).containsExactly(grade);
 	}
+
+	@Test
+	@DisplayName("can persist several Grade instances to the database at once")
+	void testSaveAllGrades() {
+
+		// GIVEN the Grades' ancillary entities are manually persisted
+		Player totti = new Player.Forward("Francesco", "Totti", Club.ROMA);
+		Player buffon = new Player.Goalkeeper("Gianluigi", "Buffon", Club.JUVENTUS);
+		sessionFactory.inTransaction(session -> {
+			session.persist(totti);
+			session.persist(buffon);
+		});
+
+		// WHEN the SUT is used to persist several Grades at once
+		Grade grade1 = new Grade(totti, matchDay, 9.0);
+		Grade grade2 = new Grade(buffon, matchDay, 6.5);
+		entityManager.getTransaction().begin();
+		gradeRepository.saveAll(List.of(grade1, grade2));
+		entityManager.getTransaction().commit();
+		entityManager.clear();
+
+		// THEN the Grades are present in the database
+		List<Grade> result = sessionFactory.fromTransaction((Session em) -> em
+				.createQuery("FROM Grade g "
+						+ "JOIN FETCH g.player "
+						+ "JOIN FETCH g.matchDay md JOIN FETCH md.league l JOIN FETCH l.admin"
+						, Grade.class)
+				.getResultStream().toList());
+
+		assertThat(result).containsExactlyInAnyOrder(grade1, grade2);
+	}
+
+	@Test
+	@DisplayName("can write a batch of Grades to the database, clearing them from memory")
+	void testSaveBatch() {
+
+		// GIVEN the Grades' ancillary entities are manually persisted
+		Player totti = new Player.Forward("Francesco", "Totti", Club.ROMA);
+		Player buffon = new Player.Goalkeeper("Gianluigi", "Buffon", Club.JUVENTUS);
+		sessionFactory.inTransaction(session -> {
+			session.persist(totti);
+			session.persist(buffon);
+		});
+
+		// WHEN the SUT is used to save a batch of Grades
+		Grade grade1 = new Grade(totti, matchDay, 9.0);
+		Grade grade2 = new Grade(buffon, matchDay, 6.5);
+		entityManager.getTransaction().begin();
+		gradeRepository.saveBatch(List.of(grade1, grade2));
+
+		// THEN the Grades are no longer held by the persistence context
+		assertThat(entityManager.contains(grade1)).isFalse();
+		assertThat(entityManager.contains(grade2)).isFalse();
+		entityManager.getTransaction().commit();
+		entityManager.clear();
+
+		// AND they are present in the database
+		List<Grade> result = sessionFactory.fromTransaction((Session em) -> em
+				.createQuery("FROM Grade g "
+						+ "JOIN FETCH g.player "
+						+ "JOIN FETCH g.matchDay md JOIN FETCH md.league l JOIN FETCH l.admin"
+						, Grade.class)
+				.getResultStream().toList());
+
+		assertThat(result).containsExactlyInAnyOrder(grade1, grade2);
+	}
+
+	@Test
+	@DisplayName("can tell whether a MatchDay was scored with its Grades")
+	void testIsScored() {
+
+		// GIVEN a Result is calculated for a Match of another MatchDay of the League
+		MatchDay scored = new MatchDay("2 Giornata", 2, MatchDay.Status.PAST, league);
+		FantaTeam team1 = new FantaTeam("Team 1", league, 0, admin, new HashSet<>());
+		FantaTeam team2 = new FantaTeam("Team 2", league, 0, admin, new HashSet<>());
+		Match match = new Match(scored, team1, team2);
+		sessionFactory.inTransaction(session -> {
+			session.persist(scored);
+			session.persist(team1);
+			session.persist(team2);
+			session.persist(match);
+			session.persist(new Result(66, 60, 1, 0, match));
+		});
+
+		// WHEN the SUT is used to check both MatchDays
+		entityManager.getTransaction().begin();
+		boolean scoredIsScored = gradeRepository.isScored(scored);
+		boolean matchDayIsScored = gradeRepository.isScored(matchDay);
+		entityManager.getTransaction().commit();
+
+		// THEN only the MatchDay having a Result is
+		assertThat(scoredIsScored).isTrue();
+		assertThat(matchDayIsScored).isFalse();
+	}
 }
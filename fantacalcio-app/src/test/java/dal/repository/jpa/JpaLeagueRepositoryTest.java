@@ -121,6 +121,30 @@ class JpaLeagueRepositoryTest {
 			assertThat(result).hasValue(league);
 			
 		}
+		@Test
+		@DisplayName("when only checking whether a League with the given code exists")
+		void testExistsLeague() {
+
+			// GIVEN a League is manually persisted to the database
+			FantaUser admin = new FantaUser("user", "pswd");
+			League league = new League(admin, "lega", "1234");
+
+			sessionFactory.inTransaction(session -> {
+				session.persist(admin);
+				session.persist(league);
+			});
+
+			// WHEN the SUT is used to check for its code, and for another one
+			entityManager.getTransaction().begin();
+			boolean exists = leagueRepository.existsLeague("1234");
+			boolean other = leagueRepository.existsLeague("5678");
+			entityManager.getTransaction().commit();
+			entityManager.clear();
+
+			// THEN only the former is found
+			assertThat(exists).isTrue();
+			assertThat(other).isFalse();
+		}
 	}	
 
 	@Test
@@ -197,7 +221,7 @@ class JpaLeagueRepositoryTest {
 			League league2 = new League(admin, "lega2", "5678");
 			
 			FantaUser otherAdmin = new FantaUser("admin2", "adminPswd2");
-			League otherLeague = new League(otherAdmin, "lega2", "5678");
+			League otherLeague = new League(otherAdmin, "lega2", "9012");
 			
 			FantaUser user = new FantaUser("user", "userPswd");
 			FantaTeam fantaTeam1 = new FantaTeam("team1", league1, 0, user, new HashSet<Contract>());
@@ -269,7 +293,7 @@ class JpaLeagueRepositoryTest {
             League league2 = new League(admin, "lega2", "5678");
 
             FantaUser otherAdmin = new FantaUser("admin2", "adminPswd2");
-            League otherLeague = new League(otherAdmin, "lega2", "5678");
+            League otherLeague = new League(otherAdmin, "lega2", "9012");
 
             FantaUser user = new FantaUser("user", "userPswd");
             FantaTeam fantaTeam1 = new FantaTeam("team1", league1, 0, user, new HashSet<Contract>());
@@ -301,6 +325,47 @@ class JpaLeagueRepositoryTest {
         }
 	}
 
+	@Test
+	@DisplayName("can count a League's Teams and tell whether a user manages one of them")
+	void testCountTeamsAndExistsTeamOf() {
+
+		// GIVEN two Teams are associated with a given League, and none with another
+		FantaUser admin = new FantaUser("admin", "pswd");
+		League league1 = new League(admin, "lega1", "1234");
+		League otherLeague = new League(admin, "lega2", "5678");
+		FantaUser manager1 = new FantaUser("user1", "pswd1");
+		FantaUser manager2 = new FantaUser("user2", "pswd2");
+		FantaTeam team1 = new FantaTeam("team1", league1, 10, manager1, new HashSet<Contract>());
+		FantaTeam team2 = new FantaTeam("team2", league1, 20, manager2, new HashSet<Contract>());
+
+		sessionFactory.inTransaction(session -> {
+			session.persist(admin);
+			session.persist(league1);
+			session.persist(otherLeague);
+			session.persist(manager1);
+			session.persist(manager2);
+			session.persist(team1);
+			session.persist(team2);
+		});
+
+		// WHEN the SUT is used to count Teams and check for membership
+		entityManager.getTransaction().begin();
+		long teams = leagueRepository.countTeams(league1);
+		long otherTeams = leagueRepository.countTeams(otherLeague);
+		boolean member = leagueRepository.existsTeamOf(manager1, league1);
+		boolean otherMember = leagueRepository.existsTeamOf(manager1, otherLeague);
+		boolean adminMember = leagueRepository.existsTeamOf(admin, league1);
+		entityManager.getTransaction().commit();
+		entityManager.clear();
+
+		// THEN counts and memberships are as persisted
+		assertThat(teams).isEqualTo(2);
+		assertThat(otherTeams).isZero();
+		assertThat(member).isTrue();
+		assertThat(otherMember).isFalse();
+		assertThat(adminMember).isFalse();
+	}
+
 	@Nested
 	@DisplayName("can retrieve all Teams belonging to a League")
 	class Deletion {
@@ -318,7 +383,7 @@ class JpaLeagueRepositoryTest {
 			FantaTeam team2 = new FantaTeam("team2", league1, 20, manager2, new HashSet<Contract>());
 			
 			FantaUser otherAdmin = new FantaUser("admin2", "pswd2");
-			League otherLeague = new League(otherAdmin, "lega2", "5678");
+			League otherLeague = new League(otherAdmin, "lega2", "9012");
 			FantaUser otherManager = new FantaUser("other", "pswd3");
 			FantaTeam otherTeam = new FantaTeam("otherTeam", otherLeague, 5, otherManager, new HashSet<Contract>());
 			
@@ -358,7 +423,7 @@ class JpaLeagueRepositoryTest {
 			FantaTeam team2 = new FantaTeam("team2", league1, 20, manager2, new HashSet<Contract>());
 			
 			FantaUser otherAdmin = new FantaUser("admin2", "pswd2");
-			League otherLeague = new League(otherAdmin, "lega2", "5678");
+			League otherLeague = new League(otherAdmin, "lega2", "9012");
 			
 			sessionFactory.inTransaction(session -> {
 				session.persist(admin);
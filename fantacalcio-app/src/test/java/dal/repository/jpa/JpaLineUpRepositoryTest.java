@@ -216,7 +216,9 @@ class JpaLineUpRepositoryTest {
 			assertThat(
 					sessionFactory.fromTransaction((Session em) -> em
 							.createQuery(
-									"SELECT DISTINCT l FROM LineUp l " + "JOIN FETCH l.match "
+									"SELECT DISTINCT l FROM LineUp l " + "JOIN FETCH l.match m "
+											+ "JOIN FETCH m.matchDay md JOIN FETCH md.league "
+											+ "JOIN FETCH m.team1 JOIN FETCH m.team2 JOIN FETCH l.team "
 											+ "LEFT JOIN FETCH l.fieldings " + "WHERE l.match = :match AND l.team = :team",
 											LineUp.class)
 							.setParameter("match", match).setParameter("team", team).getResultStream().findFirst()))
@@ -255,5 +257,122 @@ class JpaLineUpRepositoryTest {
 			// THEN the SUT confirms the LineUp being looked up does not exist
 			assertThat(result).isEmpty();
 		}
+	
+		@Test
+		@DisplayName("getContentHash returns the content hash of a saved LineUp, or empty")
+		void testGetContentHash() {
+
+			// GIVEN a LineUp instance is persisted
+			sessionFactory.inTransaction(em -> em.persist(readyToBePersisted));
+
+			// WHEN the SUT is used to look up content hashes with and without a LineUp
+			entityManager.getTransaction().begin();
+			Optional<Long> present = lineUpRepository.getContentHash(match, team);
+			Optional<Long> absent = lineUpRepository.getContentHash(match, opponent);
+			entityManager.getTransaction().commit();
+			entityManager.clear();
+
+			// THEN only the former is found, equal to that of the persisted LineUp
+			assertThat(present).contains(readyToBePersisted.getContentHash());
+			assertThat(absent).isEmpty();
+		}
+
+		@Test
+		@DisplayName("updateLineUp persists a LineUp updated from a changed one")
+		void testUpdateLineUpPersistsChanges() {
+
+			// GIVEN a LineUp instance is persisted
+			sessionFactory.inTransaction(em -> em.persist(readyToBePersisted));
+
+			// AND a LineUp with a reordered bench is assembled for the same Match
+			LineUpViewer viewer = readyToBePersisted.extract();
+			List<Goalkeeper> bench = viewer.substituteGoalkeepers();
+			List<Defender> defenders = List.copyOf(viewer.starterDefenders());
+			List<Midfielder> midfielders = List.copyOf(viewer.starterMidfielders());
+			List<Forward> forwards = List.copyOf(viewer.starterForwards());
+			List<Defender> benchDefenders = viewer.substituteDefenders();
+			List<Midfielder> benchMidfielders = viewer.substituteMidfielders();
+			List<Forward> benchForwards = viewer.substituteForwards();
+			LineUp changed = LineUp.build()
+					.forTeam(team)
+					.inMatch(match)
+					.withStarterLineUp(Scheme433.starterLineUp()
+							.withGoalkeeper(viewer.starterGoalkeepers().iterator().next())
+							.withDefenders(defenders.get(0), defenders.get(1), defenders.get(2), defenders.get(3))
+							.withMidfielders(midfielders.get(0), midfielders.get(1), midfielders.get(2))
+							.withForwards(forwards.get(0), forwards.get(1), forwards.get(2)))
+					.withSubstituteGoalkeepers(bench.get(2), bench.get(1), bench.get(0))
+					.withSubstituteDefenders(benchDefenders.get(0), benchDefenders.get(1), benchDefenders.get(2))
+					.withSubstituteMidfielders(benchMidfielders.get(0), benchMidfielders.get(1), benchMidfielders.get(2))
+					.withSubstituteForwards(benchForwards.get(0), benchForwards.get(1), benchForwards.get(2));
+
+			// WHEN the stored LineUp is retrieved, updated from the changed one and saved back
+			entityManager.getTransaction().begin();
+			LineUp stored = lineUpRepository.getLineUpByMatchAndTeam(match, team).orElseThrow();
+			stored.updateFrom(changed);
+			lineUpRepository.updateLineUp(stored);
+			entityManager.getTransaction().commit();
+			entityManager.clear();
+
+			// THEN the persisted LineUp and its content hash reflect the change
+			assertThat(sessionFactory.fromTransaction((Session em) -> new JpaLineUpRepository(em)
+					.getLineUpByMatchAndTeam(match, team)))
+					.isPresent().hasValueSatisfying(changed::recursiveEquals);
+			assertThat(sessionFactory.fromTransaction((Session em) -> new JpaLineUpRepository(em)
+					.getContentHash(match, team)))
+					.contains(changed.getContentHash());
+		}
+
+		@Test
+		@DisplayName("updateLineUp leaves the Fieldings of unchanged content alone, even with lazy Players")
+		void testUpdateLineUpWithLazyPlayers() {
+
+			// GIVEN a LineUp instance is persisted
+			sessionFactory.inTransaction(em -> em.persist(readyToBePersisted));
+			List<Long> fieldingIds = sessionFactory.fromTransaction((Session em) -> em
+					.createQuery("SELECT f.id FROM Fielding f ORDER BY f.id", Long.class).getResultList());
+
+			// WHEN it is read back without its Players and updated from a LineUp of the same content
+			entityManager.getTransaction().begin();
+			entityManager.find(Match.class, sessionFactory.getPersistenceUnitUtil().getIdentifier(match));
+			entityManager.find(FantaTeam.class, sessionFactory.getPersistenceUnitUtil().getIdentifier(team));
+			LineUp stored = entityManager.find(LineUp.class,
+					sessionFactory.getPersistenceUnitUtil().getIdentifier(readyToBePersisted));
+			stored.updateFrom(readyToBePersisted);
+			lineUpRepository.updateLineUp(stored);
+			entityManager.getTransaction().commit();
+			entityManager.clear();
+
+			// THEN no Fielding was replaced
+			assertThat(sessionFactory.fromTransaction((Session em) -> em
+					.createQuery("SELECT f.id FROM Fielding f ORDER BY f.id", Long.class).getResultList()))
+					.isEqualTo(fieldingIds);
+		}
+
+		@Test
+		@DisplayName("getAllLineUpsIn retrieves only the LineUps for Matches on a given MatchDay")
+		void testGetAllLineUpsIn() {
+
+			// GIVEN a LineUp instance is persisted
+			sessionFactory.inTransaction(em -> em.persist(readyToBePersisted));
+
+			// AND a further MatchDay with a Match but no LineUps is persisted
+			MatchDay otherMatchDay = new MatchDay("2 giornata", 2, MatchDay.Status.FUTURE, league);
+			sessionFactory.inTransaction(em -> {
+				em.persist(otherMatchDay);
+				em.persist(new Match(otherMatchDay, opponent, team));
+			});
+
+			// WHEN the SUT is used to retrieve all LineUps on either MatchDay
+			entityManager.getTransaction().begin();
+			List<LineUp> retrieved = lineUpRepository.getAllLineUpsIn(matchDay);
+			List<LineUp> none = lineUpRepository.getAllLineUpsIn(otherMatchDay);
+			entityManager.getTransaction().commit();
+			entityManager.clear();
+
+			// THEN only the LineUp on the first MatchDay is retrieved, fully fetched
+			assertThat(retrieved).singleElement().satisfies(readyToBePersisted::recursiveEquals);
+			assertThat(none).isEmpty();
+		}
 	}
 }
@@ -344,6 +344,27 @@ class JpaMatchDayRepositoryTest {
 				.containsExactly(matchDay);
 	}
 	
+	@Test
+	@DisplayName("can persist several MatchDay instances to the database at once")
+	void testSaveAllMatchDays() {
+
+		// GIVEN some MatchDay instances exist
+		MatchDay matchDay1 = new MatchDay("MD1", 1, MatchDay.Status.FUTURE, league);
+		MatchDay matchDay2 = new MatchDay("MD2", 2, MatchDay.Status.FUTURE, league);
+
+		// WHEN the SUT is used to persist those MatchDays to the database
+		entityManager.getTransaction().begin();
+		matchDayRepository.saveAll(List.of(matchDay1, matchDay2));
+		entityManager.getTransaction().commit();
+		entityManager.clear();
+
+		// THEN the MatchDays are present in the database
+		assertThat(sessionFactory.fromTransaction(
+				(Session em) -> em.createQuery("FROM MatchDay md "
+						+ "JOIN FETCH md.league l JOIN FETCH l.admin", MatchDay.class).getResultStream().toList()))
+				.containsExactlyInAnyOrder(matchDay1, matchDay2);
+	}
+
 	@Test
 	@DisplayName("can update a MatchDay instance in the database")
 	void testUpdateMatchDay() {
@@ -1,5 +1,6 @@
 package dal.repository.jpa;
 
+import org.hibernate.Hibernate;
 import org.hibernate.Session;
 import org.hibernate.SessionFactory;
 import org.hibernate.boot.Metadata;
@@ -8,9 +9,11 @@ import org.hibernate.boot.registry.StandardServiceRegistry;
 import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
 import org.junit.jupiter.api.*;
 
+import business.ports.repository.FetchPlan;
 import domain.*;
 import jakarta.persistence.EntityManager;
 
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -37,6 +40,7 @@ class JpaMatchRepositoryTest {
 					.addAnnotatedClass(Match.class)
 					.addAnnotatedClass(Contract.class)
 					.addAnnotatedClass(Player.class)
+					.addAnnotatedClass(Result.class)
 					.getMetadataBuilder().build();
 
 			sessionFactory = metadata.getSessionFactoryBuilder().build();
@@ -95,6 +99,46 @@ class JpaMatchRepositoryTest {
 				.getResultList())).containsExactly(match);
 	}
 
+	@Test
+	@DisplayName("can persist several Match instances to the database at once")
+	void testSaveAllMatches() {
+
+		// GIVEN the Matches' auxiliary entities are manually persisted
+		FantaUser admin = new FantaUser("admin@" + "L001" + ".com", "pwd");
+		League league = new League(admin, "League " + "L001", "L001");
+		MatchDay matchDay1 = new MatchDay("MD1", 1, MatchDay.Status.FUTURE, league);
+		MatchDay matchDay2 = new MatchDay("MD2", 2, MatchDay.Status.FUTURE, league);
+		FantaUser user1 = new FantaUser("a@a.com", "pwd");
+		FantaTeam t1 = new FantaTeam("Team A", league, 0, user1, null);
+		FantaUser user2 = new FantaUser("b@b.com", "pwd");
+		FantaTeam t2 = new FantaTeam("Team B", league, 0, user2, null);
+
+		sessionFactory.inTransaction(entityManager -> {
+			entityManager.persist(admin);
+			entityManager.persist(league);
+			entityManager.persist(matchDay1);
+			entityManager.persist(matchDay2);
+			entityManager.persist(user1);
+			entityManager.persist(user2);
+			entityManager.persist(t1);
+			entityManager.persist(t2);
+		});
+
+		// WHEN the SUT is used to persist several Matches at once
+		Match match1 = new Match(matchDay1, t1, t2);
+		Match match2 = new Match(matchDay2, t2, t1);
+		entityManager.getTransaction().begin();
+		matchRepository.saveAll(List.of(match1, match2));
+		entityManager.getTransaction().commit();
+		entityManager.clear();
+
+		// THEN the Matches are correctly persisted to the database
+		assertThat(sessionFactory.fromTransaction((Session session) -> session.createQuery("from Match m "
+				+ "JOIN FETCH m.team1 t1 JOIN FETCH m.team2 t2 JOIN FETCH t1.fantaManager JOIN FETCH t2.fantaManager "
+				+ "JOIN FETCH m.matchDay day JOIN FETCH day.league league JOIN FETCH league.admin", Match.class)
+				.getResultList())).containsExactlyInAnyOrder(match1, match2);
+	}
+
 	@Nested
 	@DisplayName("can look up Matches happening on a MatchDay")
 	class LookupByMatchDay {
@@ -140,6 +184,161 @@ class JpaMatchRepositoryTest {
 			// THEN the expected Matches are returned
 			assertThat(matches).containsExactlyInAnyOrder(m1, m2);
 		}
+
+		@Test
+		@DisplayName("loading League admins and managers only with the DEEP FetchPlan")
+		void testGetAllMatchesByMatchDayFetchPlans() {
+
+			// GIVEN a Match is manually persisted for test MatchDay
+			FantaUser admin = new FantaUser("admin@L008.com", "pwd");
+			League league = new League(admin, "League L008", "L008");
+			MatchDay matchDay = new MatchDay("MD8", 8, MatchDay.Status.FUTURE, league);
+			FantaUser user1 = new FantaUser("n@n.com", "pwd");
+			FantaTeam t1 = new FantaTeam("Team N", league, 0, user1, Set.of());
+			FantaUser user2 = new FantaUser("o@o.com", "pwd");
+			FantaTeam t2 = new FantaTeam("Team O", league, 0, user2, Set.of());
+			Match match = new Match(matchDay, t1, t2);
+
+			sessionFactory.inTransaction(em -> {
+				em.persist(admin);
+				em.persist(league);
+				em.persist(matchDay);
+				em.persist(user1);
+				em.persist(user2);
+				em.persist(t1);
+				em.persist(t2);
+				em.persist(match);
+			});
+
+			// WHEN the SUT retrieves the Matches with the THIN plan
+			entityManager.getTransaction().begin();
+			Match thin = matchRepository.getAllMatchesIn(matchDay, FetchPlan.THIN).get(0);
+			entityManager.getTransaction().commit();
+			entityManager.clear();
+
+			// THEN only the associations needed for equality are loaded
+			assertThat(thin).isEqualTo(match);
+			assertThat(Hibernate.isInitialized(thin.getMatchDay().getLeague())).isTrue();
+			assertThat(Hibernate.isInitialized(thin.getTeam1().getLeague())).isTrue();
+			assertThat(Hibernate.isInitialized(thin.getMatchDay().getLeague().getAdmin())).isFalse();
+			assertThat(Hibernate.isInitialized(thin.getTeam1().getFantaManager())).isFalse();
+
+			// WHEN the SUT retrieves the Matches with the DEEP plan
+			entityManager.getTransaction().begin();
+			Match deep = matchRepository.getAllMatchesIn(matchDay, FetchPlan.DEEP).get(0);
+			entityManager.getTransaction().commit();
+			entityManager.clear();
+
+			// THEN League admins and managers are loaded as well
+			assertThat(Hibernate.isInitialized(deep.getMatchDay().getLeague().getAdmin())).isTrue();
+			assertThat(Hibernate.isInitialized(deep.getTeam1().getFantaManager())).isTrue();
+			assertThat(Hibernate.isInitialized(deep.getTeam2().getFantaManager())).isTrue();
+		}
+
+		@Test
+		@DisplayName("when checking whether some Match on a MatchDay has no Result")
+		void testExistsMatchWithoutResult() {
+
+			// GIVEN two Matches are persisted for a MatchDay, only one of them with a Result
+			FantaUser admin = new FantaUser("admin@L003.com", "pwd");
+			League league = new League(admin, "League L003", "L003");
+			MatchDay matchDay = new MatchDay("MD1", 1, MatchDay.Status.PAST, league);
+			FantaUser user1 = new FantaUser("c@c.com", "pwd");
+			FantaTeam t1 = new FantaTeam("Team C", league, 0, user1, Set.of());
+			FantaUser user2 = new FantaUser("d@d.com", "pwd");
+			FantaTeam t2 = new FantaTeam("Team D", league, 0, user2, Set.of());
+
+			Match m1 = new Match(matchDay, t1, t2);
+			Match m2 = new Match(matchDay, t2, t1);
+
+			sessionFactory.inTransaction(em -> {
+				em.persist(admin);
+				em.persist(league);
+				em.persist(matchDay);
+				em.persist(user1);
+				em.persist(user2);
+				em.persist(t1);
+				em.persist(t2);
+				em.persist(m1);
+				em.persist(m2);
+				em.persist(new Result(70, 60, 1, 0, m1));
+			});
+
+			// WHEN the SUT is used to check for Matches without a Result
+			entityManager.getTransaction().begin();
+			boolean before = matchRepository.existsMatchWithoutResult(matchDay);
+			entityManager.getTransaction().commit();
+			entityManager.clear();
+
+			// AND the remaining Match is given a Result
+			sessionFactory.inTransaction(em -> em.persist(new Result(60, 60, 0, 0, m2)));
+			entityManager.getTransaction().begin();
+			boolean after = matchRepository.existsMatchWithoutResult(matchDay);
+			entityManager.getTransaction().commit();
+			entityManager.clear();
+
+			// THEN such a Match is only found before
+			assertThat(before).isTrue();
+			assertThat(after).isFalse();
+		}
+	}
+
+	@Nested
+	@DisplayName("can look up the whole calendar of a League")
+	class LookupByLeague {
+
+		@Test
+		@DisplayName("ordered by MatchDay number, excluding other Leagues")
+		void testGetAllMatchesByLeague() {
+
+			// GIVEN Matches are manually persisted over two MatchDays of a League,
+			// the later one first
+			FantaUser admin = new FantaUser("admin@" + "L003" + ".com", "pwd");
+			League league = new League(admin, "League " + "L003", "L003");
+			MatchDay matchDay1 = new MatchDay("MD1", 1, MatchDay.Status.FUTURE, league);
+			MatchDay matchDay2 = new MatchDay("MD2", 2, MatchDay.Status.FUTURE, league);
+			FantaUser user1 = new FantaUser("f@f.com", "pwd");
+			FantaTeam t1 = new FantaTeam("Team F", league, 0, user1, Set.of());
+			FantaUser user2 = new FantaUser("g@g.com", "pwd");
+			FantaTeam t2 = new FantaTeam("Team G", league, 0, user2, Set.of());
+
+			Match m1 = new Match(matchDay1, t1, t2);
+			Match m2 = new Match(matchDay2, t2, t1);
+
+			// AND a Match is manually persisted for another League
+			League other = new League(admin, "League " + "L004", "L004");
+			MatchDay otherMatchDay = new MatchDay("MD1", 1, MatchDay.Status.FUTURE, other);
+			FantaTeam t3 = new FantaTeam("Team H", other, 0, user1, Set.of());
+			FantaTeam t4 = new FantaTeam("Team I", other, 0, user2, Set.of());
+			Match m3 = new Match(otherMatchDay, t3, t4);
+
+			sessionFactory.inTransaction(em -> {
+				em.persist(admin);
+				em.persist(league);
+				em.persist(other);
+				em.persist(matchDay2);
+				em.persist(matchDay1);
+				em.persist(otherMatchDay);
+				em.persist(user1);
+				em.persist(user2);
+				em.persist(t1);
+				em.persist(t2);
+				em.persist(t3);
+				em.persist(t4);
+				em.persist(m2);
+				em.persist(m1);
+				em.persist(m3);
+			});
+
+			// WHEN the SUT is used to retrieve all Matches in the League
+			entityManager.getTransaction().begin();
+			List<Match> matches = matchRepository.getAllMatchesIn(league);
+			entityManager.getTransaction().commit();
+			entityManager.clear();
+
+			// THEN only that League's Matches are returned, in MatchDay order
+			assertThat(matches).containsExactly(m1, m2);
+		}
 	}
 	
 	@Nested
@@ -247,4 +446,50 @@ class JpaMatchRepositoryTest {
 			assertThat(retrieved).isEmpty();
 		}
 	}
+
+	@Test
+	@DisplayName("hands out Matches equal to their lazy references, hashed without loading their associations")
+	void testLazyReferenceEquality() {
+
+		// GIVEN a Match and its auxiliary entities are manually persisted
+		FantaUser admin = new FantaUser("admin@L008.com", "pwd");
+		League league = new League(admin, "League L008", "L008");
+		MatchDay matchDay = new MatchDay("MD1", 1, MatchDay.Status.FUTURE, league);
+		FantaUser user1 = new FantaUser("a@a.com", "pwd");
+		FantaTeam t1 = new FantaTeam("Team A", league, 0, user1, null);
+		FantaUser user2 = new FantaUser("b@b.com", "pwd");
+		FantaTeam t2 = new FantaTeam("Team B", league, 0, user2, null);
+		Match match = new Match(matchDay, t1, t2);
+		sessionFactory.inTransaction(em -> {
+			em.persist(admin);
+			em.persist(league);
+			em.persist(matchDay);
+			em.persist(user1);
+			em.persist(user2);
+			em.persist(t1);
+			em.persist(t2);
+			em.persist(match);
+		});
+
+		// WHEN the Match is loaded with its associations left lazy, and hashed into a Set
+		entityManager.getTransaction().begin();
+		Match loaded = entityManager.find(Match.class, sessionFactory.getPersistenceUnitUtil().getIdentifier(match));
+		Set<Match> matches = new HashSet<>(Set.of(loaded));
+
+		// THEN none of its associations is loaded
+		assertThat(Hibernate.isInitialized(loaded.getMatchDay())).isFalse();
+		assertThat(Hibernate.isInitialized(loaded.getTeam1())).isFalse();
+		assertThat(Hibernate.isInitialized(loaded.getTeam2())).isFalse();
+		assertThat(matches).contains(match);
+
+		// AND its lazy associations equal the entities they stand for, both ways
+		assertThat(loaded.getMatchDay()).isEqualTo(matchDay).hasSameHashCodeAs(matchDay);
+		assertThat(matchDay).isEqualTo(loaded.getMatchDay());
+		assertThat(loaded.getTeam1()).isEqualTo(t1).hasSameHashCodeAs(t1);
+		assertThat(t2).isEqualTo(loaded.getTeam2());
+		assertThat(loaded.getMatchDay().getLeague()).isEqualTo(league).hasSameHashCodeAs(league);
+		assertThat(league).isEqualTo(loaded.getMatchDay().getLeague());
+		entityManager.getTransaction().commit();
+		entityManager.clear();
+	}
 }
@@ -3,6 +3,7 @@ package dal.repository.jpa;
 import static org.assertj.core.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
 import org.hibernate.Session;
 import org.hibernate.SessionFactory;
 import org.hibernate.boot.Metadata;
@@ -16,6 +17,9 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import business.ports.repository.PlayerRepository.PlayerFilter;
+import business.ports.repository.PlayerRepository.PlayerPage;
+import business.ports.repository.PlayerRepository.PlayerRow;
 import domain.Contract;
 import domain.FantaTeam;
 import domain.FantaUser;
@@ -27,6 +31,7 @@ import jakarta.persistence.EntityManager;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Stream;
 
 class JpaPlayerRepositoryTest {
 
@@ -120,8 +125,29 @@ class JpaPlayerRepositoryTest {
 					.fromTransaction((Session em) -> em.createQuery("FROM Player", Player.class).getResultList()))
 			.containsExactly(buffon);
 		}
+
+		@Test
+		@DisplayName("not bypassing it with a copy of a persisted Player")
+		public void testNaturalKeyIsEnforced() {
+
+			// GIVEN a Player has been manually persisted to the database
+			sessionFactory.inTransaction(session -> session.persist(new Goalkeeper("Gigi", "Buffon", Club.JUVENTUS)));
+
+			// WHEN a copy with the same name, surname, club and role is persisted directly
+			ThrowingCallable persistCopy = () -> sessionFactory.inTransaction(
+					session -> session.persist(new Goalkeeper("Gigi", "Buffon", Club.JUVENTUS)));
+
+			// THEN the database rejects it, while a namesake of another role or club is accepted
+			assertThatThrownBy(persistCopy).isInstanceOf(RuntimeException.class);
+			sessionFactory.inTransaction(session -> {
+				session.persist(new Forward("Gigi", "Buffon", Club.JUVENTUS));
+				session.persist(new Goalkeeper("Gigi", "Buffon", Club.PARMA));
+			});
+			assertThat(sessionFactory.fromTransaction((Session em) -> em
+					.createQuery("SELECT COUNT(p) FROM Player p", Long.class).getSingleResult())).isEqualTo(3);
+		}
 	}
-	
+
 	@Nested
 	@DisplayName("can look up all Players in the system")
 	class SpecializedRetrieval {
@@ -223,6 +249,152 @@ class JpaPlayerRepositoryTest {
 			}
 		}
 		
+		@Nested
+		@DisplayName("as rows")
+		class AsRows {
+
+			@Test
+			@DisplayName("getAllPlayerRows when some Players exist")
+			public void testGetAllPlayerRows() {
+
+				// GIVEN some Players have been manually persisted to the database
+				Player marcus = new Forward("Marcus", "Thuram", Club.INTER);
+				Player gigi = new Goalkeeper("Gigi", "Buffon", Club.JUVENTUS);
+				Player kephren = new Midfielder("Kephren", "Thuram", Club.JUVENTUS);
+
+				sessionFactory.inTransaction(session -> {
+					session.persist(marcus);
+					session.persist(gigi);
+					session.persist(kephren);
+				});
+
+				// WHEN the SUT is used to retrieve all Players as rows
+				entityManager.getTransaction().begin();
+				List<PlayerRow> rows = playerRepository.getAllPlayerRows();
+
+				// THEN no Player has been loaded into the persistence context
+				assertThat(entityManager.unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+				entityManager.getTransaction().commit();
+				entityManager.clear();
+
+				// AND the rows are ordered by surname and name, with their roles
+				assertThat(rows).containsExactly(
+						new PlayerRow(id(gigi), "Gigi", "Buffon", Club.JUVENTUS, Goalkeeper.class),
+						new PlayerRow(id(kephren), "Kephren", "Thuram", Club.JUVENTUS, Midfielder.class),
+						new PlayerRow(id(marcus), "Marcus", "Thuram", Club.INTER, Forward.class));
+			}
+
+			@Test
+			@DisplayName("findPlayerRowsBySurname when the players exist")
+			public void testFindPlayerRowsBySurname() {
+
+				// GIVEN some Players with a given surname have been manually persisted
+				Player marcus = new Forward("Marcus", "Thuram", Club.INTER);
+				Player eljif = new Forward("Eljif", "Elmas", Club.NAPOLI);
+
+				sessionFactory.inTransaction(session -> {
+					session.persist(marcus);
+					session.persist(eljif);
+				});
+
+				// WHEN the SUT is used to retrieve rows by surname
+				entityManager.getTransaction().begin();
+				List<PlayerRow> rows = playerRepository.findPlayerRowsBySurname("Thuram");
+				entityManager.getTransaction().commit();
+				entityManager.clear();
+
+				// THEN only the appropriate row is returned
+				assertThat(rows).containsExactly(
+						new PlayerRow(id(marcus), "Marcus", "Thuram", Club.INTER, Forward.class));
+			}
+		}
+
+		@Nested
+		@DisplayName("as a catalog")
+		class Catalog {
+
+			private Player buffon, messi, thuram, elmas, barella;
+
+			@BeforeEach
+			void persistCatalog() {
+				buffon = new Goalkeeper("Gigi", "Buffon", Club.JUVENTUS);
+				messi = new Forward("Lionel", "Messi", Club.PISA);
+				thuram = new Forward("Marcus", "Thuram", Club.INTER);
+				elmas = new Midfielder("Eljif", "Elmas", Club.NAPOLI);
+				barella = new Midfielder("Nicolo", "Barella", Club.INTER);
+				sessionFactory.inTransaction(session -> List.of(buffon, messi, thuram, elmas, barella)
+						.forEach(session::persist));
+			}
+
+			@Test
+			@DisplayName("findPage walks every Player by key, one page at a time")
+			public void testFindPageWalksAllPages() {
+
+				// WHEN the SUT is used to read the catalog in pages of two
+				entityManager.getTransaction().begin();
+				PlayerPage first = playerRepository.findPage(PlayerFilter.ALL, null, 2);
+				PlayerPage second = playerRepository.findPage(PlayerFilter.ALL, first.nextKey(), 2);
+				PlayerPage third = playerRepository.findPage(PlayerFilter.ALL, second.nextKey(), 2);
+				entityManager.getTransaction().commit();
+				entityManager.clear();
+
+				// THEN the pages cover all Players in persistence order, the last one ending the walk
+				assertThat(first.players()).containsExactly(buffon, messi);
+				assertThat(second.players()).containsExactly(thuram, elmas);
+				assertThat(third.players()).containsExactly(barella);
+				assertThat(first.hasNext()).isTrue();
+				assertThat(second.hasNext()).isTrue();
+				assertThat(third.hasNext()).isFalse();
+			}
+
+			@Test
+			@DisplayName("findPage restricts pages to a role and Club")
+			public void testFindPageWithFilter() {
+
+				// WHEN the SUT is used to read the Midfielders and the INTER Players
+				entityManager.getTransaction().begin();
+				PlayerPage midfielders = playerRepository.findPage(new PlayerFilter(Midfielder.class, null), null, 10);
+				PlayerPage interMidfielders = playerRepository.findPage(new PlayerFilter(Midfielder.class, Club.INTER), null, 10);
+				PlayerPage inter = playerRepository.findPage(new PlayerFilter(null, Club.INTER), null, 10);
+				entityManager.getTransaction().commit();
+				entityManager.clear();
+
+				// THEN only the matching Players are returned
+				assertThat(midfielders.players()).containsExactly(elmas, barella);
+				assertThat(interMidfielders.players()).containsExactly(barella);
+				assertThat(inter.players()).containsExactly(thuram, barella);
+				assertThat(inter.hasNext()).isFalse();
+			}
+
+			@Test
+			@DisplayName("findPage rejects page sizes that are not positive")
+			public void testFindPageWithInvalidPageSize() {
+				entityManager.getTransaction().begin();
+
+				assertThatThrownBy(() -> playerRepository.findPage(PlayerFilter.ALL, null, 0))
+						.isInstanceOf(IllegalArgumentException.class).hasMessageContaining("pageSize");
+				assertThatThrownBy(() -> playerRepository.findPage(PlayerFilter.ALL, null, -1))
+						.isInstanceOf(IllegalArgumentException.class).hasMessageContaining("pageSize");
+				entityManager.getTransaction().rollback();
+			}
+
+			@Test
+			@DisplayName("streamPlayers hands out detached Players in key order")
+			public void testStreamPlayers() {
+
+				// WHEN the SUT is used to stream the Forwards through a small fetch size
+				entityManager.getTransaction().begin();
+				List<Player> streamed;
+				try (Stream<Player> players = playerRepository.streamPlayers(new PlayerFilter(Forward.class, null), 1)) {
+					streamed = players.peek(player -> assertThat(entityManager.contains(player)).isFalse()).toList();
+				}
+				entityManager.getTransaction().commit();
+
+				// THEN the expected Players are streamed, none of them left managed
+				assertThat(streamed).containsExactly(messi, thuram);
+			}
+		}
+
 		@Nested
 		@DisplayName("by Club")
 		class ByClub {	
@@ -292,12 +464,12 @@ class JpaPlayerRepositoryTest {
 			
 			FantaUser admin = new FantaUser("mail", "pswd");
 			League league = new League(admin, "Lega", "codice");
-			League otherLeague = new League(admin, "Lega", "codice");
-			FantaTeam teamA = new FantaTeam("", league, 0, admin, new HashSet<>());
+			League otherLeague = new League(admin, "Lega", "altro codice");
+			FantaTeam teamA = new FantaTeam("teamA", league, 0, admin, new HashSet<>());
 			teamA.getContracts().add(new Contract(teamA, player1));
-			FantaTeam teamB = new FantaTeam("", league, 0, admin, new HashSet<>());
+			FantaTeam teamB = new FantaTeam("teamB", league, 0, admin, new HashSet<>());
 			teamB.getContracts().add(new Contract(teamB, player2));
-			FantaTeam teamC = new FantaTeam("", otherLeague, 0, admin, new HashSet<>());
+			FantaTeam teamC = new FantaTeam("teamC", otherLeague, 0, admin, new HashSet<>());
 			teamC.getContracts().add(new Contract(teamC, player3));
 			
 			sessionFactory.inTransaction(session -> {
@@ -322,4 +494,27 @@ class JpaPlayerRepositoryTest {
 			assertThat(players).containsExactlyInAnyOrder(player1, player2);
 		}
 	}
+
+	@Test
+	@DisplayName("hands out lazy references equal to the Players they stand for")
+	public void testLazyReferenceEquality() {
+
+		// GIVEN a Player has been manually persisted to the database
+		Player buffon = new Goalkeeper("Gigi", "Buffon", Club.JUVENTUS);
+		sessionFactory.inTransaction(session -> session.persist(buffon));
+
+		// WHEN a lazy reference to it is obtained
+		Player reference = entityManager.getReference(Player.class, id(buffon));
+
+		// THEN it is a proxy, equal to the Player both ways, but not to a namesake of another role
+		assertThat(reference.getClass()).isNotEqualTo(Goalkeeper.class);
+		assertThat(reference).isEqualTo(buffon).hasSameHashCodeAs(buffon)
+				.isNotEqualTo(new Forward("Gigi", "Buffon", Club.JUVENTUS));
+		assertThat(buffon).isEqualTo(reference);
+		entityManager.clear();
+	}
+
+	private static long id(Object entity) {
+		return (Long) sessionFactory.getPersistenceUnitUtil().getIdentifier(entity);
+	}
 }
\ No newline at end of file
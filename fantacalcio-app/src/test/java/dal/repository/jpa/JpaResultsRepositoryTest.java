@@ -11,6 +11,7 @@ import org.junit.jupiter.api.*;
 
 import domain.*;
 import jakarta.persistence.EntityManager;
+import java.util.List;
 import java.util.Optional;
 
 @DisplayName("tests for HibernateResultsRepository")
@@ -107,6 +108,30 @@ class JpaResultsRepositoryTest {
 						+ "JOIN FETCH m.matchDay day JOIN FETCH day.league league JOIN FETCH league.admin", Result.class).getResultList()))
 				.containsExactly(result);
 	}
+
+	@Test
+	@DisplayName("can persist several Result instances to the database at once")
+	void testSaveAllResults() {
+
+		// GIVEN a further Match is persisted
+		Match match2 = new Match(matchDay, t2, t1);
+		sessionFactory.inTransaction(session -> session.persist(match2));
+
+		// WHEN the SUT is used to persist several Results at once
+		Result result1 = new Result(3.0, 1.0, 2, 0, match);
+		Result result2 = new Result(1.0, 1.0, 0, 0, match2);
+		entityManager.getTransaction().begin();
+		resultsRepository.saveAll(List.of(result1, result2));
+		entityManager.getTransaction().commit();
+		entityManager.clear();
+
+		// THEN the Results are present in the database
+		assertThat(sessionFactory
+				.fromTransaction((Session session) -> session.createQuery("FROM Result r JOIN FETCH r.match m "
+						+ "JOIN FETCH m.team1 t1 JOIN FETCH m.team2 t2 JOIN FETCH t1.fantaManager JOIN FETCH t2.fantaManager "
+						+ "JOIN FETCH m.matchDay day JOIN FETCH day.league league JOIN FETCH league.admin", Result.class).getResultList()))
+				.containsExactlyInAnyOrder(result1, result2);
+	}
 	
 	@Nested
 	@DisplayName("can look up a Result in the database")
@@ -161,5 +186,81 @@ class JpaResultsRepositoryTest {
 			// THEN an empty Optional is returned
 			assertThat(retrieved).isEmpty();
 		}
+	
+		@Test
+		@DisplayName("for all Matches on a given MatchDay")
+		void testGetAllResultsIn() {
+
+			// GIVEN Results are manually persisted for Matches on two MatchDays
+			Result result = new Result(2.0, 2.0, 1, 1, match);
+
+			Match match2 = new Match(matchDay, t2, t1);
+			Result result2 = new Result(3.0, 1.0, 2, 0, match2);
+
+			MatchDay matchDay2 = new MatchDay("MD2", 2, MatchDay.Status.FUTURE, league);
+			Match match3 = new Match(matchDay2, t1, t2);
+			Result result3 = new Result(1.0, 1.0, 0, 0, match3);
+
+			sessionFactory.inTransaction((Session session) -> {
+				session.persist(result);
+				session.persist(match2);
+				session.persist(result2);
+				session.persist(matchDay2);
+				session.persist(match3);
+				session.persist(result3);
+			});
+
+			// WHEN the SUT is used to retrieve all Results on the first MatchDay
+			entityManager.getTransaction().begin();
+			List<Result> retrieved = resultsRepository.getAllResultsIn(matchDay);
+			entityManager.getTransaction().commit();
+			entityManager.clear();
+
+			// THEN only the Results for Matches on that MatchDay are retrieved
+			assertThat(retrieved).containsExactlyInAnyOrder(result, result2);
+		}
+
+		@Test
+		@DisplayName("for all Matches of a given League, in MatchDay order")
+		void testGetAllResultsInLeague() {
+
+			// GIVEN Results are manually persisted for Matches on two MatchDays of the League, the later first
+			MatchDay matchDay2 = new MatchDay("MD2", 2, MatchDay.Status.FUTURE, league);
+			Match match2 = new Match(matchDay2, t2, t1);
+			Result later = new Result(3.0, 1.0, 2, 0, match2);
+			Result result = new Result(2.0, 2.0, 1, 1, match);
+
+			// AND a Result of another League
+			FantaUser otherAdmin = new FantaUser("admin@l002.com", "pwd");
+			League otherLeague = new League(otherAdmin, "League L002", "L002");
+			MatchDay otherMatchDay = new MatchDay("MD1", 1, MatchDay.Status.FUTURE, otherLeague);
+			FantaTeam o1 = new FantaTeam("Team C", otherLeague, 0, otherAdmin, null);
+			FantaTeam o2 = new FantaTeam("Team D", otherLeague, 0, otherAdmin, null);
+			Match otherMatch = new Match(otherMatchDay, o1, o2);
+			Result other = new Result(1.0, 1.0, 0, 0, otherMatch);
+
+			sessionFactory.inTransaction((Session session) -> {
+				session.persist(matchDay2);
+				session.persist(match2);
+				session.persist(later);
+				session.persist(result);
+				session.persist(otherAdmin);
+				session.persist(otherLeague);
+				session.persist(otherMatchDay);
+				session.persist(o1);
+				session.persist(o2);
+				session.persist(otherMatch);
+				session.persist(other);
+			});
+
+			// WHEN the SUT is used to retrieve all Results of the League
+			entityManager.getTransaction().begin();
+			List<Result> retrieved = resultsRepository.getAllResultsIn(league);
+			entityManager.getTransaction().commit();
+			entityManager.clear();
+
+			// THEN only the League's Results are retrieved, earliest MatchDay first
+			assertThat(retrieved).containsExactly(result, later);
+		}
 	}
 }
@@ -0,0 +1,282 @@
+package dal.repository.jpa;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.HashSet;
+import java.util.List;
+
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.junit.jupiter.api.*;
+
+import business.ports.repository.FetchPlan;
+import domain.*;
+import domain.Player.Club;
+import jakarta.persistence.EntityManager;
+
+@DisplayName("a JpaRoundGradeRepository")
+class JpaRoundGradeRepositoryTest {
+
+	private static SessionFactory sessionFactory;
+	private JpaRoundGradeRepository gradeRepository;
+	private EntityManager entityManager;
+
+	// setup entities
+	private MatchDay matchDay;
+	private MatchDay otherLeagueMatchDay;
+	private Player totti;
+	private Player buffon;
+
+	@BeforeAll
+	static void initializeSessionFactory() {
+		try {
+			StandardServiceRegistry serviceRegistry = new StandardServiceRegistryBuilder()
+					.configure("hibernate-test.cfg.xml").build();
+
+			Metadata metadata = new MetadataSources(serviceRegistry)
+					.addAnnotatedClass(RoundGrade.class)
+					.addAnnotatedClass(Player.class)
+					.addAnnotatedClass(Player.Goalkeeper.class)
+					.addAnnotatedClass(Player.Forward.class)
+					.addAnnotatedClass(FantaUser.class)
+					.addAnnotatedClass(League.class)
+					.addAnnotatedClass(MatchDay.class)
+					.addAnnotatedClass(FantaTeam.class)
+					.addAnnotatedClass(Contract.class)
+					.addAnnotatedClass(Match.class)
+					.addAnnotatedClass(Result.class)
+					.getMetadataBuilder().build();
+
+			sessionFactory = metadata.getSessionFactoryBuilder().build();
+
+		} catch (Throwable ex) {
+			throw new ExceptionInInitializerError(ex);
+		}
+	}
+
+	@BeforeEach
+	void setup() {
+		sessionFactory.getSchemaManager().truncateMappedObjects();
+		entityManager = sessionFactory.createEntityManager();
+		gradeRepository = new JpaRoundGradeRepository(entityManager);
+
+		// GIVEN two Leagues have a MatchDay played on the same real-world round
+		FantaUser admin = new FantaUser("admin@example.com", "securePass");
+		League league = new League(admin, "Serie A", "code");
+		League otherLeague = new League(admin, "Serie B", "other code");
+		matchDay = new MatchDay("1 Giornata", 1, 2025, 5, MatchDay.Status.PRESENT, league);
+		otherLeagueMatchDay = new MatchDay("3 Giornata", 3, 2025, 5, MatchDay.Status.PRESENT, otherLeague);
+		totti = new Player.Forward("Francesco", "Totti", Club.ROMA);
+		buffon = new Player.Goalkeeper("Gianluigi", "Buffon", Club.JUVENTUS);
+
+		sessionFactory.inTransaction(session -> {
+			session.persist(admin);
+			session.persist(league);
+			session.persist(otherLeague);
+			session.persist(matchDay);
+			session.persist(otherLeagueMatchDay);
+			session.persist(totti);
+			session.persist(buffon);
+		});
+	}
+
+	@AfterEach
+	void tearDown() {
+		entityManager.close();
+	}
+
+	@AfterAll
+	static void tear() {
+		sessionFactory.close();
+	}
+
+	@Nested
+	@DisplayName("can look up the Grades of a MatchDay")
+	class Retrieval {
+
+		@Test
+		@DisplayName("as saved for any MatchDay played on the same round")
+		void testGradesAreSharedByRound() {
+
+			// GIVEN Grades are saved for a MatchDay of one League
+			entityManager.getTransaction().begin();
+			gradeRepository.saveAll(List.of(new Grade(totti, matchDay, 7.0), new Grade(buffon, matchDay, 6.5)));
+			entityManager.getTransaction().commit();
+			entityManager.clear();
+
+			// WHEN the SUT is used to retrieve the Grades of the other League's MatchDay
+			entityManager.getTransaction().begin();
+			List<Grade> retrieved = gradeRepository.getAllGrades(otherLeagueMatchDay, FetchPlan.THIN);
+			entityManager.getTransaction().commit();
+			entityManager.clear();
+
+			// THEN they are the same marks, given on the other League's MatchDay
+			assertThat(retrieved).containsExactlyInAnyOrder(
+					new Grade(totti, otherLeagueMatchDay, 7.0), new Grade(buffon, otherLeagueMatchDay, 6.5));
+		}
+
+		@Test
+		@DisplayName("leaving out Grades of other rounds")
+		void testGradesOfOtherRounds() {
+
+			// GIVEN a Grade is saved for a MatchDay on another round
+			MatchDay nextRound = new MatchDay("2 Giornata", 2, 2025, 6, MatchDay.Status.FUTURE, matchDay.getLeague());
+			sessionFactory.inTransaction(session -> session.persist(nextRound));
+			entityManager.getTransaction().begin();
+			gradeRepository.saveGrade(new Grade(totti, nextRound, 7.0));
+			entityManager.getTransaction().commit();
+			entityManager.clear();
+
+			// WHEN the SUT is used to retrieve the Grades of the MatchDay
+			entityManager.getTransaction().begin();
+			List<Grade> retrieved = gradeRepository.getAllGrades(matchDay, FetchPlan.THIN);
+			entityManager.getTransaction().commit();
+
+			// THEN none are found
+			assertThat(retrieved).isEmpty();
+		}
+
+		@Test
+		@DisplayName("leaving out Grades of the same round in other seasons")
+		void testGradesOfOtherSeasons() {
+
+			// GIVEN a Grade is saved for a League's MatchDay on the same round of the previous season
+			League lastSeasonLeague = new League(matchDay.getLeague().getAdmin(), "Serie A 2024", "last code");
+			MatchDay lastSeason = new MatchDay("1 Giornata", 1, 2024, 5, MatchDay.Status.PAST, lastSeasonLeague);
+			sessionFactory.inTransaction(session -> {
+				session.persist(lastSeasonLeague);
+				session.persist(lastSeason);
+			});
+			entityManager.getTransaction().begin();
+			gradeRepository.saveGrade(new Grade(totti, lastSeason, 7.0));
+			entityManager.getTransaction().commit();
+			entityManager.clear();
+
+			// WHEN the SUT is used to retrieve the Grades of the MatchDay
+			entityManager.getTransaction().begin();
+			List<Grade> retrieved = gradeRepository.getAllGrades(matchDay, FetchPlan.THIN);
+			entityManager.getTransaction().commit();
+
+			// THEN none are found
+			assertThat(retrieved).isEmpty();
+		}
+	}
+
+	@Test
+	@DisplayName("stores a single row per Player and round")
+	void testSingleRowPerRound() {
+
+		// GIVEN a Grade is saved for a MatchDay
+		entityManager.getTransaction().begin();
+		gradeRepository.saveGrade(new Grade(totti, matchDay, 7.0));
+		entityManager.getTransaction().commit();
+		entityManager.clear();
+
+		// WHEN the SUT is used to save a Grade of the same Player on the other League's MatchDay
+		entityManager.getTransaction().begin();
+		gradeRepository.saveGrade(new Grade(totti, otherLeagueMatchDay, 8.0));
+		ThrowingCallable commit = () -> entityManager.getTransaction().commit();
+
+		// THEN the database rejects it
+		assertThatThrownBy(commit).isInstanceOf(RuntimeException.class);
+		assertThat(sessionFactory.fromTransaction((Session session) -> session
+				.createQuery("SELECT COUNT(g) FROM RoundGrade g", Long.class).getSingleResult())).isEqualTo(1);
+	}
+
+	@Nested
+	@DisplayName("can correct a Grade")
+	class Correction {
+
+		@Test
+		@DisplayName("for all MatchDays played on its round")
+		void testCorrectGrade() {
+
+			// GIVEN a Grade is saved for a MatchDay
+			Grade grade = new Grade(totti, matchDay, 6.0);
+			entityManager.getTransaction().begin();
+			gradeRepository.saveGrade(grade);
+			entityManager.getTransaction().commit();
+			entityManager.clear();
+
+			// WHEN the SUT is used to correct its mark
+			entityManager.getTransaction().begin();
+			Grade corrected = gradeRepository.correctGrade(grade, 7.5);
+			entityManager.getTransaction().commit();
+			entityManager.clear();
+
+			// THEN the other League's MatchDay sees the corrected mark
+			entityManager.getTransaction().begin();
+			List<Grade> retrieved = gradeRepository.getAllGrades(otherLeagueMatchDay, FetchPlan.THIN);
+			entityManager.getTransaction().commit();
+			assertThat(corrected).isEqualTo(new Grade(totti, matchDay, 7.5));
+			assertThat(retrieved).containsExactly(new Grade(totti, otherLeagueMatchDay, 7.5));
+		}
+
+		@Test
+		@DisplayName("not when the Grade is not stored in the database")
+		void testCorrectGradeNotStored() {
+			entityManager.getTransaction().begin();
+			ThrowingCallable correction = () -> gradeRepository.correctGrade(new Grade(totti, matchDay, 6.0), 7.5);
+
+			assertThatThrownBy(correction).isInstanceOf(IllegalArgumentException.class)
+					.hasMessageContaining("not stored");
+			entityManager.getTransaction().rollback();
+		}
+	}
+
+	@Test
+	@DisplayName("can tell whether any MatchDay played on the same round was scored")
+	void testIsScored() {
+
+		// GIVEN a Result is calculated for a Match of the other League's MatchDay
+		League otherLeague = otherLeagueMatchDay.getLeague();
+		FantaTeam team1 = new FantaTeam("Team 1", otherLeague, 0, otherLeague.getAdmin(), new HashSet<>());
+		FantaTeam team2 = new FantaTeam("Team 2", otherLeague, 0, otherLeague.getAdmin(), new HashSet<>());
+		Match match = new Match(otherLeagueMatchDay, team1, team2);
+		MatchDay nextRound = new MatchDay("2 Giornata", 2, 2025, 6, MatchDay.Status.FUTURE, matchDay.getLeague());
+		sessionFactory.inTransaction(session -> {
+			session.persist(team1);
+			session.persist(team2);
+			session.persist(match);
+			session.persist(new Result(66, 60, 1, 0, match));
+			session.persist(nextRound);
+		});
+
+		// WHEN the SUT is used to check the MatchDays of the first League
+		entityManager.getTransaction().begin();
+		boolean sameRoundIsScored = gradeRepository.isScored(matchDay);
+		boolean nextRoundIsScored = gradeRepository.isScored(nextRound);
+		entityManager.getTransaction().commit();
+
+		// THEN only the one sharing the scored round is
+		assertThat(sameRoundIsScored).isTrue();
+		assertThat(nextRoundIsScored).isFalse();
+	}
+
+	@Test
+	@DisplayName("can write a batch of Grades to the database, clearing them from memory")
+	void testSaveBatch() {
+
+		// WHEN the SUT is used to save a batch of Grades
+		entityManager.getTransaction().begin();
+		gradeRepository.saveBatch(List.of(new Grade(totti, matchDay, 9.0), new Grade(buffon, matchDay, 6.5)));
+
+		// THEN the persistence context is left empty
+		assertThat(entityManager.unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+		entityManager.getTransaction().commit();
+		entityManager.clear();
+
+		// AND the Grades are present in the database
+		entityManager.getTransaction().begin();
+		List<Grade> retrieved = gradeRepository.getAllGrades(matchDay, FetchPlan.THIN);
+		entityManager.getTransaction().commit();
+		assertThat(retrieved).containsExactlyInAnyOrder(
+				new Grade(totti, matchDay, 9.0), new Grade(buffon, matchDay, 6.5));
+	}
+}
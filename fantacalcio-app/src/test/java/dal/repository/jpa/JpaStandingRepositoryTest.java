@@ -0,0 +1,185 @@
+package dal.repository.jpa;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.junit.jupiter.api.*;
+
+import business.ports.repository.StandingRepository.StandingRow;
+import domain.*;
+import jakarta.persistence.EntityManager;
+
+@DisplayName("tests for JpaStandingRepository")
+class JpaStandingRepositoryTest {
+
+	private static SessionFactory sessionFactory;
+	private EntityManager entityManager;
+	private JpaStandingRepository standingRepository;
+
+	// setup entities
+	private League league;
+	private FantaTeam t1;
+	private FantaTeam t2;
+
+	@BeforeAll
+	static void initializeSessionFactory() {
+		try {
+			StandardServiceRegistry serviceRegistry = new StandardServiceRegistryBuilder()
+					.configure("hibernate-test.cfg.xml").build();
+
+			Metadata metadata = new MetadataSources(serviceRegistry)
+					.addAnnotatedClass(FantaUser.class)
+					.addAnnotatedClass(League.class)
+					.addAnnotatedClass(FantaTeam.class)
+					.addAnnotatedClass(Contract.class)
+					.addAnnotatedClass(Player.class)
+					.addAnnotatedClass(Standing.class)
+					.getMetadataBuilder().build();
+
+			sessionFactory = metadata.getSessionFactoryBuilder().build();
+
+		} catch (Throwable ex) {
+			throw new ExceptionInInitializerError(ex);
+		}
+	}
+
+	@BeforeEach
+	void setup() {
+		sessionFactory.getSchemaManager().truncateMappedObjects();
+		entityManager = sessionFactory.createEntityManager();
+		standingRepository = new JpaStandingRepository(entityManager);
+
+		// GIVEN a Standing's ancillary entities are persisted
+		FantaUser admin = new FantaUser("admin@l001.com", "pwd");
+		league = new League(admin, "League L001", "L001");
+		FantaUser user1 = new FantaUser("a@a.com", "pwd");
+		FantaUser user2 = new FantaUser("b@b.com", "pwd");
+		t1 = new FantaTeam("Team A", league, 0, user1, null);
+		t2 = new FantaTeam("Team B", league, 0, user2, null);
+
+		sessionFactory.inTransaction(session -> {
+			session.persist(admin);
+			session.persist(league);
+			session.persist(user1);
+			session.persist(user2);
+			session.persist(t1);
+			session.persist(t2);
+		});
+	}
+
+	@AfterEach
+	void tearDown() {
+		entityManager.close();
+	}
+
+	@AfterAll
+	static void tear() {
+		sessionFactory.close();
+	}
+
+	@Test
+	@DisplayName("can persist several Standing instances to the database at once")
+	void testSaveAllStandings() {
+
+		// GIVEN two Standings are instantiated
+		Standing standing1 = new Standing(t1);
+		standing1.record(2, 1);
+		standing1.setRank(1);
+		Standing standing2 = new Standing(t2);
+		standing2.record(1, 2);
+		standing2.setRank(2);
+
+		// WHEN the SUT is used to persist them at once
+		entityManager.getTransaction().begin();
+		standingRepository.saveAll(List.of(standing1, standing2));
+		entityManager.getTransaction().commit();
+		entityManager.clear();
+
+		// THEN the Standings are present in the database
+		assertThat(sessionFactory
+				.fromTransaction((Session session) -> session.createQuery("FROM Standing s JOIN FETCH s.team t "
+						+ "JOIN FETCH t.fantaManager JOIN FETCH t.league l JOIN FETCH l.admin", Standing.class)
+						.getResultList()))
+				.containsExactlyInAnyOrder(standing1, standing2);
+	}
+
+	@Test
+	@DisplayName("can look up a League's Standings in rank order")
+	void testGetStandings() {
+
+		// GIVEN Standings are manually persisted for a League, the lower rank first
+		Standing second = new Standing(t1);
+		second.record(0, 1);
+		second.setRank(2);
+		Standing first = new Standing(t2);
+		first.record(1, 0);
+		first.setRank(1);
+
+		// AND a Standing is manually persisted for another League
+		FantaUser otherAdmin = new FantaUser("admin@l002.com", "pwd");
+		League other = new League(otherAdmin, "League L002", "L002");
+		FantaTeam otherTeam = new FantaTeam("Team C", other, 0, otherAdmin, null);
+		Standing otherStanding = new Standing(otherTeam);
+		otherStanding.setRank(1);
+
+		sessionFactory.inTransaction(session -> {
+			session.persist(second);
+			session.persist(first);
+			session.persist(otherAdmin);
+			session.persist(other);
+			session.persist(otherTeam);
+			session.persist(otherStanding);
+		});
+
+		// WHEN the SUT is used to retrieve the League's Standings
+		entityManager.getTransaction().begin();
+		List<Standing> retrieved = standingRepository.getStandings(league);
+		entityManager.getTransaction().commit();
+		entityManager.clear();
+
+		// THEN only that League's Standings are returned, in rank order
+		assertThat(retrieved).containsExactly(first, second);
+	}
+
+	@Test
+	@DisplayName("can read a League's table as rows in rank order, loading no entity")
+	void testGetStandingRows() {
+
+		// GIVEN Standings are manually persisted for a League, the lower rank first
+		Standing second = new Standing(t1);
+		second.record(0, 1);
+		second.setRank(2);
+		Standing first = new Standing(t2);
+		first.record(1, 0);
+		first.setRank(1);
+
+		sessionFactory.inTransaction(session -> {
+			session.persist(second);
+			session.persist(first);
+		});
+
+		// WHEN the SUT is used to read the League's table as rows
+		entityManager.getTransaction().begin();
+		List<StandingRow> rows = standingRepository.getStandingRows(league);
+
+		// THEN no entity has been loaded into the persistence context
+		assertThat(entityManager.unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+		entityManager.getTransaction().commit();
+
+		// AND the rows follow the rank order, with each team's manager
+		assertThat(rows).containsExactly(
+				new StandingRow(id(t2), "Team B", "b@b.com", 1, 3, 1, 0, "W"),
+				new StandingRow(id(t1), "Team A", "a@a.com", 2, 0, 0, 1, "L"));
+	}
+
+	private static long id(Object entity) {
+		return (Long) sessionFactory.getPersistenceUnitUtil().getIdentifier(entity);
+	}
+}
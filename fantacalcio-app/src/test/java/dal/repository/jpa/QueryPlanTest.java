@@ -0,0 +1,295 @@
+package dal.repository.jpa;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.*;
+
+import business.ports.repository.FetchPlan;
+import domain.*;
+import domain.Player.Club;
+import domain.Player.Forward;
+import domain.Player.Goalkeeper;
+import jakarta.persistence.EntityManager;
+
+/**
+ * runs H2's EXPLAIN on the SQL issued by each hot repository lookup, failing
+ * when any of the tables it reads is accessed by a full table scan rather
+ * than through an index
+ */
+@DisplayName("query plans of hot repository lookups")
+class QueryPlanTest {
+
+	// the SELECT statements issued since the last lookup began
+	private static final List<String> ISSUED = new ArrayList<>();
+
+	private static SessionFactory sessionFactory;
+	private EntityManager entityManager;
+
+	// setup entities
+	private FantaUser admin;
+	private League league;
+	private MatchDay matchDay;
+	private FantaTeam team1;
+	private FantaTeam team2;
+	private Player goalkeeper;
+	private Contract offered;
+	private Contract requested;
+
+	@BeforeAll
+	static void initializeSessionFactory() {
+		try {
+			StandardServiceRegistry serviceRegistry = new StandardServiceRegistryBuilder()
+					.configure("hibernate-test.cfg.xml")
+					.applySetting(AvailableSettings.STATEMENT_INSPECTOR, (StatementInspector) sql -> {
+						if (sql.startsWith("select"))
+							ISSUED.add(sql);
+						return sql;
+					})
+					.build();
+
+			Metadata metadata = new MetadataSources(serviceRegistry)
+					.addAnnotatedClass(FantaUser.class)
+					.addAnnotatedClass(League.class)
+					.addAnnotatedClass(FantaTeam.class)
+					.addAnnotatedClass(MatchDay.class)
+					.addAnnotatedClass(Match.class)
+					.addAnnotatedClass(Result.class)
+					.addAnnotatedClass(Grade.class)
+					.addAnnotatedClass(RoundGrade.class)
+					.addAnnotatedClass(Contract.class)
+					.addAnnotatedClass(Proposal.class)
+					.addAnnotatedClass(Player.class)
+					.addAnnotatedClass(Player.Goalkeeper.class)
+					.addAnnotatedClass(Player.Defender.class)
+					.addAnnotatedClass(Player.Midfielder.class)
+					.addAnnotatedClass(Player.Forward.class)
+					.getMetadataBuilder().build();
+
+			sessionFactory = metadata.getSessionFactoryBuilder().build();
+
+		} catch (Throwable ex) {
+			throw new ExceptionInInitializerError(ex);
+		}
+	}
+
+	@BeforeEach
+	void setup() {
+		sessionFactory.getSchemaManager().truncateMappedObjects();
+		entityManager = sessionFactory.createEntityManager();
+
+		// GIVEN the entities looked up by the tests are persisted
+		admin = new FantaUser("admin@l001.com", "pwd");
+		league = new League(admin, "League L001", "L001");
+		matchDay = new MatchDay("MD1", 1, MatchDay.Status.FUTURE, league);
+		FantaUser user1 = new FantaUser("a@a.com", "pwd");
+		FantaUser user2 = new FantaUser("b@b.com", "pwd");
+		team1 = new FantaTeam("Team A", league, 0, user1, null);
+		team2 = new FantaTeam("Team B", league, 0, user2, null);
+		goalkeeper = new Goalkeeper("Gigi", "Buffon", Club.JUVENTUS);
+		Player forward = new Forward("Marcus", "Thuram", Club.INTER);
+		offered = new Contract(team1, goalkeeper);
+		requested = new Contract(team2, forward);
+
+		sessionFactory.inTransaction(session -> {
+			session.persist(admin);
+			session.persist(league);
+			session.persist(matchDay);
+			session.persist(user1);
+			session.persist(user2);
+			session.persist(team1);
+			session.persist(team2);
+			session.persist(new Match(matchDay, team1, team2));
+			session.persist(goalkeeper);
+			session.persist(forward);
+			session.persist(new Grade(goalkeeper, matchDay, 6.5));
+			session.persist(new RoundGrade(new Grade(goalkeeper, matchDay, 6.5)));
+			session.persist(offered);
+			session.persist(requested);
+			session.persist(new Proposal(offered, requested));
+		});
+	}
+
+	@AfterEach
+	void tearDown() {
+		entityManager.close();
+	}
+
+	@AfterAll
+	static void tear() {
+		sessionFactory.close();
+	}
+
+	@Nested
+	@DisplayName("on a MatchDay")
+	class OnMatchDay {
+
+		@Test
+		@DisplayName("Grades by MatchDay")
+		void testGradesByMatchDay() {
+			assertNoTableScan(() -> new JpaGradeRepository(entityManager).getAllGrades(matchDay, FetchPlan.THIN));
+		}
+
+		@Test
+		@DisplayName("Grades by real-world round")
+		void testGradesByRealRound() {
+			assertNoTableScan(() -> new JpaRoundGradeRepository(entityManager).getAllGrades(matchDay, FetchPlan.THIN));
+		}
+
+		@Test
+		@DisplayName("Matches by MatchDay")
+		void testMatchesByMatchDay() {
+			assertNoTableScan(() -> new JpaMatchRepository(entityManager).getAllMatchesIn(matchDay, FetchPlan.THIN));
+		}
+
+		@Test
+		@DisplayName("Match by MatchDay and FantaTeam")
+		void testMatchByMatchDayAndTeam() {
+			assertNoTableScan(() -> new JpaMatchRepository(entityManager).getMatchBy(matchDay, team2));
+		}
+
+		@Test
+		@DisplayName("Matches with no Result on a MatchDay")
+		void testMatchesWithoutResult() {
+			assertNoTableScan(() -> new JpaMatchRepository(entityManager).existsMatchWithoutResult(matchDay));
+		}
+
+		@Test
+		@DisplayName("Contracts of the FantaTeams playing on a MatchDay")
+		void testContractsByMatchDay() {
+			assertNoTableScan(() -> new JpaContractRepository(entityManager).getAllContractsIn(matchDay));
+		}
+	}
+
+	@Nested
+	@DisplayName("on a League")
+	class OnLeague {
+
+		@Test
+		@DisplayName("MatchDays by League and status")
+		void testMatchDaysByStatus() {
+			JpaMatchDayRepository matchDayRepository = new JpaMatchDayRepository(entityManager);
+			assertNoTableScan(() -> {
+				matchDayRepository.getEarliestUpcomingMatchDay(league, FetchPlan.THIN);
+				matchDayRepository.getLatestEndedMatchDay(league, FetchPlan.THIN);
+				matchDayRepository.getOngoingMatchDay(league, FetchPlan.THIN);
+			});
+		}
+
+		@Test
+		@DisplayName("MatchDays by League")
+		void testMatchDaysByLeague() {
+			assertNoTableScan(() -> new JpaMatchDayRepository(entityManager).getAllMatchDays(league, FetchPlan.THIN));
+		}
+
+		@Test
+		@DisplayName("League by code")
+		void testLeagueByCode() {
+			JpaLeagueRepository leagueRepository = new JpaLeagueRepository(entityManager);
+			assertNoTableScan(() -> {
+				leagueRepository.getLeagueByCode("L001");
+				leagueRepository.existsLeague("L001");
+			});
+		}
+
+		@Test
+		@DisplayName("FantaTeam by manager and League")
+		void testTeamByManager() {
+			assertNoTableScan(() -> new JpaFantaTeamRepository(entityManager)
+					.getFantaTeamByUserAndLeague(league, team1.getFantaManager(), FetchPlan.THIN));
+		}
+	}
+
+	@Nested
+	@DisplayName("on a FantaTeam")
+	class OnTeam {
+
+		@Test
+		@DisplayName("Contract by FantaTeam and Player")
+		void testContractByTeamAndPlayer() {
+			JpaContractRepository contractRepository = new JpaContractRepository(entityManager);
+			assertNoTableScan(() -> {
+				contractRepository.getContract(team1, goalkeeper);
+				contractRepository.getContractedAmong(team1, List.of(goalkeeper));
+				contractRepository.countContractsByRole(team1);
+			});
+		}
+
+		@Test
+		@DisplayName("Proposals by FantaTeam")
+		void testProposalsByTeam() {
+			assertNoTableScan(() -> new JpaProposalRepository(entityManager).getProposalsFor(team2, FetchPlan.THIN));
+		}
+
+		@Test
+		@DisplayName("Proposal by its Contracts")
+		void testProposalByContracts() {
+			assertNoTableScan(() -> new JpaProposalRepository(entityManager)
+					.getProposalBy(offered, requested, FetchPlan.THIN));
+		}
+	}
+
+	@Test
+	@DisplayName("Players by surname")
+	void testPlayersBySurname() {
+		JpaPlayerRepository playerRepository = new JpaPlayerRepository(entityManager);
+		assertNoTableScan(() -> {
+			playerRepository.findBySurname("Buffon");
+			playerRepository.findPlayerRowsBySurname("Buffon");
+		});
+	}
+
+	@Test
+	@DisplayName("FantaUser by credentials")
+	void testUserByCredentials() {
+		JpaFantaUserRepository fantaUserRepository = new JpaFantaUserRepository(entityManager);
+		assertNoTableScan(() -> {
+			fantaUserRepository.getUser("a@a.com", "pwd");
+			fantaUserRepository.existsFantaUser("a@a.com", "pwd");
+		});
+	}
+
+	// helpers
+
+	private void assertNoTableScan(Runnable lookup) {
+		entityManager.getTransaction().begin();
+		ISSUED.clear();
+		lookup.run();
+		List<String> issued = List.copyOf(ISSUED);
+		entityManager.getTransaction().commit();
+		entityManager.clear();
+
+		assertThat(issued).isNotEmpty();
+		sessionFactory.inSession(session -> session.doWork(connection -> {
+			for (String sql : issued)
+				assertThat(explain(connection, sql)).as(sql).doesNotContain(".tableScan");
+		}));
+	}
+
+	// parameters are left unbound, as H2 plans a statement when preparing it
+	private static String explain(Connection connection, String sql) throws SQLException {
+		try (PreparedStatement explain = connection.prepareStatement("EXPLAIN " + sql)) {
+			for (int i = 1; i <= explain.getParameterMetaData().getParameterCount(); i++)
+				explain.setObject(i, null);
+			StringBuilder plan = new StringBuilder();
+			try (ResultSet rows = explain.executeQuery()) {
+				while (rows.next())
+					plan.append(rows.getString(1)).append('\n');
+			}
+			return plan.toString();
+		}
+	}
+}
@@ -0,0 +1,125 @@
+package dal.transaction.jpa;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import domain.FantaUser;
+import domain.League;
+import domain.MatchDay;
+
+@DisplayName("tests for JpaTransactionManager")
+class JpaTransactionManagerTest {
+
+	private static SessionFactory sessionFactory;
+	private JpaTransactionManager transactionManager;
+
+	// setup entities
+	private League league;
+
+	@BeforeAll
+	static void initializeSessionFactory() {
+		try {
+			StandardServiceRegistry serviceRegistry = new StandardServiceRegistryBuilder()
+					.configure("hibernate-test.cfg.xml").build();
+
+			Metadata metadata = new MetadataSources(serviceRegistry)
+					.addAnnotatedClass(FantaUser.class)
+					.addAnnotatedClass(League.class)
+					.addAnnotatedClass(MatchDay.class)
+					.getMetadataBuilder().build();
+
+			sessionFactory = metadata.getSessionFactoryBuilder().build();
+
+		} catch (Throwable ex) {
+			throw new ExceptionInInitializerError(ex);
+		}
+	}
+
+	@BeforeEach
+	void setup() {
+		sessionFactory.getSchemaManager().truncateMappedObjects();
+		transactionManager = new JpaTransactionManager(sessionFactory);
+
+		// GIVEN a League with a FUTURE MatchDay is persisted
+		FantaUser admin = new FantaUser("admin@l001.com", "pwd");
+		league = new League(admin, "League L001", "L001");
+		MatchDay matchDay = new MatchDay("MD1", 1, MatchDay.Status.FUTURE, league);
+
+		sessionFactory.inTransaction(session -> {
+			session.persist(admin);
+			session.persist(league);
+			session.persist(matchDay);
+		});
+	}
+
+	@AfterAll
+	static void tear() {
+		sessionFactory.close();
+	}
+
+	private List<MatchDay> persistedMatchDays() {
+		return sessionFactory.fromTransaction((Session session) -> session
+				.createQuery("FROM MatchDay", MatchDay.class).getResultList());
+	}
+
+	@Test
+	@DisplayName("a read-write transaction flushes changes to managed entities")
+	void testFromTransactionFlushesChanges() {
+
+		// WHEN a managed MatchDay is modified in a read-write transaction
+		transactionManager.fromTransaction(context -> {
+			context.getMatchDayRepository().getAllMatchDays(league)
+					.forEach(day -> day.setStatus(MatchDay.Status.PRESENT));
+			return null;
+		});
+
+		// THEN the change is written to the database
+		assertThat(persistedMatchDays()).extracting(MatchDay::getStatus).containsExactly(MatchDay.Status.PRESENT);
+	}
+
+	@Nested
+	@DisplayName("a read-only transaction")
+	class ReadOnly {
+
+		@Test
+		@DisplayName("returns the entities looked up by the given code")
+		void testFromReadOnlyTransactionReturnsResult() {
+
+			// WHEN the SUT is used to look up MatchDays in a read-only transaction
+			List<MatchDay> retrieved = transactionManager
+					.fromReadOnlyTransaction(context -> context.getMatchDayRepository().getAllMatchDays(league));
+
+			// THEN the persisted MatchDay is retrieved
+			assertThat(retrieved).extracting(MatchDay::getName).containsExactly("MD1");
+		}
+
+		@Test
+		@DisplayName("loads entities as read-only and never flushes them")
+		void testFromReadOnlyTransactionDiscardsChanges() {
+
+			// WHEN a loaded MatchDay is modified in a read-only transaction
+			transactionManager.fromReadOnlyTransaction(context -> {
+				context.getMatchDayRepository().getAllMatchDays(league)
+						.forEach(day -> day.setStatus(MatchDay.Status.PRESENT));
+				return null;
+			});
+
+			// THEN the change is not written to the database
+			assertThat(persistedMatchDays()).extracting(MatchDay::getStatus).containsExactly(MatchDay.Status.FUTURE);
+		}
+	}
+}
@@ -0,0 +1,65 @@
+package domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import domain.Player.Club;
+import domain.Player.Forward;
+
+class EntityIdentityTest {
+
+	private final FantaUser admin = new FantaUser("admin@example.com", "pwd");
+	private final League league = new League(admin, "Serie A", "1234");
+
+	@Test
+	@DisplayName("a FantaTeam can still be found in a HashSet after its points change")
+	void testFantaTeamIdentityIgnoresPoints() {
+		FantaTeam team = new FantaTeam("Team", league, 0, admin, new HashSet<>());
+		Set<FantaTeam> teams = new HashSet<>(Set.of(team));
+
+		team.setPoints(3);
+
+		assertThat(teams).contains(team);
+		assertThat(team).isEqualTo(new FantaTeam("Team", league, 42, admin, new HashSet<>()));
+	}
+
+	@Test
+	@DisplayName("a MatchDay can still be found in a HashSet after its status changes")
+	void testMatchDayIdentityIgnoresStatus() {
+		MatchDay matchDay = new MatchDay("1 giornata", 1, MatchDay.Status.FUTURE, league);
+		Set<MatchDay> matchDays = new HashSet<>(Set.of(matchDay));
+
+		matchDay.setStatus(MatchDay.Status.PRESENT);
+
+		assertThat(matchDays).contains(matchDay);
+		assertThat(matchDay).isNotEqualTo(new MatchDay("1 giornata", 2, MatchDay.Status.PRESENT, league));
+	}
+
+	@Test
+	@DisplayName("a League can still be found in a HashSet after its NewsPaper is assigned")
+	void testLeagueIdentityIgnoresNewsPaper() {
+		Set<League> leagues = new HashSet<>(Set.of(league));
+
+		league.setNewsPaper(new FantaUser("journalist@example.com", "pwd"));
+
+		assertThat(leagues).contains(league);
+		assertThat(league).isNotEqualTo(new League(admin, "Serie A", "5678"));
+	}
+
+	@Test
+	@DisplayName("Players are identified by name, surname, club and role")
+	void testPlayerIdentity() {
+		Forward forward = new Forward("Lionel", "Messi", Club.PISA);
+
+		assertThat(forward)
+				.isEqualTo(new Forward("Lionel", "Messi", Club.PISA))
+				.hasSameHashCodeAs(new Forward("Lionel", "Messi", Club.PISA))
+				.isNotEqualTo(new Player.Midfielder("Lionel", "Messi", Club.PISA))
+				.isNotEqualTo(new Forward("Lionel", "Messi", Club.ROMA));
+	}
+}
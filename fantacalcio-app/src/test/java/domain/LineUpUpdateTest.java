@@ -0,0 +1,123 @@
+package domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import domain.Player.*;
+import domain.scheme.Scheme433;
+
+/**
+ * tests {@link LineUp}'s content hash and its in-place update from another
+ * LineUp for the same Match and FantaTeam.
+ */
+class LineUpUpdateTest {
+
+	private FantaTeam team;
+	private Match match;
+	private Goalkeeper sgk1, sgk2, sgk3;
+
+	@BeforeEach
+	void setup() {
+		team = new FantaTeam("Dream Team", null, 30, null, new HashSet<Contract>());
+		match = new Match(null, team, new FantaTeam("Challengers", null, 25, null, new HashSet<Contract>()));
+		sgk1 = new Goalkeeper("portiere1", "panchina", Player.Club.ATALANTA);
+		sgk2 = new Goalkeeper("portiere2", "panchina", Player.Club.ATALANTA);
+		sgk3 = new Goalkeeper("portiere3", "panchina", Player.Club.ATALANTA);
+	}
+
+	@Test
+	@DisplayName("LineUps with the same content have the same content hash")
+	void testContentHashOfEqualContent() {
+
+		// GIVEN two LineUps are built from equal Players on the same bench
+		LineUp first = lineUp(match, sgk1, sgk2, sgk3);
+		LineUp second = lineUp(match, sgk1, sgk2, sgk3);
+
+		// THEN their content hashes are the same
+		assertThat(second.getContentHash()).isEqualTo(first.getContentHash());
+	}
+
+	@Test
+	@DisplayName("reordering the bench changes the content hash")
+	void testContentHashOfReorderedBench() {
+
+		// GIVEN two LineUps differ only in their bench order
+		LineUp first = lineUp(match, sgk1, sgk2, sgk3);
+		LineUp second = lineUp(match, sgk2, sgk1, sgk3);
+
+		// THEN their content hashes differ
+		assertThat(second.getContentHash()).isNotEqualTo(first.getContentHash());
+	}
+
+	@Test
+	@DisplayName("updateFrom replaces only the Fieldings that differ")
+	void testUpdateFromReplacesDifferingFieldings() {
+
+		// GIVEN a LineUp and a reordered one for the same Match and FantaTeam
+		LineUp stored = lineUp(match, sgk1, sgk2, sgk3);
+		LineUp submitted = lineUp(match, sgk2, sgk1, sgk3);
+		Set<Fielding> before = new HashSet<>(stored.getFieldings());
+
+		// WHEN the former is updated from the latter
+		stored.updateFrom(submitted);
+
+		// THEN it matches the submitted LineUp, content hash included
+		assertThat(stored.recursiveEquals(submitted)).isTrue();
+		assertThat(stored.getContentHash()).isEqualTo(submitted.getContentHash());
+		assertThat(stored.extract().substituteGoalkeepers()).containsExactly(sgk2, sgk1, sgk3);
+
+		// AND only the two swapped Fieldings have been replaced
+		Set<Fielding> kept = new HashSet<>(stored.getFieldings());
+		kept.retainAll(before);
+		assertThat(kept).hasSize(before.size() - 2);
+		assertThat(stored.getFieldings()).allSatisfy(fielding -> assertThat(fielding.getLineUp()).isSameAs(stored));
+	}
+
+	@Test
+	@DisplayName("updateFrom rejects a LineUp for a different Match")
+	void testUpdateFromDifferentMatch() {
+
+		// GIVEN two LineUps for different Matches
+		LineUp stored = lineUp(match, sgk1, sgk2, sgk3);
+		LineUp other = lineUp(new Match(null, team, team), sgk1, sgk2, sgk3);
+
+		// THEN updating one from the other is rejected
+		assertThatThrownBy(() -> stored.updateFrom(other))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	private LineUp lineUp(Match match, Goalkeeper bench1, Goalkeeper bench2, Goalkeeper bench3) {
+		return LineUp.build()
+				.forTeam(team)
+				.inMatch(match)
+				.withStarterLineUp(Scheme433.starterLineUp()
+						.withGoalkeeper(new Goalkeeper("portiere", "titolare", Player.Club.ATALANTA))
+						.withDefenders(new Defender("difensore1", "titolare", Player.Club.ATALANTA),
+								new Defender("difensore2", "titolare", Player.Club.ATALANTA),
+								new Defender("difensore3", "titolare", Player.Club.ATALANTA),
+								new Defender("difensore4", "titolare", Player.Club.ATALANTA))
+						.withMidfielders(new Midfielder("centrocampista1", "titolare", Player.Club.ATALANTA),
+								new Midfielder("centrocampista2", "titolare", Player.Club.ATALANTA),
+								new Midfielder("centrocampista3", "titolare", Player.Club.ATALANTA))
+						.withForwards(new Forward("attaccante1", "titolare", Player.Club.ATALANTA),
+								new Forward("attaccante2", "titolare", Player.Club.ATALANTA),
+								new Forward("attaccante3", "titolare", Player.Club.ATALANTA)))
+				.withSubstituteGoalkeepers(bench1, bench2, bench3)
+				.withSubstituteDefenders(new Defender("difensore1", "panchina", Player.Club.ATALANTA),
+						new Defender("difensore2", "panchina", Player.Club.ATALANTA),
+						new Defender("difensore3", "panchina", Player.Club.ATALANTA))
+				.withSubstituteMidfielders(new Midfielder("centrocampista1", "panchina", Player.Club.ATALANTA),
+						new Midfielder("centrocampista2", "panchina", Player.Club.ATALANTA),
+						new Midfielder("centrocampista3", "panchina", Player.Club.ATALANTA))
+				.withSubstituteForwards(new Forward("attaccante1", "panchina", Player.Club.ATALANTA),
+						new Forward("attaccante2", "panchina", Player.Club.ATALANTA),
+						new Forward("attaccante3", "panchina", Player.Club.ATALANTA));
+	}
+}
@@ -1,6 +1,7 @@
 package domain;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.util.HashSet;
 import org.junit.jupiter.api.Test;
@@ -78,4 +79,55 @@ public class LineUpViewerTest {
 		assertThat(viewer.substituteMidfielders()).containsExactly(sm1, sm2, sm3);
 		assertThat(viewer.substituteForwards()).containsExactly(sf1, sf2, sf3);
     }
+
+    @Test
+    public void testRoleIndexIsBuiltOnce() {
+
+    	// GIVEN a LineUp is assembled
+    	LineUp lineUp = sampleLineUp();
+
+    	// WHEN its Players are looked up repeatedly
+    	LineUpViewer first = lineUp.extract();
+    	LineUpViewer second = lineUp.extract();
+
+    	// THEN the same unmodifiable results are served every time
+    	assertThat(second.starterDefenders()).isSameAs(first.starterDefenders());
+    	assertThat(second.substituteForwards()).isSameAs(first.substituteForwards());
+    	assertThat(first.players()).hasSize(23);
+    	assertThatThrownBy(() -> first.starterDefenders().clear())
+    			.isInstanceOf(UnsupportedOperationException.class);
+    	assertThatThrownBy(() -> first.substituteGoalkeepers().clear())
+    			.isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    private static LineUp sampleLineUp() {
+    	FantaTeam team = new FantaTeam("Dream Team", null, 30, null, new HashSet<Contract>());
+    	return LineUp.build()
+    			.forTeam(team)
+    			.inMatch(new Match(null, team, team))
+    			.withStarterLineUp(Scheme433.starterLineUp()
+    					.withGoalkeeper(new Goalkeeper("portiere", "titolare", Player.Club.ATALANTA))
+    					.withDefenders(new Defender("difensore1", "titolare", Player.Club.ATALANTA),
+    							new Defender("difensore2", "titolare", Player.Club.ATALANTA),
+    							new Defender("difensore3", "titolare", Player.Club.ATALANTA),
+    							new Defender("difensore4", "titolare", Player.Club.ATALANTA))
+    					.withMidfielders(new Midfielder("centrocampista1", "titolare", Player.Club.ATALANTA),
+    							new Midfielder("centrocampista2", "titolare", Player.Club.ATALANTA),
+    							new Midfielder("centrocampista3", "titolare", Player.Club.ATALANTA))
+    					.withForwards(new Forward("attaccante1", "titolare", Player.Club.ATALANTA),
+    							new Forward("attaccante2", "titolare", Player.Club.ATALANTA),
+    							new Forward("attaccante3", "titolare", Player.Club.ATALANTA)))
+    			.withSubstituteGoalkeepers(new Goalkeeper("portiere1", "panchina", Player.Club.ATALANTA),
+    					new Goalkeeper("portiere2", "panchina", Player.Club.ATALANTA),
+    					new Goalkeeper("portiere3", "panchina", Player.Club.ATALANTA))
+    			.withSubstituteDefenders(new Defender("difensore1", "panchina", Player.Club.ATALANTA),
+    					new Defender("difensore2", "panchina", Player.Club.ATALANTA),
+    					new Defender("difensore3", "panchina", Player.Club.ATALANTA))
+    			.withSubstituteMidfielders(new Midfielder("centrocampista1", "panchina", Player.Club.ATALANTA),
+    					new Midfielder("centrocampista2", "panchina", Player.Club.ATALANTA),
+    					new Midfielder("centrocampista3", "panchina", Player.Club.ATALANTA))
+    			.withSubstituteForwards(new Forward("attaccante1", "panchina", Player.Club.ATALANTA),
+    					new Forward("attaccante2", "panchina", Player.Club.ATALANTA),
+    					new Forward("attaccante3", "panchina", Player.Club.ATALANTA));
+    }
 }
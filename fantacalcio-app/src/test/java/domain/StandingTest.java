@@ -0,0 +1,61 @@
+package domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class StandingTest {
+
+	private final League league = new League(new FantaUser("admin@example.com", "pwd"), "Serie A", "1234");
+
+	@Test
+	@DisplayName("record() accumulates goals and points and keeps only the most recent form")
+	void testRecord() {
+
+		// GIVEN a new Standing for a Team which already has some points
+		Standing standing = new Standing(new FantaTeam("Team", league, 4, null, null));
+		assertThat(standing.getPoints()).isZero();
+
+		// WHEN six outcomes are recorded
+		standing.record(2, 0);
+		standing.record(1, 1);
+		standing.record(0, 3);
+		standing.record(1, 0);
+		standing.record(2, 2);
+		standing.record(3, 1);
+
+		// THEN totals account for every outcome
+		assertThat(standing.getPoints()).isEqualTo(3 + 1 + 0 + 3 + 1 + 3);
+		assertThat(standing.getGoalsFor()).isEqualTo(9);
+		assertThat(standing.getGoalsAgainst()).isEqualTo(7);
+
+		// AND the form only shows the latest outcomes, oldest first
+		assertThat(standing.getForm()).isEqualTo("DLWDW");
+	}
+
+	@Test
+	@DisplayName("TABLE_ORDER ranks by points, then goal difference, then goals scored")
+	void testTableOrder() {
+
+		// GIVEN Standings tied on points but not on goals
+		Standing leader = new Standing(new FantaTeam("A", league, 0, null, null));
+		leader.record(3, 0);
+		Standing betterAttack = new Standing(new FantaTeam("B", league, 0, null, null));
+		betterAttack.record(4, 2);
+		Standing worseAttack = new Standing(new FantaTeam("C", league, 0, null, null));
+		worseAttack.record(2, 0);
+		Standing last = new Standing(new FantaTeam("D", league, 0, null, null));
+		last.record(0, 1);
+
+		// WHEN they are sorted in table order
+		List<Standing> table = new ArrayList<>(List.of(last, worseAttack, betterAttack, leader));
+		table.sort(Standing.TABLE_ORDER);
+
+		// THEN they appear in the expected order
+		assertThat(table).containsExactly(leader, betterAttack, worseAttack, last);
+	}
+}
@@ -3,6 +3,7 @@ package integration;
 import static java.util.stream.Collectors.toSet;
 import static java.util.stream.IntStream.range;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import java.util.List;
 import java.util.Collection;
 import java.util.Comparator;
@@ -25,6 +26,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import business.AdminUserService;
+import business.LeagueLifecycleCache;
 import dal.transaction.jpa.JpaTransactionManager;
 import domain.Player.Club;
 import domain.Player.Defender;
@@ -68,6 +70,7 @@ class AdminUserServiceIT {
 					.addAnnotatedClass(Fielding.SubstituteFielding.class)
 					.addAnnotatedClass(LineUp.class)
 					.addAnnotatedClass(Result.class)
+					.addAnnotatedClass(Standing.class)
 					.addAnnotatedClass(Grade.class)
 					.getMetadataBuilder().build();
 
@@ -83,7 +86,7 @@ class AdminUserServiceIT {
 	void setup() {
 		sessionFactory.getSchemaManager().truncateMappedObjects();
 		transactionManager = new JpaTransactionManager(sessionFactory);
-		adminUserService = new AdminUserService(transactionManager);
+		adminUserService = new AdminUserService(transactionManager, new LeagueLifecycleCache());
 	}
 
 	@AfterAll
@@ -297,6 +300,16 @@ class AdminUserServiceIT {
 				.fromTransaction(context -> context.getResultsRepository().getResultFor(match));
 		assertThat(persistedResult.get())
 				.isEqualTo(new Result(70, 60, 1, 0, new Match(dayToCalc, teamsInDb.get(0), teamsInDb.get(1))));
+
+		// AND the League's table is materialized in rank order
+		List<Standing> table = transactionManager
+				.fromTransaction(context -> context.getStandingRepository().getStandings(league));
+		assertThat(table)
+				.extracting(standing -> standing.getTeam().getName(), Standing::getRank, Standing::getPoints,
+						Standing::getGoalsFor, Standing::getGoalsAgainst, Standing::getForm)
+				.containsExactly(
+						tuple("teamA", 1, 3, 1, 0, "W"),
+						tuple("teamB", 2, 0, 0, 1, "L"));
 	}
 
 	@Test
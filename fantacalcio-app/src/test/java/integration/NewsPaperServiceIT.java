@@ -1,12 +1,15 @@
 package integration;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.io.StringReader;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
 import domain.*;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
 import org.hibernate.SessionFactory;
 import org.hibernate.boot.Metadata;
 import org.hibernate.boot.MetadataSources;
@@ -18,8 +21,16 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import business.LeagueLifecycleCache;
 import business.NewsPaperService;
+import business.UserService;
+import business.ports.repository.FetchPlan;
+import business.NewsPaperService.IngestionReport;
+import business.NewsPaperService.RejectedRow;
+import dal.repository.jpa.RoundGrade;
 import dal.transaction.jpa.JpaTransactionManager;
+import dal.transaction.jpa.JpaRepositoryFactory.GradeStorage;
+import dal.transaction.jpa.JpaRepositoryFactory.LineUpStorage;
 import domain.Player.Club;
 
 /**
@@ -55,6 +66,8 @@ public class NewsPaperServiceIT {
 					.addAnnotatedClass(Fielding.class)
 					.addAnnotatedClass(LineUp.class)
 					.addAnnotatedClass(Result.class)
+					.addAnnotatedClass(RoundGrade.class)
+					.addAnnotatedClass(Standing.class)
 					.addAnnotatedClass(Grade.class)
 					.getMetadataBuilder().build();
 
@@ -88,9 +101,9 @@ public class NewsPaperServiceIT {
 		League league = new League(admin, "Lega", "codice");
 		Player player1 = new Player.Forward("player", "1", Club.ATALANTA);
 		Player player2 = new Player.Forward("player", "2", Club.ATALANTA);
-		FantaTeam teamA = new FantaTeam("", league, 0, admin, new HashSet<>());
+		FantaTeam teamA = new FantaTeam("teamA", league, 0, admin, new HashSet<>());
 		teamA.getContracts().add(new Contract(teamA, player1));
-		FantaTeam teamB = new FantaTeam("", league, 0, admin, new HashSet<>());
+		FantaTeam teamB = new FantaTeam("teamB", league, 0, admin, new HashSet<>());
 		teamB.getContracts().add(new Contract(teamB, player2));
 //		Match match = new Match(matchDay, teamA, teamB);
 
@@ -119,9 +132,9 @@ public class NewsPaperServiceIT {
 		League league = new League(admin, "Lega", "codice");
 		Player player1 = new Player.Forward("player", "1", Club.ATALANTA);
 		Player player2 = new Player.Forward("player", "2", Club.ATALANTA);
-		FantaTeam teamA = new FantaTeam("", league, 0, admin, new HashSet<>());
+		FantaTeam teamA = new FantaTeam("teamA", league, 0, admin, new HashSet<>());
 		teamA.getContracts().add(new Contract(teamA, player1));
-		FantaTeam teamB = new FantaTeam("", league, 0, admin, new HashSet<>());
+		FantaTeam teamB = new FantaTeam("teamB", league, 0, admin, new HashSet<>());
 		teamB.getContracts().add(new Contract(teamB, player2));
 
 		// AND the League is in 'ongoing-MatchDay' state
@@ -149,5 +162,218 @@ public class NewsPaperServiceIT {
 		// THEN
 		List<Grade> persisted = transactionManager.fromTransaction(c -> c.getGradeRepository().getAllGrades(ongoing));
 		assertThat(persisted).containsExactlyInAnyOrder(grade2, grade1);
+
+		// AND grading a Player again reports the Grade as rejected, keeping the first mark
+		IngestionReport report = newspaperService.save(Set.of(new Grade(player1, ongoing, 18.0)));
+		assertThat(report.saved()).isZero();
+		assertThat(report.rejected()).extracting(RejectedRow::reason)
+				.containsExactly("The Player is already graded on this MatchDay");
+		List<Grade> kept = transactionManager.fromTransaction(c -> c.getGradeRepository().getAllGrades(ongoing));
+		assertThat(kept).containsExactlyInAnyOrder(grade2, grade1);
+	}
+
+	@Test
+	@DisplayName("can ingest Grades from a CSV")
+	public void ingestGradesFromCsv() {
+
+		// GIVEN some Contracts are added to the system
+		FantaUser admin = new FantaUser("mail", "pswd");
+		League league = new League(admin, "Lega", "codice");
+		Player player1 = new Player.Forward("player", "1", Club.ATALANTA);
+		Player player2 = new Player.Forward("player", "2", Club.ATALANTA);
+		FantaTeam teamA = new FantaTeam("teamA", league, 0, admin, new HashSet<>());
+		teamA.getContracts().add(new Contract(teamA, player1));
+		FantaTeam teamB = new FantaTeam("teamB", league, 0, admin, new HashSet<>());
+		teamB.getContracts().add(new Contract(teamB, player2));
+
+		// AND the League is in 'ongoing-MatchDay' state
+		MatchDay ongoing = new MatchDay("prima giornata", 1, MatchDay.Status.PRESENT, league);
+
+		transactionManager.inTransaction(context -> {
+			context.getFantaUserRepository().saveFantaUser(admin);
+			context.getLeagueRepository().saveLeague(league);
+			context.getPlayerRepository().addPlayer(player1);
+			context.getPlayerRepository().addPlayer(player2);
+			context.getMatchDayRepository().saveMatchDay(ongoing);
+			context.getTeamRepository().saveTeam(teamA);
+			context.getTeamRepository().saveTeam(teamB);
+		});
+
+		// WHEN a CSV grading both Players, along with an unknown one, is ingested
+		IngestionReport report = newspaperService.ingestGrades(league, new StringReader(String.join("\n",
+				"name,surname,club,mark",
+				"player,1,ATALANTA,6.5",
+				"player,3,ATALANTA,7",
+				"player,2,ATALANTA,5")));
+
+		// THEN the Grades of the known Players are persisted
+		List<Grade> persisted = transactionManager.fromTransaction(c -> c.getGradeRepository().getAllGrades(ongoing));
+		assertThat(persisted).containsExactlyInAnyOrder(new Grade(player1, ongoing, 6.5), new Grade(player2, ongoing, 5));
+
+		// AND the line naming the unknown Player is reported
+		assertThat(report.saved()).isEqualTo(2);
+		assertThat(report.rejected()).extracting(RejectedRow::row).containsExactly(3);
+	}
+
+	@Test
+	@DisplayName("can share Grades among Leagues playing on the same real-world round")
+	public void shareGradesByRealRound() {
+
+		// GIVEN Grades are stored once per real-world round
+		transactionManager = new JpaTransactionManager(sessionFactory, LineUpStorage.FIELDING_ROWS,
+				GradeStorage.PER_REAL_ROUND);
+		newspaperService = new NewsPaperService(transactionManager);
+
+		// AND two Leagues have a Player under contract, and an ongoing MatchDay on the same round
+		FantaUser admin = new FantaUser("mail", "pswd");
+		League league = new League(admin, "Lega", "codice");
+		League otherLeague = new League(admin, "Altra lega", "altro codice");
+		Player player = new Player.Forward("player", "1", Club.ATALANTA);
+		FantaTeam team = new FantaTeam("teamA", league, 0, admin, new HashSet<>());
+		team.getContracts().add(new Contract(team, player));
+		FantaTeam otherTeam = new FantaTeam("teamB", otherLeague, 0, admin, new HashSet<>());
+		otherTeam.getContracts().add(new Contract(otherTeam, player));
+		MatchDay ongoing = new MatchDay("prima giornata", 1, 2025, 7, MatchDay.Status.PRESENT, league);
+		MatchDay otherOngoing = new MatchDay("terza giornata", 3, 2025, 7, MatchDay.Status.PRESENT, otherLeague);
+
+		transactionManager.inTransaction(context -> {
+			context.getFantaUserRepository().saveFantaUser(admin);
+			context.getLeagueRepository().saveLeague(league);
+			context.getLeagueRepository().saveLeague(otherLeague);
+			context.getPlayerRepository().addPlayer(player);
+			context.getMatchDayRepository().saveMatchDay(ongoing);
+			context.getMatchDayRepository().saveMatchDay(otherOngoing);
+			context.getTeamRepository().saveTeam(team);
+			context.getTeamRepository().saveTeam(otherTeam);
+		});
+
+		// WHEN the Player is graded in one League
+		newspaperService.ingestGrades(league, new StringReader("player,1,ATALANTA,6.5"));
+
+		// THEN the other League's MatchDay has the same Grade
+		List<Grade> shared = transactionManager.fromTransaction(c -> c.getGradeRepository().getAllGrades(otherOngoing));
+		assertThat(shared).containsExactly(new Grade(player, otherOngoing, 6.5));
+
+		// AND the Player cannot be graded again in the other League
+		IngestionReport report = newspaperService.ingestGrades(otherLeague, new StringReader("player,1,ATALANTA,7"));
+		assertThat(report.saved()).isZero();
+		assertThat(report.rejected()).extracting(RejectedRow::reason)
+				.containsExactly("The Player is already graded on this MatchDay");
+	}
+
+	@Test
+	@DisplayName("keeps a shared Grade as first given, and frozen once any League is scored with it")
+	public void protectSharedGrades() {
+
+		// GIVEN Grades are stored once per real-world round
+		transactionManager = new JpaTransactionManager(sessionFactory, LineUpStorage.FIELDING_ROWS,
+				GradeStorage.PER_REAL_ROUND);
+		newspaperService = new NewsPaperService(transactionManager);
+
+		// AND two Leagues have a Player under contract, and an ongoing MatchDay on the same round
+		FantaUser admin = new FantaUser("mail", "pswd");
+		League league = new League(admin, "Lega", "codice");
+		League otherLeague = new League(admin, "Altra lega", "altro codice");
+		Player player = new Player.Forward("player", "1", Club.ATALANTA);
+		FantaTeam team = new FantaTeam("teamA", league, 0, admin, new HashSet<>());
+		team.getContracts().add(new Contract(team, player));
+		FantaTeam rival = new FantaTeam("teamC", league, 0, admin, new HashSet<>());
+		FantaTeam otherTeam = new FantaTeam("teamB", otherLeague, 0, admin, new HashSet<>());
+		otherTeam.getContracts().add(new Contract(otherTeam, player));
+		MatchDay ongoing = new MatchDay("prima giornata", 1, 2025, 7, MatchDay.Status.PRESENT, league);
+		MatchDay otherOngoing = new MatchDay("terza giornata", 3, 2025, 7, MatchDay.Status.PRESENT, otherLeague);
+		Match match = new Match(ongoing, team, rival);
+
+		transactionManager.inTransaction(context -> {
+			context.getFantaUserRepository().saveFantaUser(admin);
+			context.getLeagueRepository().saveLeague(league);
+			context.getLeagueRepository().saveLeague(otherLeague);
+			context.getPlayerRepository().addPlayer(player);
+			context.getMatchDayRepository().saveMatchDay(ongoing);
+			context.getMatchDayRepository().saveMatchDay(otherOngoing);
+			context.getTeamRepository().saveTeam(team);
+			context.getTeamRepository().saveTeam(rival);
+			context.getTeamRepository().saveTeam(otherTeam);
+			context.getMatchRepository().saveMatch(match);
+		});
+
+		// AND the Player is graded in one League
+		IngestionReport first = newspaperService.save(Set.of(new Grade(player, ongoing, 6.5)));
+
+		// WHEN the other League grades the Player too
+		Grade late = new Grade(player, otherOngoing, 7);
+		IngestionReport lateReport = newspaperService.save(Set.of(late));
+
+		// THEN the first mark is kept, and the late Grade is reported as not saved
+		assertThat(first.allSaved()).isTrue();
+		assertThat(lateReport.saved()).isZero();
+		assertThat(lateReport.rejected()).extracting(RejectedRow::reason)
+				.containsExactly("The Player is already graded on this MatchDay");
+
+		// AND once the first League is scored on the round, the other League cannot correct the mark
+		ongoing.setStatus(MatchDay.Status.PAST);
+		transactionManager.inTransaction(context -> {
+			context.getMatchDayRepository().updateMatchDay(ongoing);
+			context.getResultsRepository().saveResult(new Result(66, 60, 1, 0, match));
+		});
+		ThrowingCallable correction = () -> newspaperService.correctGrade(new Grade(player, otherOngoing, 6.5), 8);
+		assertThatThrownBy(correction).isInstanceOf(RuntimeException.class)
+				.hasMessageContaining("already used to calculate Results");
+		List<Grade> shared = transactionManager.fromTransaction(
+				context -> context.getGradeRepository().getAllGrades(otherOngoing));
+		assertThat(shared).containsExactly(new Grade(player, otherOngoing, 6.5));
+	}
+
+	@Test
+	@DisplayName("can share Grades among Leagues starting on different real-world rounds")
+	public void shareGradesAcrossCalendarOffsets() {
+
+		// GIVEN Grades are stored once per real-world round
+		transactionManager = new JpaTransactionManager(sessionFactory, LineUpStorage.FIELDING_ROWS,
+				GradeStorage.PER_REAL_ROUND);
+		newspaperService = new NewsPaperService(transactionManager);
+		UserService userService = new UserService(transactionManager, new LeagueLifecycleCache());
+
+		// AND two Leagues of the same season are created, one starting on the first round and one on the fourth
+		FantaUser admin = new FantaUser("mail", "pswd");
+		transactionManager.inTransaction(context -> context.getFantaUserRepository().saveFantaUser(admin));
+		userService.createLeague("Lega", admin, "codice", 2025, 1);
+		userService.createLeague("Lega tardiva", admin, "tardiva", 2025, 4);
+		League league = transactionManager.fromTransaction(
+				context -> context.getLeagueRepository().getLeagueByCode("codice")).orElseThrow();
+		League lateLeague = transactionManager.fromTransaction(
+				context -> context.getLeagueRepository().getLeagueByCode("tardiva")).orElseThrow();
+
+		// AND a Player is under contract in the first League, whose fourth MatchDay is ongoing
+		Player player = new Player.Forward("player", "1", Club.ATALANTA);
+		FantaTeam team = new FantaTeam("teamA", league, 0, admin, new HashSet<>());
+		team.getContracts().add(new Contract(team, player));
+		List<MatchDay> matchDays = transactionManager.fromTransaction(
+				context -> context.getMatchDayRepository().getAllMatchDays(league, FetchPlan.THIN));
+		List<MatchDay> lateMatchDays = transactionManager.fromTransaction(
+				context -> context.getMatchDayRepository().getAllMatchDays(lateLeague, FetchPlan.THIN));
+		MatchDay ongoing = matchDays.get(3);
+		ongoing.setStatus(MatchDay.Status.PRESENT);
+		transactionManager.inTransaction(context -> {
+			context.getPlayerRepository().addPlayer(player);
+			context.getTeamRepository().saveTeam(team);
+			context.getMatchDayRepository().updateMatchDay(ongoing);
+		});
+
+		// WHEN the Player is graded in the first League
+		newspaperService.ingestGrades(league, new StringReader("player,1,ATALANTA,6.5"));
+
+		// THEN the later League sees the Grade on its first MatchDay, played on the same round
+		MatchDay lateFirst = lateMatchDays.get(0);
+		MatchDay lateFourth = lateMatchDays.get(3);
+		List<Grade> sameRound = transactionManager.fromTransaction(
+				context -> context.getGradeRepository().getAllGrades(lateFirst));
+		assertThat(ongoing.getRealRound()).isEqualTo(lateFirst.getRealRound());
+		assertThat(sameRound).containsExactly(new Grade(player, lateFirst, 6.5));
+
+		// AND not on its fourth MatchDay, played on a later round
+		List<Grade> laterRound = transactionManager.fromTransaction(
+				context -> context.getGradeRepository().getAllGrades(lateFourth));
+		assertThat(laterRound).isEmpty();
 	}
 }
@@ -0,0 +1,201 @@
+package integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import business.AdminUserService;
+import business.LeagueLifecycleCache;
+import business.UserService;
+import business.ports.repository.FetchPlan;
+import dal.cache.LocalRegionFactory;
+import dal.cache.LocalRegionFactory.RegionMetrics;
+import dal.transaction.jpa.JpaTransactionManager;
+import domain.*;
+import domain.Player.Club;
+import domain.Player.Defender;
+import domain.Player.Forward;
+import domain.Player.Goalkeeper;
+import domain.Player.Midfielder;
+
+/**
+ * integrates the services with {@link JpaTransactionManager} over a
+ * SessionFactory using the {@link LocalRegionFactory} second-level cache,
+ * checking that cached Leagues and MatchDay lookups never turn stale
+ */
+@DisplayName("the second-level cache")
+class SecondLevelCacheIT {
+
+	private static final int MAX_ENTRIES = 3;
+
+	private static SessionFactory sessionFactory;
+	private JpaTransactionManager transactionManager;
+	private AdminUserService adminUserService;
+	private UserService userService;
+	private Statistics statistics;
+
+	// setup entities
+	private FantaUser admin;
+	private League league;
+
+	@BeforeAll
+	static void initializeSessionFactory() {
+		try {
+			StandardServiceRegistry serviceRegistry = new StandardServiceRegistryBuilder()
+					.configure("hibernate-test.cfg.xml")
+					.applySettings(LocalRegionFactory.settings(MAX_ENTRIES, Duration.ofMinutes(10)))
+					.applySetting(AvailableSettings.GENERATE_STATISTICS, true)
+					.build();
+
+			Metadata metadata = new MetadataSources(serviceRegistry)
+					.addAnnotatedClass(FantaUser.class)
+					.addAnnotatedClass(League.class)
+					.addAnnotatedClass(FantaTeam.class)
+					.addAnnotatedClass(MatchDay.class)
+					.addAnnotatedClass(Match.class)
+					.addAnnotatedClass(Result.class)
+					.addAnnotatedClass(Contract.class)
+					.addAnnotatedClass(Player.class)
+					.addAnnotatedClass(Player.Goalkeeper.class)
+					.addAnnotatedClass(Player.Defender.class)
+					.addAnnotatedClass(Player.Midfielder.class)
+					.addAnnotatedClass(Player.Forward.class)
+					.getMetadataBuilder().build();
+
+			sessionFactory = metadata.getSessionFactoryBuilder().build();
+
+		} catch (Throwable ex) {
+			throw new ExceptionInInitializerError(ex);
+		}
+	}
+
+	@BeforeEach
+	void setup() {
+		sessionFactory.getSchemaManager().truncateMappedObjects();
+		sessionFactory.getCache().evictAll();
+		transactionManager = new JpaTransactionManager(sessionFactory);
+		LeagueLifecycleCache lifecycleCache = new LeagueLifecycleCache();
+		adminUserService = new AdminUserService(transactionManager, lifecycleCache);
+		userService = new UserService(transactionManager, lifecycleCache);
+
+		// GIVEN a League with two FUTURE MatchDays is persisted
+		admin = new FantaUser("admin@l001.com", "pwd");
+		league = new League(admin, "League L001", "L001");
+		transactionManager.inTransaction(context -> {
+			context.getFantaUserRepository().saveFantaUser(admin);
+			context.getLeagueRepository().saveLeague(league);
+			context.getMatchDayRepository().saveMatchDay(new MatchDay("MD1", 1, MatchDay.Status.FUTURE, league));
+			context.getMatchDayRepository().saveMatchDay(new MatchDay("MD2", 2, MatchDay.Status.FUTURE, league));
+		});
+		statistics = sessionFactory.getStatistics();
+		statistics.clear();
+	}
+
+	@AfterAll
+	static void tearDown() {
+		sessionFactory.close();
+	}
+
+	@Test
+	@DisplayName("serves repeated MatchDay lookups by status from the query cache")
+	void testMatchDayLookupIsCached() {
+		// WHEN the upcoming MatchDay is looked up twice
+		upcomingMatchDay();
+		Optional<MatchDay> upcoming = upcomingMatchDay();
+
+		// THEN the second lookup is a query cache hit
+		assertThat(upcoming).map(MatchDay::getNumber).contains(1);
+		assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("does not serve MatchDay lookups made stale by starting and ending a MatchDay")
+	void testMatchDayStatusChanges() {
+		// GIVEN the lookups are cached while no MatchDay is ongoing
+		assertThat(ongoingMatchDay()).isEmpty();
+		assertThat(upcomingMatchDay()).map(MatchDay::getNumber).contains(1);
+
+		// WHEN the earliest upcoming MatchDay is started
+		adminUserService.startMatchDay(league);
+
+		// THEN the lookups reflect the new statuses
+		assertThat(ongoingMatchDay()).map(MatchDay::getNumber).contains(1);
+		assertThat(upcomingMatchDay()).map(MatchDay::getNumber).contains(2);
+
+		// WHEN the ongoing MatchDay is ended
+		adminUserService.endMatchDay(league);
+
+		// THEN it is no longer ongoing, but the latest ended one
+		Optional<MatchDay> latestEnded = transactionManager.fromReadOnlyTransaction(
+				context -> context.getMatchDayRepository().getLatestEndedMatchDay(league, FetchPlan.THIN));
+		assertThat(ongoingMatchDay()).isEmpty();
+		assertThat(latestEnded).map(MatchDay::getNumber).contains(1);
+	}
+
+	@Test
+	@DisplayName("serves Leagues from the entity cache, updating them when a journalist joins")
+	void testLeagueNewsPaperChange() {
+		FantaUser journalist = new FantaUser("journalist@l001.com", "pwd");
+		transactionManager.inTransaction(context -> context.getFantaUserRepository().saveFantaUser(journalist));
+
+		// GIVEN the League was cached on being persisted
+		Object id = sessionFactory.getPersistenceUnitUtil().getIdentifier(league);
+		sessionFactory.inSession(session -> session.find(League.class, id));
+		assertThat(statistics.getDomainDataRegionStatistics(League.class.getName()).getHitCount()).isEqualTo(1);
+
+		// WHEN a journalist joins the League
+		userService.joinLeagueAsJournalist(league, journalist);
+
+		// THEN the cached League has it as its newspaper
+		FantaUser newsPaper = sessionFactory.fromSession(session -> {
+			League cached = session.find(League.class, id);
+			return session.find(FantaUser.class, sessionFactory.getPersistenceUnitUtil().getIdentifier(cached.getNewsPaper()));
+		});
+		assertThat(newsPaper).isEqualTo(journalist);
+	}
+
+	@Test
+	@DisplayName("bounds each region to its maximum number of entries")
+	void testRegionIsBounded() {
+		// GIVEN more Players than a region can hold are persisted
+		transactionManager.inTransaction(context -> {
+			context.getPlayerRepository().addPlayer(new Goalkeeper("Gigi", "Buffon", Club.JUVENTUS));
+			context.getPlayerRepository().addPlayer(new Defender("Giorgio", "Chiellini", Club.JUVENTUS));
+			context.getPlayerRepository().addPlayer(new Midfielder("Nicolò", "Barella", Club.INTER));
+			context.getPlayerRepository().addPlayer(new Forward("Marcus", "Thuram", Club.INTER));
+		});
+
+		// THEN the Player region only holds the most recently cached ones
+		LocalRegionFactory regionFactory = (LocalRegionFactory) sessionFactory
+				.unwrap(SessionFactoryImplementor.class).getCache().getRegionFactory();
+		assertThat(regionFactory.getMetrics(Player.class.getName()))
+				.contains(new RegionMetrics(MAX_ENTRIES, 1, 0));
+	}
+
+	// helpers
+
+	private Optional<MatchDay> upcomingMatchDay() {
+		return transactionManager.fromReadOnlyTransaction(
+				context -> context.getMatchDayRepository().getEarliestUpcomingMatchDay(league, FetchPlan.THIN));
+	}
+
+	private Optional<MatchDay> ongoingMatchDay() {
+		return transactionManager.fromReadOnlyTransaction(
+				context -> context.getMatchDayRepository().getOngoingMatchDay(league, FetchPlan.THIN));
+	}
+}
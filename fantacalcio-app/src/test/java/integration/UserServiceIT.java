@@ -1,6 +1,7 @@
 package integration;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.util.HashSet;
 import java.util.List;
@@ -9,6 +10,7 @@ import java.util.Optional;
 import java.util.Set;
 
 import domain.*;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
 import org.hibernate.SessionFactory;
 import org.hibernate.boot.Metadata;
 import org.hibernate.boot.MetadataSources;
@@ -20,6 +22,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import business.AdminUserService;
+import business.LeagueLifecycleCache;
 import business.UserService;
 import business.ports.transaction.TransactionManager.TransactionContext;
 import dal.transaction.jpa.JpaTransactionManager;
@@ -40,6 +44,7 @@ class UserServiceIT {
 	private static SessionFactory sessionFactory;
 	private UserService userService;
 	private JpaTransactionManager transactionManager;
+	private LeagueLifecycleCache lifecycleCache;
 
 	@BeforeAll
 	static void initializeSessionFactory() {
@@ -65,6 +70,7 @@ class UserServiceIT {
 					.addAnnotatedClass(Fielding.SubstituteFielding.class)
 					.addAnnotatedClass(LineUp.class)
 					.addAnnotatedClass(Result.class)
+					.addAnnotatedClass(Standing.class)
 					.addAnnotatedClass(Grade.class)
 					.addAnnotatedClass(Proposal.class)
 					.getMetadataBuilder().build();
@@ -83,7 +89,8 @@ class UserServiceIT {
 		
 		// instantiates SUT
 		transactionManager = new JpaTransactionManager(sessionFactory);
-		userService = new UserService(transactionManager);
+		lifecycleCache = new LeagueLifecycleCache();
+		userService = new UserService(transactionManager, lifecycleCache);
 	}
 
 	@AfterAll
@@ -162,6 +169,90 @@ class UserServiceIT {
 		assertThat(matchDayToMatches).containsExactlyEntriesOf(Map.of(day1, List.of(m1)));
 	}
 
+	@Test
+	@DisplayName("refuses LineUps once an AdminUserService sharing its cache ends a MatchDay")
+	void testSaveLineUpAfterEndMatchDay() {
+
+		// GIVEN an AdminUserService shares the UserService's lifecycle cache
+		AdminUserService adminUserService = new AdminUserService(transactionManager, lifecycleCache);
+
+		// AND a League has two MatchDays, with a Match each for a team owning a full LineUp
+		FantaUser user = new FantaUser("user@test.com", "pwd");
+		League league = new League(user, "Test League", "L004");
+		MatchDay first = new MatchDay("MD1", 1, MatchDay.Status.FUTURE, league);
+		MatchDay second = new MatchDay("MD2", 2, MatchDay.Status.FUTURE, league);
+		List<Player> players = List.of(
+				new Goalkeeper("portiere", "titolare", Club.ATALANTA),
+				new Defender("difensore1", "titolare", Club.ATALANTA),
+				new Defender("difensore2", "titolare", Club.ATALANTA),
+				new Defender("difensore3", "titolare", Club.ATALANTA),
+				new Defender("difensore4", "titolare", Club.ATALANTA),
+				new Midfielder("centrocampista1", "titolare", Club.ATALANTA),
+				new Midfielder("centrocampista2", "titolare", Club.ATALANTA),
+				new Midfielder("centrocampista3", "titolare", Club.ATALANTA),
+				new Forward("attaccante1", "titolare", Club.ATALANTA),
+				new Forward("attaccante2", "titolare", Club.ATALANTA),
+				new Forward("attaccante3", "titolare", Club.ATALANTA),
+				new Goalkeeper("portiere1", "panchina", Club.ATALANTA),
+				new Goalkeeper("portiere2", "panchina", Club.ATALANTA),
+				new Goalkeeper("portiere3", "panchina", Club.ATALANTA),
+				new Defender("difensore1", "panchina", Club.ATALANTA),
+				new Defender("difensore2", "panchina", Club.ATALANTA),
+				new Defender("difensore3", "panchina", Club.ATALANTA),
+				new Midfielder("centrocampista1", "panchina", Club.ATALANTA),
+				new Midfielder("centrocampista2", "panchina", Club.ATALANTA),
+				new Midfielder("centrocampista3", "panchina", Club.ATALANTA),
+				new Forward("attaccante1", "panchina", Club.ATALANTA),
+				new Forward("attaccante2", "panchina", Club.ATALANTA),
+				new Forward("attaccante3", "panchina", Club.ATALANTA));
+		HashSet<Contract> contracts = new HashSet<>();
+		FantaTeam team = new FantaTeam("Dream Team", league, 30, user, contracts);
+		players.forEach(player -> contracts.add(new Contract(team, player)));
+		Match firstMatch = new Match(first, team, team);
+		Match secondMatch = new Match(second, team, team);
+
+		transactionManager.inTransaction(context -> {
+			context.getFantaUserRepository().saveFantaUser(user);
+			context.getLeagueRepository().saveLeague(league);
+			context.getMatchDayRepository().saveMatchDay(first);
+			context.getMatchDayRepository().saveMatchDay(second);
+			players.forEach(context.getPlayerRepository()::addPlayer);
+			context.getTeamRepository().saveTeam(team);
+			context.getMatchRepository().saveMatch(firstMatch);
+			context.getMatchRepository().saveMatch(secondMatch);
+		});
+
+		// AND the first MatchDay is started, and a LineUp saved for the second, caching the League's lifecycle
+		adminUserService.startMatchDay(league);
+		LineUp lineUp = LineUp.build()
+				.forTeam(team)
+				.inMatch(secondMatch)
+				.withStarterLineUp(Scheme433.starterLineUp()
+						.withGoalkeeper((Goalkeeper) players.get(0))
+						.withDefenders((Defender) players.get(1), (Defender) players.get(2),
+								(Defender) players.get(3), (Defender) players.get(4))
+						.withMidfielders((Midfielder) players.get(5), (Midfielder) players.get(6),
+								(Midfielder) players.get(7))
+						.withForwards((Forward) players.get(8), (Forward) players.get(9), (Forward) players.get(10)))
+				.withSubstituteGoalkeepers((Goalkeeper) players.get(11), (Goalkeeper) players.get(12),
+						(Goalkeeper) players.get(13))
+				.withSubstituteDefenders((Defender) players.get(14), (Defender) players.get(15),
+						(Defender) players.get(16))
+				.withSubstituteMidfielders((Midfielder) players.get(17), (Midfielder) players.get(18),
+						(Midfielder) players.get(19))
+				.withSubstituteForwards((Forward) players.get(20), (Forward) players.get(21),
+						(Forward) players.get(22));
+		userService.saveLineUp(lineUp);
+
+		// WHEN the AdminUserService ends the first MatchDay, whose Results are not calculated
+		adminUserService.endMatchDay(league);
+
+		// THEN the UserService no longer accepts the LineUp
+		ThrowingCallable resave = () -> userService.saveLineUp(lineUp);
+		assertThatThrownBy(resave).isInstanceOf(UnsupportedOperationException.class)
+				.hasMessageContaining("were not calculated");
+	}
+
 	@Test
 	@DisplayName("can save a legitimate LineUp")
 	void testSaveLineUp() {